@@ -0,0 +1,75 @@
+package com.serbest.magazine.backend.cache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Answers conditional requests to {@link Versioned} endpoints from the content versions alone, so a client that is up
+ * to date costs no query. Every response of such an endpoint carries the ETag and the {@code Cache-Control} policy
+ * of its kind of content: posts change with every comment and like and are revalidated on each use, the rest may be
+ * reused for a while.
+ */
+@Component
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final ContentVersions contentVersions;
+    private final Map<ContentVersions.Scope, String> cacheControl = new EnumMap<>(ContentVersions.Scope.class);
+
+    public ConditionalGetInterceptor(ContentVersions contentVersions,
+                                     @Value("${magazine.http.maxAge.posts:PT0S}") Duration posts,
+                                     @Value("${magazine.http.maxAge.authors:PT1M}") Duration authors,
+                                     @Value("${magazine.http.maxAge.categories:PT10M}") Duration categories,
+                                     @Value("${magazine.http.maxAge.masterpieces:PT5M}") Duration masterpieces) {
+        this.contentVersions = contentVersions;
+        cacheControl.put(ContentVersions.Scope.POSTS, cacheControl(posts));
+        cacheControl.put(ContentVersions.Scope.AUTHORS, cacheControl(authors));
+        cacheControl.put(ContentVersions.Scope.CATEGORIES, cacheControl(categories));
+        cacheControl.put(ContentVersions.Scope.MOVIES, cacheControl(masterpieces));
+        cacheControl.put(ContentVersions.Scope.MUSIC, cacheControl(masterpieces));
+        cacheControl.put(ContentVersions.Scope.PICTURES, cacheControl(masterpieces));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        Versioned versioned = method.getMethodAnnotation(Versioned.class);
+        if (versioned == null) {
+            return true;
+        }
+
+        return !notModified(versioned.value(), "", new ServletWebRequest(request, response));
+    }
+
+    /**
+     * Sets the validators of the content on the response and tells whether the client's copy is current, in which
+     * case the response is already a {@code 304}. The suffix tells apart representations of the same resource, such
+     * as encodings.
+     */
+    public boolean notModified(ContentVersions.Scope scope, String suffix, ServletWebRequest request) {
+        String etag = contentVersions.etag(scope);
+        if (!suffix.isEmpty()) {
+            etag = etag.substring(0, etag.length() - 1) + "-" + suffix + "\"";
+        }
+
+        request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.get(scope));
+        return request.checkNotModified(etag);
+    }
+
+    private static String cacheControl(Duration maxAge) {
+        CacheControl cacheControl = maxAge.isZero() ? CacheControl.noCache() : CacheControl.maxAge(maxAge);
+        return cacheControl.cachePublic().getHeaderValue();
+    }
+}
@@ -0,0 +1,87 @@
+package com.serbest.magazine.backend.cache;
+
+import com.serbest.magazine.backend.event.ContentChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A version counter per kind of content, moved after every committed write to it, from which read endpoints derive
+ * their ETags without reading the content itself. Versions start over with every run, so the ETags also carry the
+ * start time of the run. Writes made around the application are not seen; they show up after a restart.
+ */
+@Component
+public class ContentVersions {
+
+    /**
+     * What a read endpoint's JSON is made of. A scope's ETag also covers the scopes its JSON embeds.
+     */
+    public enum Scope {
+        AUTHORS("author"),
+        CATEGORIES("category"),
+        POSTS("post", AUTHORS, CATEGORIES),
+        MOVIES("movie"),
+        MUSIC("music"),
+        PICTURES("picture");
+
+        private static final Map<String, Scope> BY_CONTENT = Stream.of(values())
+                .collect(Collectors.toMap(scope -> scope.content, Function.identity()));
+
+        private final String content;
+        private final List<Scope> covered;
+
+        Scope(String content, Scope... embeds) {
+            this.content = content;
+            this.covered = List.of(embeds);
+        }
+    }
+
+    private final String run = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLongArray versions = new AtomicLongArray(Scope.values().length);
+
+    /**
+     * Moves the version once the current transaction commits, or now outside of one. Moving it earlier would let a
+     * reader tag content that is about to change with the new version.
+     */
+    public void changed(Scope scope) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    versions.incrementAndGet(scope.ordinal());
+                }
+            });
+        } else {
+            versions.incrementAndGet(scope.ordinal());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        Scope scope = Scope.BY_CONTENT.get(event.content());
+        if (scope != null) {
+            versions.incrementAndGet(scope.ordinal());
+        }
+    }
+
+    /**
+     * A strong ETag for the current versions of the scope and of the scopes it embeds. Read it before the content,
+     * so content changed in between is tagged with an older version and simply fetched again.
+     */
+    public String etag(Scope scope) {
+        StringBuilder etag = new StringBuilder("\"").append(run).append('-')
+                .append(scope.content).append(versions.get(scope.ordinal()));
+        for (Scope covered : scope.covered) {
+            etag.append('.').append(covered.content).append(versions.get(covered.ordinal()));
+        }
+        return etag.append('"').toString();
+    }
+}
@@ -0,0 +1,257 @@
+package com.serbest.magazine.backend.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The serialised JSON of single posts, plain and gzip compressed, so a request for a post is answered with one
+ * buffer write. Entries live in direct buffers up to a byte budget; what the budget evicts is spilled to a file in
+ * the spill directory and served from a read-only mapping of it until the spill budget evicts it too. Writes to a
+ * post invalidate it in both tiers, once right away and once more after they commit, and a load an invalidation
+ * overtook is not cached. Entries expire after a while so counters and names changed elsewhere show up.
+ */
+@Component
+public class PostDetailCache implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostDetailCache.class);
+
+    private static final String SPILL_FILE_SUFFIX = ".post";
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Cache<UUID, Entry> memory;
+    private final Cache<UUID, Entry> spill;
+    private final Path spillDirectory;
+    private final long maxEntryBytes;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong spillSequence = new AtomicLong();
+    // Moved by every invalidation of a post hashing to the stripe; a load only caches if its stripe did not move.
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    /**
+     * The JSON of a post, as is and gzip compressed. A spilled entry keeps the file its buffers map.
+     */
+    public record Entry(ByteBuffer identity, ByteBuffer gzip, Path file) {
+
+        public ByteBuffer body(boolean compressed) {
+            return (compressed ? gzip : identity).duplicate();
+        }
+
+        private int size() {
+            return identity.capacity() + gzip.capacity();
+        }
+    }
+
+    public PostDetailCache(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                           @Value("${magazine.posts.detailCache.maxBytes:33554432}") long maxBytes,
+                           @Value("${magazine.posts.detailCache.maxEntryBytes:1048576}") long maxEntryBytes,
+                           @Value("${magazine.posts.detailCache.spillMaxBytes:268435456}") long spillMaxBytes,
+                           @Value("${magazine.posts.detailCache.spillDirectory:${java.io.tmpdir}/magazine-post-cache}")
+                           Path spillDirectory,
+                           @Value("${magazine.posts.detailCache.ttl:PT10M}") Duration ttl) throws IOException {
+        this.objectMapper = objectMapper;
+        this.maxEntryBytes = maxEntryBytes;
+        this.spillDirectory = spillDirectory;
+
+        Files.createDirectories(spillDirectory);
+        // Files of a previous run are never mapped again.
+        deleteSpillFiles();
+
+        spill = Caffeine.newBuilder()
+                .maximumWeight(spillMaxBytes)
+                .weigher((UUID postId, Entry entry) -> entry.size())
+                .expireAfterWrite(ttl)
+                .removalListener((UUID postId, Entry entry, RemovalCause cause) -> {
+                    if (entry != null) {
+                        delete(entry.file());
+                    }
+                })
+                .recordStats()
+                .build();
+
+        memory = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((UUID postId, Entry entry) -> entry.size())
+                .expireAfterWrite(ttl)
+                // Runs atomically with the eviction, so an invalidation can not slip in before the spill.
+                .evictionListener((UUID postId, Entry entry, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE && postId != null && entry != null) {
+                        spill(postId, entry);
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, memory, "posts.detail.memory");
+        CaffeineCacheMetrics.monitor(meterRegistry, spill, "posts.detail.spill");
+    }
+
+    /**
+     * Returns the cached JSON of the post, or serialises what the loader returns. A post whose JSON is larger than
+     * the per entry limit is serialised on every call.
+     */
+    public Entry get(String postId, Supplier<?> loader) {
+        UUID key = UUID.fromString(postId);
+
+        Entry entry = memory.getIfPresent(key);
+        if (entry == null) {
+            entry = spill.getIfPresent(key);
+        }
+        if (entry != null) {
+            return entry;
+        }
+
+        long generation = generations.get(stripe(key));
+        Entry loaded = encode(loader.get());
+        if (loaded.size() <= maxEntryBytes) {
+            // Under the key's lock, so an invalidation either removes the entry afterwards or keeps it out.
+            memory.asMap().compute(key, (postKey, cached) ->
+                    generations.get(stripe(postKey)) == generation ? loaded : cached);
+        }
+        return loaded;
+    }
+
+    /**
+     * Drops the post now and, inside a transaction, again after it commits: a read between the two still sees the
+     * committed post and may cache it.
+     */
+    public void invalidate(UUID postId) {
+        evict(postId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(postId);
+                }
+            });
+        }
+    }
+
+    private void evict(UUID postId) {
+        generations.incrementAndGet(stripe(postId));
+        memory.invalidate(postId);
+        spill.invalidate(postId);
+    }
+
+    private static int stripe(UUID postId) {
+        return postId.hashCode() & (GENERATION_STRIPES - 1);
+    }
+
+    long residentBytes() {
+        memory.cleanUp();
+        return memory.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L);
+    }
+
+    long spilledEntries() {
+        spill.cleanUp();
+        return spill.estimatedSize();
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        memory.invalidateAll();
+        spill.invalidateAll();
+        deleteSpillFiles();
+    }
+
+    private Entry encode(Object post) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(post);
+
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream gzip = new BestGzipOutputStream(compressed)) {
+                gzip.write(json);
+            }
+
+            return new Entry(direct(json), direct(compressed.toByteArray()), null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void spill(UUID postId, Entry entry) {
+        Path file = spillDirectory.resolve(postId + "-" + spillSequence.incrementAndGet() + SPILL_FILE_SUFFIX);
+        int identityLength = entry.identity().capacity();
+        int length = identityLength + entry.gzip().capacity();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            ByteBuffer identity = entry.body(false);
+            ByteBuffer gzip = entry.body(true);
+            while (identity.hasRemaining() || gzip.hasRemaining()) {
+                channel.write(new ByteBuffer[]{identity, gzip});
+            }
+
+            // The mapping outlives the channel.
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            spill.put(postId, new Entry(mapped.slice(0, identityLength).asReadOnlyBuffer(),
+                    mapped.slice(identityLength, length - identityLength).asReadOnlyBuffer(), file));
+        } catch (IOException e) {
+            // The entry is simply gone; the next request serialises the post again.
+            logger.warn("Post {} could not be spilled to {}: {}", postId, file, e.getMessage());
+            delete(file);
+        }
+    }
+
+    private void deleteSpillFiles() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(spillDirectory, "*" + SPILL_FILE_SUFFIX)) {
+            for (Path file : files) {
+                delete(file);
+            }
+        }
+    }
+
+    private static void delete(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Spilled post {} could not be deleted: {}", file, e.getMessage());
+        }
+    }
+
+    private static ByteBuffer direct(byte[] bytes) {
+        return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip().asReadOnlyBuffer();
+    }
+
+    /**
+     * Compresses once per cached entry, so the slowest level is worth it.
+     */
+    private static class BestGzipOutputStream extends GZIPOutputStream {
+
+        BestGzipOutputStream(ByteArrayOutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
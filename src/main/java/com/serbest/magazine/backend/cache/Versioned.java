@@ -0,0 +1,18 @@
+package com.serbest.magazine.backend.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a public read endpoint whose response only changes with the given content: it is tagged with the content's
+ * version and answered with {@code 304} before the handler runs when the client already has it. See
+ * {@link ConditionalGetInterceptor}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Versioned {
+
+    ContentVersions.Scope value();
+}
@@ -1,5 +1,6 @@
 package com.serbest.magazine.backend.common.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -8,6 +9,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.UUID;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -29,5 +32,8 @@ public class MasterpieceRequestDTO {
 
     private String marketLink;
 
+    @JsonIgnore
     private MultipartFile image;
+
+    private UUID imageId;
 }
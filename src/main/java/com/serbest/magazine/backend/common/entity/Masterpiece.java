@@ -21,7 +21,7 @@ public abstract class Masterpiece {
     @Lob
     private String info;
 
-    @ManyToOne(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    @ManyToOne(fetch = FetchType.EAGER)
     @JoinTable(name = "masterpiece_images",
             joinColumns = {
                     @JoinColumn(name = "masterpiece_id")
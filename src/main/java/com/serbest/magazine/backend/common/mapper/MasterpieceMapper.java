@@ -8,44 +8,38 @@ import com.serbest.magazine.backend.common.entity.Masterpiece;
 import com.serbest.magazine.backend.entity.Movie;
 import com.serbest.magazine.backend.entity.Music;
 import com.serbest.magazine.backend.entity.Picture;
-import com.serbest.magazine.backend.util.UploadImage;
 import org.springframework.stereotype.Component;
 
-import java.io.IOException;
-
 @Component
 public class MasterpieceMapper {
 
-    public Music masterpieceRequestDTOToMusic (MasterpieceRequestDTO requestDTO) throws IOException {
+    public Music masterpieceRequestDTOToMusic (MasterpieceRequestDTO requestDTO) {
         return Music.Builder.newBuilder()
                 .title(requestDTO.getTitle())
                 .owner(requestDTO.getOwner())
                 .info(requestDTO.getInfo())
-                .image(UploadImage.uploadImage(requestDTO.getImage()))
                 .showLink(requestDTO.getShowLink())
                 .showLink2(requestDTO.getShowLink2())
                 .marketLink(requestDTO.getMarketLink())
                 .build();
     }
 
-    public Picture masterpieceRequestDTOToPicture (MasterpieceRequestDTO requestDTO) throws IOException {
+    public Picture masterpieceRequestDTOToPicture (MasterpieceRequestDTO requestDTO) {
         return Picture.Builder.newBuilder()
                 .title(requestDTO.getTitle())
                 .owner(requestDTO.getOwner())
                 .info(requestDTO.getInfo())
-                .image(UploadImage.uploadImage(requestDTO.getImage()))
                 .showLink(requestDTO.getShowLink())
                 .showLink2(requestDTO.getShowLink2())
                 .marketLink(requestDTO.getMarketLink())
                 .build();
     }
 
-    public Movie masterpieceRequestDTOToMovie (MasterpieceRequestDTO requestDTO) throws IOException {
+    public Movie masterpieceRequestDTOToMovie (MasterpieceRequestDTO requestDTO) {
         return Movie.Builder.newBuilder()
                 .title(requestDTO.getTitle())
                 .owner(requestDTO.getOwner())
                 .info(requestDTO.getInfo())
-                .image(UploadImage.uploadImage(requestDTO.getImage()))
                 .showLink(requestDTO.getShowLink())
                 .showLink2(requestDTO.getShowLink2())
                 .marketLink(requestDTO.getMarketLink())
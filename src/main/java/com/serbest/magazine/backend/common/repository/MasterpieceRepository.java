@@ -1,14 +1,23 @@
 package com.serbest.magazine.backend.common.repository;
 
 import com.serbest.magazine.backend.common.entity.Masterpiece;
+import com.serbest.magazine.backend.util.NdjsonStreamer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface MasterpieceRepository<I extends Masterpiece> extends JpaRepository<I, UUID> {
 
     I findTopByOrderByCreateDateTimeDesc();
 
     List<I> findAllByOrderByCreateDateTimeDesc();
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonStreamer.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<I> streamAllByOrderByCreateDateTimeDesc();
 }
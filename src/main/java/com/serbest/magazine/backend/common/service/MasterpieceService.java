@@ -2,6 +2,7 @@ package com.serbest.magazine.backend.common.service;
 
 import com.serbest.magazine.backend.common.dto.*;
 import com.serbest.magazine.backend.dto.general.MessageResponseDTO;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -13,6 +14,8 @@ public interface MasterpieceService {
 
     List<MasterpieceListResponseDTO> getMasterpieces();
 
+    StreamingResponseBody streamMasterpieces();
+
     MasterpieceResponseDTO getMasterpieceById(String id);
 
     MasterpieceResponseDTO updateMasterpiece(String id, MasterpieceUpdateRequestDTO requestDTO);
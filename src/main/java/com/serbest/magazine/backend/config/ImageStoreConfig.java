@@ -0,0 +1,59 @@
+package com.serbest.magazine.backend.config;
+
+import com.serbest.magazine.backend.storage.FileSystemImageStore;
+import com.serbest.magazine.backend.storage.ImageStore;
+import com.serbest.magazine.backend.storage.S3ImageStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+
+@Configuration
+public class ImageStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "magazine.storage.type", havingValue = "filesystem", matchIfMissing = true)
+    public ImageStore fileSystemImageStore(@Value("${magazine.storage.filesystemRoot:./data/images}") String root)
+            throws IOException {
+        return new FileSystemImageStore(Path.of(root));
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "magazine.storage.type", havingValue = "s3")
+    public S3Client imageStoreS3Client(@Value("${magazine.storage.s3.region:eu-central-1}") String region,
+                                       @Value("${magazine.storage.s3.endpoint:}") String endpoint,
+                                       @Value("${magazine.storage.s3.accessKey:}") String accessKey,
+                                       @Value("${magazine.storage.s3.secretKey:}") String secretKey) {
+        S3ClientBuilder builder = S3Client.builder().region(Region.of(region));
+
+        if (StringUtils.hasText(endpoint)) {
+            // MinIO and most other S3 compatible servers only understand path style bucket addressing.
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+
+        if (StringUtils.hasText(accessKey)) {
+            builder.credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)));
+        } else {
+            builder.credentialsProvider(DefaultCredentialsProvider.create());
+        }
+
+        return builder.build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "magazine.storage.type", havingValue = "s3")
+    public ImageStore s3ImageStore(S3Client imageStoreS3Client, @Value("${magazine.storage.s3.bucket}") String bucket) {
+        return new S3ImageStore(imageStoreS3Client, bucket);
+    }
+}
@@ -0,0 +1,90 @@
+package com.serbest.magazine.backend.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hibernate's second level cache for the reference data read on nearly every request: roles, which every
+ * authentication loads with its author, categories and sub categories, and the queries looking them up by name.
+ * The regions live in a Caffeine backed JCache manager of this application context, each bounded by size and time to
+ * live, and report their statistics to Micrometer. A region the entities name but this class does not create fails
+ * the startup.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final AtomicInteger managers = new AtomicInteger();
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(
+            MeterRegistry meterRegistry,
+            @Value("${magazine.hibernateCache.roles.maxSize:100}") long rolesMaxSize,
+            @Value("${magazine.hibernateCache.roles.ttl:PT24H}") Duration rolesTtl,
+            @Value("${magazine.hibernateCache.authorRoles.maxSize:10000}") long authorRolesMaxSize,
+            @Value("${magazine.hibernateCache.authorRoles.ttl:PT1H}") Duration authorRolesTtl,
+            @Value("${magazine.hibernateCache.categories.maxSize:1000}") long categoriesMaxSize,
+            @Value("${magazine.hibernateCache.categories.ttl:PT1H}") Duration categoriesTtl,
+            @Value("${magazine.hibernateCache.queries.maxSize:1000}") long queriesMaxSize,
+            @Value("${magazine.hibernateCache.queries.ttl:PT1H}") Duration queriesTtl) {
+        // A manager per context, so test contexts sharing the JVM do not share entries.
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("magazine-hibernate-" + managers.incrementAndGet()),
+                        SecondLevelCacheConfig.class.getClassLoader());
+
+        region(cacheManager, meterRegistry, "roles", rolesMaxSize, rolesTtl);
+        region(cacheManager, meterRegistry, "authorRoles", authorRolesMaxSize, authorRolesTtl);
+        region(cacheManager, meterRegistry, "categories", categoriesMaxSize, categoriesTtl);
+        region(cacheManager, meterRegistry, "subCategories", categoriesMaxSize, categoriesTtl);
+        region(cacheManager, meterRegistry, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                queriesMaxSize, queriesTtl);
+        // Query results are checked against these, so they must outlive them; one entry per table.
+        region(cacheManager, meterRegistry, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                -1, null);
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static void region(CacheManager cacheManager, MeterRegistry meterRegistry, String name, long maxSize,
+                               Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        if (maxSize >= 0) {
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+        }
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+
+        Cache<Object, Object> cache = cacheManager.createCache(name, configuration);
+        JCacheMetrics.monitor(meterRegistry, cache);
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.security.authentication.dao.DaoAuthenticationProvider
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -63,6 +64,12 @@ public class WebSecurityConfig {
     }
 
 
+    @Bean
+    public WebSecurityCustomizer webSecurityCustomizer() {
+        // Image requests skip the whole security filter chain, they are public and only need to be fast.
+        return web -> web.ignoring().requestMatchers("/api/photos/**");
+    }
+
     @Bean
     SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -71,9 +78,11 @@ public class WebSecurityConfig {
                 )
                 .authorizeHttpRequests(authorize ->
                         authorize
+                                .requestMatchers(HttpMethod.GET, "/api/home").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/api/suggest").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/api/taxonomy").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/api/posts/**").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/api/comments/**").permitAll()
-                                .requestMatchers(HttpMethod.GET, "/api/photos/**").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/api/authors/**").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/api/likes/**").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/api/musics/**").permitAll()
@@ -89,6 +98,7 @@ public class WebSecurityConfig {
                                 .requestMatchers("/api/musics/**").hasAnyRole("ADMIN", "EDITOR")
                                 .requestMatchers("/api/pictures/**").hasAnyRole("ADMIN", "EDITOR")
                                 .requestMatchers("/api/playlists/**").hasRole("AUTHOR")
+                                .requestMatchers("/api/media/**").hasRole("AUTHOR")
                                 .requestMatchers("/api/encyclopediaArticles/**").hasAnyRole("ADMIN", "EDITOR")
                                 .requestMatchers(HttpMethod.GET, "/api/administration/**").permitAll()
                                 .requestMatchers("/api/administration/**").hasRole("ADMIN")
@@ -1,6 +1,8 @@
 package com.serbest.magazine.backend.controller;
 
 
+import com.serbest.magazine.backend.cache.ContentVersions;
+import com.serbest.magazine.backend.cache.Versioned;
 import com.serbest.magazine.backend.dto.author.AuthorCardResponseDTO;
 import com.serbest.magazine.backend.dto.author.AuthorListResponseDTO;
 import com.serbest.magazine.backend.dto.author.UserListResponseDTO;
@@ -12,6 +14,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
@@ -33,21 +36,34 @@ public class AuthorController {
         return ResponseEntity.ok(authorService.getAllUsers());
     }
 
+    @GetMapping(value = "/getAllUsers", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllUsers() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(authorService.streamAllUsers());
+    }
+
     @GetMapping("/getUsers")
     public ResponseEntity<List<AuthorResponseDTO>> getOnlyUsers(){
         return ResponseEntity.ok(authorService.getUsers());
     }
 
+    @GetMapping(value = "/getUsers", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamOnlyUsers() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(authorService.streamUsers());
+    }
+
+    @Versioned(ContentVersions.Scope.AUTHORS)
     @GetMapping("/getAuthors")
     public ResponseEntity<List<AuthorListResponseDTO>> getOnlyAuthors(){
         return ResponseEntity.ok(authorService.getAuthors());
     }
 
+    @Versioned(ContentVersions.Scope.AUTHORS)
     @GetMapping("/getAuthorsForCard")
     public ResponseEntity<List<AuthorCardResponseDTO>> getAuthorsForCard(){
         return ResponseEntity.ok(authorService.getAuthorsForCard());
     }
 
+    @Versioned(ContentVersions.Scope.AUTHORS)
     @GetMapping("/getUserByUsername/{username}")
     public ResponseEntity<AuthorResponseDTO> getAuthor(@PathVariable String username){
         return ResponseEntity.ok(authorService.getAuthorByUsername(username));
@@ -1,5 +1,7 @@
 package com.serbest.magazine.backend.controller;
 
+import com.serbest.magazine.backend.cache.ContentVersions;
+import com.serbest.magazine.backend.cache.Versioned;
 import com.serbest.magazine.backend.dto.category.CategoryRequestDTO;
 import com.serbest.magazine.backend.dto.category.CategoryResponseDTO;
 import com.serbest.magazine.backend.dto.general.MessageResponseDTO;
@@ -26,6 +28,7 @@ public class CategoryController {
         return ResponseEntity.ok(categoryService.createCategory(requestDTO));
     }
 
+    @Versioned(ContentVersions.Scope.CATEGORIES)
     @GetMapping
     public ResponseEntity<List<CategoryResponseDTO>> findAllCategories() {
         return ResponseEntity.ok(categoryService.getAllCategory());
@@ -7,8 +7,10 @@ import com.serbest.magazine.backend.dto.general.MessageResponseDTO;
 import com.serbest.magazine.backend.service.ContactService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -33,6 +35,11 @@ public class ContactController {
         return ResponseEntity.ok(contactService.getMessages());
     }
 
+    @GetMapping(value = "/administration/contact", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllMessages() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(contactService.streamMessages());
+    }
+
     @GetMapping(value = "/administration/contact/{messageId}")
     public ResponseEntity<ContactResponseDTO> getMessage(@PathVariable String messageId){
         return ResponseEntity.ok(contactService.getMessage(messageId));
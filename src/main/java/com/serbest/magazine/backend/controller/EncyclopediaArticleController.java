@@ -8,8 +8,10 @@ import com.serbest.magazine.backend.dto.general.MessageResponseDTO;
 import com.serbest.magazine.backend.service.EncyclopediaArticleService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -49,6 +51,12 @@ public class EncyclopediaArticleController {
         return ResponseEntity.ok(encyclopediaArticleService.getAllEncyclopediaArticles());
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllEncyclopediaArticles() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON)
+                .body(encyclopediaArticleService.streamAllEncyclopediaArticles());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<EncyclopediaArticleResponseDTO> getEncyclopediaArticleById(@PathVariable String id){
         return ResponseEntity.ok(encyclopediaArticleService.getEncyclopediaArticleById(id));
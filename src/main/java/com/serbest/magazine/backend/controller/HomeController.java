@@ -0,0 +1,31 @@
+package com.serbest.magazine.backend.controller;
+
+import com.serbest.magazine.backend.service.HomePageService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+@CrossOrigin(origins = {"http://localhost:3000", "https://gugultas.com"}, maxAge = 3600, allowCredentials = "true")
+@RestController
+@RequestMapping("/api/home")
+public class HomeController {
+
+    private final HomePageService homePageService;
+
+    public HomeController(HomePageService homePageService) {
+        this.homePageService = homePageService;
+    }
+
+    @GetMapping
+    public ResponseEntity<byte[]> getHomePage(WebRequest request) {
+        HomePageService.Snapshot snapshot = homePageService.getSnapshot();
+        if (request.checkNotModified(snapshot.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.body());
+    }
+}
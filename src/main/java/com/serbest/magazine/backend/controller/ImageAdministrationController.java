@@ -0,0 +1,24 @@
+package com.serbest.magazine.backend.controller;
+
+import com.serbest.magazine.backend.dto.image.OrphanImageReportDTO;
+import com.serbest.magazine.backend.job.OrphanImageCollector;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@CrossOrigin(origins = {"http://localhost:3000", "https://gugultas.com"}, maxAge = 3600, allowCredentials = "true")
+@RestController
+@RequestMapping("/api/administration/images")
+public class ImageAdministrationController {
+
+    private final OrphanImageCollector orphanImageCollector;
+
+    public ImageAdministrationController(OrphanImageCollector orphanImageCollector) {
+        this.orphanImageCollector = orphanImageCollector;
+    }
+
+    @PostMapping("/orphans")
+    public ResponseEntity<OrphanImageReportDTO> collectOrphans(
+            @RequestParam(name = "dryRun", defaultValue = "true") boolean dryRun) {
+        return ResponseEntity.ok(orphanImageCollector.collect(dryRun));
+    }
+}
@@ -1,22 +1,38 @@
 package com.serbest.magazine.backend.controller;
 import com.serbest.magazine.backend.entity.ImageModel;
+import com.serbest.magazine.backend.exception.ResourceNotFoundException;
 import com.serbest.magazine.backend.service.ImageModelService;
+import com.serbest.magazine.backend.storage.ImageVariantGenerator;
 
-import org.springframework.core.io.ByteArrayResource;
+import com.serbest.magazine.backend.util.ResourceResponseWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/photos")
 public class ImageController {
 
+    // Stored bytes never change for a given image id, so clients may keep them for as long as they like.
+    private static final String CACHE_CONTROL = CacheControl.maxAge(365, TimeUnit.DAYS)
+            .cachePublic()
+            .getHeaderValue() + ", immutable";
+
     private final ImageModelService imageModelService;
 
     public ImageController(ImageModelService imageModelService) {
@@ -25,15 +41,44 @@ public class ImageController {
 
 
     @GetMapping("/{imageId}")
-    public ResponseEntity<Resource> imageFile(@PathVariable String imageId) throws Exception {
+    public void imageFile(@PathVariable String imageId, @RequestParam(name = "w", required = false) Integer width,
+                          HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ImageModel imageModel = imageModelService.findById(imageId);
+        Integer variantWidth = imageModelService.variantWidth(imageModel, width);
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if (isNotModified(imageModel, variantWidth, request, response)) {
+            return;
+        }
+
+        Resource image;
         try {
-            ImageModel imageModel = imageModelService.findById(imageId);
+            image = variantWidth == null
+                    ? imageModelService.loadImage(imageModel)
+                    : imageModelService.loadImage(imageModel, variantWidth);
+        } catch (NoSuchFileException e) {
+            throw new ResourceNotFoundException("Image", "id", imageId);
+        }
+
+        String type = variantWidth == null ? imageModel.getType() : ImageVariantGenerator.CONTENT_TYPE;
+        ResourceResponseWriter.write(image, MediaType.parseMediaType(type), request, response);
+    }
+
+    /**
+     * Sets {@code ETag} and {@code Last-Modified} from the image metadata and answers conditional requests with a
+     * 304 before the image store is opened.
+     */
+    private boolean isNotModified(ImageModel imageModel, Integer variantWidth, HttpServletRequest request,
+                                  HttpServletResponse response) {
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        long lastModified = imageModel.getCreateDateTime() != null
+                ? imageModel.getCreateDateTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
 
-            return  ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(imageModel.getType()))
-                    .body(new ByteArrayResource(imageModel.getPicByte()));
-        } catch (Exception e) {
-            throw new RuntimeException(e.getMessage());
+        if (imageModel.getContentHash() == null) {
+            return lastModified > 0 && webRequest.checkNotModified(lastModified);
         }
+        String etag = imageModel.getContentHash() + (variantWidth == null ? "" : "-w" + variantWidth);
+        return webRequest.checkNotModified(etag, lastModified);
     }
 }
@@ -0,0 +1,43 @@
+package com.serbest.magazine.backend.controller;
+
+import com.serbest.magazine.backend.dto.general.MessageResponseDTO;
+import com.serbest.magazine.backend.dto.image.MediaItemResponseDTO;
+import com.serbest.magazine.backend.service.MediaLibraryService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.Map;
+
+@CrossOrigin(origins = {"http://localhost:3000", "https://gugultas.com"}, maxAge = 3600, allowCredentials = "true")
+@RestController
+@RequestMapping("/api/media")
+public class MediaLibraryController {
+
+    private final String DEFAULT_SIZE = "20";
+    private final MediaLibraryService mediaLibraryService;
+
+    public MediaLibraryController(MediaLibraryService mediaLibraryService) {
+        this.mediaLibraryService = mediaLibraryService;
+    }
+
+    @PostMapping(consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
+    public ResponseEntity<MediaItemResponseDTO> upload(@RequestParam("image") MultipartFile image) throws IOException {
+        return ResponseEntity.status(HttpStatus.CREATED).body(mediaLibraryService.upload(image));
+    }
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getMyMedia(
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = DEFAULT_SIZE) Integer size) {
+        return ResponseEntity.ok(mediaLibraryService.getMyMedia(page, size));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<MessageResponseDTO> delete(@PathVariable String id) {
+        return ResponseEntity.ok(mediaLibraryService.delete(id));
+    }
+}
@@ -1,5 +1,7 @@
 package com.serbest.magazine.backend.controller;
 
+import com.serbest.magazine.backend.cache.ContentVersions;
+import com.serbest.magazine.backend.cache.Versioned;
 import com.serbest.magazine.backend.common.dto.*;
 import com.serbest.magazine.backend.dto.general.MessageResponseDTO;
 import com.serbest.magazine.backend.service.MusicService;
@@ -8,6 +10,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -27,25 +30,43 @@ public class MusicController {
         return ResponseEntity.status(HttpStatus.CREATED).body(musicService.create(requestDTO));
     }
 
+    @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<MessageResponseDTO> createMusicJson(@Valid @RequestBody MasterpieceRequestDTO requestDTO) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(musicService.create(requestDTO));
+    }
+
+    @Versioned(ContentVersions.Scope.MUSIC)
     @GetMapping(value = "/getTopOfTheWeek")
     public ResponseEntity<MasterpieceOfTheWeekResponseDTO> getTopOfTheWeek() {
         return ResponseEntity.ok(musicService.getMasterpieceOfTheWeek());
     }
 
+    @Versioned(ContentVersions.Scope.MUSIC)
     @GetMapping(value = "/getMasterpieceById/{id}")
     public ResponseEntity<MasterpieceResponseDTO> getMasterpieceById(@PathVariable String id) {
         return ResponseEntity.ok(musicService.getMasterpieceById(id));
     }
 
+    @Versioned(ContentVersions.Scope.MUSIC)
     @GetMapping(value = "/getMasterpieces")
     public ResponseEntity<List<MasterpieceListResponseDTO>> getMasterpieces() {
         return ResponseEntity.ok(musicService.getMasterpieces());
     }
 
+    @GetMapping(value = "/getMasterpieces", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMasterpieces() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(musicService.streamMasterpieces());
+    }
+
     @PutMapping(value = "/updateMasterpieceById/{id}", consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
     public ResponseEntity<MasterpieceResponseDTO> updateMasterpiece(@PathVariable String id, @Valid @ModelAttribute MasterpieceUpdateRequestDTO requestDTO) {
         return ResponseEntity.ok(musicService.updateMasterpiece(id, requestDTO));
     }
 
+    @PutMapping(value = "/updateMasterpieceById/{id}", consumes = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<MasterpieceResponseDTO> updateMasterpieceJson(@PathVariable String id, @Valid @RequestBody MasterpieceUpdateRequestDTO requestDTO) {
+        return ResponseEntity.ok(musicService.updateMasterpiece(id, requestDTO));
+    }
+
 
 }
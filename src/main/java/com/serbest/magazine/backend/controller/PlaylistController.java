@@ -29,12 +29,23 @@ public class PlaylistController {
         return ResponseEntity.status(HttpStatus.CREATED).body(playlistService.createPlaylist(requestDTO));
     }
 
+    @PostMapping(consumes = { MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<MessageResponseDTO> createPlaylistJson(@Valid @RequestBody PlaylistRequestDTO requestDTO) throws IOException {
+        return ResponseEntity.status(HttpStatus.CREATED).body(playlistService.createPlaylist(requestDTO));
+    }
+
     @PutMapping(value = "/updatePlaylist/{id}", consumes = { MediaType.MULTIPART_FORM_DATA_VALUE })
     public ResponseEntity<PlaylistResponseDTO>
         updatePlaylist(@PathVariable String id, @Valid @ModelAttribute PlaylistUpdateRequestDTO requestDTO) throws IOException {
         return ResponseEntity.ok(playlistService.updatePlaylist(id,requestDTO));
     }
 
+    @PutMapping(value = "/updatePlaylist/{id}", consumes = { MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<PlaylistResponseDTO>
+        updatePlaylistJson(@PathVariable String id, @Valid @RequestBody PlaylistUpdateRequestDTO requestDTO) throws IOException {
+        return ResponseEntity.ok(playlistService.updatePlaylist(id,requestDTO));
+    }
+
     @GetMapping(value = "/allPlaylistByAuthor/{username}")
     public ResponseEntity<List<PlaylistResponseDTO>> allPlaylistByAuthor(@PathVariable String username){
         return ResponseEntity.ok(playlistService.allPlaylistByAuthor(username));
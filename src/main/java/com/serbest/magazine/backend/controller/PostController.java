@@ -1,18 +1,29 @@
 package com.serbest.magazine.backend.controller;
 
+import com.serbest.magazine.backend.cache.ConditionalGetInterceptor;
+import com.serbest.magazine.backend.cache.ContentVersions;
+import com.serbest.magazine.backend.cache.PostDetailCache;
+import com.serbest.magazine.backend.cache.Versioned;
 import com.serbest.magazine.backend.dto.general.MessageResponseDTO;
 import com.serbest.magazine.backend.dto.post.*;
 import com.serbest.magazine.backend.service.PostService;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.file.AccessDeniedException;
 import java.util.List;
 import java.util.Map;
@@ -24,9 +35,14 @@ public class PostController {
 
     private final String DEFAULT_SIZE = "20";
     private final PostService postService;
+    private final PostDetailCache postDetailCache;
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
 
-    public PostController(PostService postService) {
+    public PostController(PostService postService, PostDetailCache postDetailCache,
+                          ConditionalGetInterceptor conditionalGetInterceptor) {
         this.postService = postService;
+        this.postDetailCache = postDetailCache;
+        this.conditionalGetInterceptor = conditionalGetInterceptor;
     }
 
     @PostMapping(consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
@@ -34,12 +50,24 @@ public class PostController {
         return ResponseEntity.status(HttpStatus.CREATED).body(postService.createPost(requestDTO));
     }
 
+    @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<PostCreateResponseDTO> createPostJson(@Valid @RequestBody PostRequestDTO requestDTO) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(postService.createPost(requestDTO));
+    }
+
     @PreAuthorize("hasRole('ROLE_EDITOR')")
     @PostMapping(value = "/editor/createPost", consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
     public ResponseEntity<PostCreateResponseDTO> createPostEditor(@Valid @ModelAttribute PostCreateEditorRequestDTO requestDTO) throws IOException {
         return ResponseEntity.status(HttpStatus.CREATED).body(postService.createPostEditor(requestDTO));
     }
 
+    @PreAuthorize("hasRole('ROLE_EDITOR')")
+    @PostMapping(value = "/editor/createPost", consumes = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<PostCreateResponseDTO> createPostEditorJson(@Valid @RequestBody PostCreateEditorRequestDTO requestDTO) throws IOException {
+        return ResponseEntity.status(HttpStatus.CREATED).body(postService.createPostEditor(requestDTO));
+    }
+
+    @Versioned(ContentVersions.Scope.POSTS)
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Map<String, Object>> getAllPost(
             @RequestParam(defaultValue = "0") Integer page,
@@ -48,26 +76,84 @@ public class PostController {
         return ResponseEntity.ok(postService.getAllPosts(page, size));
     }
 
+    /**
+     * Reads and returns only the comma separated fields, for example {@code fields=id,title,createDateTime}.
+     */
+    @Versioned(ContentVersions.Scope.POSTS)
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE, params = "fields")
+    public ResponseEntity<Map<String, Object>> getAllPostFields(
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = DEFAULT_SIZE) Integer size,
+            @RequestParam String fields
+    ) {
+        return ResponseEntity.ok(postService.getAllPosts(page, size, fields));
+    }
+
+    @Versioned(ContentVersions.Scope.POSTS)
+    @GetMapping(value = "/feed", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> getPostFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_SIZE) Integer size,
+            @RequestParam(defaultValue = "false") Boolean withTotal
+    ) {
+        return ResponseEntity.ok(postService.getPostFeed(cursor, size, withTotal));
+    }
+
+    @Versioned(ContentVersions.Scope.POSTS)
     @GetMapping(value = "/firstFivePosts", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<List<FirstFivePostsListDTO>> getFirstFivePosts() {
         return ResponseEntity.ok(postService.getFirstFivePosts());
     }
 
+    @Versioned(ContentVersions.Scope.POSTS)
     @GetMapping(value = "/fourPostsForTop", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<List<MainPagePostsListDTO>> getFourPostsForTop() {
         return ResponseEntity.ok(postService.getFourPostsForTop());
     }
 
+    @Versioned(ContentVersions.Scope.POSTS)
     @GetMapping(value = "/mainPagePosts", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<List<MainPagePostsListDTO>> getPostsForMainPage() {
         return ResponseEntity.ok(postService.getPostsForMainPage());
     }
 
+    /**
+     * Writes the cached JSON of the post, gzip compressed when the client accepts it. Not {@link Versioned}, since
+     * the two encodings need ETags of their own.
+     */
     @GetMapping("/getSinglePostBy/{postId}")
-    public ResponseEntity<PostResponseDTO> getPostById(@PathVariable String postId) {
-        return ResponseEntity.ok(postService.findById(postId));
+    public void getPostById(@PathVariable String postId,
+                            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean compressed = acceptsGzip(acceptEncoding);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (conditionalGetInterceptor.notModified(ContentVersions.Scope.POSTS, compressed ? "gzip" : "",
+                new ServletWebRequest(request, response))) {
+            return;
+        }
+
+        PostDetailCache.Entry post = postDetailCache.get(postId, () -> postService.findById(postId));
+        ByteBuffer body = post.body(compressed);
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (compressed) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.remaining());
+        Channels.newChannel(response.getOutputStream()).write(body);
+    }
+
+    /**
+     * Reads and returns only the picked fields of the post; the cached JSON holds the whole post, so it is bypassed.
+     */
+    @Versioned(ContentVersions.Scope.POSTS)
+    @GetMapping(value = "/getSinglePostBy/{postId}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getPostFieldsById(@PathVariable String postId,
+                                                                 @RequestParam String fields) {
+        return ResponseEntity.ok(postService.findById(postId, fields));
     }
 
+    @Versioned(ContentVersions.Scope.POSTS)
     @GetMapping("/getPostsByAuthor/{username}")
     public ResponseEntity<Map<String, Object>> getPostsByUsername(
             @PathVariable String username,
@@ -76,12 +162,28 @@ public class PostController {
         return ResponseEntity.ok(postService.findByUsername(username,page,size));
     }
 
+    @Versioned(ContentVersions.Scope.POSTS)
+    @GetMapping("/feed/author/{username}")
+    public ResponseEntity<Map<String, Object>> getPostFeedByUsername(
+            @PathVariable String username,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_SIZE) Integer size,
+            @RequestParam(defaultValue = "false") Boolean withTotal) {
+        return ResponseEntity.ok(postService.getPostFeedByUsername(username, cursor, size, withTotal));
+    }
+
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     @GetMapping("/getDeactivatedPosts")
     public ResponseEntity<List<DeactivatedPostApiResponseDTO>> getDeactivatedPosts() {
         return ResponseEntity.ok(postService.getDeactivatedPost());
     }
 
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping(value = "/getDeactivatedPosts", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamDeactivatedPosts() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(postService.streamDeactivatedPosts());
+    }
+
     @PreAuthorize("hasAnyRole('ROLE_AUTHOR','ROLE_EDITOR','ROLE_ADMIN')")
     @PutMapping("/deactivatePost/{id}")
     public ResponseEntity<PostResponseDTO> deactivatePost(@PathVariable String id) throws AccessDeniedException {
@@ -100,6 +202,12 @@ public class PostController {
         return ResponseEntity.ok(postService.updatePost(id, requestDTO));
     }
 
+    @PutMapping(value = "/updatePost/{id}", consumes = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<PostResponseDTO> updatePostJson(@PathVariable String id, @Valid @RequestBody PostUpdateRequestDTO requestDTO)
+            throws IOException {
+        return ResponseEntity.ok(postService.updatePost(id, requestDTO));
+    }
+
     @PreAuthorize("hasRole('ROLE_EDITOR')")
     @PutMapping(value = "/editor/updatePost/{id}", consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
     public ResponseEntity<PostResponseDTO> updatePostForEditor(@PathVariable String id, @Valid @ModelAttribute PostUpdateEditorRequestDTO requestDTO)
@@ -107,12 +215,20 @@ public class PostController {
         return ResponseEntity.ok(postService.updatePostEditor(id, requestDTO));
     }
 
+    @PreAuthorize("hasRole('ROLE_EDITOR')")
+    @PutMapping(value = "/editor/updatePost/{id}", consumes = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<PostResponseDTO> updatePostForEditorJson(@PathVariable String id, @Valid @RequestBody PostUpdateEditorRequestDTO requestDTO)
+            throws IOException {
+        return ResponseEntity.ok(postService.updatePostEditor(id, requestDTO));
+    }
+
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     @DeleteMapping(value = "/administration/deletePost/{id}")
     public ResponseEntity<MessageResponseDTO> deletePostForEditor(@PathVariable String id) {
         return ResponseEntity.ok(postService.deletePost(id));
     }
 
+    @Versioned(ContentVersions.Scope.POSTS)
     @GetMapping("/getPostByCategory/{category}")
     public ResponseEntity<Map<String, Object>> getAllPostByCategory(
             @PathVariable String category,
@@ -121,6 +237,7 @@ public class PostController {
         return ResponseEntity.ok(postService.getPostsByCategory(category, page, size));
     }
 
+    @Versioned(ContentVersions.Scope.POSTS)
     @GetMapping("/getPostBySubCategory/{subCategory}")
     public ResponseEntity<Map<String, Object>> getAllPostBySubCategory(
             @PathVariable String subCategory,
@@ -129,6 +246,27 @@ public class PostController {
         return ResponseEntity.ok(postService.getPostsBySubCategory(subCategory, page, size));
     }
 
+    @Versioned(ContentVersions.Scope.POSTS)
+    @GetMapping("/feed/category/{category}")
+    public ResponseEntity<Map<String, Object>> getPostFeedByCategory(
+            @PathVariable String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_SIZE) Integer size,
+            @RequestParam(defaultValue = "false") Boolean withTotal) {
+        return ResponseEntity.ok(postService.getPostFeedByCategory(category, cursor, size, withTotal));
+    }
+
+    @Versioned(ContentVersions.Scope.POSTS)
+    @GetMapping("/feed/subCategory/{subCategory}")
+    public ResponseEntity<Map<String, Object>> getPostFeedBySubCategory(
+            @PathVariable String subCategory,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_SIZE) Integer size,
+            @RequestParam(defaultValue = "false") Boolean withTotal) {
+        return ResponseEntity.ok(postService.getPostFeedBySubCategory(subCategory, cursor, size, withTotal));
+    }
+
+    @Versioned(ContentVersions.Scope.POSTS)
     @GetMapping("/getLastFivePostsByAuthor/{username}")
     public ResponseEntity<List<AuthorsLastFivePosts>> getLastFivePostsByAuthor(@PathVariable String username) {
         return ResponseEntity.ok(postService.getLastFivePostsOfAuthor(username));
@@ -146,12 +284,20 @@ public class PostController {
     }
 
     @GetMapping("/searchPosts/{title}")
-    public ResponseEntity<List<PostResponseDTO>> searchPosts(@PathVariable String title) {
+    public ResponseEntity<List<PostListItemDTO>> searchPosts(@PathVariable String title) {
         return ResponseEntity.ok(postService.searchPosts(title));
     }
 
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = DEFAULT_SIZE) Integer size) {
+        return ResponseEntity.ok(postService.search(q, page, size));
+    }
+
     @GetMapping("/randomThree")
-    public ResponseEntity<List<PostResponseDTO>> getThreeByRandomPosts() {
+    public ResponseEntity<List<PostListItemDTO>> getThreeByRandomPosts() {
         return ResponseEntity.ok(postService.getRandomThreePost());
     }
 
@@ -160,4 +306,21 @@ public class PostController {
         return ResponseEntity.ok(postService.countsByCategoryName(categoryName));
     }
 
+    @GetMapping("/counts")
+    public ResponseEntity<PostCountsDTO> getPostCounts() {
+        return ResponseEntity.ok(postService.getPostCounts());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
 }
@@ -1,5 +1,7 @@
 package com.serbest.magazine.backend.controller;
 
+import com.serbest.magazine.backend.cache.ContentVersions;
+import com.serbest.magazine.backend.cache.Versioned;
 import com.serbest.magazine.backend.dto.general.MessageResponseDTO;
 import com.serbest.magazine.backend.dto.subcategory.SubCategoryActiveListResponseDTO;
 import com.serbest.magazine.backend.dto.subcategory.SubCategoryCreateRequestDTO;
@@ -31,11 +33,13 @@ public class SubCategoryController {
         return ResponseEntity.status(HttpStatus.CREATED).body(subCategoryService.createSubCategory(requestDTO));
     }
 
+    @Versioned(ContentVersions.Scope.CATEGORIES)
     @GetMapping("/byCategoryName/{category}")
     public ResponseEntity<List<SubCategoryListResponseDTO>> getAllSubCategoriesByCategory(@PathVariable String category) {
         return ResponseEntity.ok(subCategoryService.getAllSubCategoriesByCategoryName(category));
     }
 
+    @Versioned(ContentVersions.Scope.CATEGORIES)
     @GetMapping("/byCategoryName/activeSubCategories/{category}")
     public ResponseEntity<List<SubCategoryActiveListResponseDTO>> getAllActiveSubCategoriesByCategory(@PathVariable String category) {
         return ResponseEntity.ok(subCategoryService.getAllActiveSubCategoriesByCategoryName(category));
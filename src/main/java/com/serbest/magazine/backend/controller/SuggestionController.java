@@ -0,0 +1,26 @@
+package com.serbest.magazine.backend.controller;
+
+import com.serbest.magazine.backend.dto.suggest.SuggestionDTO;
+import com.serbest.magazine.backend.service.SuggestionService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@CrossOrigin(origins = {"http://localhost:3000", "https://gugultas.com"}, maxAge = 3600, allowCredentials = "true")
+@RestController
+@RequestMapping("/api/suggest")
+public class SuggestionController {
+
+    private final SuggestionService suggestionService;
+
+    public SuggestionController(SuggestionService suggestionService) {
+        this.suggestionService = suggestionService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<SuggestionDTO>> suggest(@RequestParam String q,
+                                                       @RequestParam(defaultValue = "8") Integer limit) {
+        return ResponseEntity.ok(suggestionService.suggest(q, limit));
+    }
+}
@@ -0,0 +1,31 @@
+package com.serbest.magazine.backend.controller;
+
+import com.serbest.magazine.backend.service.TaxonomyService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+@CrossOrigin(origins = {"http://localhost:3000", "https://gugultas.com"}, maxAge = 3600, allowCredentials = "true")
+@RestController
+@RequestMapping("/api/taxonomy")
+public class TaxonomyController {
+
+    private final TaxonomyService taxonomyService;
+
+    public TaxonomyController(TaxonomyService taxonomyService) {
+        this.taxonomyService = taxonomyService;
+    }
+
+    @GetMapping
+    public ResponseEntity<byte[]> getTaxonomy(WebRequest request) {
+        TaxonomyService.Snapshot snapshot = taxonomyService.getSnapshot();
+        if (request.checkNotModified(snapshot.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.body());
+    }
+}
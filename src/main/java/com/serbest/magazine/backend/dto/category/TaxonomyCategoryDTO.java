@@ -0,0 +1,23 @@
+package com.serbest.magazine.backend.dto.category;
+
+import com.serbest.magazine.backend.dto.subcategory.SubCategoryActiveListResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * An active category of the menu with its active sub categories.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaxonomyCategoryDTO {
+    private UUID id;
+    private String name;
+    private List<SubCategoryActiveListResponseDTO> subCategories;
+}
@@ -20,6 +20,7 @@ public class CommentResponseDTO {
     private String username;
     private UUID userImageId;
     private String userImageType;
+    private Long likes;
     private LocalDateTime createDateTime;
     private LocalDateTime updateDateTime;
 }
@@ -0,0 +1,30 @@
+package com.serbest.magazine.backend.dto.home;
+
+import com.serbest.magazine.backend.common.dto.MasterpieceOfTheWeekResponseDTO;
+import com.serbest.magazine.backend.dto.encyclopediaArticle.EncyclopediaArticleResponseDTO;
+import com.serbest.magazine.backend.dto.post.FirstFivePostsListDTO;
+import com.serbest.magazine.backend.dto.post.MainPagePostsListDTO;
+import com.serbest.magazine.backend.dto.post.PostListItemDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HomePageDTO {
+    private List<FirstFivePostsListDTO> firstFivePosts;
+    private List<MainPagePostsListDTO> fourPostsForTop;
+    private List<MainPagePostsListDTO> mainPagePosts;
+    private List<PostListItemDTO> randomThree;
+    private List<EncyclopediaArticleResponseDTO> encyclopediaArticles;
+    private MasterpieceOfTheWeekResponseDTO movieOfTheWeek;
+    private MasterpieceOfTheWeekResponseDTO musicOfTheWeek;
+    private MasterpieceOfTheWeekResponseDTO pictureOfTheWeek;
+    private LocalDateTime createDateTime;
+}
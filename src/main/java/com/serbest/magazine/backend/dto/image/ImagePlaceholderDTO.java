@@ -0,0 +1,14 @@
+package com.serbest.magazine.backend.dto.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImagePlaceholderDTO {
+    private Integer width;
+    private Integer height;
+    private String color;
+}
@@ -0,0 +1,23 @@
+package com.serbest.magazine.backend.dto.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MediaItemResponseDTO {
+    private UUID id;
+    private UUID imageId;
+    private String name;
+    private String type;
+    private Long size;
+    private ImagePlaceholderDTO imagePlaceholder;
+    private LocalDateTime createDateTime;
+}
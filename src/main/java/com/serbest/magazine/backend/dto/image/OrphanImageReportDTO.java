@@ -0,0 +1,19 @@
+package com.serbest.magazine.backend.dto.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrphanImageReportDTO {
+    private boolean dryRun;
+    private long orphans;
+    private long orphanBytes;
+    private long deleted;
+    private List<UUID> sample;
+}
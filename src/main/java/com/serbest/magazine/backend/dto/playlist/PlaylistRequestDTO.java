@@ -1,5 +1,6 @@
 package com.serbest.magazine.backend.dto.playlist;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -8,6 +9,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.UUID;
+
 
 @Builder
 @AllArgsConstructor
@@ -21,5 +24,8 @@ public class PlaylistRequestDTO {
 
     private String description;
 
+    @JsonIgnore
     private MultipartFile playlistImage;
+
+    private UUID imageId;
 }
@@ -1,5 +1,6 @@
 package com.serbest.magazine.backend.dto.playlist;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -21,6 +22,9 @@ public class PlaylistUpdateRequestDTO {
 
     private String description;
 
+    @JsonIgnore
     private MultipartFile playlistImage;
+
+    private UUID imageId;
     private Boolean imageProtect;
 }
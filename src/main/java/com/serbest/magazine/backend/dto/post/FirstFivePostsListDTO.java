@@ -1,5 +1,6 @@
 package com.serbest.magazine.backend.dto.post;
 
+import com.serbest.magazine.backend.dto.image.ImagePlaceholderDTO;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -15,4 +16,9 @@ public class FirstFivePostsListDTO {
     private String title;
     private UUID avatarId;
     private String avatarType;
+    private ImagePlaceholderDTO imagePlaceholder;
+
+    public FirstFivePostsListDTO(UUID id, UUID image, String title, UUID avatarId, String avatarType) {
+        this(id, image, title, avatarId, avatarType, null);
+    }
 }
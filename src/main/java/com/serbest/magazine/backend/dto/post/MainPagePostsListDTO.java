@@ -1,5 +1,6 @@
 package com.serbest.magazine.backend.dto.post;
 
+import com.serbest.magazine.backend.dto.image.ImagePlaceholderDTO;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,6 +20,8 @@ public class MainPagePostsListDTO {
     private String subCategory;
     private String username;
     private UUID image;
+    private ImagePlaceholderDTO imagePlaceholder;
     private Long comments;
+    private Long likes;
     private LocalDateTime createDateTime;
 }
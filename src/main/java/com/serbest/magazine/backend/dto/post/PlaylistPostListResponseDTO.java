@@ -17,7 +17,9 @@ public class PlaylistPostListResponseDTO {
     private UUID id;
     private String title;
     private String subtitle;
-    private String content;
+    private String excerpt;
+    private Integer wordCount;
+    private Integer readingTime;
     private String category;
     private String subCategory;
     private String username;
@@ -25,6 +27,7 @@ public class PlaylistPostListResponseDTO {
     private String profileImageType;
     private UUID image;
     private Long comments;
+    private Long likes;
     private LocalDateTime createDateTime;
     private LocalDateTime updateDateTime;
 }
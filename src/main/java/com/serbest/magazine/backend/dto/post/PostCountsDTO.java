@@ -0,0 +1,21 @@
+package com.serbest.magazine.backend.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Active post counts of every category, by name, and every sub category, by id.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostCountsDTO {
+    private Map<String, Long> categories;
+    private Map<UUID, Long> subCategories;
+}
@@ -0,0 +1,38 @@
+package com.serbest.magazine.backend.dto.post;
+
+import com.serbest.magazine.backend.dto.image.ImagePlaceholderDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A post in a list: the content is left out in favour of an excerpt, its word count and reading time in minutes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostListItemDTO {
+    private UUID id;
+    private String title;
+    private String subtitle;
+    private String description;
+    private String excerpt;
+    private Integer wordCount;
+    private Integer readingTime;
+    private String category;
+    private String subCategory;
+    private String username;
+    private UUID profileImageId;
+    private String profileImageType;
+    private UUID image;
+    private ImagePlaceholderDTO imagePlaceholder;
+    private Long comments;
+    private Long likes;
+    private LocalDateTime createDateTime;
+    private LocalDateTime updateDateTime;
+}
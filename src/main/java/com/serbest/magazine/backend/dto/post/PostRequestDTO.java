@@ -1,11 +1,14 @@
 package com.serbest.magazine.backend.dto.post;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Null;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.UUID;
+
 
 @Data
 @NoArgsConstructor
@@ -29,6 +32,9 @@ public class PostRequestDTO {
     @NotBlank(message = "Please provide a sub-category.")
     private String subCategory;
 
+    @JsonIgnore
     private MultipartFile image;
 
+    private UUID imageId;
+
 }
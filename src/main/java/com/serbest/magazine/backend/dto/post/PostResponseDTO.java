@@ -1,5 +1,6 @@
 package com.serbest.magazine.backend.dto.post;
 
+import com.serbest.magazine.backend.dto.image.ImagePlaceholderDTO;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,7 +25,9 @@ public class PostResponseDTO {
     private UUID profileImageId;
     private String profileImageType;
     private UUID image;
+    private ImagePlaceholderDTO imagePlaceholder;
     private Long comments;
+    private Long likes;
     private LocalDateTime createDateTime;
     private LocalDateTime updateDateTime;
 }
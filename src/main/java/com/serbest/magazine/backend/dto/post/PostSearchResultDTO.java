@@ -0,0 +1,34 @@
+package com.serbest.magazine.backend.dto.post;
+
+import com.serbest.magazine.backend.dto.image.ImagePlaceholderDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A search hit. {@code highlightedTitle} and {@code snippet} are HTML escaped, with the matched words in
+ * {@code <mark>}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostSearchResultDTO {
+    private UUID id;
+    private String title;
+    private String highlightedTitle;
+    private String subtitle;
+    private String snippet;
+    private String category;
+    private String subCategory;
+    private String username;
+    private UUID image;
+    private ImagePlaceholderDTO imagePlaceholder;
+    private Long comments;
+    private Long likes;
+    private LocalDateTime createDateTime;
+}
@@ -1,5 +1,6 @@
 package com.serbest.magazine.backend.dto.post;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -8,6 +9,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.UUID;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -31,6 +34,9 @@ public class PostUpdateEditorRequestDTO {
     @NotBlank(message = "Please provide a sub-category.")
     private String subCategory;
 
+    @JsonIgnore
     private MultipartFile image;
+
+    private UUID imageId;
     private Boolean imageProtect;
 }
@@ -0,0 +1,15 @@
+package com.serbest.magazine.backend.dto.suggest;
+
+import com.serbest.magazine.backend.search.SuggestionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionDTO {
+    private SuggestionType type;
+    private String id;
+    private String label;
+}
@@ -32,6 +32,10 @@ public class Comment {
     @OneToMany(mappedBy = "comment", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     private List<Like> likes;
 
+    @ColumnDefault("0")
+    @Column(name = "like_count", nullable = false)
+    private long likeCount;
+
     @CreationTimestamp
     private LocalDateTime createDateTime;
 
@@ -106,4 +110,12 @@ public class Comment {
     public void setAuthor(Author author) {
         this.author = author;
     }
+
+    public long getLikeCount() {
+        return likeCount;
+    }
+
+    public void setLikeCount(long likeCount) {
+        this.likeCount = likeCount;
+    }
 }
@@ -1,39 +1,79 @@
 package com.serbest.magazine.backend.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.CreationTimestamp;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "image_model")
+@Table(name = "image_model", indexes = @Index(name = "idx_image_model_content_hash", columnList = "content_hash"))
 public class ImageModel {
 
+    /**
+     * Id of the shared row that stands for "no image". It has no content and is never reference counted or deleted.
+     */
+    public static final UUID EMPTY_IMAGE_ID = new UUID(0L, 0L);
+
+    /**
+     * Tables that reference image rows through an {@code image_id} column, kept in sync with the mappings of the
+     * owning entities. Used to recount references and to find images nobody points at any more.
+     */
+    public static final List<String> REFERENCE_TABLES =
+            List.of("post_images", "profile_image", "masterpiece_images", "playlist_images", "media_library");
+
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
     private UUID id;
     private String name;
     private String type;
 
-    // @Formula("(select count(id) from image_model")
-    // private int isImageExist;
-    @Lob
-    @Column(name = "pic_byte")
-    private byte[] picByte;
+    @Column(name = "size_in_bytes")
+    private Long size;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // Key of the image bytes in the configured ImageStore.
+    @Column(name = "storage_key")
+    private String storageKey;
+
+    // Number of posts, authors, playlists and masterpieces using this image. Rows are shared by content hash.
+    @ColumnDefault("0")
+    @Column(name = "reference_count", nullable = false)
+    private long referenceCount;
+
+    // Intrinsic size and average colour ("#rrggbb") that list responses hand out as a placeholder. An empty colour
+    // marks images the placeholder could not be derived for.
+    private Integer width;
+    private Integer height;
+
+    @Column(name = "placeholder_color", length = 7)
+    private String placeholderColor;
+
+    @CreationTimestamp
+    private LocalDateTime createDateTime;
 
     public ImageModel() {
     }
 
-    public ImageModel(String name, String type, byte[] picByte) {
+    public ImageModel(String name, String type, Long size, String contentHash, String storageKey) {
         this.name = name;
         this.type = type;
-        this.picByte = picByte;
+        this.size = size;
+        this.contentHash = contentHash;
+        this.storageKey = storageKey;
     }
 
-    public ImageModel(UUID id, String name, String type, byte[] picByte) {
+    public ImageModel(UUID id, String name, String type, Long size, String contentHash, String storageKey) {
         this.id = id;
         this.name = name;
         this.type = type;
-        this.picByte = picByte;
+        this.size = size;
+        this.contentHash = contentHash;
+        this.storageKey = storageKey;
     }
 
     public UUID getId() {
@@ -61,11 +101,71 @@ public class ImageModel {
         this.type = type;
     }
 
-    public byte[] getPicByte() {
-        return picByte;
+    public Long getSize() {
+        return size;
+    }
+
+    public void setSize(Long size) {
+        this.size = size;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public String getStorageKey() {
+        return storageKey;
+    }
+
+    public void setStorageKey(String storageKey) {
+        this.storageKey = storageKey;
+    }
+
+    public LocalDateTime getCreateDateTime() {
+        return createDateTime;
+    }
+
+    public void setCreateDateTime(LocalDateTime createDateTime) {
+        this.createDateTime = createDateTime;
+    }
+
+    public long getReferenceCount() {
+        return referenceCount;
+    }
+
+    public void setReferenceCount(long referenceCount) {
+        this.referenceCount = referenceCount;
+    }
+
+    public Integer getWidth() {
+        return width;
+    }
+
+    public void setWidth(Integer width) {
+        this.width = width;
+    }
+
+    public Integer getHeight() {
+        return height;
+    }
+
+    public void setHeight(Integer height) {
+        this.height = height;
+    }
+
+    public String getPlaceholderColor() {
+        return placeholderColor;
+    }
+
+    public void setPlaceholderColor(String placeholderColor) {
+        this.placeholderColor = placeholderColor;
     }
 
-    public void setPicByte(byte[] picByte) {
-        this.picByte = picByte;
+    public boolean isEmpty() {
+        return id == null || EMPTY_IMAGE_ID.equals(id);
     }
 }
@@ -0,0 +1,71 @@
+package com.serbest.magazine.backend.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An image an author uploaded to their media library. Every entry holds one reference on its image row, so library
+ * images survive until the author removes them and can be attached to posts, playlists and masterpieces by id.
+ */
+@Entity
+@Table(name = "media_library", indexes = @Index(name = "idx_media_library_author", columnList = "author_id, createDateTime"))
+public class MediaItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "author_id", nullable = false)
+    private Author owner;
+
+    @ManyToOne(fetch = FetchType.EAGER, optional = false)
+    @JoinColumn(name = "image_id", nullable = false)
+    private ImageModel image;
+
+    @CreationTimestamp
+    private LocalDateTime createDateTime;
+
+    public MediaItem() {
+    }
+
+    public MediaItem(Author owner, ImageModel image) {
+        this.owner = owner;
+        this.image = image;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public Author getOwner() {
+        return owner;
+    }
+
+    public void setOwner(Author owner) {
+        this.owner = owner;
+    }
+
+    public ImageModel getImage() {
+        return image;
+    }
+
+    public void setImage(ImageModel image) {
+        this.image = image;
+    }
+
+    public LocalDateTime getCreateDateTime() {
+        return createDateTime;
+    }
+
+    public void setCreateDateTime(LocalDateTime createDateTime) {
+        this.createDateTime = createDateTime;
+    }
+}
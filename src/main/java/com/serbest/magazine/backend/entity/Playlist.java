@@ -35,7 +35,7 @@ public class Playlist {
     @JoinColumn(name = "author_id", referencedColumnName = "id")
     private Author author;
 
-    @ManyToOne(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    @ManyToOne(fetch = FetchType.EAGER)
     @JoinTable(name = "playlist_images",
             joinColumns = {
                     @JoinColumn(name = "playlist_id")
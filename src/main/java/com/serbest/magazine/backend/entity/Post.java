@@ -1,6 +1,7 @@
 package com.serbest.magazine.backend.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -10,7 +11,12 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_feed", columnList = "active, createDateTime, postId"),
+        @Index(name = "idx_posts_author_feed", columnList = "author, createDateTime, postId"),
+        @Index(name = "idx_posts_category_feed", columnList = "category, createDateTime, postId"),
+        @Index(name = "idx_posts_sub_category_feed", columnList = "sub_category, createDateTime, postId")
+})
 public class Post {
 
     @Id
@@ -26,6 +32,19 @@ public class Post {
     @Lob
     private String content;
 
+    // Derived from the content when a post is written, so lists and the search index never read the content itself.
+    @Lob
+    private String plainText;
+
+    @Column(length = 320)
+    private String excerpt;
+
+    @Column(name = "word_count")
+    private Integer wordCount;
+
+    @Column(name = "reading_time")
+    private Integer readingTime;
+
     private Boolean active;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -49,7 +68,16 @@ public class Post {
     @OneToMany(mappedBy = "post", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     private List<Comment> comments;
 
-    @ManyToOne(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    // Kept in step by in-place updates in the comment and like services, repaired by CounterReconciliationJob.
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount;
+
+    @ColumnDefault("0")
+    @Column(name = "like_count", nullable = false)
+    private long likeCount;
+
+    @ManyToOne(fetch = FetchType.EAGER)
     @JoinTable(name = "post_images",
             joinColumns = {
                     @JoinColumn(name = "post_id")
@@ -201,6 +229,54 @@ public class Post {
         this.comments = comments;
     }
 
+    public String getPlainText() {
+        return plainText;
+    }
+
+    public void setPlainText(String plainText) {
+        this.plainText = plainText;
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    public void setExcerpt(String excerpt) {
+        this.excerpt = excerpt;
+    }
+
+    public Integer getWordCount() {
+        return wordCount;
+    }
+
+    public void setWordCount(Integer wordCount) {
+        this.wordCount = wordCount;
+    }
+
+    public Integer getReadingTime() {
+        return readingTime;
+    }
+
+    public void setReadingTime(Integer readingTime) {
+        this.readingTime = readingTime;
+    }
+
+    public long getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(long commentCount) {
+        this.commentCount = commentCount;
+    }
+
+    public long getLikeCount() {
+        return likeCount;
+    }
+
+    public void setLikeCount(long likeCount) {
+        this.likeCount = likeCount;
+    }
+
     public ImageModel getPostImage() {
         if (postImage == null){
             return new ImageModel();
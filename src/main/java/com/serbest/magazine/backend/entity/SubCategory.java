@@ -1,6 +1,8 @@
 package com.serbest.magazine.backend.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 import java.util.Objects;
@@ -8,6 +10,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "sub_categories")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "subCategories")
 public class SubCategory {
 
     @Id
@@ -0,0 +1,8 @@
+package com.serbest.magazine.backend.event;
+
+/**
+ * Published after a post, masterpiece or encyclopedia article is created, changed or removed. {@code content} names
+ * what changed ("post", "movie", ...); it is logged and picks the content version to move.
+ */
+public record ContentChangedEvent(String content) {
+}
@@ -0,0 +1,111 @@
+package com.serbest.magazine.backend.job;
+
+import com.serbest.magazine.backend.cache.ContentVersions;
+import com.serbest.magazine.backend.entity.ImageModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Recounts the comment and like counters of posts and comments and the reference counts of images. The services keep
+ * them in step one row at a time, but cascading deletes (an author with their posts, comments and likes, a post with
+ * its comments) bypass them, so the counters are recomputed here in id ranges. Only rows whose stored value differs
+ * are written. The first run after the columns are added fills them in. An image left with a count above its
+ * references would never be collected by {@link OrphanImageCollector}.
+ */
+@Component
+@Order(4)
+public class CounterReconciliationJob implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CounterReconciliationJob.class);
+
+    private static final String POST_COMMENTS = "(select count(*) from comments c where c.post = p.post_id)";
+    private static final String POST_LIKES = "(select count(*) from likes l where l.post = p.post_id)";
+    private static final String COMMENT_LIKES = "(select count(*) from likes l where l.comment = c.id)";
+
+    private static final String REPAIR_POSTS = "update posts p set comment_count = " + POST_COMMENTS +
+            ", like_count = " + POST_LIKES + " where p.post_id >= ? and p.post_id <= ? " +
+            "and (p.comment_count <> " + POST_COMMENTS + " or p.like_count <> " + POST_LIKES + ")";
+    private static final String REPAIR_COMMENTS = "update comments c set like_count = " + COMMENT_LIKES +
+            " where c.id >= ? and c.id <= ? and c.like_count <> " + COMMENT_LIKES;
+
+    private static final String IMAGE_REFERENCES = ImageModel.REFERENCE_TABLES.stream()
+            .map(table -> "(select count(*) from " + table + " r where r.image_id = i.id)")
+            .collect(Collectors.joining(" + ", "(", ")"));
+    // The shared empty image is never collected, so its count is not kept.
+    private static final String REPAIR_IMAGES = "update image_model i set reference_count = " + IMAGE_REFERENCES +
+            " where i.id >= ? and i.id <= ? and i.id <> '" + ImageModel.EMPTY_IMAGE_ID + "' and i.reference_count <> " +
+            IMAGE_REFERENCES;
+
+    @Value("${magazine.counters.reconcile.enabled:true}")
+    private boolean enabled;
+
+    @Value("${magazine.counters.reconcile.batchSize:500}")
+    private int batchSize;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ContentVersions contentVersions;
+
+    public CounterReconciliationJob(JdbcTemplate jdbcTemplate, ContentVersions contentVersions) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.contentVersions = contentVersions;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        scheduledReconcile();
+    }
+
+    @Scheduled(cron = "${magazine.counters.reconcile.cron:0 0 4 * * *}")
+    public void scheduledReconcile() {
+        if (enabled) {
+            reconcile();
+        }
+    }
+
+    /**
+     * Returns the number of posts, comments and images whose counters were repaired.
+     */
+    public long reconcile() {
+        long posts = repair("posts", "post_id", REPAIR_POSTS);
+        long comments = repair("comments", "id", REPAIR_COMMENTS);
+        long images = repair("image_model", "id", REPAIR_IMAGES);
+
+        if (posts > 0) {
+            contentVersions.changed(ContentVersions.Scope.POSTS);
+        }
+
+        if (posts + comments + images > 0) {
+            logger.info("Counters of {} posts, {} comments and {} images repaired.", posts, comments, images);
+        }
+        return posts + comments + images;
+    }
+
+    private long repair(String table, String idColumn, String update) {
+        String firstBatch = "select " + idColumn + " from " + table + " order by " + idColumn + " limit ?";
+        String nextBatch = "select " + idColumn + " from " + table + " where " + idColumn + " > ? order by " +
+                idColumn + " limit ?";
+
+        long repaired = 0;
+        List<UUID> ids = jdbcTemplate.queryForList(firstBatch, UUID.class, batchSize);
+        while (!ids.isEmpty()) {
+            UUID last = ids.get(ids.size() - 1);
+            repaired += jdbcTemplate.update(update, ids.get(0), last);
+            if (ids.size() < batchSize) {
+                break;
+            }
+            ids = jdbcTemplate.queryForList(nextBatch, UUID.class, last, batchSize);
+        }
+        return repaired;
+    }
+}
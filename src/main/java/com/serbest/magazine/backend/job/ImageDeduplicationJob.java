@@ -0,0 +1,110 @@
+package com.serbest.magazine.backend.job;
+
+import com.serbest.magazine.backend.entity.ImageModel;
+import com.serbest.magazine.backend.repository.ImageModelRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Collectors;
+
+/**
+ * Folds the image rows written before images were shared into the deduplicated layout. References to empty rows
+ * are pointed at the shared empty image, references to rows with the same content hash are pointed at the row with
+ * the lowest id, the rows that became unused are deleted and all reference counts are recomputed from the join
+ * tables. Once the rows are folded a boot costs a single exists query, so the job stays out of the way of live
+ * uploads; counts that cascading deletes leave behind later are repaired by {@link CounterReconciliationJob}. Runs
+ * after {@link LegacyImageMigrationJob} so migrated rows already carry their hash.
+ */
+@Component
+@Order(2)
+public class ImageDeduplicationJob implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageDeduplicationJob.class);
+
+    private static final String DUPLICATE = "content_hash is not null and exists (select 1 from image_model o " +
+            "where o.content_hash = image_model.content_hash and o.id < image_model.id)";
+
+    @Value("${magazine.storage.deduplication.enabled:true}")
+    private boolean enabled;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ImageModelRepository imageModelRepository;
+    private final LegacyImageMigrationJob legacyImageMigrationJob;
+
+    public ImageDeduplicationJob(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                 ImageModelRepository imageModelRepository,
+                                 LegacyImageMigrationJob legacyImageMigrationJob) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.imageModelRepository = imageModelRepository;
+        this.legacyImageMigrationJob = legacyImageMigrationJob;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            deduplicate();
+        }
+    }
+
+    /**
+     * Returns the number of image rows that were removed.
+     */
+    public int deduplicate() {
+        imageModelRepository.insertEmptyImage(ImageModel.EMPTY_IMAGE_ID);
+
+        // Rows still holding legacy bytes are not empty, they just have not been migrated yet.
+        String empty = "id <> ? and storage_key is null"
+                + (legacyImageMigrationJob.hasLegacyColumn() ? " and pic_byte is null" : "");
+
+        Boolean pending = jdbcTemplate.queryForObject("select exists (select 1 from image_model where (" + empty +
+                ") or (" + DUPLICATE + "))", Boolean.class, ImageModel.EMPTY_IMAGE_ID);
+        if (!Boolean.TRUE.equals(pending)) {
+            return 0;
+        }
+
+        Integer removed = transactionTemplate.execute(status -> {
+            for (String table : ImageModel.REFERENCE_TABLES) {
+                jdbcTemplate.update("update " + table + " set image_id = ? where image_id in " +
+                        "(select id from image_model where " + empty + ")",
+                        ImageModel.EMPTY_IMAGE_ID, ImageModel.EMPTY_IMAGE_ID);
+
+                jdbcTemplate.update("update " + table + " set image_id = (select c.id from image_model c " +
+                        "where c.content_hash = (select i.content_hash from image_model i where i.id = " + table +
+                        ".image_id) order by c.id limit 1) where image_id in (select id from image_model where " +
+                        DUPLICATE + ")");
+            }
+
+            return jdbcTemplate.update("delete from image_model where (" + empty + ") or (" + DUPLICATE + ")",
+                    ImageModel.EMPTY_IMAGE_ID);
+        });
+
+        if (removed == null || removed == 0) {
+            return 0;
+        }
+
+        recountReferences();
+        logger.info("{} empty or duplicate image rows removed.", removed);
+        return removed;
+    }
+
+    /**
+     * Recomputes every reference count from the join tables.
+     */
+    public void recountReferences() {
+        String references = ImageModel.REFERENCE_TABLES.stream()
+                .map(table -> "(select count(*) from " + table + " r where r.image_id = image_model.id)")
+                .collect(Collectors.joining(" + "));
+
+        jdbcTemplate.update("update image_model set reference_count = " + references + " where id <> ?",
+                ImageModel.EMPTY_IMAGE_ID);
+    }
+}
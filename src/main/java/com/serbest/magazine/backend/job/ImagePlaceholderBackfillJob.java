@@ -0,0 +1,105 @@
+package com.serbest.magazine.backend.job;
+
+import com.serbest.magazine.backend.storage.HotImageCache;
+import com.serbest.magazine.backend.storage.ImagePlaceholder;
+import com.serbest.magazine.backend.storage.ImagePlaceholderGenerator;
+import com.serbest.magazine.backend.storage.ImageStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Derives placeholders for images stored before they were computed at upload time. Rows are walked in id order in
+ * batches; images that can not be described get an empty colour so they are not read again on the next start.
+ * Runs after {@link ImageDeduplicationJob} so every distinct image is only read once.
+ */
+@Component
+@Order(3)
+public class ImagePlaceholderBackfillJob implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImagePlaceholderBackfillJob.class);
+
+    private static final String SELECT_BATCH = "select id, storage_key from image_model " +
+            "where storage_key is not null and placeholder_color is null order by id limit ?";
+    private static final String UPDATE_PLACEHOLDER =
+            "update image_model set width = ?, height = ?, placeholder_color = ? where id = ?";
+
+    @Value("${magazine.images.placeholders.backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${magazine.images.placeholders.backfill.batchSize:50}")
+    private int batchSize;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ImageStore imageStore;
+    private final ImagePlaceholderGenerator imagePlaceholderGenerator;
+    private final HotImageCache hotImageCache;
+
+    public ImagePlaceholderBackfillJob(JdbcTemplate jdbcTemplate, ImageStore imageStore,
+                                       ImagePlaceholderGenerator imagePlaceholderGenerator,
+                                       HotImageCache hotImageCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.imageStore = imageStore;
+        this.imagePlaceholderGenerator = imagePlaceholderGenerator;
+        this.hotImageCache = hotImageCache;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            backfill();
+        }
+    }
+
+    /**
+     * Returns the number of images a placeholder was derived for.
+     */
+    public long backfill() {
+        long described = 0;
+        List<Map<String, Object>> batch;
+
+        do {
+            // Every processed row gets a colour, so the first batch of what is left is always the next one.
+            batch = jdbcTemplate.queryForList(SELECT_BATCH, batchSize);
+            for (Map<String, Object> row : batch) {
+                UUID id = (UUID) row.get("id");
+                Optional<ImagePlaceholder> placeholder = describe((String) row.get("storage_key"));
+
+                jdbcTemplate.update(UPDATE_PLACEHOLDER,
+                        placeholder.map(ImagePlaceholder::getWidth).orElse(null),
+                        placeholder.map(ImagePlaceholder::getHeight).orElse(null),
+                        placeholder.map(ImagePlaceholder::getColor).orElse(""), id);
+                hotImageCache.evictMetadata(id);
+
+                if (placeholder.isPresent()) {
+                    described++;
+                }
+            }
+        } while (batch.size() == batchSize);
+
+        if (described > 0) {
+            logger.info("Placeholders derived for {} stored images.", described);
+        }
+        return described;
+    }
+
+    private Optional<ImagePlaceholder> describe(String storageKey) {
+        try {
+            return imagePlaceholderGenerator.describe(imageStore.load(storageKey));
+        } catch (IOException e) {
+            logger.warn("Stored image {} could not be read: {}", storageKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.serbest.magazine.backend.job;
+
+import com.serbest.magazine.backend.storage.ImageContentWriter;
+import com.serbest.magazine.backend.storage.StoredImage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.sql.*;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Moves image bytes that still live in the legacy {@code image_model.pic_byte} LOB column into the
+ * {@link com.serbest.magazine.backend.storage.ImageStore}. Row ids are read in id order in batches and every row is
+ * migrated in its own transaction, so a row that fails is skipped without undoing the others. BLOB and large object
+ * columns are streamed from the database into the store; a {@code bytea} value is already held in memory by the
+ * driver once its row is fetched, so those images are buffered one row at a time.
+ */
+@Component
+@Order(1)
+public class LegacyImageMigrationJob implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LegacyImageMigrationJob.class);
+
+    private static final String SELECT_FIRST_BATCH =
+            "select id from image_model where storage_key is null and pic_byte is not null order by id limit ?";
+    private static final String SELECT_NEXT_BATCH =
+            "select id from image_model where storage_key is null and pic_byte is not null and id > ? order by id limit ?";
+    private static final String SELECT_CONTENT =
+            "select type, pic_byte from image_model where id = ? and storage_key is null and pic_byte is not null";
+    private static final String UPDATE_METADATA =
+            "update image_model set size_in_bytes = ?, content_hash = ?, storage_key = ?, pic_byte = null where id = ?";
+
+    @Value("${magazine.storage.migration.enabled:false}")
+    private boolean enabled;
+
+    @Value("${magazine.storage.migration.batchSize:50}")
+    private int batchSize;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ImageContentWriter imageContentWriter;
+
+    private volatile LegacyColumn legacyColumn;
+
+    public LegacyImageMigrationJob(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                   ImageContentWriter imageContentWriter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.imageContentWriter = imageContentWriter;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            migrateAll();
+        }
+    }
+
+    public long migrateAll() {
+        if (legacyColumn() == LegacyColumn.NONE) {
+            return 0;
+        }
+
+        long migrated = 0;
+        UUID lastId = null;
+        List<UUID> batch;
+
+        do {
+            batch = lastId == null
+                    ? jdbcTemplate.queryForList(SELECT_FIRST_BATCH, UUID.class, batchSize)
+                    : jdbcTemplate.queryForList(SELECT_NEXT_BATCH, UUID.class, lastId, batchSize);
+
+            for (UUID id : batch) {
+                try {
+                    if (migrate(id).isPresent()) {
+                        migrated++;
+                    }
+                } catch (RuntimeException e) {
+                    logger.warn("Image {} could not be migrated: {}", id, e.getMessage());
+                }
+                lastId = id;
+            }
+            logger.info("{} legacy images migrated to the image store so far.", migrated);
+        } while (batch.size() == batchSize);
+
+        return migrated;
+    }
+
+    /**
+     * Migrates a single image if it still has its bytes in the database.
+     */
+    public Optional<StoredImage> migrate(UUID id) {
+        if (legacyColumn() == LegacyColumn.NONE) {
+            return Optional.empty();
+        }
+
+        return transactionTemplate.execute(status -> jdbcTemplate.query(SELECT_CONTENT, rs -> {
+            if (!rs.next()) {
+                return Optional.empty();
+            }
+
+            StoredImage storedImage;
+            try {
+                storedImage = imageContentWriter.write(content(rs), rs.getString("type"));
+            } catch (IOException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+
+            if (legacyColumn() == LegacyColumn.POSTGRES_LARGE_OBJECT) {
+                jdbcTemplate.queryForList("select lo_unlink(pic_byte) from image_model where id = ?", id);
+            }
+            jdbcTemplate.update(UPDATE_METADATA,
+                    storedImage.getSize(), storedImage.getContentHash(), storedImage.getStorageKey(), id);
+
+            return Optional.of(storedImage);
+        }, id));
+    }
+
+    /**
+     * Whether {@code image_model} still has the legacy {@code pic_byte} column.
+     */
+    public boolean hasLegacyColumn() {
+        return legacyColumn() != LegacyColumn.NONE;
+    }
+
+    private InputStreamSource content(ResultSet rs) throws SQLException {
+        if (legacyColumn() == LegacyColumn.BYTES) {
+            // The content is read twice, to hash it and to store it, and a column stream can only be read once.
+            byte[] bytes = rs.getBytes("pic_byte");
+            return () -> new ByteArrayInputStream(bytes);
+        }
+
+        Blob blob = rs.getBlob("pic_byte");
+        return () -> {
+            try {
+                return blob.getBinaryStream();
+            } catch (SQLException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        };
+    }
+
+    private LegacyColumn legacyColumn() {
+        if (legacyColumn == null) {
+            legacyColumn = jdbcTemplate.execute((ConnectionCallback<LegacyColumn>) connection -> {
+                DatabaseMetaData metaData = connection.getMetaData();
+                for (String table : new String[]{"image_model", "IMAGE_MODEL"}) {
+                    try (ResultSet columns = metaData.getColumns(null, null, table, null)) {
+                        while (columns.next()) {
+                            if ("pic_byte".equalsIgnoreCase(columns.getString("COLUMN_NAME"))) {
+                                return LegacyColumn.of(columns.getString("TYPE_NAME"));
+                            }
+                        }
+                    }
+                }
+                return LegacyColumn.NONE;
+            });
+        }
+        return legacyColumn;
+    }
+
+    private enum LegacyColumn {
+        NONE, BLOB, POSTGRES_LARGE_OBJECT, BYTES;
+
+        static LegacyColumn of(String typeName) {
+            if ("oid".equalsIgnoreCase(typeName)) {
+                return POSTGRES_LARGE_OBJECT;
+            }
+            return typeName.toLowerCase().contains("blob") ? BLOB : BYTES;
+        }
+    }
+}
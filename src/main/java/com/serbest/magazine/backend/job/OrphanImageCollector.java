@@ -0,0 +1,200 @@
+package com.serbest.magazine.backend.job;
+
+import com.serbest.magazine.backend.dto.image.OrphanImageReportDTO;
+import com.serbest.magazine.backend.entity.ImageModel;
+import com.serbest.magazine.backend.storage.HotImageCache;
+import com.serbest.magazine.backend.storage.ImageContentWriter;
+import com.serbest.magazine.backend.storage.ImageStore;
+import com.serbest.magazine.backend.storage.ImageVariantGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Mark and sweep collector for image rows that no post, author, playlist or masterpiece points at any more. The
+ * mark phase walks {@code image_model} in id order and checks every table in {@link ImageModel#REFERENCE_TABLES};
+ * the sweep deletes each batch in its own transaction, re-checking the references in the delete itself, and then
+ * removes stored bytes and variants no other row uses. Rows younger than the grace period are left alone so an
+ * upload whose owner has not been saved yet is never collected; bytes an upload wrote or reused within the grace
+ * period are kept the same way, through {@link ImageContentWriter#deleteUnused}.
+ */
+@Component
+public class OrphanImageCollector {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrphanImageCollector.class);
+
+    private static final int SAMPLE_SIZE = 50;
+
+    @Value("${magazine.images.gc.enabled:true}")
+    private boolean enabled;
+
+    @Value("${magazine.images.gc.dryRun:false}")
+    private boolean dryRun;
+
+    @Value("${magazine.images.gc.gracePeriod:PT24H}")
+    private Duration gracePeriod;
+
+    @Value("${magazine.images.gc.batchSize:100}")
+    private int batchSize;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ImageStore imageStore;
+    private final ImageContentWriter imageContentWriter;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final HotImageCache hotImageCache;
+    private final LegacyImageMigrationJob legacyImageMigrationJob;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public OrphanImageCollector(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                ImageStore imageStore, ImageContentWriter imageContentWriter,
+                                ImageVariantGenerator imageVariantGenerator, HotImageCache hotImageCache,
+                                LegacyImageMigrationJob legacyImageMigrationJob) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.imageStore = imageStore;
+        this.imageContentWriter = imageContentWriter;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.hotImageCache = hotImageCache;
+        this.legacyImageMigrationJob = legacyImageMigrationJob;
+    }
+
+    @Scheduled(cron = "${magazine.images.gc.cron:0 30 3 * * *}")
+    public void scheduledCollect() {
+        if (enabled) {
+            collect(dryRun);
+        }
+    }
+
+    /**
+     * Collects unreferenced images. In dry run mode nothing is deleted and the report only lists what would be.
+     */
+    public OrphanImageReportDTO collect(boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Orphan image collection is already running.");
+        }
+
+        try {
+            OrphanImageReportDTO report = new OrphanImageReportDTO(dryRun, 0, 0, 0, new ArrayList<>());
+            Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(gracePeriod));
+            Instant writtenAfter = Instant.now().minus(gracePeriod);
+            if (!dryRun) {
+                imageContentWriter.expireWrites(writtenAfter);
+            }
+            String unreferenced = unreferenced();
+            String candidates = "select id, storage_key, size_in_bytes from image_model where id <> ? " +
+                    "and (create_date_time is null or create_date_time < ?) " +
+                    // Rows that still hold legacy bytes are left to the migration, which knows how to free them.
+                    (legacyImageMigrationJob.hasLegacyColumn() ? "and pic_byte is null " : "") +
+                    "and " + unreferenced;
+
+            UUID lastId = null;
+            List<Orphan> batch;
+            do {
+                batch = lastId == null
+                        ? jdbcTemplate.query(candidates + " order by id limit ?", this::orphan,
+                        ImageModel.EMPTY_IMAGE_ID, cutoff, batchSize)
+                        : jdbcTemplate.query(candidates + " and id > ? order by id limit ?", this::orphan,
+                        ImageModel.EMPTY_IMAGE_ID, cutoff, lastId, batchSize);
+
+                for (Orphan orphan : batch) {
+                    report.setOrphans(report.getOrphans() + 1);
+                    report.setOrphanBytes(report.getOrphanBytes() + orphan.size);
+                    if (report.getSample().size() < SAMPLE_SIZE) {
+                        report.getSample().add(orphan.id);
+                    }
+                }
+
+                if (!dryRun && !batch.isEmpty()) {
+                    report.setDeleted(report.getDeleted() + sweep(batch, unreferenced, writtenAfter));
+                }
+
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1).id;
+                }
+            } while (batch.size() == batchSize);
+
+            logger.info("{} orphaned images ({} bytes) found, {} deleted{}.", report.getOrphans(),
+                    report.getOrphanBytes(), report.getDeleted(), dryRun ? " (dry run)" : "");
+            return report;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private long sweep(List<Orphan> batch, String unreferenced, Instant writtenAfter) {
+        List<Orphan> deleted = transactionTemplate.execute(status -> {
+            List<Orphan> rows = new ArrayList<>();
+            for (Orphan orphan : batch) {
+                // A reference may have been added since the mark phase, so the delete checks again. The count guards
+                // rows an upload has just reused for an owner that is not saved yet.
+                if (jdbcTemplate.update("delete from image_model where id = ? and reference_count = 0 and "
+                        + unreferenced, orphan.id) == 1) {
+                    rows.add(orphan);
+                }
+            }
+            return rows;
+        });
+
+        for (Orphan orphan : deleted) {
+            hotImageCache.evict(new ImageModel(orphan.id, null, null, orphan.size, null, orphan.storageKey));
+            if (orphan.storageKey != null) {
+                imageContentWriter.deleteUnused(orphan.storageKey, writtenAfter, this::storageKeyInUse,
+                        this::deleteContent);
+            }
+        }
+
+        return deleted.size();
+    }
+
+    private boolean storageKeyInUse(String storageKey) {
+        Integer rows = jdbcTemplate.queryForObject("select count(*) from image_model where storage_key = ?",
+                Integer.class, storageKey);
+        return rows != null && rows > 0;
+    }
+
+    private void deleteContent(String storageKey) {
+        List<String> keys = new ArrayList<>(imageVariantGenerator.variantKeys(storageKey));
+        keys.add(storageKey);
+
+        for (String key : keys) {
+            try {
+                imageStore.delete(key);
+            } catch (IOException e) {
+                logger.warn("Stored image {} could not be deleted: {}", key, e.getMessage());
+            }
+        }
+    }
+
+    private static String unreferenced() {
+        return ImageModel.REFERENCE_TABLES.stream()
+                .map(table -> "not exists (select 1 from " + table + " r where r.image_id = image_model.id)")
+                .collect(Collectors.joining(" and "));
+    }
+
+    private Orphan orphan(ResultSet rs, int rowNum) throws SQLException {
+        long size = rs.getLong("size_in_bytes");
+        return new Orphan(rs.getObject("id", UUID.class), rs.getString("storage_key"), size);
+    }
+
+    private record Orphan(UUID id, String storageKey, long size) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.serbest.magazine.backend.job;
+
+import com.serbest.magazine.backend.repository.PostRepository;
+import com.serbest.magazine.backend.repository.projection.PostText;
+import com.serbest.magazine.backend.search.PostSearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fills the post search index from the database: in the background at startup, so the application does not wait for
+ * it, and again on a schedule to pick up changes made without going through the post service. Posts are read in
+ * batches of their searchable columns, in id order.
+ */
+@Component
+@Order(6)
+public class PostSearchIndexJob implements ApplicationRunner, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostSearchIndexJob.class);
+
+    @Value("${magazine.search.rebuild.enabled:true}")
+    private boolean enabled;
+
+    @Value("${magazine.search.rebuild.batchSize:200}")
+    private int batchSize;
+
+    private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
+
+    private final ThreadPoolTaskExecutor executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public PostSearchIndexJob(PostRepository postRepository, PostSearchIndex postSearchIndex) {
+        this.postRepository = postRepository;
+        this.postSearchIndex = postSearchIndex;
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("search-index-");
+        executor.initialize();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        executor.execute(this::scheduledRebuild);
+    }
+
+    @Scheduled(cron = "${magazine.search.rebuild.cron:0 30 4 * * *}")
+    public void scheduledRebuild() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Returns the number of posts indexed, or -1 when a rebuild is already running.
+     */
+    public int rebuild() {
+        if (!running.compareAndSet(false, true)) {
+            return -1;
+        }
+
+        PostSearchIndex.Rebuild rebuild = postSearchIndex.startRebuild();
+        try {
+            int indexed = 0;
+            List<PostText> posts = postRepository.findActivePostTextsAfter(new UUID(0L, 0L),
+                    PageRequest.of(0, batchSize));
+            while (!posts.isEmpty()) {
+                for (PostText post : posts) {
+                    rebuild.add(post.postId(), post.title(), post.subtitle(), post.description(), post.plainText());
+                }
+                indexed += posts.size();
+                if (posts.size() < batchSize) {
+                    break;
+                }
+                posts = postRepository.findActivePostTextsAfter(posts.get(posts.size() - 1).postId(),
+                        PageRequest.of(0, batchSize));
+            }
+            rebuild.commit();
+
+            logger.info("Search index rebuilt with {} posts.", indexed);
+            return indexed;
+        } catch (RuntimeException e) {
+            rebuild.abort();
+            // The previous index keeps being served.
+            logger.warn("Search index could not be rebuilt: {}", e.getMessage());
+            return 0;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,68 @@
+package com.serbest.magazine.backend.job;
+
+import com.serbest.magazine.backend.repository.PostRepository;
+import com.serbest.magazine.backend.repository.projection.PostContent;
+import com.serbest.magazine.backend.util.PostTextMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Derives the plain text, excerpt, word count and reading time of posts written before they were computed on save.
+ * Runs before {@link PostSearchIndexJob}, which indexes the plain text.
+ */
+@Component
+@Order(5)
+public class PostTextBackfillJob implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostTextBackfillJob.class);
+
+    @Value("${magazine.posts.textBackfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${magazine.posts.textBackfill.batchSize:100}")
+    private int batchSize;
+
+    private final PostRepository postRepository;
+
+    public PostTextBackfillJob(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            backfill();
+        }
+    }
+
+    /**
+     * Returns the number of posts updated.
+     */
+    public long backfill() {
+        long updated = 0;
+        List<PostContent> batch;
+
+        do {
+            // Every processed post gets a word count, so the first batch of what is left is always the next one.
+            batch = postRepository.findPostContentsWithoutText(PageRequest.of(0, batchSize));
+            for (PostContent post : batch) {
+                PostTextMetadata text = PostTextMetadata.of(post.content());
+                updated += postRepository.updateText(post.postId(), text.plainText(), text.excerpt(),
+                        text.wordCount(), text.readingTime());
+            }
+        } while (batch.size() == batchSize);
+
+        if (updated > 0) {
+            logger.info("Excerpts derived for {} posts.", updated);
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,116 @@
+package com.serbest.magazine.backend.job;
+
+import com.serbest.magazine.backend.repository.*;
+import com.serbest.magazine.backend.repository.projection.SuggestionSource;
+import com.serbest.magazine.backend.search.SuggestionIndex;
+import com.serbest.magazine.backend.search.SuggestionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fills the typeahead index from the database, in the background at startup and then on a schedule. The services
+ * add, rename and remove entries as they change; the weights (likes and comments of a post, active posts of an author
+ * or a category) are only refreshed here.
+ */
+@Component
+@Order(7)
+public class SuggestionIndexJob implements ApplicationRunner, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(SuggestionIndexJob.class);
+
+    @Value("${magazine.suggest.rebuild.enabled:true}")
+    private boolean enabled;
+
+    private final PostRepository postRepository;
+    private final AuthorRepository authorRepository;
+    private final CategoryRepository categoryRepository;
+    private final SubCategoryRepository subCategoryRepository;
+    private final EncyclopediaArticleRepository encyclopediaArticleRepository;
+    private final SuggestionIndex suggestionIndex;
+
+    private final ThreadPoolTaskExecutor executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public SuggestionIndexJob(PostRepository postRepository, AuthorRepository authorRepository,
+                              CategoryRepository categoryRepository, SubCategoryRepository subCategoryRepository,
+                              EncyclopediaArticleRepository encyclopediaArticleRepository,
+                              SuggestionIndex suggestionIndex) {
+        this.postRepository = postRepository;
+        this.authorRepository = authorRepository;
+        this.categoryRepository = categoryRepository;
+        this.subCategoryRepository = subCategoryRepository;
+        this.encyclopediaArticleRepository = encyclopediaArticleRepository;
+        this.suggestionIndex = suggestionIndex;
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("suggestion-index-");
+        executor.initialize();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        executor.execute(this::scheduledRebuild);
+    }
+
+    @Scheduled(cron = "${magazine.suggest.rebuild.cron:0 15 * * * *}")
+    public void scheduledRebuild() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Returns the number of entries indexed, or -1 when a rebuild is already running.
+     */
+    public int rebuild() {
+        if (!running.compareAndSet(false, true)) {
+            return -1;
+        }
+
+        SuggestionIndex.Rebuild rebuild = suggestionIndex.startRebuild();
+        try {
+            int indexed = add(rebuild, SuggestionType.POST, postRepository.findActivePostSuggestions())
+                    + add(rebuild, SuggestionType.AUTHOR, authorRepository.findAuthorSuggestions())
+                    + add(rebuild, SuggestionType.CATEGORY, categoryRepository.findCategorySuggestions())
+                    + add(rebuild, SuggestionType.SUB_CATEGORY, subCategoryRepository.findSubCategorySuggestions())
+                    + add(rebuild, SuggestionType.ENCYCLOPEDIA_ARTICLE,
+                    encyclopediaArticleRepository.findEncyclopediaArticleSuggestions());
+            rebuild.commit();
+
+            logger.info("Suggestion index rebuilt with {} entries.", indexed);
+            return indexed;
+        } catch (RuntimeException e) {
+            rebuild.abort();
+            // The previous index keeps being served.
+            logger.warn("Suggestion index could not be rebuilt: {}", e.getMessage());
+            return 0;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int add(SuggestionIndex.Rebuild rebuild, SuggestionType type, List<SuggestionSource> sources) {
+        for (SuggestionSource source : sources) {
+            rebuild.add(type, source.id(), source.label(), source.weight());
+        }
+        return sources.size();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
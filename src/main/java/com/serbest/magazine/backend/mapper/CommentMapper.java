@@ -23,6 +23,7 @@ public class CommentMapper {
                 .updateDateTime(comment.getUpdateDateTime())
                 .userImageId(comment.getAuthor().getProfileImage().getId())
                 .userImageType(comment.getAuthor().getProfileImage().getType())
+                .likes(comment.getLikeCount())
                 .build();
     }
 }
@@ -0,0 +1,38 @@
+package com.serbest.magazine.backend.mapper;
+
+import com.serbest.magazine.backend.dto.image.ImagePlaceholderDTO;
+import com.serbest.magazine.backend.dto.image.MediaItemResponseDTO;
+import com.serbest.magazine.backend.entity.ImageModel;
+import com.serbest.magazine.backend.entity.MediaItem;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ImageMapper {
+
+    public MediaItemResponseDTO mediaItemToMediaItemResponseDTO(MediaItem mediaItem) {
+        return MediaItemResponseDTO.builder()
+                .id(mediaItem.getId())
+                .imageId(mediaItem.getImage().getId())
+                .name(mediaItem.getImage().getName())
+                .type(mediaItem.getImage().getType())
+                .size(mediaItem.getImage().getSize())
+                .imagePlaceholder(imageToImagePlaceholderDTO(mediaItem.getImage()))
+                .createDateTime(mediaItem.getCreateDateTime())
+                .build();
+    }
+
+    /**
+     * Returns what a client needs to lay out and tint the image box before fetching the image, or {@code null} when
+     * nothing is known about the image yet.
+     */
+    public ImagePlaceholderDTO imageToImagePlaceholderDTO(ImageModel image) {
+        return image == null ? null : imagePlaceholder(image.getWidth(), image.getHeight(), image.getPlaceholderColor());
+    }
+
+    public ImagePlaceholderDTO imagePlaceholder(Integer width, Integer height, String color) {
+        if (color == null || color.isEmpty()) {
+            return null;
+        }
+        return new ImagePlaceholderDTO(width, height, color);
+    }
+}
@@ -3,19 +3,15 @@ package com.serbest.magazine.backend.mapper;
 import com.serbest.magazine.backend.dto.playlist.PlaylistRequestDTO;
 import com.serbest.magazine.backend.dto.playlist.PlaylistResponseDTO;
 import com.serbest.magazine.backend.entity.Playlist;
-import com.serbest.magazine.backend.util.UploadImage;
 import org.springframework.stereotype.Component;
 
-import java.io.IOException;
-
 @Component
 public class PlaylistMapper {
 
-    public Playlist playlistRequestDTOToPlaylist(PlaylistRequestDTO requestDTO) throws IOException {
+    public Playlist playlistRequestDTOToPlaylist(PlaylistRequestDTO requestDTO) {
         return Playlist.Builder.newBuilder()
                 .title(requestDTO.getTitle())
                 .description(requestDTO.getDescription())
-                .playlistImage(UploadImage.uploadImage(requestDTO.getPlaylistImage()))
                 .build();
     }
 
@@ -1,18 +1,46 @@
 package com.serbest.magazine.backend.mapper;
 
 import com.serbest.magazine.backend.dto.post.*;
-import com.serbest.magazine.backend.entity.ImageModel;
 import com.serbest.magazine.backend.entity.Post;
+import com.serbest.magazine.backend.repository.projection.PostCardView;
+import com.serbest.magazine.backend.repository.projection.PostField;
+import com.serbest.magazine.backend.repository.projection.PostView;
+import com.serbest.magazine.backend.search.PostSearchIndex;
 
-import com.serbest.magazine.backend.util.UploadImage;
+import jakarta.persistence.Tuple;
 import org.springframework.stereotype.Component;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Component
 public class PostMapper {
 
+    private final ImageMapper imageMapper;
+
+    public PostMapper(ImageMapper imageMapper) {
+        this.imageMapper = imageMapper;
+    }
+
+    /**
+     * The picked fields of a post, keyed and shaped as in the full responses.
+     */
+    public Map<String, Object> postFieldsToMap(Tuple post, Set<PostField> fields) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        for (PostField field : fields) {
+            List<String> paths = field.paths();
+            if (field == PostField.IMAGE_PLACEHOLDER) {
+                response.put(field.fieldName(), imageMapper.imagePlaceholder(post.get(paths.get(0), Integer.class),
+                        post.get(paths.get(1), Integer.class), post.get(paths.get(2), String.class)));
+            } else {
+                response.put(field.fieldName(), post.get(paths.get(0)));
+            }
+        }
+        return response;
+    }
+
     public PostResponseDTO postToPostResponseDTO(Post post) {
         return PostResponseDTO.builder()
                 .id(post.getPostId())
@@ -23,34 +51,34 @@ public class PostMapper {
                 .category(post.getCategory().getName())
                 .subCategory(post.getSubCategory().getName())
                 .image(post.getPostImage().getId())
+                .imagePlaceholder(imageMapper.imageToImagePlaceholderDTO(post.getPostImage()))
                 .username(post.getAuthor().getUsername())
                 .profileImageId(post.getAuthor().getProfileImage().getId())
                 .profileImageType(post.getAuthor().getProfileImage().getType())
-                .comments(post.getComments().stream().count())
+                .comments(post.getCommentCount())
+                .likes(post.getLikeCount())
                 .createDateTime(post.getCreateDateTime())
                 .updateDateTime(post.getUpdateDateTime())
                 .build();
     }
 
-    public Post postRequestDTOToPost(PostRequestDTO postRequestDTO) throws IOException {
+    public Post postRequestDTOToPost(PostRequestDTO postRequestDTO) {
         return Post.Builder
                 .newBuilder()
                 .title(postRequestDTO.getTitle())
                 .subtitle(postRequestDTO.getSubtitle())
                 .content(postRequestDTO.getContent())
-                .postImage(UploadImage.uploadImage(postRequestDTO.getImage()))
                 .active(true)
                 .build();
     }
 
-    public Post postCreateEditorRequestDTOToPost(PostCreateEditorRequestDTO postRequestDTO) throws IOException {
+    public Post postCreateEditorRequestDTOToPost(PostCreateEditorRequestDTO postRequestDTO) {
         return Post.Builder
                 .newBuilder()
                 .title(postRequestDTO.getTitle())
                 .subtitle(postRequestDTO.getSubtitle())
                 .description(postRequestDTO.getDescription())
                 .content(postRequestDTO.getContent())
-                .postImage(UploadImage.uploadImage(postRequestDTO.getImage()))
                 .active(true)
                 .build();
     }
@@ -66,59 +94,89 @@ public class PostMapper {
                 .build();
     }
 
-    public FirstFivePostsListDTO postToFirstFivePostsListDTO(Post post) {
-        return new FirstFivePostsListDTO(
-                post.getPostId(), post.getPostImage().getId(), post.getTitle(), post.getAuthor().getProfileImage().getId()
-                , post.getAuthor().getProfileImage().getType());
+    public PostListItemDTO postViewToPostListItemDTO(PostView post) {
+        return PostListItemDTO.builder()
+                .id(post.postId())
+                .title(post.title())
+                .subtitle(post.subtitle())
+                .description(post.description())
+                .excerpt(post.excerpt())
+                .wordCount(post.wordCount())
+                .readingTime(post.readingTime())
+                .category(post.category())
+                .subCategory(post.subCategory())
+                .image(post.imageId())
+                .imagePlaceholder(imageMapper.imagePlaceholder(post.imageWidth(), post.imageHeight(),
+                        post.imagePlaceholderColor()))
+                .username(post.username())
+                .profileImageId(post.profileImageId())
+                .profileImageType(post.profileImageType())
+                .comments(post.comments())
+                .likes(post.likes())
+                .createDateTime(post.createDateTime())
+                .updateDateTime(post.updateDateTime())
+                .build();
     }
 
-    public MainPagePostsListDTO postToMainPagePostsListDTO(Post post) {
-        return MainPagePostsListDTO.builder()
-                .id(post.getPostId())
-                .title(post.getTitle())
-                .category(post.getCategory().getName())
-                .subCategory(post.getSubCategory().getName())
-                .username(post.getAuthor().getUsername())
-                .image(post.getPostImage().getId())
-                .comments(post.getComments().stream().count())
-                .createDateTime(post.getCreateDateTime())
+    public PlaylistPostListResponseDTO postViewToPlaylistPostListResponseDTO(PostView post) {
+        return PlaylistPostListResponseDTO.builder()
+                .id(post.postId())
+                .title(post.title())
+                .subtitle(post.subtitle())
+                .excerpt(post.excerpt())
+                .wordCount(post.wordCount())
+                .readingTime(post.readingTime())
+                .category(post.category())
+                .subCategory(post.subCategory())
+                .image(post.imageId())
+                .username(post.username())
+                .profileImageId(post.profileImageId())
+                .profileImageType(post.profileImageType())
+                .comments(post.comments())
+                .likes(post.likes())
+                .createDateTime(post.createDateTime())
+                .updateDateTime(post.updateDateTime())
                 .build();
     }
 
-    public AuthorsLastFivePosts postToAuthorsLastFivePosts(Post post){
-        return AuthorsLastFivePosts.builder()
-                .postId(post.getPostId())
-                .title(post.getTitle())
-                .createdTime(post.getCreateDateTime())
-                .build();
+    public FirstFivePostsListDTO postCardViewToFirstFivePostsListDTO(PostCardView post) {
+        return new FirstFivePostsListDTO(
+                post.postId(), post.imageId(), post.title(), post.profileImageId(), post.profileImageType(),
+                imageMapper.imagePlaceholder(post.imageWidth(), post.imageHeight(), post.imagePlaceholderColor()));
     }
 
-    public PlaylistPostListResponseDTO postToPlaylistPostListResponseDTO(Post post){
-        return PlaylistPostListResponseDTO.builder()
-                .id(post.getPostId())
-                .title(post.getTitle())
-                .subtitle(post.getSubtitle())
-                .content(post.getContent())
-                .category(post.getCategory().getName())
-                .subCategory(post.getSubCategory().getName())
-                .image(post.getPostImage().getId())
-                .username(post.getAuthor().getUsername())
-                .profileImageId(post.getAuthor().getProfileImage().getId())
-                .profileImageType(post.getAuthor().getProfileImage().getType())
-                .comments(post.getComments().stream().count())
-                .createDateTime(post.getCreateDateTime())
-                .updateDateTime(post.getUpdateDateTime())
+    public MainPagePostsListDTO postCardViewToMainPagePostsListDTO(PostCardView post) {
+        return MainPagePostsListDTO.builder()
+                .id(post.postId())
+                .title(post.title())
+                .category(post.category())
+                .subCategory(post.subCategory())
+                .username(post.username())
+                .image(post.imageId())
+                .imagePlaceholder(imageMapper.imagePlaceholder(post.imageWidth(), post.imageHeight(),
+                        post.imagePlaceholderColor()))
+                .comments(post.comments())
+                .likes(post.likes())
+                .createDateTime(post.createDateTime())
                 .build();
     }
 
-    public DeactivatedPostApiResponseDTO postToDeactivatedPostApiResponseDTO(Post post) {
-        return DeactivatedPostApiResponseDTO.builder()
-                .id(post.getPostId())
-                .title(post.getTitle())
-                .category(post.getCategory().getName())
-                .username(post.getAuthor().getUsername())
+    public PostSearchResultDTO postCardViewToPostSearchResultDTO(PostCardView post, PostSearchIndex.Hit hit) {
+        return PostSearchResultDTO.builder()
+                .id(post.postId())
+                .title(post.title())
+                .highlightedTitle(hit.highlightedTitle())
+                .subtitle(hit.subtitle())
+                .snippet(hit.snippet())
+                .category(post.category())
+                .subCategory(post.subCategory())
+                .username(post.username())
+                .image(post.imageId())
+                .imagePlaceholder(imageMapper.imagePlaceholder(post.imageWidth(), post.imageHeight(),
+                        post.imagePlaceholderColor()))
+                .comments(post.comments())
+                .likes(post.likes())
+                .createDateTime(post.createDateTime())
                 .build();
     }
-
-
 }
@@ -8,7 +8,7 @@ import com.serbest.magazine.backend.dto.author.AuthorCardResponseDTO;
 import com.serbest.magazine.backend.dto.author.UserListResponseDTO;
 import com.serbest.magazine.backend.dto.user.AuthorResponseDTO;
 import com.serbest.magazine.backend.entity.Author;
-import com.serbest.magazine.backend.entity.ImageModel;
+import com.serbest.magazine.backend.service.ImageModelService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -19,9 +19,11 @@ import java.util.stream.Collectors;
 public class UserMapper {
 
     private final PasswordEncoder passwordEncoder;
+    private final ImageModelService imageModelService;
 
-    public UserMapper(PasswordEncoder passwordEncoder) {
+    public UserMapper(PasswordEncoder passwordEncoder, ImageModelService imageModelService) {
         this.passwordEncoder = passwordEncoder;
+        this.imageModelService = imageModelService;
     }
 
     public Author registerRequestDTOToUser(RegisterRequestDTO requestDTO) {
@@ -31,7 +33,7 @@ public class UserMapper {
                 .email(requestDTO.getEmail())
                 .firstName(requestDTO.getFirstName())
                 .lastName(requestDTO.getLastName())
-                .profileImage(new ImageModel())
+                .profileImage(imageModelService.emptyImage())
                 .active(true)
                 .password(passwordEncoder.encode(requestDTO.getPassword()))
                 .build();
@@ -4,12 +4,19 @@ import com.serbest.magazine.backend.dto.author.AuthorListResponseDTO;
 import com.serbest.magazine.backend.dto.user.AuthorResponseDTO;
 import com.serbest.magazine.backend.entity.Author;
 import com.serbest.magazine.backend.entity.Role;
+import com.serbest.magazine.backend.repository.projection.SuggestionSource;
+import com.serbest.magazine.backend.util.NdjsonStreamer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Transactional
 public interface AuthorRepository extends JpaRepository<Author, UUID> {
@@ -25,4 +32,18 @@ public interface AuthorRepository extends JpaRepository<Author, UUID> {
     Boolean existsByEmail(String email);
 
     List<Author> findByRolesIn(List<Role> roles);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonStreamer.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select a from Author a")
+    Stream<Author> streamAll();
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonStreamer.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<Author> streamByRolesIn(List<Role> roles);
+
+    @Query("select new com.serbest.magazine.backend.repository.projection.SuggestionSource(" +
+            "a.id, a.username, count(p)) from Post p join p.author a " +
+            "where p.active = true and a.active = true group by a.id, a.username")
+    List<SuggestionSource> findAuthorSuggestions();
 }
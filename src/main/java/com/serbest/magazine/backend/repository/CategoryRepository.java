@@ -1,8 +1,14 @@
 package com.serbest.magazine.backend.repository;
 
 import com.serbest.magazine.backend.entity.Category;
+import com.serbest.magazine.backend.repository.projection.PostCount;
+import com.serbest.magazine.backend.repository.projection.SuggestionSource;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,7 +16,19 @@ import java.util.UUID;
 
 public interface CategoryRepository extends JpaRepository<Category, UUID> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Category> findByName(String name);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Category> findByActiveTrue();
+
+    @Query("select new com.serbest.magazine.backend.repository.projection.SuggestionSource(" +
+            "c.id, c.name, count(p)) from Category c left join Post p on p.category = c and p.active = true " +
+            "where c.active = true group by c.id, c.name")
+    List<SuggestionSource> findCategorySuggestions();
+
+    @Query("select new com.serbest.magazine.backend.repository.projection.PostCount(" +
+            "c.id, c.name, count(p)) from Category c left join Post p on p.category = c and p.active = true " +
+            "group by c.id, c.name")
+    List<PostCount> findCategoryPostCounts();
 }
@@ -2,7 +2,10 @@ package com.serbest.magazine.backend.repository;
 
 import com.serbest.magazine.backend.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
@@ -14,4 +17,14 @@ public interface CommentRepository extends JpaRepository<Comment, UUID> {
     )
     List<Comment> findAll(UUID postId);
 
+    @Modifying
+    @Transactional
+    @Query("update Comment c set c.likeCount = c.likeCount + 1 where c.id = :id")
+    int incrementLikeCount(@Param("id") UUID id);
+
+    @Modifying
+    @Transactional
+    @Query("update Comment c set c.likeCount = c.likeCount - 1 where c.id = :id and c.likeCount > 0")
+    int decrementLikeCount(@Param("id") UUID id);
+
 }
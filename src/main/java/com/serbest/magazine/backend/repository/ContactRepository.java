@@ -1,12 +1,17 @@
 package com.serbest.magazine.backend.repository;
 
 import com.serbest.magazine.backend.entity.Contact;
+import com.serbest.magazine.backend.util.NdjsonStreamer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Transactional
 public interface ContactRepository extends JpaRepository<Contact, UUID> {
@@ -14,5 +19,10 @@ public interface ContactRepository extends JpaRepository<Contact, UUID> {
     @Query("select c FROM Contact c ORDER BY c.createDateTime DESC")
     List<Contact> findAllByCreateDateTime();
 
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonStreamer.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select c FROM Contact c ORDER BY c.createDateTime DESC")
+    Stream<Contact> streamAllByCreateDateTime();
+
     List<Contact> findByReadTrueOrderByCreateDateTimeDesc();
 }
@@ -2,16 +2,31 @@ package com.serbest.magazine.backend.repository;
 
 import com.serbest.magazine.backend.entity.Contact;
 import com.serbest.magazine.backend.entity.EncyclopediaArticle;
+import com.serbest.magazine.backend.repository.projection.SuggestionSource;
+import com.serbest.magazine.backend.util.NdjsonStreamer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Transactional
 public interface EncyclopediaArticleRepository extends JpaRepository<EncyclopediaArticle,UUID> {
 
     List<EncyclopediaArticle> findAllByOrderByCreateDateTimeDesc();
 
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonStreamer.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<EncyclopediaArticle> streamAllByOrderByCreateDateTimeDesc();
+
     List<EncyclopediaArticle> findTop7ByOrderByCreateDateTimeDesc();
+
+    @Query("select new com.serbest.magazine.backend.repository.projection.SuggestionSource(e.id, e.title, 0L) " +
+            "from EncyclopediaArticle e")
+    List<SuggestionSource> findEncyclopediaArticleSuggestions();
 }
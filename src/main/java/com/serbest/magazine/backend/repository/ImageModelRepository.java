@@ -1,11 +1,35 @@
 package com.serbest.magazine.backend.repository;
 
 import com.serbest.magazine.backend.entity.ImageModel;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Transactional
 public interface ImageModelRepository extends JpaRepository<ImageModel, UUID> {
-}
\ No newline at end of file
+
+    Optional<ImageModel> findFirstByContentHashOrderByIdAsc(String contentHash);
+
+    @Modifying
+    @Query("update ImageModel i set i.referenceCount = i.referenceCount + 1 where i.id = :id")
+    int incrementReferenceCount(@Param("id") UUID id);
+
+    @Modifying
+    @Query("update ImageModel i set i.referenceCount = i.referenceCount - 1 where i.id = :id and i.referenceCount > 0")
+    int decrementReferenceCount(@Param("id") UUID id);
+
+    @Modifying
+    @Query(value = "insert into image_model (id, name, reference_count) select :id, 'empty', 0 " +
+            "where not exists (select 1 from image_model where id = :id)", nativeQuery = true)
+    // Without its table, a native statement evicts the whole second level cache.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "image_model"))
+    int insertEmptyImage(@Param("id") UUID id);
+}
@@ -4,9 +4,12 @@ import com.serbest.magazine.backend.entity.Author;
 import com.serbest.magazine.backend.entity.Comment;
 import com.serbest.magazine.backend.entity.Like;
 import com.serbest.magazine.backend.entity.Post;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -19,14 +22,17 @@ public interface LikeRepository extends JpaRepository<Like, UUID> {
     @Modifying
     @Transactional
     @Query(value = "delete from likes l where l.post=:postId and l.author=:authorId",nativeQuery = true)
-    void deleteByPostAndAuthor(UUID postId, UUID authorId);
+    // Without its table, a native statement evicts the whole second level cache.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "likes"))
+    int deleteByPostAndAuthor(UUID postId, UUID authorId);
 
     Like findByAuthorAndComment(Author author, Comment comment);
 
     @Modifying
     @Transactional
     @Query(value = "delete from likes l where l.comment=:commentId and l.author=:authorId",nativeQuery = true)
-    void deleteByCommentAndAuthor(UUID commentId, UUID authorId);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "likes"))
+    int deleteByCommentAndAuthor(UUID commentId, UUID authorId);
 
     @Query(value = "SELECT username FROM likes l JOIN authors a ON a.id = l.author WHERE l.post=:postId",nativeQuery = true)
     List<String> findLikedAuthorsByPostId(UUID postId);
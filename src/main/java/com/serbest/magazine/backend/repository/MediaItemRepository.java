@@ -0,0 +1,21 @@
+package com.serbest.magazine.backend.repository;
+
+import com.serbest.magazine.backend.entity.Author;
+import com.serbest.magazine.backend.entity.MediaItem;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface MediaItemRepository extends JpaRepository<MediaItem, UUID> {
+
+    Page<MediaItem> findByOwnerOrderByCreateDateTimeDesc(Author owner, Pageable pageable);
+
+    Optional<MediaItem> findFirstByOwnerAndImage_Id(Author owner, UUID imageId);
+
+    Optional<MediaItem> findByIdAndOwner(UUID id, Author owner);
+
+    boolean existsByImage_Id(UUID imageId);
+}
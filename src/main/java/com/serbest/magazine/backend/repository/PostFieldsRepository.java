@@ -0,0 +1,24 @@
+package com.serbest.magazine.backend.repository;
+
+import com.serbest.magazine.backend.repository.projection.PostField;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Post queries that select only the columns of the fields a client picked. Tuple elements are aliased with the
+ * attribute paths of {@link PostField#paths()}.
+ */
+public interface PostFieldsRepository {
+
+    /**
+     * Active posts, newest first.
+     */
+    Page<Tuple> findActivePostFields(Set<PostField> fields, Pageable pageable);
+
+    Optional<Tuple> findPostFieldsById(UUID postId, Set<PostField> fields);
+}
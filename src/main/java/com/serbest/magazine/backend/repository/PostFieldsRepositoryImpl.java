@@ -0,0 +1,97 @@
+package com.serbest.magazine.backend.repository;
+
+import com.serbest.magazine.backend.entity.Post;
+import com.serbest.magazine.backend.repository.projection.PostField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Builds the select list from the picked fields. Associations are joined only when a picked field needs them, and
+ * left joined, so picking a field never drops a post.
+ */
+public class PostFieldsRepositoryImpl implements PostFieldsRepository {
+
+    private final EntityManager entityManager;
+
+    public PostFieldsRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<Tuple> findActivePostFields(Set<PostField> fields, Pageable pageable) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Post> post = query.from(Post.class);
+        query.multiselect(selections(post, fields))
+                .where(builder.isTrue(post.get("active")))
+                .orderBy(builder.desc(post.get("createDateTime")));
+
+        List<Tuple> posts = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(posts, pageable, this::countActivePosts);
+    }
+
+    @Override
+    public Optional<Tuple> findPostFieldsById(UUID postId, Set<PostField> fields) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Post> post = query.from(Post.class);
+        query.multiselect(selections(post, fields))
+                .where(builder.equal(post.get("postId"), postId));
+
+        return entityManager.createQuery(query).getResultStream().findFirst();
+    }
+
+    private long countActivePosts() {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<Post> post = query.from(Post.class);
+        query.select(builder.count(post)).where(builder.isTrue(post.get("active")));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static List<Selection<?>> selections(Root<Post> post, Set<PostField> fields) {
+        Map<String, From<?, ?>> joins = new HashMap<>();
+        List<Selection<?>> selections = new ArrayList<>();
+        for (PostField field : fields) {
+            for (String path : field.paths()) {
+                int dot = path.lastIndexOf('.');
+                From<?, ?> from = dot < 0 ? post : join(post, path.substring(0, dot), joins);
+                selections.add(from.get(path.substring(dot + 1)).alias(path));
+            }
+        }
+        return selections;
+    }
+
+    private static From<?, ?> join(Root<Post> post, String association, Map<String, From<?, ?>> joins) {
+        From<?, ?> join = joins.get(association);
+        if (join == null) {
+            int dot = association.lastIndexOf('.');
+            From<?, ?> parent = dot < 0 ? post : join(post, association.substring(0, dot), joins);
+            join = parent.join(association.substring(dot + 1), JoinType.LEFT);
+            joins.put(association, join);
+        }
+        return join;
+    }
+}
@@ -1,48 +1,179 @@
 package com.serbest.magazine.backend.repository;
 
-import com.serbest.magazine.backend.entity.Playlist;
+import com.serbest.magazine.backend.dto.post.AuthorsLastFivePosts;
+import com.serbest.magazine.backend.dto.post.DeactivatedPostApiResponseDTO;
+import com.serbest.magazine.backend.dto.post.PostsOfAuthorForPlaylistResponseDTO;
 import com.serbest.magazine.backend.entity.Post;
+import com.serbest.magazine.backend.repository.projection.PostCardView;
+import com.serbest.magazine.backend.repository.projection.PostContent;
+import com.serbest.magazine.backend.repository.projection.PostText;
+import com.serbest.magazine.backend.repository.projection.PostView;
+import com.serbest.magazine.backend.repository.projection.SuggestionSource;
+import com.serbest.magazine.backend.util.NdjsonStreamer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+/**
+ * List endpoints read projections rather than entities: every query below selects only the scalar columns its
+ * response needs and joins what it needs, so a page is one statement (plus the count
+ * for pageable queries) no matter how many posts it holds.
+ */
 @Transactional
-public interface PostRepository extends JpaRepository<Post, UUID> {
-    Page<Post> findByActiveTrueOrderByCreateDateTimeDesc(Pageable pageable);
-
-    List<Post> findByActiveFalseOrderByCreateDateTimeDesc();
-
-    @Query("select p FROM Post p WHERE p.active=true ORDER BY RANDOM() LIMIT 3")
-    List<Post> findThreeActiveTrueByRandom();
-
-    @Query("select p FROM Post p WHERE p.active=true ORDER BY p.createDateTime DESC LIMIT 5")
-    List<Post> findFirstFiveActiveTrueByCreateDateTime();
-
-    @Query("select p FROM Post p WHERE p.active=true ORDER BY p.createDateTime DESC LIMIT 4 OFFSET 5")
-    List<Post> findFourPostsActiveTrueByCreateDateTime();
-
-    @Query("select p FROM Post p WHERE p.active=true ORDER BY p.createDateTime DESC LIMIT 11 OFFSET 9")
-    List<Post> findFifteenActiveTrueByCreateDateTimeOffset5();
-
-    List<Post> findAllByAuthorUsernameAndActiveTrueOrderByCreateDateTimeDesc(String username);
-    Page<Post> findAllByAuthorUsernameAndActiveTrueOrderByCreateDateTimeDesc(String username,Pageable pageable);
-
-    List<Post> findTop5ByAuthorUsernameAndActiveTrueOrderByCreateDateTimeDesc(String username);
-
-    Page<Post> findAllByCategoryNameAndActiveTrueOrderByCreateDateTimeDesc(String categoryName,Pageable pageable);
-
-    List<Post> findByPlaylistsInOrderByCreateDateTimeDesc(List<Playlist> playlists);
-
-    Page<Post> findAllBySubCategoryIdAndActiveTrueOrderByCreateDateTimeDesc(UUID categoryId,Pageable pageable);
-
-    List<Post> findByActiveTrueAndTitleContainingIgnoreCase(String title);
-
-    Integer countByCategoryNameAndActiveTrue(String categoryName);
-
-
+public interface PostRepository extends JpaRepository<Post, UUID>, PostFieldsRepository {
+
+    String POST_VIEW = "select new com.serbest.magazine.backend.repository.projection.PostView(" +
+            "p.postId, p.title, p.subtitle, p.description, p.excerpt, p.wordCount, p.readingTime, " +
+            "c.name, sc.name, a.username, pi.id, pi.type, " +
+            "i.id, i.width, i.height, i.placeholderColor, " +
+            "p.commentCount, p.likeCount, p.createDateTime, p.updateDateTime) ";
+
+    String POST_CARD_VIEW = "select new com.serbest.magazine.backend.repository.projection.PostCardView(" +
+            "p.postId, p.title, c.name, sc.name, a.username, pi.id, pi.type, " +
+            "i.id, i.width, i.height, i.placeholderColor, " +
+            "p.commentCount, p.likeCount, p.createDateTime) ";
+
+    String FROM_POST = "from Post p join p.category c join p.subCategory sc join p.author a " +
+            "left join a.profileImage pi left join p.postImage i ";
+
+    // Keyset condition for feeds: the leading range on createDateTime lets the index drive the scan, the rest breaks
+    // ties between posts created in the same instant.
+    String AFTER_CURSOR = "and p.createDateTime <= :createDateTime " +
+            "and (p.createDateTime < :createDateTime or p.postId < :postId) " +
+            "order by p.createDateTime desc, p.postId desc";
+
+    @Query(value = POST_VIEW + FROM_POST + "where p.active = true order by p.createDateTime desc",
+            countQuery = "select count(p) from Post p where p.active = true")
+    Page<PostView> findActivePostViews(Pageable pageable);
+
+    @Query("select p.postId from Post p where p.active = true")
+    List<UUID> findActivePostIds();
+
+    @Query(POST_VIEW + FROM_POST + "where p.active = true and p.postId in :postIds")
+    List<PostView> findActivePostViewsByIds(@Param("postIds") Collection<UUID> postIds);
+
+    @Query(POST_CARD_VIEW + FROM_POST + "where p.active = true and p.postId in :postIds")
+    List<PostCardView> findActivePostCardsByIds(@Param("postIds") Collection<UUID> postIds);
+
+    @Query("select new com.serbest.magazine.backend.repository.projection.PostText(" +
+            "p.postId, p.title, p.subtitle, p.description, p.plainText) from Post p " +
+            "where p.active = true and p.postId > :after order by p.postId")
+    List<PostText> findActivePostTextsAfter(@Param("after") UUID after, Pageable pageable);
+
+    @Query("select new com.serbest.magazine.backend.repository.projection.PostContent(p.postId, p.content) " +
+            "from Post p where p.wordCount is null order by p.postId")
+    List<PostContent> findPostContentsWithoutText(Pageable pageable);
+
+    @Query(POST_CARD_VIEW + FROM_POST + "where p.active = true order by p.createDateTime desc limit 5")
+    List<PostCardView> findFirstFiveActivePostCards();
+
+    @Query(POST_CARD_VIEW + FROM_POST + "where p.active = true order by p.createDateTime desc limit 4 offset 5")
+    List<PostCardView> findFourActivePostCardsForTop();
+
+    @Query(POST_CARD_VIEW + FROM_POST + "where p.active = true order by p.createDateTime desc limit 11 offset 9")
+    List<PostCardView> findActivePostCardsForMainPage();
+
+    @Query(value = POST_VIEW + FROM_POST + "where p.active = true and a.username = :username " +
+            "order by p.createDateTime desc",
+            countQuery = "select count(p) from Post p where p.active = true and p.author.username = :username")
+    Page<PostView> findActivePostViewsByAuthor(@Param("username") String username, Pageable pageable);
+
+    @Query(value = POST_VIEW + FROM_POST + "where p.active = true and c.name = :categoryName " +
+            "order by p.createDateTime desc",
+            countQuery = "select count(p) from Post p where p.active = true and p.category.name = :categoryName")
+    Page<PostView> findActivePostViewsByCategory(@Param("categoryName") String categoryName, Pageable pageable);
+
+    @Query(value = POST_VIEW + FROM_POST + "where p.active = true and sc.id = :subCategoryId " +
+            "order by p.createDateTime desc",
+            countQuery = "select count(p) from Post p where p.active = true and p.subCategory.id = :subCategoryId")
+    Page<PostView> findActivePostViewsBySubCategory(@Param("subCategoryId") UUID subCategoryId, Pageable pageable);
+
+    @Query(POST_VIEW + FROM_POST + "join p.playlists pl where pl.id = :playlistId order by p.createDateTime desc")
+    List<PostView> findPostViewsByPlaylist(@Param("playlistId") UUID playlistId);
+
+    @Query("select new com.serbest.magazine.backend.dto.post.DeactivatedPostApiResponseDTO(" +
+            "p.postId, p.title, a.username, c.name) from Post p join p.category c join p.author a " +
+            "where p.active = false order by p.createDateTime desc")
+    List<DeactivatedPostApiResponseDTO> findDeactivatedPosts();
+
+    @Query("select new com.serbest.magazine.backend.dto.post.DeactivatedPostApiResponseDTO(" +
+            "p.postId, p.title, a.username, c.name) from Post p join p.category c join p.author a " +
+            "where p.active = false order by p.createDateTime desc")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonStreamer.FETCH_SIZE))
+    Stream<DeactivatedPostApiResponseDTO> streamDeactivatedPosts();
+
+    @Query("select new com.serbest.magazine.backend.dto.post.AuthorsLastFivePosts(p.postId, p.title, p.createDateTime) " +
+            "from Post p where p.active = true and p.author.username = :username " +
+            "order by p.createDateTime desc limit 5")
+    List<AuthorsLastFivePosts> findLastFiveActivePostsOfAuthor(@Param("username") String username);
+
+    @Query("select new com.serbest.magazine.backend.dto.post.PostsOfAuthorForPlaylistResponseDTO(p.postId, p.title) " +
+            "from Post p where p.active = true and p.author.username = :username and not exists " +
+            "(select pl from Playlist pl join pl.posts pp where pl.id = :playlistId and pp = p) " +
+            "order by p.createDateTime desc")
+    List<PostsOfAuthorForPlaylistResponseDTO> findActivePostsOfAuthorNotInPlaylist(@Param("username") String username,
+                                                                                  @Param("playlistId") UUID playlistId);
+
+    @Query(POST_VIEW + FROM_POST + "where p.active = true " + AFTER_CURSOR)
+    List<PostView> findActivePostViewsAfter(@Param("createDateTime") LocalDateTime createDateTime,
+                                            @Param("postId") UUID postId, Pageable pageable);
+
+    @Query(POST_VIEW + FROM_POST + "where p.active = true and a.username = :username " + AFTER_CURSOR)
+    List<PostView> findActivePostViewsByAuthorAfter(@Param("username") String username,
+                                                    @Param("createDateTime") LocalDateTime createDateTime,
+                                                    @Param("postId") UUID postId, Pageable pageable);
+
+    @Query(POST_VIEW + FROM_POST + "where p.active = true and c.name = :categoryName " + AFTER_CURSOR)
+    List<PostView> findActivePostViewsByCategoryAfter(@Param("categoryName") String categoryName,
+                                                      @Param("createDateTime") LocalDateTime createDateTime,
+                                                      @Param("postId") UUID postId, Pageable pageable);
+
+    @Query(POST_VIEW + FROM_POST + "where p.active = true and sc.id = :subCategoryId " + AFTER_CURSOR)
+    List<PostView> findActivePostViewsBySubCategoryAfter(@Param("subCategoryId") UUID subCategoryId,
+                                                         @Param("createDateTime") LocalDateTime createDateTime,
+                                                         @Param("postId") UUID postId, Pageable pageable);
+
+    long countByActiveTrue();
+
+    long countByAuthorUsernameAndActiveTrue(String username);
+
+    @Modifying
+    @Query("update Post p set p.plainText = :plainText, p.excerpt = :excerpt, p.wordCount = :wordCount, " +
+            "p.readingTime = :readingTime where p.postId = :postId")
+    int updateText(@Param("postId") UUID postId, @Param("plainText") String plainText,
+                   @Param("excerpt") String excerpt, @Param("wordCount") int wordCount,
+                   @Param("readingTime") int readingTime);
+
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + 1 where p.postId = :postId")
+    int incrementCommentCount(@Param("postId") UUID postId);
+
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount - 1 where p.postId = :postId and p.commentCount > 0")
+    int decrementCommentCount(@Param("postId") UUID postId);
+
+    @Modifying
+    @Query("update Post p set p.likeCount = p.likeCount + 1 where p.postId = :postId")
+    int incrementLikeCount(@Param("postId") UUID postId);
+
+    @Modifying
+    @Query("update Post p set p.likeCount = p.likeCount - 1 where p.postId = :postId and p.likeCount > 0")
+    int decrementLikeCount(@Param("postId") UUID postId);
+
+    @Query("select new com.serbest.magazine.backend.repository.projection.SuggestionSource(" +
+            "p.postId, p.title, p.likeCount + p.commentCount) from Post p where p.active = true")
+    List<SuggestionSource> findActivePostSuggestions();
 }
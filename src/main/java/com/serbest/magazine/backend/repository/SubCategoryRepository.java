@@ -1,7 +1,13 @@
 package com.serbest.magazine.backend.repository;
 
 import com.serbest.magazine.backend.entity.SubCategory;
+import com.serbest.magazine.backend.repository.projection.PostCount;
+import com.serbest.magazine.backend.repository.projection.SuggestionSource;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,5 +17,19 @@ public interface SubCategoryRepository extends JpaRepository<SubCategory, UUID>
 
     List<SubCategory> findAllByCategoryName(String categoryName);
     List<SubCategory> findAllByCategoryNameAndActiveTrue(String categoryName);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<SubCategory> findByName(String category);
+
+    @Query("select sc from SubCategory sc join fetch sc.category")
+    List<SubCategory> findAllWithCategory();
+
+    @Query("select new com.serbest.magazine.backend.repository.projection.SuggestionSource(" +
+            "sc.id, sc.name, count(p)) from SubCategory sc left join Post p on p.subCategory = sc and p.active = true " +
+            "where sc.active = true group by sc.id, sc.name")
+    List<SuggestionSource> findSubCategorySuggestions();
+
+    @Query("select new com.serbest.magazine.backend.repository.projection.PostCount(" +
+            "sc.id, sc.name, count(p)) from SubCategory sc left join Post p on p.subCategory = sc and p.active = true " +
+            "group by sc.id, sc.name")
+    List<PostCount> findSubCategoryPostCounts();
 }
@@ -0,0 +1,13 @@
+package com.serbest.magazine.backend.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The columns a home page card needs. Leaves out the post body, which is a LOB.
+ */
+public record PostCardView(UUID postId, String title, String category, String subCategory, String username,
+                           UUID profileImageId, String profileImageType, UUID imageId, Integer imageWidth,
+                           Integer imageHeight, String imagePlaceholderColor, Long comments, Long likes,
+                           LocalDateTime createDateTime) {
+}
@@ -0,0 +1,9 @@
+package com.serbest.magazine.backend.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * The stored content of a post, read in batches to derive the columns lists show instead.
+ */
+public record PostContent(UUID postId, String content) {
+}
@@ -0,0 +1,9 @@
+package com.serbest.magazine.backend.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * The number of active posts filed under a category or sub category.
+ */
+public record PostCount(UUID id, String name, Long posts) {
+}
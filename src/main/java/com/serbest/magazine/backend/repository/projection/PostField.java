@@ -0,0 +1,84 @@
+package com.serbest.magazine.backend.repository.projection;
+
+import com.serbest.magazine.backend.exception.CustomApplicationException;
+import org.springframework.http.HttpStatus;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A post field clients can pick with {@code fields=}, named as in the full post responses, and the attribute paths of
+ * {@link com.serbest.magazine.backend.entity.Post} it is read from. Only the paths of picked fields are selected, so
+ * the content of a post is not read unless it is asked for.
+ */
+public enum PostField {
+
+    ID("id", "postId"),
+    TITLE("title", "title"),
+    SUBTITLE("subtitle", "subtitle"),
+    DESCRIPTION("description", "description"),
+    CONTENT("content", "content"),
+    EXCERPT("excerpt", "excerpt"),
+    WORD_COUNT("wordCount", "wordCount"),
+    READING_TIME("readingTime", "readingTime"),
+    CATEGORY("category", "category.name"),
+    SUB_CATEGORY("subCategory", "subCategory.name"),
+    USERNAME("username", "author.username"),
+    PROFILE_IMAGE_ID("profileImageId", "author.profileImage.id"),
+    PROFILE_IMAGE_TYPE("profileImageType", "author.profileImage.type"),
+    IMAGE("image", "postImage.id"),
+    // Width, height and colour, in the order ImageMapper.imagePlaceholder takes them.
+    IMAGE_PLACEHOLDER("imagePlaceholder", "postImage.width", "postImage.height", "postImage.placeholderColor"),
+    COMMENTS("comments", "commentCount"),
+    LIKES("likes", "likeCount"),
+    CREATE_DATE_TIME("createDateTime", "createDateTime"),
+    UPDATE_DATE_TIME("updateDateTime", "updateDateTime");
+
+    private static final Map<String, PostField> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toMap(PostField::fieldName, Function.identity()));
+
+    private final String fieldName;
+    private final List<String> paths;
+
+    PostField(String fieldName, String... paths) {
+        this.fieldName = fieldName;
+        this.paths = List.of(paths);
+    }
+
+    public String fieldName() {
+        return fieldName;
+    }
+
+    public List<String> paths() {
+        return paths;
+    }
+
+    /**
+     * Parses a comma separated list of field names. The fields come back in declaration order, whatever order they
+     * were asked in.
+     */
+    public static Set<PostField> parse(String fields) {
+        Set<PostField> selected = EnumSet.noneOf(PostField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            PostField field = BY_NAME.get(trimmed);
+            if (field == null) {
+                throw new CustomApplicationException(HttpStatus.BAD_REQUEST, "Geçersiz alan: " + trimmed);
+            }
+            selected.add(field);
+        }
+
+        if (selected.isEmpty()) {
+            throw new CustomApplicationException(HttpStatus.BAD_REQUEST, "En az bir alan seçilmelidir.");
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,9 @@
+package com.serbest.magazine.backend.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * The searchable text of a post, read in batches to fill the search index.
+ */
+public record PostText(UUID postId, String title, String subtitle, String description, String plainText) {
+}
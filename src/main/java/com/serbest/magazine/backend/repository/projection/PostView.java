@@ -0,0 +1,15 @@
+package com.serbest.magazine.backend.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Scalar columns of a post list entry, read in one statement by the projection queries of
+ * {@link com.serbest.magazine.backend.repository.PostRepository}.
+ */
+public record PostView(UUID postId, String title, String subtitle, String description, String excerpt,
+                       Integer wordCount, Integer readingTime, String category, String subCategory, String username,
+                       UUID profileImageId, String profileImageType, UUID imageId, Integer imageWidth, Integer imageHeight,
+                       String imagePlaceholderColor, Long comments, Long likes, LocalDateTime createDateTime,
+                       LocalDateTime updateDateTime) {
+}
@@ -0,0 +1,9 @@
+package com.serbest.magazine.backend.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * A typeahead entry as read from the database, weighted by how popular it is.
+ */
+public record SuggestionSource(UUID id, String label, Long weight) {
+}
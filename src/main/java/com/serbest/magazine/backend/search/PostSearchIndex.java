@@ -0,0 +1,293 @@
+package com.serbest.magazine.backend.search;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over the title, subtitle, description and plain text content of active posts, ranked
+ * with BM25.
+ * Title and subtitle matches weigh more than matches in the body. Post writes update it one post at a time; a
+ * rebuild fills a fresh index from the database and swaps it in, replaying the writes that happened meanwhile.
+ */
+@Component
+public class PostSearchIndex {
+
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float SUBTITLE_WEIGHT = 2f;
+    private static final float DESCRIPTION_WEIGHT = 1.5f;
+    private static final float CONTENT_WEIGHT = 1f;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final int SNIPPET_LENGTH = 200;
+    private static final int SNIPPET_LEAD = 60;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment segment = new Segment();
+    // Writes seen while a rebuild runs, by post id; a null value is a removal.
+    private Map<UUID, Document> changedDuringRebuild;
+
+    public record Hit(UUID postId, String highlightedTitle, String subtitle, String snippet, double score) {
+    }
+
+    public record SearchPage(List<Hit> hits, long totalItems) {
+    }
+
+    public void index(UUID postId, String title, String subtitle, String description, String text) {
+        Document document = document(postId, title, subtitle, description, text);
+        lock.writeLock().lock();
+        try {
+            segment.put(document);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(postId, document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID postId) {
+        lock.writeLock().lock();
+        try {
+            segment.remove(postId);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(postId, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segment.documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public SearchPage search(String query, int page, int size) {
+        Set<String> terms = new LinkedHashSet<>(TurkishAnalyzer.analyze(query));
+        if (terms.isEmpty()) {
+            return new SearchPage(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<UUID, Double> scores = segment.score(terms);
+            List<Map.Entry<UUID, Double>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort(Map.Entry.<UUID, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+
+            List<Hit> hits = new ArrayList<>();
+            int from = (int) Math.min((long) page * size, ranked.size());
+            int to = Math.min(from + size, ranked.size());
+            for (Map.Entry<UUID, Double> entry : ranked.subList(from, to)) {
+                Document document = segment.documents.get(entry.getKey());
+                hits.add(new Hit(document.postId, highlight(document.title, terms), document.subtitle,
+                        snippet(document, terms), entry.getValue()));
+            }
+            return new SearchPage(hits, ranked.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Starts collecting a replacement index. Writes made until {@link Rebuild#commit()} are applied to both.
+     */
+    public Rebuild startRebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return new Rebuild();
+    }
+
+    public class Rebuild {
+
+        private final Segment next = new Segment();
+
+        public void add(UUID postId, String title, String subtitle, String description, String text) {
+            next.put(document(postId, title, subtitle, description, text));
+        }
+
+        public void commit() {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild.forEach((postId, document) -> {
+                    if (document == null) {
+                        next.remove(postId);
+                    } else {
+                        next.put(document);
+                    }
+                });
+                segment = next;
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        public void abort() {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private static Document document(UUID postId, String title, String subtitle, String description, String text) {
+        Map<String, Float> frequencies = new HashMap<>();
+        float length = addTerms(frequencies, title, TITLE_WEIGHT)
+                + addTerms(frequencies, subtitle, SUBTITLE_WEIGHT)
+                + addTerms(frequencies, description, DESCRIPTION_WEIGHT)
+                + addTerms(frequencies, text, CONTENT_WEIGHT);
+        return new Document(postId, title == null ? "" : title, subtitle, description, text == null ? "" : text,
+                frequencies, length);
+    }
+
+    private static float addTerms(Map<String, Float> frequencies, String text, float weight) {
+        List<String> terms = TurkishAnalyzer.analyze(text);
+        for (String term : terms) {
+            frequencies.merge(term, weight, Float::sum);
+        }
+        return terms.size() * weight;
+    }
+
+    private static String highlight(String text, Set<String> terms) {
+        return highlight(text, 0, text.length(), terms);
+    }
+
+    /**
+     * HTML escapes {@code text[from, to)} and wraps the words matching a query term in {@code <mark>}.
+     */
+    private static String highlight(String text, int from, int to, Set<String> terms) {
+        StringBuilder html = new StringBuilder();
+        int position = from;
+        for (int[] word : matches(text, from, to, terms)) {
+            html.append(escape(text.substring(position, word[0])))
+                    .append("<mark>")
+                    .append(escape(text.substring(word[0], word[1])))
+                    .append("</mark>");
+            position = word[1];
+        }
+        return html.append(escape(text.substring(position, to))).toString();
+    }
+
+    private static String escape(String text) {
+        // Only the markup characters; Turkish letters stay as they are.
+        return HtmlUtils.htmlEscape(text, StandardCharsets.UTF_8.name());
+    }
+
+    private static List<int[]> matches(String text, int from, int to, Set<String> terms) {
+        List<int[]> matches = new ArrayList<>();
+        int start = -1;
+        for (int i = from; i <= to; i++) {
+            boolean wordChar = i < to && TurkishAnalyzer.isWordChar(text, i);
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String term = TurkishAnalyzer.term(text.substring(start, i));
+                if (term != null && terms.contains(term)) {
+                    matches.add(new int[]{start, i});
+                }
+                start = -1;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * A window of the body around its first match, falling back to the description and then the start of the body.
+     */
+    private static String snippet(Document document, Set<String> terms) {
+        String text = document.text;
+        List<int[]> matches = matches(text, 0, text.length(), terms);
+        if (matches.isEmpty()) {
+            if (document.description != null && !document.description.isBlank()) {
+                return highlight(document.description, terms);
+            }
+            return highlight(text, 0, wordBoundary(text, Math.min(SNIPPET_LENGTH, text.length())), terms);
+        }
+
+        int from = matches.get(0)[0] > SNIPPET_LEAD
+                ? wordBoundary(text, matches.get(0)[0] - SNIPPET_LEAD)
+                : 0;
+        int to = wordBoundary(text, Math.min(from + SNIPPET_LENGTH, text.length()));
+        return (from > 0 ? "…" : "") + highlight(text, from, to, terms) + (to < text.length() ? "…" : "");
+    }
+
+    private static int wordBoundary(String text, int index) {
+        while (index < text.length() && index > 0 && TurkishAnalyzer.isWordChar(text, index)) {
+            index++;
+        }
+        return index;
+    }
+
+    private record Document(UUID postId, String title, String subtitle, String description, String text,
+                            Map<String, Float> frequencies, float length) {
+    }
+
+    /**
+     * Documents and postings. Not thread safe; guarded by the index lock once published.
+     */
+    private static class Segment {
+
+        private final Map<UUID, Document> documents = new HashMap<>();
+        private final Map<String, Map<UUID, Float>> postings = new HashMap<>();
+        private double totalLength;
+
+        void put(Document document) {
+            remove(document.postId);
+            documents.put(document.postId, document);
+            document.frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(document.postId, frequency));
+            totalLength += document.length;
+        }
+
+        void remove(UUID postId) {
+            Document document = documents.remove(postId);
+            if (document == null) {
+                return;
+            }
+            for (String term : document.frequencies.keySet()) {
+                Map<UUID, Float> posting = postings.get(term);
+                posting.remove(postId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+            totalLength -= document.length;
+        }
+
+        Map<UUID, Double> score(Set<String> terms) {
+            Map<UUID, Double> scores = new HashMap<>();
+            int count = documents.size();
+            double averageLength = count == 0 ? 1 : Math.max(totalLength / count, 1);
+
+            for (String term : terms) {
+                Map<UUID, Float> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (count - posting.size() + 0.5) / (posting.size() + 0.5));
+                posting.forEach((postId, frequency) -> {
+                    double norm = K1 * (1 - B + B * documents.get(postId).length / averageLength);
+                    scores.merge(postId, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                });
+            }
+            return scores;
+        }
+    }
+}
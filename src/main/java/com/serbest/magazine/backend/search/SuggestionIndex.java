@@ -0,0 +1,376 @@
+package com.serbest.magazine.backend.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Typeahead over post titles, author usernames, category and sub category names and encyclopedia article titles.
+ * Labels are normalised like search terms (Turkish lower case, ASCII folded, no stemming) and stored in a compressed
+ * trie once from each word on, so "efe" completes "Yüzüklerin Efendisi". Every node keeps the highest weight below
+ * it, which lets {@link #suggest} walk the subtree best first and stop after {@code limit} completions instead of
+ * collecting and sorting all of them.
+ */
+@Component
+public class SuggestionIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Trie trie = new Trie();
+    // Writes seen while a rebuild runs, by entry key; a null value is a removal.
+    private Map<String, Suggestion> changedDuringRebuild;
+
+    public record Suggestion(SuggestionType type, String id, String label, long weight) {
+
+        private String key() {
+            return key(type, id);
+        }
+
+        private static String key(SuggestionType type, String id) {
+            return type + ":" + id;
+        }
+    }
+
+    /**
+     * Adds or renames an entry, keeping the weight it already has.
+     */
+    public void put(SuggestionType type, Object id, String label) {
+        lock.writeLock().lock();
+        try {
+            Suggestion current = trie.entries.get(Suggestion.key(type, id.toString()));
+            write(new Suggestion(type, id.toString(), label, current == null ? 0 : current.weight()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void put(SuggestionType type, Object id, String label, long weight) {
+        lock.writeLock().lock();
+        try {
+            write(new Suggestion(type, id.toString(), label, weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(SuggestionType type, Object id) {
+        String key = Suggestion.key(type, id.toString());
+        lock.writeLock().lock();
+        try {
+            trie.remove(key);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(key, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return trie.entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} entries with a word starting with {@code prefix}, heaviest first.
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = prefix == null ? "" : normalize(prefix);
+        if (key.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return trie.complete(key, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Starts collecting a replacement index. Writes made until {@link Rebuild#commit()} are applied to both.
+     */
+    public Rebuild startRebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return new Rebuild();
+    }
+
+    public class Rebuild {
+
+        private final Trie next = new Trie();
+
+        public void add(SuggestionType type, Object id, String label, long weight) {
+            next.put(new Suggestion(type, id.toString(), label, weight));
+        }
+
+        public void commit() {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild.forEach((key, suggestion) -> {
+                    if (suggestion == null) {
+                        next.remove(key);
+                    } else {
+                        next.put(suggestion);
+                    }
+                });
+                trie = next;
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        public void abort() {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void write(Suggestion suggestion) {
+        trie.put(suggestion);
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.put(suggestion.key(), suggestion);
+        }
+    }
+
+    private static String normalize(String text) {
+        return TurkishAnalyzer.tokenize(text).stream()
+                .map(TurkishAnalyzer::normalize)
+                .collect(Collectors.joining(" "));
+    }
+
+    /**
+     * The keys of a label: the normalised label from each of its words on.
+     */
+    private static List<String> keys(String label) {
+        List<String> words = TurkishAnalyzer.tokenize(label == null ? "" : label).stream()
+                .map(TurkishAnalyzer::normalize)
+                .toList();
+        Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < words.size(); i++) {
+            keys.add(String.join(" ", words.subList(i, words.size())));
+        }
+        return new ArrayList<>(keys);
+    }
+
+    private static class Node {
+
+        private String edge;
+        private final Map<Character, Node> children = new HashMap<>(4);
+        // Heaviest first, so a walk can take them one at a time.
+        private NavigableSet<Suggestion> suggestions;
+        private long maxWeight = Long.MIN_VALUE;
+
+        Node(String edge) {
+            this.edge = edge;
+        }
+
+        void recomputeMaxWeight() {
+            long max = Long.MIN_VALUE;
+            if (suggestions != null && !suggestions.isEmpty()) {
+                max = suggestions.first().weight();
+            }
+            for (Node child : children.values()) {
+                max = Math.max(max, child.maxWeight);
+            }
+            maxWeight = max;
+        }
+
+        boolean isEmpty() {
+            return (suggestions == null || suggestions.isEmpty()) && children.isEmpty();
+        }
+    }
+
+    private static final Comparator<Suggestion> HEAVIEST_FIRST = Comparator
+            .comparingLong(Suggestion::weight).reversed()
+            .thenComparing(Suggestion::label)
+            .thenComparing(Suggestion::type)
+            .thenComparing(Suggestion::id);
+
+    /**
+     * A node waiting in the best first walk, or the next suggestion of a node with the rest behind it.
+     */
+    private record Candidate(long weight, Node node, Suggestion suggestion, Iterator<Suggestion> rest) {
+    }
+
+    private static final Comparator<Candidate> BEST_FIRST = Comparator
+            .comparingLong(Candidate::weight).reversed()
+            .thenComparing(candidate -> candidate.suggestion() == null);
+
+    /**
+     * Not thread safe; guarded by the index lock once published.
+     */
+    private static class Trie {
+
+        private final Node root = new Node("");
+        private final Map<String, Suggestion> entries = new HashMap<>();
+
+        void put(Suggestion suggestion) {
+            remove(suggestion.key());
+            entries.put(suggestion.key(), suggestion);
+            for (String key : keys(suggestion.label())) {
+                insert(key, suggestion);
+            }
+        }
+
+        void remove(String entryKey) {
+            Suggestion suggestion = entries.remove(entryKey);
+            if (suggestion == null) {
+                return;
+            }
+            for (String key : keys(suggestion.label())) {
+                delete(key, suggestion);
+            }
+        }
+
+        List<Suggestion> complete(String prefix, int limit) {
+            Node start = find(prefix);
+            if (start == null) {
+                return List.of();
+            }
+
+            // The same entry can sit under the prefix more than once, from different words of its label.
+            Set<Suggestion> found = new LinkedHashSet<>();
+            PriorityQueue<Candidate> queue = new PriorityQueue<>(BEST_FIRST);
+            queue.add(new Candidate(start.maxWeight, start, null, null));
+            while (!queue.isEmpty() && found.size() < limit) {
+                Candidate candidate = queue.poll();
+                if (candidate.suggestion() != null) {
+                    found.add(candidate.suggestion());
+                    next(queue, candidate.rest());
+                    continue;
+                }
+                Node node = candidate.node();
+                if (node.suggestions != null) {
+                    next(queue, node.suggestions.iterator());
+                }
+                for (Node child : node.children.values()) {
+                    queue.add(new Candidate(child.maxWeight, child, null, null));
+                }
+            }
+            return new ArrayList<>(found);
+        }
+
+        private static void next(PriorityQueue<Candidate> queue, Iterator<Suggestion> suggestions) {
+            if (suggestions.hasNext()) {
+                Suggestion suggestion = suggestions.next();
+                queue.add(new Candidate(suggestion.weight(), null, suggestion, suggestions));
+            }
+        }
+
+        private Node find(String prefix) {
+            Node node = root;
+            String rest = prefix;
+            while (!rest.isEmpty()) {
+                Node child = node.children.get(rest.charAt(0));
+                if (child == null) {
+                    return null;
+                }
+                if (rest.length() <= child.edge.length()) {
+                    return child.edge.startsWith(rest) ? child : null;
+                }
+                if (!rest.startsWith(child.edge)) {
+                    return null;
+                }
+                rest = rest.substring(child.edge.length());
+                node = child;
+            }
+            return node;
+        }
+
+        private void insert(String key, Suggestion suggestion) {
+            Node node = root;
+            String rest = key;
+            node.maxWeight = Math.max(node.maxWeight, suggestion.weight());
+            while (!rest.isEmpty()) {
+                Node child = node.children.get(rest.charAt(0));
+                if (child == null) {
+                    child = new Node(rest);
+                    node.children.put(rest.charAt(0), child);
+                    node = child;
+                    node.maxWeight = suggestion.weight();
+                    break;
+                }
+
+                int common = commonPrefixLength(child.edge, rest);
+                if (common < child.edge.length()) {
+                    // Split the edge where the key leaves it.
+                    Node middle = new Node(child.edge.substring(0, common));
+                    child.edge = child.edge.substring(common);
+                    middle.children.put(child.edge.charAt(0), child);
+                    middle.maxWeight = child.maxWeight;
+                    node.children.put(middle.edge.charAt(0), middle);
+                    child = middle;
+                }
+                rest = rest.substring(common);
+                node = child;
+                node.maxWeight = Math.max(node.maxWeight, suggestion.weight());
+            }
+
+            if (node.suggestions == null) {
+                node.suggestions = new TreeSet<>(HEAVIEST_FIRST);
+            }
+            node.suggestions.add(suggestion);
+        }
+
+        private void delete(String key, Suggestion suggestion) {
+            List<Node> path = new ArrayList<>();
+            Node node = root;
+            String rest = key;
+            path.add(node);
+            while (!rest.isEmpty()) {
+                node = node.children.get(rest.charAt(0));
+                if (node == null || !rest.startsWith(node.edge)) {
+                    return;
+                }
+                rest = rest.substring(node.edge.length());
+                path.add(node);
+            }
+            if (node.suggestions == null || !node.suggestions.remove(suggestion)) {
+                return;
+            }
+
+            for (int i = path.size() - 1; i > 0; i--) {
+                Node current = path.get(i);
+                Node parent = path.get(i - 1);
+                if (current.isEmpty()) {
+                    parent.children.remove(current.edge.charAt(0));
+                } else if ((current.suggestions == null || current.suggestions.isEmpty())
+                        && current.children.size() == 1) {
+                    // Merge a node left with a single child back into one edge.
+                    Node child = current.children.values().iterator().next();
+                    child.edge = current.edge + child.edge;
+                    parent.children.put(child.edge.charAt(0), child);
+                } else {
+                    current.recomputeMaxWeight();
+                }
+            }
+            root.recomputeMaxWeight();
+        }
+
+        private static int commonPrefixLength(String a, String b) {
+            int length = Math.min(a.length(), b.length());
+            int i = 0;
+            while (i < length && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
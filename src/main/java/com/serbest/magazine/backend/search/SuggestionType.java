@@ -0,0 +1,9 @@
+package com.serbest.magazine.backend.search;
+
+public enum SuggestionType {
+    POST,
+    AUTHOR,
+    CATEGORY,
+    SUB_CATEGORY,
+    ENCYCLOPEDIA_ARTICLE
+}
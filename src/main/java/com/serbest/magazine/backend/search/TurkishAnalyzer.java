@@ -0,0 +1,161 @@
+package com.serbest.magazine.backend.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Turns text into index terms: splits on anything that is not a letter or digit, lower cases with Turkish rules
+ * (I to ı, İ to i), drops the part after an apostrophe ("İstanbul'da"), drops stop words, strips common inflectional
+ * suffixes and finally folds Turkish letters to ASCII so "gozluk" finds "gözlükler". Indexing and querying use the
+ * same steps, so an over eager stem costs nothing but precision.
+ */
+public final class TurkishAnalyzer {
+
+    private static final Locale TURKISH = Locale.forLanguageTag("tr");
+
+    private static final Pattern TAGS = Pattern.compile("<[^>]*>");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private static final Set<String> STOP_WORDS = Set.of("ve", "veya", "ile", "bir", "bu", "şu", "o", "da", "de",
+            "ki", "mi", "mı", "mu", "mü", "için", "gibi", "daha", "çok", "en", "ne", "ama", "fakat", "her", "olan",
+            "olarak", "ya", "hem", "kadar", "sonra", "önce");
+
+    // Longest first, so "lerinden" is tried before "den".
+    private static final List<String> SUFFIXES = List.of(
+            "lerinden", "larından", "lerinde", "larında", "lerine", "larına", "lerini", "larını",
+            "ndaki", "ndeki", "leri", "ları", "ndan", "nden", "daki", "deki", "taki", "teki",
+            "ler", "lar", "dan", "den", "tan", "ten", "nın", "nin", "nun", "nün", "yla", "yle",
+            "nda", "nde", "da", "de", "ta", "te", "ın", "in", "un", "ün", "la", "le",
+            "yı", "yi", "yu", "yü", "ya", "ye", "nı", "ni", "nu", "nü", "na", "ne",
+            "ı", "i", "u", "ü", "a", "e");
+
+    private static final int MIN_STEM_LENGTH = 4;
+    private static final int MAX_STRIPPED_SUFFIXES = 3;
+
+    private TurkishAnalyzer() {
+    }
+
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+
+        for (String token : tokenize(text)) {
+            String term = term(token);
+            if (term != null) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Returns the index term of a single token, or {@code null} for a stop word or a token too short to search for.
+     */
+    public static String term(String token) {
+        String word = token.toLowerCase(TURKISH);
+        int apostrophe = Math.max(word.indexOf('\''), word.indexOf('’'));
+        if (apostrophe > 0) {
+            word = word.substring(0, apostrophe);
+        }
+
+        if (word.length() < 2 || STOP_WORDS.contains(word)) {
+            return null;
+        }
+        return fold(stem(word));
+    }
+
+    /**
+     * Lower cases with Turkish rules and folds Turkish letters to ASCII, without stemming.
+     */
+    public static String normalize(String word) {
+        return fold(word.toLowerCase(TURKISH));
+    }
+
+    /**
+     * Splits text into words. Apostrophes inside a word are kept so the suffix after them can be dropped.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && isWordChar(text, i);
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    static boolean isWordChar(String text, int i) {
+        char c = text.charAt(i);
+        if (Character.isLetterOrDigit(c)) {
+            return true;
+        }
+        return (c == '\'' || c == '’') && i > 0 && i + 1 < text.length()
+                && Character.isLetter(text.charAt(i - 1)) && Character.isLetter(text.charAt(i + 1));
+    }
+
+    /**
+     * Removes markup from post content, leaving the readable text.
+     */
+    public static String plainText(String html) {
+        if (html == null) {
+            return "";
+        }
+        String text = TAGS.matcher(html).replaceAll(" ")
+                .replace("&nbsp;", " ")
+                .replace("&amp;", "&")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'");
+        return SPACES.matcher(text).replaceAll(" ").trim();
+    }
+
+    private static String stem(String word) {
+        String stem = word;
+        for (int stripped = 0; stripped < MAX_STRIPPED_SUFFIXES; stripped++) {
+            String next = stripSuffix(stem);
+            if (next == null) {
+                break;
+            }
+            stem = next;
+        }
+        return stem;
+    }
+
+    private static String stripSuffix(String word) {
+        for (String suffix : SUFFIXES) {
+            if (word.endsWith(suffix) && word.length() - suffix.length() >= MIN_STEM_LENGTH) {
+                return word.substring(0, word.length() - suffix.length());
+            }
+        }
+        return null;
+    }
+
+    private static String fold(String word) {
+        StringBuilder folded = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            folded.append(switch (c) {
+                case 'ç' -> 'c';
+                case 'ğ' -> 'g';
+                case 'ı', 'î' -> 'i';
+                case 'ö' -> 'o';
+                case 'ş' -> 's';
+                case 'ü', 'û' -> 'u';
+                case 'â' -> 'a';
+                default -> c;
+            });
+        }
+        return folded.toString();
+    }
+}
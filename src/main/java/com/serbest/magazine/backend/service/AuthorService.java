@@ -7,6 +7,7 @@ import com.serbest.magazine.backend.dto.author.UserListResponseDTO;
 import com.serbest.magazine.backend.dto.general.MessageResponseDTO;
 import com.serbest.magazine.backend.dto.user.AuthorResponseDTO;
 import com.serbest.magazine.backend.dto.user.AuthorUpdateRequestDTO;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
@@ -26,4 +27,6 @@ public interface AuthorService {
     AuthorResponseDTO unMakeAuthor(String userId);
     AuthorResponseDTO unMakeEditor(String userId);
     List<UserListResponseDTO> getAllUsers();
+    StreamingResponseBody streamAllUsers();
+    StreamingResponseBody streamUsers();
 }
@@ -4,6 +4,7 @@ import com.serbest.magazine.backend.dto.contact.ContactListResponseDTO;
 import com.serbest.magazine.backend.dto.contact.ContactRequestDTO;
 import com.serbest.magazine.backend.dto.contact.ContactResponseDTO;
 import com.serbest.magazine.backend.dto.general.MessageResponseDTO;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -12,6 +13,8 @@ public interface ContactService {
 
     List<ContactListResponseDTO> getMessages();
 
+    StreamingResponseBody streamMessages();
+
     ContactResponseDTO makeRead(String messageId);
 
     ContactResponseDTO getMessage(String messageId);
@@ -5,6 +5,7 @@ import com.serbest.magazine.backend.dto.encyclopediaArticle.EncyclopediaArticleR
 import com.serbest.magazine.backend.dto.encyclopediaArticle.EncyclopediaArticleUpdateRequestDTO;
 import com.serbest.magazine.backend.dto.encyclopediaArticle.EncyclopediaArticleUpdateResponseDTO;
 import com.serbest.magazine.backend.dto.general.MessageResponseDTO;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 public interface EncyclopediaArticleService {
@@ -21,4 +22,6 @@ public interface EncyclopediaArticleService {
 
     List<EncyclopediaArticleResponseDTO> getAllEncyclopediaArticles();
 
+    StreamingResponseBody streamAllEncyclopediaArticles();
+
 }
@@ -0,0 +1,14 @@
+package com.serbest.magazine.backend.service;
+
+public interface HomePageService {
+
+    /**
+     * The home page serialised to JSON, with an ETag derived from its content.
+     */
+    record Snapshot(byte[] body, String etag) {
+    }
+
+    Snapshot getSnapshot();
+
+    void refresh();
+}
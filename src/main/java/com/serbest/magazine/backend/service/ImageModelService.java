@@ -1,8 +1,21 @@
 package com.serbest.magazine.backend.service;
 
 import com.serbest.magazine.backend.entity.ImageModel;
+import org.springframework.core.io.Resource;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.UUID;
 
 
 public interface ImageModelService {
     ImageModel findById(String id);
+    ImageModel emptyImage();
+    ImageModel uploadImage(MultipartFile file) throws IOException;
+    ImageModel replaceImage(ImageModel current, MultipartFile file) throws IOException;
+    ImageModel acquireImage(UUID imageId);
+    void releaseImage(ImageModel imageModel);
+    Resource loadImage(ImageModel imageModel) throws IOException;
+    Integer variantWidth(ImageModel imageModel, Integer requestedWidth);
+    Resource loadImage(ImageModel imageModel, int width) throws IOException;
 }
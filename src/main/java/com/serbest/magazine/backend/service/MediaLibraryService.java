@@ -0,0 +1,23 @@
+package com.serbest.magazine.backend.service;
+
+import com.serbest.magazine.backend.dto.general.MessageResponseDTO;
+import com.serbest.magazine.backend.dto.image.MediaItemResponseDTO;
+import com.serbest.magazine.backend.entity.ImageModel;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+
+public interface MediaLibraryService {
+
+    MediaItemResponseDTO upload(MultipartFile file) throws IOException;
+
+    Map<String, Object> getMyMedia(Integer page, Integer size);
+
+    MessageResponseDTO delete(String id);
+
+    ImageModel useImage(MultipartFile file, UUID imageId) throws IOException;
+
+    ImageModel replaceImage(ImageModel current, MultipartFile file, UUID imageId) throws IOException;
+}
@@ -4,6 +4,7 @@ import com.serbest.magazine.backend.dto.general.MessageResponseDTO;
 import com.serbest.magazine.backend.dto.post.*;
 
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
@@ -15,23 +16,32 @@ public interface PostService {
     PostCreateResponseDTO createPost(PostRequestDTO requestDTO);
     PostCreateResponseDTO createPostEditor(PostCreateEditorRequestDTO requestDTO) throws IOException;
     Map<String, Object> getAllPosts(Integer page , Integer size);
+    Map<String, Object> getAllPosts(Integer page, Integer size, String fields);
     List<FirstFivePostsListDTO> getFirstFivePosts();
     List<MainPagePostsListDTO> getFourPostsForTop();
     List<MainPagePostsListDTO> getPostsForMainPage();
     List<DeactivatedPostApiResponseDTO> getDeactivatedPost();
+    StreamingResponseBody streamDeactivatedPosts();
     PostResponseDTO findById(String id);
+    Map<String, Object> findById(String id, String fields);
     PostResponseDTO updatePost(String id, PostUpdateRequestDTO requestDTO) throws IOException;
     PostResponseDTO updatePostEditor(String id, PostUpdateEditorRequestDTO requestDTO) throws IOException;
     PostResponseDTO deactivatePost(String id) throws AccessDeniedException;
     PostResponseDTO activatePost(String id);
     MessageResponseDTO deletePost(String id);
-    List<PostResponseDTO> getRandomThreePost();
+    List<PostListItemDTO> getRandomThreePost();
     Map<String, Object> getPostsByCategory(String categoryName,Integer page,Integer size);
     Map<String, Object> getPostsBySubCategory(String subCategoryId,Integer page,Integer size);
     List<AuthorsLastFivePosts> getLastFivePostsOfAuthor(String username);
     List<PlaylistPostListResponseDTO> getPostsByPlaylist(String playlistId);
     List<PostsOfAuthorForPlaylistResponseDTO> getPostsOfAuthorForPlaylist(String username,String playlistId);
-    List<PostResponseDTO> searchPosts(String keyword);
+    List<PostListItemDTO> searchPosts(String keyword);
+    Map<String, Object> search(String query, Integer page, Integer size);
     Map<String, Object> findByUsername(String userId, Integer page, Integer size);
     Integer countsByCategoryName(String categoryName);
+    PostCountsDTO getPostCounts();
+    Map<String, Object> getPostFeed(String cursor, Integer size, Boolean withTotal);
+    Map<String, Object> getPostFeedByCategory(String categoryName, String cursor, Integer size, Boolean withTotal);
+    Map<String, Object> getPostFeedBySubCategory(String subCategoryId, String cursor, Integer size, Boolean withTotal);
+    Map<String, Object> getPostFeedByUsername(String username, String cursor, Integer size, Boolean withTotal);
 }
@@ -0,0 +1,9 @@
+package com.serbest.magazine.backend.service;
+
+import com.serbest.magazine.backend.dto.suggest.SuggestionDTO;
+
+import java.util.List;
+
+public interface SuggestionService {
+    List<SuggestionDTO> suggest(String query, Integer limit);
+}
@@ -0,0 +1,65 @@
+package com.serbest.magazine.backend.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TaxonomyService {
+
+    record CategoryNode(UUID id, String name, boolean active, List<SubCategoryNode> subCategories) {
+    }
+
+    record SubCategoryNode(UUID id, String name, boolean active, UUID categoryId) {
+    }
+
+    /**
+     * Every category with its sub categories, active or not, indexed by name and id, and the menu of the active ones
+     * serialised to JSON with an ETag derived from its content. Never changes once built.
+     */
+    record Snapshot(List<CategoryNode> categories, Map<String, CategoryNode> categoriesByName,
+                    Map<UUID, CategoryNode> categoriesById, Map<String, SubCategoryNode> subCategoriesByName,
+                    Map<UUID, SubCategoryNode> subCategoriesById, byte[] body, String etag) {
+
+        public static Snapshot of(List<CategoryNode> categories, byte[] body, String etag) {
+            Map<String, CategoryNode> categoriesByName = new HashMap<>();
+            Map<UUID, CategoryNode> categoriesById = new HashMap<>();
+            Map<String, SubCategoryNode> subCategoriesByName = new HashMap<>();
+            Map<UUID, SubCategoryNode> subCategoriesById = new HashMap<>();
+            for (CategoryNode category : categories) {
+                categoriesByName.put(category.name(), category);
+                categoriesById.put(category.id(), category);
+                for (SubCategoryNode subCategory : category.subCategories()) {
+                    subCategoriesByName.put(subCategory.name(), subCategory);
+                    subCategoriesById.put(subCategory.id(), subCategory);
+                }
+            }
+            return new Snapshot(List.copyOf(categories), Map.copyOf(categoriesByName), Map.copyOf(categoriesById),
+                    Map.copyOf(subCategoriesByName), Map.copyOf(subCategoriesById), body, etag);
+        }
+
+        public Optional<CategoryNode> category(String name) {
+            return Optional.ofNullable(name == null ? null : categoriesByName.get(name));
+        }
+
+        public Optional<CategoryNode> category(UUID id) {
+            return Optional.ofNullable(id == null ? null : categoriesById.get(id));
+        }
+
+        public Optional<SubCategoryNode> subCategory(String name) {
+            return Optional.ofNullable(name == null ? null : subCategoriesByName.get(name));
+        }
+
+        public Optional<SubCategoryNode> subCategory(UUID id) {
+            return Optional.ofNullable(id == null ? null : subCategoriesById.get(id));
+        }
+    }
+
+    Snapshot getSnapshot();
+
+    /**
+     * Reads the categories and sub categories again and swaps the snapshot; called after every write to them.
+     */
+    void refresh();
+}
@@ -0,0 +1,104 @@
+package com.serbest.magazine.backend.service.impl;
+
+import com.serbest.magazine.backend.repository.PostRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Ids of all active posts, kept in memory so random posts can be picked without sorting the table. Reads take the
+ * current array without locking; the rare writes (publishing, deactivating, deleting a post) replace it with a
+ * copy. The ids are loaded on first use.
+ */
+@Component
+public class ActivePostSampler {
+
+    private final PostRepository postRepository;
+
+    private final Object lock = new Object();
+    private volatile UUID[] ids;
+
+    public ActivePostSampler(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    /**
+     * Returns up to {@code count} distinct active post ids, in random order.
+     */
+    public List<UUID> sample(int count) {
+        UUID[] current = ids();
+        int size = current.length;
+
+        if (size <= count) {
+            List<UUID> all = new ArrayList<>(Arrays.asList(current));
+            Collections.shuffle(all, ThreadLocalRandom.current());
+            return all;
+        }
+
+        // Floyd's algorithm: count draws, each index picked at most once.
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Set<Integer> indexes = new HashSet<>();
+        List<UUID> sample = new ArrayList<>(count);
+        for (int bound = size - count; bound < size; bound++) {
+            int index = random.nextInt(bound + 1);
+            if (!indexes.add(index)) {
+                index = bound;
+                indexes.add(index);
+            }
+            sample.add(current[index]);
+        }
+        Collections.shuffle(sample, random);
+        return sample;
+    }
+
+    public void add(UUID postId) {
+        synchronized (lock) {
+            UUID[] current = ids;
+            if (current == null || Arrays.asList(current).contains(postId)) {
+                return;
+            }
+            UUID[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = postId;
+            ids = next;
+        }
+    }
+
+    public void remove(UUID postId) {
+        synchronized (lock) {
+            UUID[] current = ids;
+            if (current == null) {
+                return;
+            }
+            UUID[] next = Arrays.stream(current).filter(id -> !id.equals(postId)).toArray(UUID[]::new);
+            if (next.length != current.length) {
+                ids = next;
+            }
+        }
+    }
+
+    public void reload() {
+        synchronized (lock) {
+            ids = postRepository.findActivePostIds().toArray(UUID[]::new);
+        }
+    }
+
+    private UUID[] ids() {
+        UUID[] current = ids;
+        if (current == null) {
+            synchronized (lock) {
+                if (ids == null) {
+                    reload();
+                }
+                current = ids;
+            }
+        }
+        return current;
+    }
+}
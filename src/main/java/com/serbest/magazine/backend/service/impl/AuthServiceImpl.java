@@ -1,5 +1,6 @@
 package com.serbest.magazine.backend.service.impl;
 
+import com.serbest.magazine.backend.cache.ContentVersions;
 import com.serbest.magazine.backend.service.MailService;
 import com.serbest.magazine.backend.dto.auth.*;
 import com.serbest.magazine.backend.dto.general.MessageResponseDTO;
@@ -46,10 +47,12 @@ public class AuthServiceImpl implements AuthService {
     private final RefreshTokenService refreshTokenService;
     private final MailService mailService;
     private final PasswordEncoder passwordEncoder;
+    private final ContentVersions contentVersions;
 
 
     public AuthServiceImpl(AuthorRepository userRepository, AuthenticationManager authenticationManager,
-                           RoleRepository roleRepository, UserMapper userMapper, JwtUtils jwtUtils, RefreshTokenService refreshTokenService, MailService mailService, PasswordEncoder passwordEncoder) {
+                           RoleRepository roleRepository, UserMapper userMapper, JwtUtils jwtUtils, RefreshTokenService refreshTokenService, MailService mailService, PasswordEncoder passwordEncoder,
+                           ContentVersions contentVersions) {
         this.userRepository = userRepository;
         this.authenticationManager = authenticationManager;
         this.roleRepository = roleRepository;
@@ -58,6 +61,7 @@ public class AuthServiceImpl implements AuthService {
         this.refreshTokenService = refreshTokenService;
         this.mailService = mailService;
         this.passwordEncoder = passwordEncoder;
+        this.contentVersions = contentVersions;
     }
 
     @Override
@@ -91,6 +95,7 @@ public class AuthServiceImpl implements AuthService {
             user.setRoles(roles);
 
             Author newUser = userRepository.save(user);
+            contentVersions.changed(ContentVersions.Scope.AUTHORS);
 
             String token = jwtUtils.generateValidationToken(newUser);
 
@@ -109,6 +114,7 @@ public class AuthServiceImpl implements AuthService {
         user.setRoles(roles);
 
         Author newUser = userRepository.save(user);
+        contentVersions.changed(ContentVersions.Scope.AUTHORS);
 
         String token = jwtUtils.generateValidationToken(newUser);
 
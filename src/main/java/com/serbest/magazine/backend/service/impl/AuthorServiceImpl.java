@@ -1,5 +1,6 @@
 package com.serbest.magazine.backend.service.impl;
 
+import com.serbest.magazine.backend.cache.ContentVersions;
 import com.serbest.magazine.backend.dto.author.AuthorCardResponseDTO;
 import com.serbest.magazine.backend.dto.author.AuthorListResponseDTO;
 import com.serbest.magazine.backend.dto.author.UserListResponseDTO;
@@ -13,13 +14,16 @@ import com.serbest.magazine.backend.exception.ResourceNotFoundException;
 import com.serbest.magazine.backend.mapper.UserMapper;
 import com.serbest.magazine.backend.repository.AuthorRepository;
 import com.serbest.magazine.backend.repository.RoleRepository;
+import com.serbest.magazine.backend.search.SuggestionIndex;
+import com.serbest.magazine.backend.search.SuggestionType;
 import com.serbest.magazine.backend.security.CheckAuthorization;
 import com.serbest.magazine.backend.service.AuthorService;
 import com.serbest.magazine.backend.service.ImageModelService;
-import com.serbest.magazine.backend.util.UploadImage;
+import com.serbest.magazine.backend.util.NdjsonStreamer;
 import io.jsonwebtoken.lang.Assert;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
@@ -33,14 +37,22 @@ public class AuthorServiceImpl implements AuthorService {
     private final UserMapper userMapper;
     private final CheckAuthorization checkAuthorization;
     private final ImageModelService imageModelService;
+    private final SuggestionIndex suggestionIndex;
+    private final NdjsonStreamer ndjsonStreamer;
+    private final ContentVersions contentVersions;
 
     public AuthorServiceImpl(RoleRepository roleRepository, AuthorRepository authorRepository, UserMapper userMapper,
-                             CheckAuthorization checkAuthorization, ImageModelService imageModelService) {
+                             CheckAuthorization checkAuthorization, ImageModelService imageModelService,
+                             SuggestionIndex suggestionIndex, NdjsonStreamer ndjsonStreamer,
+                             ContentVersions contentVersions) {
         this.roleRepository = roleRepository;
         this.authorRepository = authorRepository;
         this.userMapper = userMapper;
         this.checkAuthorization = checkAuthorization;
         this.imageModelService = imageModelService;
+        this.suggestionIndex = suggestionIndex;
+        this.ndjsonStreamer = ndjsonStreamer;
+        this.contentVersions = contentVersions;
     }
 
     @Override
@@ -50,6 +62,11 @@ public class AuthorServiceImpl implements AuthorService {
         return users.stream().map(userMapper::authorToUserListResponseDTO).collect(Collectors.toList());
     }
 
+    @Override
+    public StreamingResponseBody streamAllUsers() {
+        return ndjsonStreamer.stream(authorRepository::streamAll, userMapper::authorToUserListResponseDTO);
+    }
+
     @Override
     public List<AuthorResponseDTO> getUsers() {
         List<Role> roles = new ArrayList<>();
@@ -61,6 +78,12 @@ public class AuthorServiceImpl implements AuthorService {
         ).collect(Collectors.toList());
     }
 
+    @Override
+    public StreamingResponseBody streamUsers() {
+        List<Role> roles = List.of(roleRepository.findByName("ROLE_USER").get());
+        return ndjsonStreamer.stream(() -> authorRepository.streamByRolesIn(roles), userMapper::authorToAuthorResponseDTO);
+    }
+
     @Override
     public List<AuthorListResponseDTO> getAuthors() {
         List<Role> roles = new ArrayList<>();
@@ -98,11 +121,13 @@ public class AuthorServiceImpl implements AuthorService {
         author.setYoutube(requestDTO.getYoutube());
         author.setBlog(requestDTO.getBlog());
         if (!requestDTO.getImageProtect()) {
-            author.setProfileImage(UploadImage.uploadImage(requestDTO.getImage()));
+            author.setProfileImage(imageModelService.replaceImage(author.getProfileImage(), requestDTO.getImage()));
         }
 
         try {
-            return userMapper.authorToAuthorResponseDTO(authorRepository.save(author));
+            Author saved = authorRepository.save(author);
+            contentVersions.changed(ContentVersions.Scope.AUTHORS);
+            return userMapper.authorToAuthorResponseDTO(saved);
         } catch (Exception e) {
             throw new CustomApplicationException(HttpStatus.BAD_REQUEST, e.getMessage());
         }
@@ -128,7 +153,9 @@ public class AuthorServiceImpl implements AuthorService {
             }
             author.setRoles(userRoles);
 
-            return userMapper.authorToAuthorResponseDTO(authorRepository.save(author));
+            Author saved = authorRepository.save(author);
+            contentVersions.changed(ContentVersions.Scope.AUTHORS);
+            return userMapper.authorToAuthorResponseDTO(saved);
         } catch (Exception e) {
             throw new CustomApplicationException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
         }
@@ -148,7 +175,9 @@ public class AuthorServiceImpl implements AuthorService {
 
         try {
             author.getRoles().remove(authorRole);
-            return userMapper.authorToAuthorResponseDTO(authorRepository.save(author));
+            Author saved = authorRepository.save(author);
+            contentVersions.changed(ContentVersions.Scope.AUTHORS);
+            return userMapper.authorToAuthorResponseDTO(saved);
         } catch (Exception e) {
             throw new CustomApplicationException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
         }
@@ -175,7 +204,9 @@ public class AuthorServiceImpl implements AuthorService {
             }
             author.setRoles(userRoles);
 
-            return userMapper.authorToAuthorResponseDTO(authorRepository.save(author));
+            Author saved = authorRepository.save(author);
+            contentVersions.changed(ContentVersions.Scope.AUTHORS);
+            return userMapper.authorToAuthorResponseDTO(saved);
         } catch (Exception e) {
             throw new CustomApplicationException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
         }
@@ -195,7 +226,9 @@ public class AuthorServiceImpl implements AuthorService {
 
         try {
             author.getRoles().remove(editorRole);
-            return userMapper.authorToAuthorResponseDTO(authorRepository.save(author));
+            Author saved = authorRepository.save(author);
+            contentVersions.changed(ContentVersions.Scope.AUTHORS);
+            return userMapper.authorToAuthorResponseDTO(saved);
         } catch (Exception e) {
             System.out.println(e.getMessage());
             throw new CustomApplicationException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
@@ -223,7 +256,10 @@ public class AuthorServiceImpl implements AuthorService {
         author.setFirstName("");
         author.setLastName("");
         author.setActive(false);
-        return userMapper.authorToAuthorResponseDTO(authorRepository.save(author));
+        suggestionIndex.remove(SuggestionType.AUTHOR, author.getId());
+        Author saved = authorRepository.save(author);
+        contentVersions.changed(ContentVersions.Scope.AUTHORS);
+        return userMapper.authorToAuthorResponseDTO(saved);
     }
 
     @Override
@@ -236,6 +272,9 @@ public class AuthorServiceImpl implements AuthorService {
         author.setRoles(new HashSet<>());
         try {
             authorRepository.delete(author);
+            contentVersions.changed(ContentVersions.Scope.AUTHORS);
+            suggestionIndex.remove(SuggestionType.AUTHOR, author.getId());
+            imageModelService.releaseImage(author.getProfileImage());
             return new MessageResponseDTO("Author with id " + author.getId() + " is deleted successfully.");
         } catch (Exception e) {
             throw new CustomApplicationException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
@@ -9,7 +9,10 @@ import com.serbest.magazine.backend.exception.ResourceNotFoundException;
 import com.serbest.magazine.backend.mapper.CategoryMapper;
 import com.serbest.magazine.backend.repository.CategoryRepository;
 import com.serbest.magazine.backend.repository.PostRepository;
+import com.serbest.magazine.backend.search.SuggestionIndex;
+import com.serbest.magazine.backend.search.SuggestionType;
 import com.serbest.magazine.backend.service.CategoryService;
+import com.serbest.magazine.backend.service.TaxonomyService;
 import io.jsonwebtoken.lang.Assert;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -25,11 +28,16 @@ public class CategoryServiceImpl implements CategoryService {
     private final CategoryRepository categoryRepository;
     private final PostRepository postRepository;
     private final CategoryMapper categoryMapper;
+    private final SuggestionIndex suggestionIndex;
+    private final TaxonomyService taxonomyService;
 
-    public CategoryServiceImpl(CategoryRepository categoryRepository, PostRepository postRepository, CategoryMapper categoryMapper) {
+    public CategoryServiceImpl(CategoryRepository categoryRepository, PostRepository postRepository, CategoryMapper categoryMapper,
+                               SuggestionIndex suggestionIndex, TaxonomyService taxonomyService) {
         this.categoryRepository = categoryRepository;
         this.postRepository = postRepository;
         this.categoryMapper = categoryMapper;
+        this.suggestionIndex = suggestionIndex;
+        this.taxonomyService = taxonomyService;
     }
 
 
@@ -39,6 +47,8 @@ public class CategoryServiceImpl implements CategoryService {
         checkValidateAndSanitizeInput(categoryRequestDTO.getName());
         try {
             Category category = categoryRepository.save(categoryMapper.categoryRequestToCategory(categoryRequestDTO));
+            suggestionIndex.put(SuggestionType.CATEGORY, category.getId(), category.getName());
+            taxonomyService.refresh();
             return new MessageResponseDTO("New Category " + category.getName() + " created!");
         } catch (Exception e) {
             throw new CustomApplicationException(HttpStatus.BAD_REQUEST, e.getMessage());
@@ -47,9 +57,10 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     public List<CategoryResponseDTO> getAllCategory() {
-        List<Category> categories = categoryRepository.findByActiveTrue();
-        return categories.stream()
-                .map(categoryMapper::categoryToCategoryResponseDTO)
+        return taxonomyService.getSnapshot().categories()
+                .stream()
+                .filter(TaxonomyService.CategoryNode::active)
+                .map(category -> new CategoryResponseDTO(category.id(), category.name(), 0))
                 .collect(Collectors.toList());
     }
 
@@ -65,6 +76,10 @@ public class CategoryServiceImpl implements CategoryService {
 
         try {
             Category updatedcat = categoryRepository.save(category);
+            if (Boolean.TRUE.equals(updatedcat.getActive())) {
+                suggestionIndex.put(SuggestionType.CATEGORY, updatedcat.getId(), updatedcat.getName());
+            }
+            taxonomyService.refresh();
 
             return new MessageResponseDTO("Category with id : " + id + " updated with new name : " + updatedcat.getName());
         } catch (Exception e) {
@@ -83,6 +98,8 @@ public class CategoryServiceImpl implements CategoryService {
         try {
             category.setActive(false);
             Category categoryDeleted = categoryRepository.save(category);
+            suggestionIndex.remove(SuggestionType.CATEGORY, categoryDeleted.getId());
+            taxonomyService.refresh();
             return new MessageResponseDTO("Category with id : " + categoryDeleted.getId() + " is deleted.");
         } catch (Exception e) {
             throw new CustomApplicationException(HttpStatus.BAD_REQUEST, e.getMessage());
@@ -1,5 +1,7 @@
 package com.serbest.magazine.backend.service.impl;
 
+import com.serbest.magazine.backend.cache.ContentVersions;
+import com.serbest.magazine.backend.cache.PostDetailCache;
 import com.serbest.magazine.backend.service.CommentService;
 import com.serbest.magazine.backend.dto.comment.CommentRequestDTO;
 import com.serbest.magazine.backend.dto.comment.CommentResponseDTO;
@@ -20,6 +22,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.file.AccessDeniedException;
 import java.util.List;
@@ -34,20 +37,26 @@ public class CommentServiceImpl implements CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final AuthorRepository userRepository;
+    private final PostDetailCache postDetailCache;
+    private final ContentVersions contentVersions;
 
 
     public CommentServiceImpl(
             CheckAuthorization checkAuthorization, CommentMapper commentMapper,
             CommentRepository commentRepository,
-            PostRepository postRepository, AuthorRepository userRepository) {
+            PostRepository postRepository, AuthorRepository userRepository, PostDetailCache postDetailCache,
+            ContentVersions contentVersions) {
         this.checkAuthorization = checkAuthorization;
         this.commentMapper = commentMapper;
         this.commentRepository = commentRepository;
         this.postRepository = postRepository;
         this.userRepository = userRepository;
+        this.postDetailCache = postDetailCache;
+        this.contentVersions = contentVersions;
     }
 
     @Override
+    @Transactional
     public CommentResponseDTO createComment(CommentRequestDTO requestDTO) {
         validateAndSanitizeFieldName("PostId", requestDTO.getPostId());
         validateAndSanitizeFieldName("Content", requestDTO.getContent());
@@ -69,9 +78,11 @@ public class CommentServiceImpl implements CommentService {
         }
 
         try {
-            return commentMapper.commentToCommentResponseDTO(
-                    commentRepository.save(new Comment(requestDTO.getContent(), post, user))
-            );
+            Comment comment = commentRepository.save(new Comment(requestDTO.getContent(), post, user));
+            postRepository.incrementCommentCount(post.getPostId());
+            postDetailCache.invalidate(post.getPostId());
+            contentVersions.changed(ContentVersions.Scope.POSTS);
+            return commentMapper.commentToCommentResponseDTO(comment);
         } catch (Exception e) {
             throw new CustomApplicationException(HttpStatus.BAD_REQUEST, e.getMessage());
         }
@@ -98,11 +109,17 @@ public class CommentServiceImpl implements CommentService {
     }
 
     @Override
+    @Transactional
     public MessageResponseDTO deleteById(String id) throws AccessDeniedException {
         validateAndSanitizeFieldName("CommentId", id);
         Comment comment = getComment(id);
 
         commentRepository.deleteById(comment.getId());
+        if (comment.getPost() != null) {
+            postRepository.decrementCommentCount(comment.getPost().getPostId());
+            postDetailCache.invalidate(comment.getPost().getPostId());
+            contentVersions.changed(ContentVersions.Scope.POSTS);
+        }
         return new MessageResponseDTO("Comment with id : " + id + " is deleted.");
 
     }
@@ -12,9 +12,11 @@ import com.serbest.magazine.backend.mapper.ContactMapper;
 import com.serbest.magazine.backend.repository.ContactRepository;
 import com.serbest.magazine.backend.service.ContactService;
 import com.serbest.magazine.backend.service.MailService;
+import com.serbest.magazine.backend.util.NdjsonStreamer;
 import io.jsonwebtoken.lang.Assert;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -26,11 +28,14 @@ public class ContactServiceImpl implements ContactService {
     private final ContactRepository contactRepository;
     private final ContactMapper contactMapper;
     private final MailService mailService;
+    private final NdjsonStreamer ndjsonStreamer;
 
-    public ContactServiceImpl(ContactRepository contactRepository, ContactMapper contactMapper, MailService mailService) {
+    public ContactServiceImpl(ContactRepository contactRepository, ContactMapper contactMapper, MailService mailService,
+                              NdjsonStreamer ndjsonStreamer) {
         this.contactRepository = contactRepository;
         this.contactMapper = contactMapper;
         this.mailService = mailService;
+        this.ndjsonStreamer = ndjsonStreamer;
     }
 
     @Override
@@ -63,6 +68,12 @@ public class ContactServiceImpl implements ContactService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public StreamingResponseBody streamMessages() {
+        return ndjsonStreamer.stream(contactRepository::streamAllByCreateDateTime,
+                contactMapper::contactToContactListResponseDTO);
+    }
+
     @Override
     public ContactResponseDTO getMessage(String messageId) {
         checkValidateAndSanitizeInput("Id", messageId);
@@ -10,9 +10,15 @@ import com.serbest.magazine.backend.entity.EncyclopediaArticle;
 import com.serbest.magazine.backend.exception.ResourceNotFoundException;
 import com.serbest.magazine.backend.mapper.EncyclopediaArticleMapper;
 import com.serbest.magazine.backend.repository.EncyclopediaArticleRepository;
+import com.serbest.magazine.backend.search.SuggestionIndex;
+import com.serbest.magazine.backend.search.SuggestionType;
 import com.serbest.magazine.backend.service.EncyclopediaArticleService;
+import com.serbest.magazine.backend.util.NdjsonStreamer;
+import com.serbest.magazine.backend.event.ContentChangedEvent;
 import io.jsonwebtoken.lang.Assert;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -23,10 +29,18 @@ public class EncyclopediaArticleServiceImpl implements EncyclopediaArticleServic
 
     private final EncyclopediaArticleRepository encyclopediaArticleRepository;
     private final EncyclopediaArticleMapper encyclopediaArticleMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final SuggestionIndex suggestionIndex;
+    private final NdjsonStreamer ndjsonStreamer;
 
-    public EncyclopediaArticleServiceImpl(EncyclopediaArticleRepository encyclopediaArticleRepository, EncyclopediaArticleMapper encyclopediaArticleMapper) {
+    public EncyclopediaArticleServiceImpl(EncyclopediaArticleRepository encyclopediaArticleRepository, EncyclopediaArticleMapper encyclopediaArticleMapper,
+                                          ApplicationEventPublisher applicationEventPublisher,
+                                          SuggestionIndex suggestionIndex, NdjsonStreamer ndjsonStreamer) {
         this.encyclopediaArticleRepository = encyclopediaArticleRepository;
         this.encyclopediaArticleMapper = encyclopediaArticleMapper;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.suggestionIndex = suggestionIndex;
+        this.ndjsonStreamer = ndjsonStreamer;
     }
 
     @Override
@@ -42,6 +56,9 @@ public class EncyclopediaArticleServiceImpl implements EncyclopediaArticleServic
                 encyclopediaArticleRequestDTO.getDescription());
 
         EncyclopediaArticle newEncyclopediaArticle = encyclopediaArticleRepository.save(encyclopediaArticle);
+        suggestionIndex.put(SuggestionType.ENCYCLOPEDIA_ARTICLE, newEncyclopediaArticle.getId(),
+                newEncyclopediaArticle.getTitle());
+        applicationEventPublisher.publishEvent(new ContentChangedEvent("encyclopediaArticle"));
 
         return new MessageResponseDTO( newEncyclopediaArticle.getTitle() + " başlıklı yeni bilgi eklenmiştir. ");
     }
@@ -64,6 +81,9 @@ public class EncyclopediaArticleServiceImpl implements EncyclopediaArticleServic
         encyclopediaArticle.setDescription(updateRequestDTO.getDescription());
 
         EncyclopediaArticle newEncyclopediaArticle = encyclopediaArticleRepository.save(encyclopediaArticle);
+        suggestionIndex.put(SuggestionType.ENCYCLOPEDIA_ARTICLE, newEncyclopediaArticle.getId(),
+                newEncyclopediaArticle.getTitle());
+        applicationEventPublisher.publishEvent(new ContentChangedEvent("encyclopediaArticle"));
 
         return encyclopediaArticleMapper.encyclopediaArticleToEncyclopediaArticleUpdateResponseDTO(newEncyclopediaArticle);
     }
@@ -76,6 +96,8 @@ public class EncyclopediaArticleServiceImpl implements EncyclopediaArticleServic
                 );
 
         encyclopediaArticleRepository.deleteById(encyclopediaArticle.getId());
+        suggestionIndex.remove(SuggestionType.ENCYCLOPEDIA_ARTICLE, encyclopediaArticle.getId());
+        applicationEventPublisher.publishEvent(new ContentChangedEvent("encyclopediaArticle"));
 
         return new MessageResponseDTO(id + " ID'li bilgi başarıyla silinmiştir.");
     }
@@ -102,6 +124,12 @@ public class EncyclopediaArticleServiceImpl implements EncyclopediaArticleServic
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public StreamingResponseBody streamAllEncyclopediaArticles() {
+        return ndjsonStreamer.stream(encyclopediaArticleRepository::streamAllByOrderByCreateDateTimeDesc,
+                encyclopediaArticleMapper::encyclopediaArticleToEncyclopediaArticleResponseDTO);
+    }
+
     @Override
     public List<EncyclopediaArticleResponseDTO> getAllEncyclopediaArticles() {
         return encyclopediaArticleRepository
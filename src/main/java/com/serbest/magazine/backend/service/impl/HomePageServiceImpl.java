@@ -0,0 +1,146 @@
+package com.serbest.magazine.backend.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.serbest.magazine.backend.dto.home.HomePageDTO;
+import com.serbest.magazine.backend.event.ContentChangedEvent;
+import com.serbest.magazine.backend.service.EncyclopediaArticleService;
+import com.serbest.magazine.backend.service.HomePageService;
+import com.serbest.magazine.backend.service.MovieService;
+import com.serbest.magazine.backend.service.MusicService;
+import com.serbest.magazine.backend.service.PictureService;
+import com.serbest.magazine.backend.service.PostService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Serves the home page from a snapshot serialised once per change instead of running every section's queries per
+ * visitor. Content changes queue a rebuild on a single thread; changes arriving while one is queued share it. The
+ * snapshot is also rebuilt periodically so comment counts and the random posts move on.
+ */
+@Service
+public class HomePageServiceImpl implements HomePageService, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(HomePageServiceImpl.class);
+
+    private final PostService postService;
+    private final EncyclopediaArticleService encyclopediaArticleService;
+    private final MovieService movieService;
+    private final MusicService musicService;
+    private final PictureService pictureService;
+    private final ObjectMapper objectMapper;
+
+    private final ThreadPoolTaskExecutor executor;
+    private final AtomicBoolean queued = new AtomicBoolean();
+    private volatile Snapshot snapshot;
+
+    public HomePageServiceImpl(PostService postService, EncyclopediaArticleService encyclopediaArticleService,
+                               MovieService movieService, MusicService musicService, PictureService pictureService,
+                               ObjectMapper objectMapper) {
+        this.postService = postService;
+        this.encyclopediaArticleService = encyclopediaArticleService;
+        this.movieService = movieService;
+        this.musicService = musicService;
+        this.pictureService = pictureService;
+        this.objectMapper = objectMapper;
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("home-snapshot-");
+        executor.initialize();
+    }
+
+    @Override
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public synchronized void refresh() {
+        HomePageDTO homePage = HomePageDTO.builder()
+                .firstFivePosts(section("firstFivePosts", postService::getFirstFivePosts))
+                .fourPostsForTop(section("fourPostsForTop", postService::getFourPostsForTop))
+                .mainPagePosts(section("mainPagePosts", postService::getPostsForMainPage))
+                .randomThree(section("randomThree", postService::getRandomThreePost))
+                .encyclopediaArticles(section("encyclopediaArticles",
+                        encyclopediaArticleService::getLastSevenEncyclopediaArticle))
+                .movieOfTheWeek(section("movieOfTheWeek", movieService::getMasterpieceOfTheWeek))
+                .musicOfTheWeek(section("musicOfTheWeek", musicService::getMasterpieceOfTheWeek))
+                .pictureOfTheWeek(section("pictureOfTheWeek", pictureService::getMasterpieceOfTheWeek))
+                .createDateTime(LocalDateTime.now())
+                .build();
+
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(homePage);
+            snapshot = new Snapshot(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            // The previous snapshot keeps being served.
+            logger.warn("Home page snapshot could not be serialised: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        logger.debug("Home page snapshot rebuild queued, {} changed.", event.content());
+        refreshAsync();
+    }
+
+    @Scheduled(fixedDelayString = "${magazine.home.refreshInterval:PT5M}",
+            initialDelayString = "${magazine.home.refreshInterval:PT5M}")
+    public void scheduledRefresh() {
+        refreshAsync();
+    }
+
+    private void refreshAsync() {
+        if (!queued.compareAndSet(false, true)) {
+            return;
+        }
+        executor.execute(() -> {
+            // Cleared before building, so a change made while this runs queues another rebuild.
+            queued.set(false);
+            try {
+                refresh();
+            } catch (RuntimeException e) {
+                logger.warn("Home page snapshot could not be rebuilt: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * A section that fails, e.g. a masterpiece of the week before any was added, is left empty rather than taking
+     * the whole page down.
+     */
+    private <T> T section(String name, Supplier<T> supplier) {
+        try {
+            return supplier.get();
+        } catch (RuntimeException e) {
+            logger.warn("Home page section {} could not be built: {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -2,25 +2,167 @@ package com.serbest.magazine.backend.service.impl;
 
 import com.serbest.magazine.backend.entity.ImageModel;
 import com.serbest.magazine.backend.exception.ResourceNotFoundException;
+import com.serbest.magazine.backend.job.LegacyImageMigrationJob;
 import com.serbest.magazine.backend.repository.ImageModelRepository;
 import com.serbest.magazine.backend.service.ImageModelService;
+import com.serbest.magazine.backend.storage.HotImageCache;
+import com.serbest.magazine.backend.storage.ImageContentWriter;
+import com.serbest.magazine.backend.storage.ImagePlaceholder;
+import com.serbest.magazine.backend.storage.ImagePlaceholderGenerator;
+import com.serbest.magazine.backend.storage.ImageStore;
+import com.serbest.magazine.backend.storage.ImageVariantGenerator;
+import com.serbest.magazine.backend.storage.StoredImage;
+import com.serbest.magazine.backend.storage.UploadLimiter;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.util.Optional;
 import java.util.UUID;
 
 
 @Service
 public class ImageModelServiceImpl implements ImageModelService {
     private final ImageModelRepository imageModelRepository;
+    private final ImageStore imageStore;
+    private final ImageContentWriter imageContentWriter;
+    private final LegacyImageMigrationJob legacyImageMigrationJob;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final HotImageCache hotImageCache;
+    private final UploadLimiter uploadLimiter;
+    private final ImagePlaceholderGenerator imagePlaceholderGenerator;
 
-    public ImageModelServiceImpl(ImageModelRepository imageModelRepository) {
+    public ImageModelServiceImpl(ImageModelRepository imageModelRepository, ImageStore imageStore,
+                                 ImageContentWriter imageContentWriter, LegacyImageMigrationJob legacyImageMigrationJob,
+                                 ImageVariantGenerator imageVariantGenerator, HotImageCache hotImageCache,
+                                 UploadLimiter uploadLimiter, ImagePlaceholderGenerator imagePlaceholderGenerator) {
         this.imageModelRepository = imageModelRepository;
+        this.imageStore = imageStore;
+        this.imageContentWriter = imageContentWriter;
+        this.legacyImageMigrationJob = legacyImageMigrationJob;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.hotImageCache = hotImageCache;
+        this.uploadLimiter = uploadLimiter;
+        this.imagePlaceholderGenerator = imagePlaceholderGenerator;
     }
 
     @Override
     public ImageModel findById(String id) {
-        return imageModelRepository.findById(UUID.fromString(id)).orElseThrow(
-                () -> new ResourceNotFoundException("Image", "id", id)
-        );
+        return hotImageCache.metadata(UUID.fromString(id), () -> imageModelRepository.findById(UUID.fromString(id))
+                .orElseThrow(() -> new ResourceNotFoundException("Image", "id", id)));
+    }
+
+    @Override
+    public ImageModel emptyImage() {
+        return imageModelRepository.findById(ImageModel.EMPTY_IMAGE_ID).orElseGet(() -> {
+            imageModelRepository.insertEmptyImage(ImageModel.EMPTY_IMAGE_ID);
+            return imageModelRepository.findById(ImageModel.EMPTY_IMAGE_ID).orElseThrow();
+        });
+    }
+
+    /**
+     * Streams the upload from its multipart temp file into the image store and returns the image row for its
+     * content. Content that is already known reuses the existing row, so every distinct image is stored and
+     * described once and only gains a reference here.
+     */
+    @Override
+    public ImageModel uploadImage(MultipartFile file) throws IOException {
+        if (file == null) {
+            return emptyImage();
+        }
+
+        StoredImage storedImage;
+        try (UploadLimiter.Permit permit = uploadLimiter.acquire(file.getSize())) {
+            storedImage = imageContentWriter.writeUpload(file, uploadLimiter.getMaxUploadBytes());
+        }
+
+        Optional<ImageModel> existing =
+                imageModelRepository.findFirstByContentHashOrderByIdAsc(storedImage.getContentHash());
+        // The shared row may have been collected in between, in which case a new one is written below.
+        if (existing.isPresent() && imageModelRepository.incrementReferenceCount(existing.get().getId()) == 1) {
+            return existing.get();
+        }
+
+        imageVariantGenerator.generateAsync(storedImage.getStorageKey(), storedImage.getContentType());
+
+        ImageModel imageModel = new ImageModel(file.getOriginalFilename(), storedImage.getContentType(),
+                storedImage.getSize(), storedImage.getContentHash(), storedImage.getStorageKey());
+        imageModel.setReferenceCount(1);
+        // Described from the local multipart temp file rather than the store, which may be remote.
+        Optional<ImagePlaceholder> placeholder = imagePlaceholderGenerator.describe(file);
+        imageModel.setWidth(placeholder.map(ImagePlaceholder::getWidth).orElse(null));
+        imageModel.setHeight(placeholder.map(ImagePlaceholder::getHeight).orElse(null));
+        imageModel.setPlaceholderColor(placeholder.map(ImagePlaceholder::getColor).orElse(""));
+        return imageModelRepository.save(imageModel);
+    }
+
+    @Override
+    public ImageModel replaceImage(ImageModel current, MultipartFile file) throws IOException {
+        ImageModel replacement = uploadImage(file);
+        releaseImage(current);
+        if (current != null) {
+            hotImageCache.evict(current);
+        }
+        return replacement;
+    }
+
+    /**
+     * Adds a reference to an image that is already stored, for entities that point at a media library upload.
+     */
+    @Override
+    public ImageModel acquireImage(UUID imageId) {
+        if (ImageModel.EMPTY_IMAGE_ID.equals(imageId)) {
+            return emptyImage();
+        }
+        if (imageModelRepository.incrementReferenceCount(imageId) == 0) {
+            throw new ResourceNotFoundException("Image", "id", imageId.toString());
+        }
+        return imageModelRepository.findById(imageId)
+                .orElseThrow(() -> new ResourceNotFoundException("Image", "id", imageId.toString()));
+    }
+
+    /**
+     * Drops one reference. Unreferenced rows and their bytes are left for the orphan collector, so an upload that
+     * is reusing the row at the same moment never loses its image.
+     */
+    @Override
+    public void releaseImage(ImageModel imageModel) {
+        if (imageModel != null && !imageModel.isEmpty()) {
+            imageModelRepository.decrementReferenceCount(imageModel.getId());
+        }
+    }
+
+    @Override
+    public Resource loadImage(ImageModel imageModel) throws IOException {
+        String storageKey = storageKey(imageModel);
+        return hotImageCache.content(storageKey, () -> imageStore.load(storageKey));
+    }
+
+    @Override
+    public Integer variantWidth(ImageModel imageModel, Integer requestedWidth) {
+        return imageVariantGenerator.variantWidth(imageModel.getType(), requestedWidth);
+    }
+
+    @Override
+    public Resource loadImage(ImageModel imageModel, int width) throws IOException {
+        String storageKey = storageKey(imageModel);
+        return hotImageCache.content(ImageVariantGenerator.variantKey(storageKey, width),
+                () -> imageVariantGenerator.load(storageKey, width));
+    }
+
+    private String storageKey(ImageModel imageModel) {
+        String storageKey = imageModel.getStorageKey();
+
+        if (storageKey == null) {
+            // Rows written before the image store existed are moved over the first time they are requested.
+            storageKey = legacyImageMigrationJob.migrate(imageModel.getId())
+                    .map(StoredImage::getStorageKey)
+                    .orElseThrow(() -> new ResourceNotFoundException("Image", "id", String.valueOf(imageModel.getId())));
+            // The cached row still has no key and hash, let the next request read the migrated one.
+            hotImageCache.evictMetadata(imageModel.getId());
+        }
+
+        return storageKey;
     }
 }
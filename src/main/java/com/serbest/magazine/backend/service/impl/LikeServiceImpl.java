@@ -1,6 +1,8 @@
 package com.serbest.magazine.backend.service.impl;
 
 import com.google.common.base.Strings;
+import com.serbest.magazine.backend.cache.ContentVersions;
+import com.serbest.magazine.backend.cache.PostDetailCache;
 import com.serbest.magazine.backend.service.LikeService;
 import com.serbest.magazine.backend.dto.like.LikeRequestDTO;
 import com.serbest.magazine.backend.dto.like.LikeResponseDTO;
@@ -11,6 +13,7 @@ import com.serbest.magazine.backend.entity.Post;
 import com.serbest.magazine.backend.exception.CustomApplicationException;
 import com.serbest.magazine.backend.exception.ResourceNotFoundException;
 import com.serbest.magazine.backend.repository.AuthorRepository;
+import com.serbest.magazine.backend.repository.CommentRepository;
 import com.serbest.magazine.backend.repository.LikeRepository;
 import com.serbest.magazine.backend.repository.PostRepository;
 import com.serbest.magazine.backend.service.CommentService;
@@ -18,6 +21,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.file.AccessDeniedException;
 import java.util.List;
@@ -31,16 +35,25 @@ public class LikeServiceImpl implements LikeService {
     private final CommentService commentService;
     private final LikeRepository likeRepository;
     private final AuthorRepository authorRepository;
+    private final CommentRepository commentRepository;
+    private final PostDetailCache postDetailCache;
+    private final ContentVersions contentVersions;
 
-    public LikeServiceImpl(PostRepository postRepository, CommentService commentService, LikeRepository likeRepository, AuthorRepository authorRepository) {
+    public LikeServiceImpl(PostRepository postRepository, CommentService commentService, LikeRepository likeRepository,
+                           AuthorRepository authorRepository, CommentRepository commentRepository,
+                           PostDetailCache postDetailCache, ContentVersions contentVersions) {
         this.postRepository = postRepository;
         this.commentService = commentService;
         this.likeRepository = likeRepository;
         this.authorRepository = authorRepository;
+        this.commentRepository = commentRepository;
+        this.postDetailCache = postDetailCache;
+        this.contentVersions = contentVersions;
     }
 
     /// Added CHECK of COALESCE((post)::int::boolean::int) + COALESCE((comment)::int::boolean::int) = 1;
     @Override
+    @Transactional
     public LikeResponseDTO like(LikeRequestDTO requestDTO) throws AccessDeniedException {
         if (Strings.isNullOrEmpty(requestDTO.getPostId()) && Strings.isNullOrEmpty(requestDTO.getCommentId())) {
             throw new CustomApplicationException(HttpStatus.BAD_REQUEST,
@@ -74,10 +87,15 @@ public class LikeServiceImpl implements LikeService {
 
             like = likeRepository.findByAuthorAndPost(user, post);
             if (like != null) {
-                likeRepository.deleteByPostAndAuthor(post.getPostId(), user.getId());
+                if (likeRepository.deleteByPostAndAuthor(post.getPostId(), user.getId()) > 0) {
+                    postRepository.decrementLikeCount(post.getPostId());
+                }
             } else {
                 like = likeRepository.save(new Like(post, null, user));
+                postRepository.incrementLikeCount(post.getPostId());
             }
+            postDetailCache.invalidate(post.getPostId());
+            contentVersions.changed(ContentVersions.Scope.POSTS);
 
         } else if (!Strings.isNullOrEmpty(requestDTO.getCommentId())) {
 
@@ -85,9 +103,12 @@ public class LikeServiceImpl implements LikeService {
 
             like = likeRepository.findByAuthorAndComment(user, comment);
             if (like != null) {
-                likeRepository.deleteByCommentAndAuthor(comment.getId(), user.getId());
+                if (likeRepository.deleteByCommentAndAuthor(comment.getId(), user.getId()) > 0) {
+                    commentRepository.decrementLikeCount(comment.getId());
+                }
             } else {
                 like = likeRepository.save(new Like(null, comment, user));
+                commentRepository.incrementLikeCount(comment.getId());
             }
         }
 
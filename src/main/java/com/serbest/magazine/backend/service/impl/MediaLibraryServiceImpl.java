@@ -0,0 +1,150 @@
+package com.serbest.magazine.backend.service.impl;
+
+import com.serbest.magazine.backend.dto.general.MessageResponseDTO;
+import com.serbest.magazine.backend.dto.image.MediaItemResponseDTO;
+import com.serbest.magazine.backend.entity.Author;
+import com.serbest.magazine.backend.entity.ImageModel;
+import com.serbest.magazine.backend.entity.MediaItem;
+import com.serbest.magazine.backend.exception.CustomApplicationException;
+import com.serbest.magazine.backend.exception.ResourceNotFoundException;
+import com.serbest.magazine.backend.mapper.ImageMapper;
+import com.serbest.magazine.backend.repository.AuthorRepository;
+import com.serbest.magazine.backend.repository.MediaItemRepository;
+import com.serbest.magazine.backend.service.ImageModelService;
+import com.serbest.magazine.backend.service.MediaLibraryService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+public class MediaLibraryServiceImpl implements MediaLibraryService {
+
+    // Editors and admins create content on behalf of authors, so they may attach images from any library.
+    private static final Set<String> SHARED_LIBRARY_ROLES = Set.of("ROLE_EDITOR", "ROLE_ADMIN");
+
+    private final MediaItemRepository mediaItemRepository;
+    private final AuthorRepository authorRepository;
+    private final ImageModelService imageModelService;
+    private final ImageMapper imageMapper;
+
+    public MediaLibraryServiceImpl(MediaItemRepository mediaItemRepository, AuthorRepository authorRepository,
+                                   ImageModelService imageModelService, ImageMapper imageMapper) {
+        this.mediaItemRepository = mediaItemRepository;
+        this.authorRepository = authorRepository;
+        this.imageModelService = imageModelService;
+        this.imageMapper = imageMapper;
+    }
+
+    /**
+     * Stores the image once and adds it to the current author's library. Uploading content that is already in the
+     * library returns the existing entry.
+     */
+    @Override
+    public MediaItemResponseDTO upload(MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new CustomApplicationException(HttpStatus.BAD_REQUEST, "Lütfen bir görsel seçiniz.");
+        }
+
+        Author owner = currentAuthor();
+        ImageModel image = imageModelService.uploadImage(file);
+
+        Optional<MediaItem> existing = mediaItemRepository.findFirstByOwnerAndImage_Id(owner, image.getId());
+        if (existing.isPresent()) {
+            imageModelService.releaseImage(image);
+            return imageMapper.mediaItemToMediaItemResponseDTO(existing.get());
+        }
+
+        return imageMapper.mediaItemToMediaItemResponseDTO(mediaItemRepository.save(new MediaItem(owner, image)));
+    }
+
+    @Override
+    public Map<String, Object> getMyMedia(Integer page, Integer size) {
+        Page<MediaItem> media = mediaItemRepository.findByOwnerOrderByCreateDateTimeDesc(currentAuthor(),
+                PageRequest.of(page, size));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("media", media.getContent().stream()
+                .map(imageMapper::mediaItemToMediaItemResponseDTO)
+                .collect(Collectors.toList()));
+        response.put("currentPage", media.getNumber());
+        response.put("totalItems", media.getTotalElements());
+        response.put("totalPages", media.getTotalPages());
+        return response;
+    }
+
+    /**
+     * Removes the entry from the library. Posts already using the image keep it.
+     */
+    @Override
+    public MessageResponseDTO delete(String id) {
+        MediaItem mediaItem = mediaItemRepository.findByIdAndOwner(UUID.fromString(id), currentAuthor()).orElseThrow(
+                () -> new ResourceNotFoundException("Media", "id", id)
+        );
+
+        mediaItemRepository.delete(mediaItem);
+        imageModelService.releaseImage(mediaItem.getImage());
+
+        return new MessageResponseDTO("Görsel kütüphanenizden kaldırılmıştır.");
+    }
+
+    /**
+     * Returns the image for a new entity: the library image with the given id when one is set, the uploaded file
+     * otherwise. Either way the caller holds one new reference.
+     */
+    @Override
+    public ImageModel useImage(MultipartFile file, UUID imageId) throws IOException {
+        if (imageId == null) {
+            return imageModelService.uploadImage(file);
+        }
+        checkLibraryAccess(imageId);
+        return imageModelService.acquireImage(imageId);
+    }
+
+    @Override
+    public ImageModel replaceImage(ImageModel current, MultipartFile file, UUID imageId) throws IOException {
+        if (imageId == null) {
+            return imageModelService.replaceImage(current, file);
+        }
+        if (current != null && imageId.equals(current.getId())) {
+            return current;
+        }
+
+        ImageModel replacement = useImage(null, imageId);
+        imageModelService.releaseImage(current);
+        return replacement;
+    }
+
+    private void checkLibraryAccess(UUID imageId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean shared = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(SHARED_LIBRARY_ROLES::contains);
+
+        boolean inLibrary = shared
+                ? mediaItemRepository.existsByImage_Id(imageId)
+                : mediaItemRepository.findFirstByOwnerAndImage_Id(currentAuthor(), imageId).isPresent();
+        if (!inLibrary) {
+            throw new ResourceNotFoundException("Media", "imageId", imageId.toString());
+        }
+    }
+
+    private Author currentAuthor() {
+        String usernameOrEmail = SecurityContextHolder.getContext().getAuthentication().getName();
+        return authorRepository.findByUsernameOrEmail(usernameOrEmail, usernameOrEmail).orElseThrow(
+                () -> new ResourceNotFoundException("Author", "emailOrUsername", usernameOrEmail)
+        );
+    }
+}
@@ -7,12 +7,15 @@ import com.serbest.magazine.backend.entity.Movie;
 import com.serbest.magazine.backend.exception.CustomApplicationException;
 import com.serbest.magazine.backend.exception.ResourceNotFoundException;
 import com.serbest.magazine.backend.repository.MovieRepository;
-import com.serbest.magazine.backend.service.ImageModelService;
+import com.serbest.magazine.backend.service.MediaLibraryService;
 import com.serbest.magazine.backend.service.MovieService;
-import com.serbest.magazine.backend.util.UploadImage;
+import com.serbest.magazine.backend.event.ContentChangedEvent;
+import com.serbest.magazine.backend.util.NdjsonStreamer;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -23,12 +26,17 @@ public class MovieServiceImpl implements MovieService {
 
     private final MovieRepository movieRepository;
     private final MasterpieceMapper masterpieceMapper;
-    private final ImageModelService imageModelService;
+    private final MediaLibraryService mediaLibraryService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final NdjsonStreamer ndjsonStreamer;
 
-    public MovieServiceImpl(MovieRepository movieRepository, MasterpieceMapper masterpieceMapper, ImageModelService imageModelService) {
+    public MovieServiceImpl(MovieRepository movieRepository, MasterpieceMapper masterpieceMapper, MediaLibraryService mediaLibraryService,
+                            ApplicationEventPublisher applicationEventPublisher, NdjsonStreamer ndjsonStreamer) {
         this.movieRepository = movieRepository;
         this.masterpieceMapper = masterpieceMapper;
-        this.imageModelService = imageModelService;
+        this.mediaLibraryService = mediaLibraryService;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.ndjsonStreamer = ndjsonStreamer;
     }
 
     @Override
@@ -36,8 +44,10 @@ public class MovieServiceImpl implements MovieService {
         Movie movie = null;
         try {
             movie = masterpieceMapper.masterpieceRequestDTOToMovie(requestDTO);
+            movie.setImage(mediaLibraryService.useImage(requestDTO.getImage(), requestDTO.getImageId()));
 
             Movie savedMovie = movieRepository.save(movie);
+            applicationEventPublisher.publishEvent(new ContentChangedEvent("movie"));
 
             return new MessageResponseDTO(savedMovie.getTitle() + " adlı film başarıyla eklenmiştir.");
 
@@ -70,6 +80,12 @@ public class MovieServiceImpl implements MovieService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public StreamingResponseBody streamMasterpieces() {
+        return ndjsonStreamer.stream(movieRepository::streamAllByOrderByCreateDateTimeDesc,
+                masterpieceMapper::masterpieceToMasterpieceListResponseDTO);
+    }
+
     @Override
     public MasterpieceResponseDTO updateMasterpiece(String id, MasterpieceUpdateRequestDTO requestDTO) {
         Movie movie = movieRepository.findById(UUID.fromString(id)).orElseThrow(
@@ -77,8 +93,9 @@ public class MovieServiceImpl implements MovieService {
         );
 
         try {
-            if (!requestDTO.getImageProtect()) {
-                movie.setImage(UploadImage.uploadImage(requestDTO.getImage()));
+            if (requestDTO.getImageId() != null || Boolean.FALSE.equals(requestDTO.getImageProtect())) {
+                movie.setImage(mediaLibraryService.replaceImage(movie.getImage(), requestDTO.getImage(),
+                        requestDTO.getImageId()));
             }
             movie.setTitle(requestDTO.getTitle());
             movie.setOwner(requestDTO.getOwner());
@@ -87,7 +104,10 @@ public class MovieServiceImpl implements MovieService {
             movie.setShowLink2(requestDTO.getShowLink2());
             movie.setMarketLink(requestDTO.getMarketLink());
 
-            return masterpieceMapper.masterpieceToMasterpieceResponseDTO(movieRepository.save(movie));
+            Movie savedMovie = movieRepository.save(movie);
+            applicationEventPublisher.publishEvent(new ContentChangedEvent("movie"));
+
+            return masterpieceMapper.masterpieceToMasterpieceResponseDTO(savedMovie);
 
         } catch (Exception e) {
             throw new CustomApplicationException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
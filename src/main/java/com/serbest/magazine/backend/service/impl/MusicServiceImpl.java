@@ -8,12 +8,15 @@ import com.serbest.magazine.backend.entity.Music;
 import com.serbest.magazine.backend.exception.CustomApplicationException;
 import com.serbest.magazine.backend.exception.ResourceNotFoundException;
 import com.serbest.magazine.backend.repository.MusicRepository;
-import com.serbest.magazine.backend.service.ImageModelService;
+import com.serbest.magazine.backend.service.MediaLibraryService;
 import com.serbest.magazine.backend.service.MusicService;
-import com.serbest.magazine.backend.util.UploadImage;
+import com.serbest.magazine.backend.event.ContentChangedEvent;
+import com.serbest.magazine.backend.util.NdjsonStreamer;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -24,12 +27,17 @@ public class MusicServiceImpl implements MusicService {
 
     private final MusicRepository musicRepository;
     private final MasterpieceMapper masterpieceMapper;
-    private final ImageModelService imageModelService;
+    private final MediaLibraryService mediaLibraryService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final NdjsonStreamer ndjsonStreamer;
 
-    public MusicServiceImpl(MusicRepository musicRepository, MasterpieceMapper masterpieceMapper, ImageModelService imageModelService) {
+    public MusicServiceImpl(MusicRepository musicRepository, MasterpieceMapper masterpieceMapper, MediaLibraryService mediaLibraryService,
+                            ApplicationEventPublisher applicationEventPublisher, NdjsonStreamer ndjsonStreamer) {
         this.musicRepository = musicRepository;
         this.masterpieceMapper = masterpieceMapper;
-        this.imageModelService = imageModelService;
+        this.mediaLibraryService = mediaLibraryService;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.ndjsonStreamer = ndjsonStreamer;
     }
 
     @Override
@@ -37,8 +45,10 @@ public class MusicServiceImpl implements MusicService {
         Music music = null;
         try {
             music = masterpieceMapper.masterpieceRequestDTOToMusic(requestDTO);
+            music.setImage(mediaLibraryService.useImage(requestDTO.getImage(), requestDTO.getImageId()));
 
             Music savedMusic = musicRepository.save(music);
+            applicationEventPublisher.publishEvent(new ContentChangedEvent("music"));
 
             return new MessageResponseDTO(savedMusic.getTitle() + " adlı albüm başarıyla eklenmiştir.");
 
@@ -63,6 +73,12 @@ public class MusicServiceImpl implements MusicService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public StreamingResponseBody streamMasterpieces() {
+        return ndjsonStreamer.stream(musicRepository::streamAllByOrderByCreateDateTimeDesc,
+                masterpieceMapper::masterpieceToMasterpieceListResponseDTO);
+    }
+
     @Override
     public MasterpieceResponseDTO getMasterpieceById(String id) {
         Music music = musicRepository.findById(UUID.fromString(id)).orElseThrow(
@@ -80,8 +96,9 @@ public class MusicServiceImpl implements MusicService {
         );
 
         try {
-            if (!requestDTO.getImageProtect()) {
-                music.setImage(UploadImage.uploadImage(requestDTO.getImage()));
+            if (requestDTO.getImageId() != null || Boolean.FALSE.equals(requestDTO.getImageProtect())) {
+                music.setImage(mediaLibraryService.replaceImage(music.getImage(), requestDTO.getImage(),
+                        requestDTO.getImageId()));
             }
             music.setTitle(requestDTO.getTitle());
             music.setOwner(requestDTO.getOwner());
@@ -90,7 +107,10 @@ public class MusicServiceImpl implements MusicService {
             music.setShowLink2(requestDTO.getShowLink2());
             music.setMarketLink(requestDTO.getMarketLink());
 
-            return masterpieceMapper.masterpieceToMasterpieceResponseDTO(musicRepository.save(music));
+            Music savedMusic = musicRepository.save(music);
+            applicationEventPublisher.publishEvent(new ContentChangedEvent("music"));
+
+            return masterpieceMapper.masterpieceToMasterpieceResponseDTO(savedMusic);
 
         } catch (Exception e) {
             throw new CustomApplicationException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
@@ -7,12 +7,15 @@ import com.serbest.magazine.backend.entity.Picture;
 import com.serbest.magazine.backend.exception.CustomApplicationException;
 import com.serbest.magazine.backend.exception.ResourceNotFoundException;
 import com.serbest.magazine.backend.repository.PictureRepository;
-import com.serbest.magazine.backend.service.ImageModelService;
+import com.serbest.magazine.backend.service.MediaLibraryService;
 import com.serbest.magazine.backend.service.PictureService;
-import com.serbest.magazine.backend.util.UploadImage;
+import com.serbest.magazine.backend.event.ContentChangedEvent;
+import com.serbest.magazine.backend.util.NdjsonStreamer;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -23,12 +26,17 @@ public class PictureServiceImpl implements PictureService {
 
     private final PictureRepository pictureRepository;
     private final MasterpieceMapper masterpieceMapper;
-    private final ImageModelService imageModelService;
+    private final MediaLibraryService mediaLibraryService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final NdjsonStreamer ndjsonStreamer;
 
-    public PictureServiceImpl(PictureRepository pictureRepository, MasterpieceMapper masterpieceMapper, ImageModelService imageModelService) {
+    public PictureServiceImpl(PictureRepository pictureRepository, MasterpieceMapper masterpieceMapper, MediaLibraryService mediaLibraryService,
+                            ApplicationEventPublisher applicationEventPublisher, NdjsonStreamer ndjsonStreamer) {
         this.pictureRepository = pictureRepository;
         this.masterpieceMapper = masterpieceMapper;
-        this.imageModelService = imageModelService;
+        this.mediaLibraryService = mediaLibraryService;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.ndjsonStreamer = ndjsonStreamer;
     }
 
     @Override
@@ -38,8 +46,10 @@ public class PictureServiceImpl implements PictureService {
         try {
 
             picture = masterpieceMapper.masterpieceRequestDTOToPicture(requestDTO);
+            picture.setImage(mediaLibraryService.useImage(requestDTO.getImage(), requestDTO.getImageId()));
 
             Picture savedPicture = pictureRepository.save(picture);
+            applicationEventPublisher.publishEvent(new ContentChangedEvent("picture"));
 
             return new MessageResponseDTO(savedPicture.getTitle() + " adlı resim başarıyla eklenmiştir.");
 
@@ -72,6 +82,12 @@ public class PictureServiceImpl implements PictureService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public StreamingResponseBody streamMasterpieces() {
+        return ndjsonStreamer.stream(pictureRepository::streamAllByOrderByCreateDateTimeDesc,
+                masterpieceMapper::masterpieceToMasterpieceListResponseDTO);
+    }
+
     @Override
     public MasterpieceResponseDTO updateMasterpiece(String id, MasterpieceUpdateRequestDTO requestDTO) {
 
@@ -80,8 +96,9 @@ public class PictureServiceImpl implements PictureService {
         );
 
         try {
-            if (!requestDTO.getImageProtect()) {
-                picture.setImage(UploadImage.uploadImage(requestDTO.getImage()));
+            if (requestDTO.getImageId() != null || Boolean.FALSE.equals(requestDTO.getImageProtect())) {
+                picture.setImage(mediaLibraryService.replaceImage(picture.getImage(), requestDTO.getImage(),
+                        requestDTO.getImageId()));
             }
             picture.setTitle(requestDTO.getTitle());
             picture.setOwner(requestDTO.getOwner());
@@ -90,7 +107,10 @@ public class PictureServiceImpl implements PictureService {
             picture.setShowLink2(requestDTO.getShowLink2());
             picture.setMarketLink(requestDTO.getMarketLink());
 
-            return masterpieceMapper.masterpieceToMasterpieceResponseDTO(pictureRepository.save(picture));
+            Picture savedPicture = pictureRepository.save(picture);
+            applicationEventPublisher.publishEvent(new ContentChangedEvent("picture"));
+
+            return masterpieceMapper.masterpieceToMasterpieceResponseDTO(savedPicture);
 
         } catch (Exception e) {
             throw new CustomApplicationException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
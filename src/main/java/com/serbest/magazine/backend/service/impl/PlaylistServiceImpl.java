@@ -14,8 +14,9 @@ import com.serbest.magazine.backend.repository.AuthorRepository;
 import com.serbest.magazine.backend.repository.PlaylistRepository;
 import com.serbest.magazine.backend.repository.PostRepository;
 import com.serbest.magazine.backend.security.CheckAuthorization;
+import com.serbest.magazine.backend.service.ImageModelService;
+import com.serbest.magazine.backend.service.MediaLibraryService;
 import com.serbest.magazine.backend.service.PlaylistService;
-import com.serbest.magazine.backend.util.UploadImage;
 import io.jsonwebtoken.lang.Assert;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.context.SecurityContext;
@@ -37,13 +38,20 @@ public class PlaylistServiceImpl implements PlaylistService {
     private final PlaylistMapper playlistMapper;
     private final AuthorRepository authorRepository;
     private final PostRepository postRepository;
+    private final ImageModelService imageModelService;
+    private final MediaLibraryService mediaLibraryService;
 
-    public PlaylistServiceImpl(CheckAuthorization checkAuthorization, PlaylistRepository playlistRepository, PlaylistMapper playlistMapper, AuthorRepository authorRepository, PostRepository postRepository) {
+    public PlaylistServiceImpl(CheckAuthorization checkAuthorization, PlaylistRepository playlistRepository,
+                               PlaylistMapper playlistMapper, AuthorRepository authorRepository,
+                               PostRepository postRepository, ImageModelService imageModelService,
+                               MediaLibraryService mediaLibraryService) {
         this.checkAuthorization = checkAuthorization;
         this.playlistRepository = playlistRepository;
         this.playlistMapper = playlistMapper;
         this.authorRepository = authorRepository;
         this.postRepository = postRepository;
+        this.imageModelService = imageModelService;
+        this.mediaLibraryService = mediaLibraryService;
     }
 
     @Override
@@ -62,6 +70,7 @@ public class PlaylistServiceImpl implements PlaylistService {
         );
 
         Playlist playlist = playlistMapper.playlistRequestDTOToPlaylist(requestDTO);
+        playlist.setPlaylistImage(mediaLibraryService.useImage(requestDTO.getPlaylistImage(), requestDTO.getImageId()));
         playlist.setAuthor(user);
 
         Playlist newPlaylist = playlistRepository.save(playlist);
@@ -94,8 +103,9 @@ public class PlaylistServiceImpl implements PlaylistService {
 
         playlist.setTitle(requestDTO.getTitle());
         playlist.setDescription(requestDTO.getDescription());
-        if (!requestDTO.getImageProtect()) {
-            playlist.setPlaylistImage(UploadImage.uploadImage(requestDTO.getPlaylistImage()));
+        if (requestDTO.getImageId() != null || Boolean.FALSE.equals(requestDTO.getImageProtect())) {
+            playlist.setPlaylistImage(mediaLibraryService.replaceImage(playlist.getPlaylistImage(),
+                    requestDTO.getPlaylistImage(), requestDTO.getImageId()));
         }
 
         return playlistMapper.playlistToPlaylistResponseDTO(playlistRepository.save(playlist));
@@ -138,6 +148,7 @@ public class PlaylistServiceImpl implements PlaylistService {
         }
 
         playlistRepository.deleteById(UUID.fromString(playlistID));
+        imageModelService.releaseImage(playlist.getPlaylistImage());
 
         return new MessageResponseDTO(playlistID + " ID'li playlist başarıyla silinmiştir.");
     }
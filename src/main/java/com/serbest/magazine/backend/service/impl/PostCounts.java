@@ -0,0 +1,141 @@
+package com.serbest.magazine.backend.service.impl;
+
+import com.serbest.magazine.backend.entity.Post;
+import com.serbest.magazine.backend.repository.CategoryRepository;
+import com.serbest.magazine.backend.repository.SubCategoryRepository;
+import com.serbest.magazine.backend.repository.projection.PostCount;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Active post counts of every category and sub category, by id, kept in memory. Post writes move a post between
+ * counters; the counts are loaded on first use and reconciled with the database on a schedule, which also corrects a
+ * change that raced the previous reconciliation. A category or sub category without a counter has no posts.
+ */
+@Component
+public class PostCounts {
+
+    private final CategoryRepository categoryRepository;
+    private final SubCategoryRepository subCategoryRepository;
+
+    private final Object lock = new Object();
+    private volatile ConcurrentMap<UUID, LongAdder> categories;
+    private volatile ConcurrentMap<UUID, LongAdder> subCategories;
+
+    /**
+     * Where an active post is counted; {@code null} for a post that is not counted.
+     */
+    public record Placement(UUID category, UUID subCategory) {
+
+        public static Placement of(Post post) {
+            if (post == null || !Boolean.TRUE.equals(post.getActive())) {
+                return null;
+            }
+            // Ids only, so references to categories that are not loaded stay that way.
+            return new Placement(post.getCategory() == null ? null : post.getCategory().getId(),
+                    post.getSubCategory() == null ? null : post.getSubCategory().getId());
+        }
+    }
+
+    public PostCounts(CategoryRepository categoryRepository, SubCategoryRepository subCategoryRepository) {
+        this.categoryRepository = categoryRepository;
+        this.subCategoryRepository = subCategoryRepository;
+    }
+
+    /**
+     * Moves a post from where it was counted before a write to where it is counted after it.
+     */
+    public void moved(Placement before, Placement after) {
+        if (Objects.equals(before, after) || categories == null) {
+            return;
+        }
+        if (before != null) {
+            add(before, -1);
+        }
+        if (after != null) {
+            add(after, 1);
+        }
+    }
+
+    public long category(UUID id) {
+        return sum(categories().get(id));
+    }
+
+    public long subCategory(UUID id) {
+        return sum(subCategories().get(id));
+    }
+
+    /**
+     * Replaces loaded counts with those in the database. Counts that are not loaded yet are read on first use anyway.
+     */
+    @Scheduled(fixedDelayString = "${magazine.posts.counts.reconcileInterval:PT15M}",
+            initialDelayString = "${magazine.posts.counts.reconcileInterval:PT15M}")
+    public void reconcile() {
+        if (categories != null) {
+            synchronized (lock) {
+                read();
+            }
+        }
+    }
+
+    private void add(Placement placement, int delta) {
+        if (placement.category() != null) {
+            counter(categories, placement.category()).add(delta);
+        }
+        if (placement.subCategory() != null) {
+            counter(subCategories, placement.subCategory()).add(delta);
+        }
+    }
+
+    private ConcurrentMap<UUID, LongAdder> categories() {
+        load();
+        return categories;
+    }
+
+    private ConcurrentMap<UUID, LongAdder> subCategories() {
+        load();
+        return subCategories;
+    }
+
+    private void load() {
+        if (categories == null) {
+            synchronized (lock) {
+                if (categories == null) {
+                    read();
+                }
+            }
+        }
+    }
+
+    /**
+     * Includes categories and sub categories without posts. Sub categories are published first, since loaded
+     * categories mark both as loaded.
+     */
+    private void read() {
+        ConcurrentMap<UUID, LongAdder> categoryCounters = counters(categoryRepository.findCategoryPostCounts());
+        subCategories = counters(subCategoryRepository.findSubCategoryPostCounts());
+        categories = categoryCounters;
+    }
+
+    private static LongAdder counter(ConcurrentMap<UUID, LongAdder> counters, UUID id) {
+        return counters.computeIfAbsent(id, ignored -> new LongAdder());
+    }
+
+    private static ConcurrentMap<UUID, LongAdder> counters(Iterable<PostCount> rows) {
+        ConcurrentMap<UUID, LongAdder> counters = new ConcurrentHashMap<>();
+        for (PostCount row : rows) {
+            counter(counters, row.id()).add(row.posts());
+        }
+        return counters;
+    }
+
+    private static long sum(LongAdder count) {
+        return count == null ? 0 : count.sum();
+    }
+}
@@ -1,19 +1,33 @@
 package com.serbest.magazine.backend.service.impl;
 
+import com.serbest.magazine.backend.cache.PostDetailCache;
 import com.serbest.magazine.backend.common.validation.StringValidationCommon;
 import com.serbest.magazine.backend.dto.general.MessageResponseDTO;
 import com.serbest.magazine.backend.entity.*;
 import com.serbest.magazine.backend.repository.*;
+import com.serbest.magazine.backend.repository.projection.PostCardView;
+import com.serbest.magazine.backend.repository.projection.PostField;
+import com.serbest.magazine.backend.repository.projection.PostView;
 import com.serbest.magazine.backend.service.ImageModelService;
+import com.serbest.magazine.backend.service.MediaLibraryService;
 import com.serbest.magazine.backend.service.PostService;
+import com.serbest.magazine.backend.service.TaxonomyService;
 import com.serbest.magazine.backend.dto.post.*;
 import com.serbest.magazine.backend.exception.CustomApplicationException;
 import com.serbest.magazine.backend.exception.ResourceNotFoundException;
 import com.serbest.magazine.backend.mapper.PostMapper;
+import com.serbest.magazine.backend.search.PostSearchIndex;
+import com.serbest.magazine.backend.search.SuggestionIndex;
+import com.serbest.magazine.backend.search.SuggestionType;
 import com.serbest.magazine.backend.security.CheckAuthorization;
-import com.serbest.magazine.backend.util.UploadImage;
+import com.serbest.magazine.backend.util.FeedCursor;
+import com.serbest.magazine.backend.util.NdjsonStreamer;
+import com.serbest.magazine.backend.util.PostTextMetadata;
+import com.serbest.magazine.backend.event.ContentChangedEvent;
 
 import io.jsonwebtoken.lang.Assert;
+import jakarta.persistence.Tuple;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -21,15 +35,20 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 
 import java.io.IOException;
 import java.nio.file.*;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class PostServiceImpl implements PostService {
+    private static final int SEARCH_POSTS_LIMIT = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CheckAuthorization checkAuthorization;
     private final CategoryRepository categoryRepository;
     private final SubCategoryRepository subCategoryRepository;
@@ -38,11 +57,24 @@ public class PostServiceImpl implements PostService {
     private final AuthorRepository userRepository;
     private final PlaylistRepository playlistRepository;
     private final ImageModelService imageModelService;
+    private final MediaLibraryService mediaLibraryService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ActivePostSampler activePostSampler;
+    private final PostSearchIndex postSearchIndex;
+    private final SuggestionIndex suggestionIndex;
+    private final PostDetailCache postDetailCache;
+    private final PostCounts postCounts;
+    private final TaxonomyService taxonomyService;
+    private final NdjsonStreamer ndjsonStreamer;
 
     public PostServiceImpl(CheckAuthorization checkAuthorization, CategoryRepository categoryRepository,
                            SubCategoryRepository subCategoryRepository, PostRepository postRepository,
                            PostMapper postMapper, AuthorRepository userRepository, PlaylistRepository playlistRepository,
-                           ImageModelService imageModelService) {
+                           ImageModelService imageModelService, MediaLibraryService mediaLibraryService,
+                           ApplicationEventPublisher applicationEventPublisher,
+                           ActivePostSampler activePostSampler, PostSearchIndex postSearchIndex,
+                           SuggestionIndex suggestionIndex, PostDetailCache postDetailCache,
+                           PostCounts postCounts, TaxonomyService taxonomyService, NdjsonStreamer ndjsonStreamer) {
         this.checkAuthorization = checkAuthorization;
         this.categoryRepository = categoryRepository;
         this.subCategoryRepository = subCategoryRepository;
@@ -51,6 +83,15 @@ public class PostServiceImpl implements PostService {
         this.userRepository = userRepository;
         this.playlistRepository = playlistRepository;
         this.imageModelService = imageModelService;
+        this.mediaLibraryService = mediaLibraryService;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.activePostSampler = activePostSampler;
+        this.postSearchIndex = postSearchIndex;
+        this.suggestionIndex = suggestionIndex;
+        this.postDetailCache = postDetailCache;
+        this.postCounts = postCounts;
+        this.taxonomyService = taxonomyService;
+        this.ndjsonStreamer = ndjsonStreamer;
     }
 
     @Override
@@ -69,33 +110,26 @@ public class PostServiceImpl implements PostService {
                 () -> new ResourceNotFoundException("Author", "emailOrUsername", usernameOrEmail)
         );
 
-        Category category = categoryRepository.findByName(requestDTO.getCategory()).orElseThrow(
-                () -> new ResourceNotFoundException("Category", "name", requestDTO.getCategory())
-        );
-
-        SubCategory subCategory = subCategoryRepository.findByName(requestDTO.getSubCategory()).orElseThrow(
-                () -> new ResourceNotFoundException("Sub-Category", "name", requestDTO.getSubCategory())
-        );
+        TaxonomyService.SubCategoryNode subCategory = classify(requestDTO.getCategory(), requestDTO.getSubCategory());
 
         if (!user.isEnabled()) {
             throw new CustomApplicationException(HttpStatus.BAD_REQUEST,
                     "Hesabınız aktive edilmemiştir.");
         }
 
-        if (!category.getName().equals(subCategory.getCategory().getName())) {
-            throw new CustomApplicationException(HttpStatus.BAD_REQUEST,
-                    "The Sub-Category is not belong to selected category.");
-        }
-
         Post post = null;
 
         try {
             post = postMapper.postRequestDTOToPost(requestDTO);
+            post.setPostImage(mediaLibraryService.useImage(requestDTO.getImage(), requestDTO.getImageId()));
             post.setAuthor(user);
-            post.setCategory(category);
-            post.setSubCategory(subCategory);
+            classify(post, subCategory);
+            deriveText(post);
 
-            return postMapper.postToPostCreateResponseDTO(postRepository.save(post));
+            Post savedPost = postRepository.save(post);
+            postChanged(null, savedPost);
+            applicationEventPublisher.publishEvent(new ContentChangedEvent("post"));
+            return postMapper.postToPostCreateResponseDTO(savedPost);
         } catch (IOException e) {
             throw new CustomApplicationException(HttpStatus.BAD_REQUEST, e.getMessage());
         }
@@ -115,32 +149,25 @@ public class PostServiceImpl implements PostService {
                 () -> new ResourceNotFoundException("Author", "username", requestDTO.getAuthor())
         );
 
-        Category category = categoryRepository.findByName(requestDTO.getCategory()).orElseThrow(
-                () -> new ResourceNotFoundException("Category", "name", requestDTO.getCategory())
-        );
-
-        SubCategory subCategory = subCategoryRepository.findByName(requestDTO.getSubCategory()).orElseThrow(
-                () -> new ResourceNotFoundException("Sub-Category", "name", requestDTO.getSubCategory())
-        );
+        TaxonomyService.SubCategoryNode subCategory = classify(requestDTO.getCategory(), requestDTO.getSubCategory());
 
         if (!user.isEnabled()) {
             throw new CustomApplicationException(HttpStatus.BAD_REQUEST,
                     "Hesabınız aktive edilmemiştir.");
         }
 
-        if (!category.getName().equals(subCategory.getCategory().getName())) {
-            throw new CustomApplicationException(HttpStatus.BAD_REQUEST,
-                    "The Sub-Category is not belong to selected category.");
-        }
-
         Post post = null;
         try {
             post = postMapper.postCreateEditorRequestDTOToPost(requestDTO);
+            post.setPostImage(mediaLibraryService.useImage(requestDTO.getImage(), requestDTO.getImageId()));
             post.setAuthor(user);
-            post.setCategory(category);
-            post.setSubCategory(subCategory);
+            classify(post, subCategory);
+            deriveText(post);
 
-            return postMapper.postToPostCreateResponseDTO(postRepository.save(post));
+            Post savedPost = postRepository.save(post);
+            postChanged(null, savedPost);
+            applicationEventPublisher.publishEvent(new ContentChangedEvent("post"));
+            return postMapper.postToPostCreateResponseDTO(savedPost);
         } catch (IOException e) {
             throw new CustomApplicationException(HttpStatus.BAD_REQUEST, e.getMessage());
         }
@@ -151,10 +178,25 @@ public class PostServiceImpl implements PostService {
 
         Pageable paging = PageRequest.of(page, size);
 
-        Page<Post> posts = postRepository.findByActiveTrueOrderByCreateDateTimeDesc(paging);
+        Page<PostView> posts = postRepository.findActivePostViews(paging);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("posts", posts.getContent().stream().map(postMapper::postViewToPostListItemDTO).collect(Collectors.toList()));
+        response.put("currentPage", posts.getNumber());
+        response.put("totalItems", posts.getTotalElements());
+        response.put("totalPages", posts.getTotalPages());
+
+        return response;
+    }
+
+    @Override
+    public Map<String, Object> getAllPosts(Integer page, Integer size, String fields) {
+        Set<PostField> picked = PostField.parse(fields);
+        Page<Tuple> posts = postRepository.findActivePostFields(picked, PageRequest.of(page, size));
 
         Map<String, Object> response = new HashMap<>();
-        response.put("posts", posts.getContent().stream().map(postMapper::postToPostResponseDTO).collect(Collectors.toList()));
+        response.put("posts", posts.getContent().stream()
+                .map(post -> postMapper.postFieldsToMap(post, picked)).collect(Collectors.toList()));
         response.put("currentPage", posts.getNumber());
         response.put("totalItems", posts.getTotalElements());
         response.put("totalPages", posts.getTotalPages());
@@ -164,39 +206,42 @@ public class PostServiceImpl implements PostService {
 
     @Override
     public List<FirstFivePostsListDTO> getFirstFivePosts() {
-        List<Post> posts = postRepository.findFirstFiveActiveTrueByCreateDateTime();
+        List<PostCardView> posts = postRepository.findFirstFiveActivePostCards();
 
         return posts
                 .stream()
-                .map(postMapper::postToFirstFivePostsListDTO)
+                .map(postMapper::postCardViewToFirstFivePostsListDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<MainPagePostsListDTO> getFourPostsForTop() {
-        List<Post> posts = postRepository.findFourPostsActiveTrueByCreateDateTime();
+        List<PostCardView> posts = postRepository.findFourActivePostCardsForTop();
 
         return posts
                 .stream()
-                .map(postMapper::postToMainPagePostsListDTO)
+                .map(postMapper::postCardViewToMainPagePostsListDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<MainPagePostsListDTO> getPostsForMainPage() {
-        List<Post> posts = postRepository.findFifteenActiveTrueByCreateDateTimeOffset5();
+        List<PostCardView> posts = postRepository.findActivePostCardsForMainPage();
 
         return posts
                 .stream()
-                .map(postMapper::postToMainPagePostsListDTO)
+                .map(postMapper::postCardViewToMainPagePostsListDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<DeactivatedPostApiResponseDTO> getDeactivatedPost() {
-        List<Post> posts = postRepository.findByActiveFalseOrderByCreateDateTimeDesc();
+        return postRepository.findDeactivatedPosts();
+    }
 
-        return posts.stream().map(postMapper::postToDeactivatedPostApiResponseDTO).collect(Collectors.toList());
+    @Override
+    public StreamingResponseBody streamDeactivatedPosts() {
+        return ndjsonStreamer.stream(postRepository::streamDeactivatedPosts, Function.identity());
     }
 
     @Override
@@ -208,13 +253,27 @@ public class PostServiceImpl implements PostService {
         return postMapper.postToPostResponseDTO(post);
     }
 
+    @Override
+    public Map<String, Object> findById(String id, String fields) {
+        Set<PostField> picked = PostField.parse(fields);
+        Tuple post = postRepository.findPostFieldsById(UUID.fromString(id), picked).orElseThrow(
+                () -> new ResourceNotFoundException("Post", "id", id)
+        );
+
+        return postMapper.postFieldsToMap(post, picked);
+    }
+
     @Override
     public PostResponseDTO deactivatePost(String id) throws AccessDeniedException {
         Post post = getPost(id);
+        PostCounts.Placement before = PostCounts.Placement.of(post);
         post.setActive(false);
 
         try {
-            return postMapper.postToPostResponseDTO(postRepository.save(post));
+            Post savedPost = postRepository.save(post);
+            postChanged(before, savedPost);
+            applicationEventPublisher.publishEvent(new ContentChangedEvent("post"));
+            return postMapper.postToPostResponseDTO(savedPost);
         } catch (Exception e) {
             throw new CustomApplicationException(HttpStatus.BAD_REQUEST, e.getMessage());
         }
@@ -225,10 +284,14 @@ public class PostServiceImpl implements PostService {
         Post post = postRepository.findById(UUID.fromString(id)).orElseThrow(
                 () -> new ResourceNotFoundException("Post", "id", id)
         );
+        PostCounts.Placement before = PostCounts.Placement.of(post);
         post.setActive(true);
 
         try {
-            return postMapper.postToPostResponseDTO(postRepository.save(post));
+            Post savedPost = postRepository.save(post);
+            postChanged(before, savedPost);
+            applicationEventPublisher.publishEvent(new ContentChangedEvent("post"));
+            return postMapper.postToPostResponseDTO(savedPost);
         } catch (Exception e) {
             throw new CustomApplicationException(HttpStatus.BAD_REQUEST, e.getMessage());
         }
@@ -244,30 +307,24 @@ public class PostServiceImpl implements PostService {
         StringValidationCommon.common_validateStringLength(1, 60, requestDTO.getTitle());
 
         Post post = getPost(id);
+        PostCounts.Placement before = PostCounts.Placement.of(post);
 
-        Category category = categoryRepository.findByName(requestDTO.getCategory()).orElseThrow(
-                () -> new ResourceNotFoundException("Category", "name", requestDTO.getCategory())
-        );
-
-        SubCategory subCategory = subCategoryRepository.findByName(requestDTO.getSubCategory()).orElseThrow(
-                () -> new ResourceNotFoundException("Sub-Category", "name", requestDTO.getSubCategory())
-        );
-
-        if (!category.getName().equals(subCategory.getCategory().getName())) {
-            throw new CustomApplicationException(HttpStatus.BAD_REQUEST,
-                    "The Sub-Category is not belong to selected category.");
-        }
+        TaxonomyService.SubCategoryNode subCategory = classify(requestDTO.getCategory(), requestDTO.getSubCategory());
 
         try {
-            if (!requestDTO.getImageProtect()) {
-                post.setPostImage(UploadImage.uploadImage(requestDTO.getImage()));
+            if (requestDTO.getImageId() != null || Boolean.FALSE.equals(requestDTO.getImageProtect())) {
+                post.setPostImage(mediaLibraryService.replaceImage(post.getPostImage(), requestDTO.getImage(),
+                        requestDTO.getImageId()));
             }
-            post.setCategory(category);
-            post.setSubCategory(subCategory);
+            classify(post, subCategory);
             post.setTitle(requestDTO.getTitle());
             post.setSubtitle(requestDTO.getSubtitle());
             post.setContent(requestDTO.getContent());
-            return postMapper.postToPostResponseDTO(postRepository.save(post));
+            deriveText(post);
+            Post savedPost = postRepository.save(post);
+            postChanged(before, savedPost);
+            applicationEventPublisher.publishEvent(new ContentChangedEvent("post"));
+            return postMapper.postToPostResponseDTO(savedPost);
         } catch (Exception e) {
             throw new CustomApplicationException(HttpStatus.BAD_REQUEST, e.getMessage());
         }
@@ -280,6 +337,10 @@ public class PostServiceImpl implements PostService {
         );
 
         postRepository.deleteById(post.getPostId());
+        imageModelService.releaseImage(post.getPostImage());
+        postCounts.moved(PostCounts.Placement.of(post), null);
+        postRemoved(post.getPostId());
+        applicationEventPublisher.publishEvent(new ContentChangedEvent("post"));
 
         return new MessageResponseDTO(post.getTitle() + " başlıklı postunuz başırılı bir şekilde silinmiştir.");
     }
@@ -296,57 +357,64 @@ public class PostServiceImpl implements PostService {
         Post post = postRepository.findById(UUID.fromString(id)).orElseThrow(
                 () -> new ResourceNotFoundException("Post", "id", id)
         );
+        PostCounts.Placement before = PostCounts.Placement.of(post);
 
-        Category category = categoryRepository.findByName(requestDTO.getCategory()).orElseThrow(
-                () -> new ResourceNotFoundException("Category", "name", requestDTO.getCategory())
-        );
-
-        SubCategory subCategory = subCategoryRepository.findByName(requestDTO.getSubCategory()).orElseThrow(
-                () -> new ResourceNotFoundException("Sub-Category", "name", requestDTO.getSubCategory())
-        );
-
-        if (!category.getName().equals(subCategory.getCategory().getName())) {
-            throw new CustomApplicationException(HttpStatus.BAD_REQUEST,
-                    "The Sub-Category is not belong to selected category.");
-        }
+        TaxonomyService.SubCategoryNode subCategory = classify(requestDTO.getCategory(), requestDTO.getSubCategory());
 
         try {
-            if (!requestDTO.getImageProtect()) {
-                post.setPostImage(UploadImage.uploadImage(requestDTO.getImage()));
+            if (requestDTO.getImageId() != null || Boolean.FALSE.equals(requestDTO.getImageProtect())) {
+                post.setPostImage(mediaLibraryService.replaceImage(post.getPostImage(), requestDTO.getImage(),
+                        requestDTO.getImageId()));
             }
-            post.setCategory(category);
-            post.setSubCategory(subCategory);
+            classify(post, subCategory);
             post.setTitle(requestDTO.getTitle());
             post.setSubtitle(requestDTO.getSubtitle());
             post.setDescription(requestDTO.getDescription());
             post.setContent(requestDTO.getContent());
-            return postMapper.postToPostResponseDTO(postRepository.save(post));
+            deriveText(post);
+            Post savedPost = postRepository.save(post);
+            postChanged(before, savedPost);
+            applicationEventPublisher.publishEvent(new ContentChangedEvent("post"));
+            return postMapper.postToPostResponseDTO(savedPost);
         } catch (Exception e) {
             throw new CustomApplicationException(HttpStatus.BAD_REQUEST, e.getMessage());
         }
     }
 
     @Override
-    public List<PostResponseDTO> getRandomThreePost() {
-        List<Post> posts = postRepository.findThreeActiveTrueByRandom();
-        return posts
+    public List<PostListItemDTO> getRandomThreePost() {
+        List<UUID> postIds = activePostSampler.sample(3);
+        if (postIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<UUID, PostView> posts = postRepository.findActivePostViewsByIds(postIds)
                 .stream()
-                .map(postMapper::postToPostResponseDTO)
-                .collect(Collectors.toList());
+                .collect(Collectors.toMap(PostView::postId, post -> post));
+
+        List<PostListItemDTO> response = new ArrayList<>();
+        for (UUID postId : postIds) {
+            PostView post = posts.get(postId);
+            if (post == null) {
+                // Removed without going through this service, e.g. with its author.
+                postRemoved(postId);
+            } else {
+                response.add(postMapper.postViewToPostListItemDTO(post));
+            }
+        }
+        return response;
     }
 
     @Override
     public Map<String, Object> getPostsByCategory(String categoryName, Integer page, Integer size) {
-        categoryRepository.findByName(categoryName).orElseThrow(
-                () -> new ResourceNotFoundException("Category", "name", categoryName)
-        );
+        category(categoryName);
 
         Pageable paging = PageRequest.of(page, size);
 
-        Page<Post> posts = postRepository.findAllByCategoryNameAndActiveTrueOrderByCreateDateTimeDesc(categoryName, paging);
+        Page<PostView> posts = postRepository.findActivePostViewsByCategory(categoryName, paging);
 
         Map<String, Object> response = new HashMap<>();
-        response.put("posts", posts.getContent().stream().map(postMapper::postToPostResponseDTO).collect(Collectors.toList()));
+        response.put("posts", posts.getContent().stream().map(postMapper::postViewToPostListItemDTO).collect(Collectors.toList()));
         response.put("currentPage", posts.getNumber());
         response.put("totalItems", posts.getTotalElements());
         response.put("totalPages", posts.getTotalPages());
@@ -356,46 +424,90 @@ public class PostServiceImpl implements PostService {
 
     @Override
     public Map<String, Object> getPostsBySubCategory(String subCategoryId, Integer page, Integer size) {
-        SubCategory subCategory = subCategoryRepository.findById(UUID.fromString(subCategoryId)).orElseThrow(
-                () -> new ResourceNotFoundException("Sub Category", "id", subCategoryId)
-        );
+        TaxonomyService.SubCategoryNode subCategory = subCategory(subCategoryId);
 
         Pageable paging = PageRequest.of(page, size);
 
-        Page<Post> posts =
+        Page<PostView> posts =
                 postRepository
-                        .findAllBySubCategoryIdAndActiveTrueOrderByCreateDateTimeDesc(UUID.fromString(subCategoryId), paging);
+                        .findActivePostViewsBySubCategory(UUID.fromString(subCategoryId), paging);
         Map<String, Object> response = new HashMap<>();
-        response.put("posts", posts.getContent().stream().map(postMapper::postToPostResponseDTO).collect(Collectors.toList()));
+        response.put("posts", posts.getContent().stream().map(postMapper::postViewToPostListItemDTO).collect(Collectors.toList()));
         response.put("currentPage", posts.getNumber());
         response.put("totalItems", posts.getTotalElements());
         response.put("totalPages", posts.getTotalPages());
-        response.put("title", subCategory.getName());
+        response.put("title", subCategory.name());
 
         return response;
     }
 
     @Override
-    public List<PostResponseDTO> searchPosts(String keyword) {
-        return postRepository
-                .findByActiveTrueAndTitleContainingIgnoreCase(keyword)
+    public List<PostListItemDTO> searchPosts(String keyword) {
+        List<UUID> postIds = postSearchIndex.search(keyword, 0, SEARCH_POSTS_LIMIT).hits()
+                .stream()
+                .map(PostSearchIndex.Hit::postId)
+                .collect(Collectors.toList());
+        if (postIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<UUID, PostView> posts = postRepository.findActivePostViewsByIds(postIds)
                 .stream()
-                .map(postMapper::postToPostResponseDTO)
+                .collect(Collectors.toMap(PostView::postId, post -> post));
+
+        return postIds
+                .stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .map(postMapper::postViewToPostListItemDTO)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Map<String, Object> search(String query, Integer page, Integer size) {
+        if (page == null || page < 0) {
+            throw new CustomApplicationException(HttpStatus.BAD_REQUEST, "Provide a valid page , please.");
+        }
+
+        PostSearchIndex.SearchPage result = postSearchIndex.search(query, page, pageSize(size));
+
+        List<PostSearchResultDTO> posts = new ArrayList<>();
+        if (!result.hits().isEmpty()) {
+            Map<UUID, PostCardView> cards = postRepository.findActivePostCardsByIds(result.hits()
+                            .stream()
+                            .map(PostSearchIndex.Hit::postId)
+                            .collect(Collectors.toList()))
+                    .stream()
+                    .collect(Collectors.toMap(PostCardView::postId, post -> post));
+            for (PostSearchIndex.Hit hit : result.hits()) {
+                PostCardView card = cards.get(hit.postId());
+                if (card != null) {
+                    posts.add(postMapper.postCardViewToPostSearchResultDTO(card, hit));
+                }
+            }
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("posts", posts);
+        response.put("currentPage", page);
+        response.put("totalItems", result.totalItems());
+        response.put("totalPages", (int) ((result.totalItems() + size - 1) / size));
+
+        return response;
+    }
+
     @Override
     public Map<String, Object> findByUsername(String username, Integer page, Integer size) {
-        userRepository.findByUsername(username).orElseThrow(
-                () -> new ResourceNotFoundException("Author", "username", username)
-        );
+        if (!userRepository.existsByUsername(username)) {
+            throw new ResourceNotFoundException("Author", "username", username);
+        }
 
         Pageable paging = PageRequest.of(page, size);
 
-        Page<Post> posts = postRepository.findAllByAuthorUsernameAndActiveTrueOrderByCreateDateTimeDesc(username, paging);
+        Page<PostView> posts = postRepository.findActivePostViewsByAuthor(username, paging);
 
         Map<String, Object> response = new HashMap<>();
-        response.put("posts", posts.getContent().stream().map(postMapper::postToPostResponseDTO).collect(Collectors.toList()));
+        response.put("posts", posts.getContent().stream().map(postMapper::postViewToPostListItemDTO).collect(Collectors.toList()));
         response.put("currentPage", posts.getNumber());
         response.put("totalItems", posts.getTotalElements());
         response.put("totalPages", posts.getTotalPages());
@@ -405,57 +517,216 @@ public class PostServiceImpl implements PostService {
 
     @Override
     public List<AuthorsLastFivePosts> getLastFivePostsOfAuthor(String username) {
-        userRepository.findByUsername(username).orElseThrow(
-                () -> new ResourceNotFoundException("Author", "username", username)
-        );
+        if (!userRepository.existsByUsername(username)) {
+            throw new ResourceNotFoundException("Author", "username", username);
+        }
 
-        List<Post> posts = postRepository.findTop5ByAuthorUsernameAndActiveTrueOrderByCreateDateTimeDesc(username);
+        return postRepository.findLastFiveActivePostsOfAuthor(username);
+    }
+
+    @Override
+    public List<PlaylistPostListResponseDTO> getPostsByPlaylist(String playlistId) {
+        if (!playlistRepository.existsById(UUID.fromString(playlistId))) {
+            throw new ResourceNotFoundException("Playlist", "id", playlistId);
+        }
+
+        List<PostView> posts = postRepository.findPostViewsByPlaylist(UUID.fromString(playlistId));
 
         return posts
                 .stream()
-                .map(postMapper::postToAuthorsLastFivePosts)
+                .map(postMapper::postViewToPlaylistPostListResponseDTO)
                 .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<PostsOfAuthorForPlaylistResponseDTO> getPostsOfAuthorForPlaylist(String username, String playlistId) {
+        if (!playlistRepository.existsById(UUID.fromString(playlistId))) {
+            throw new ResourceNotFoundException("Playlist", "id", playlistId);
+        }
 
+        return postRepository.findActivePostsOfAuthorNotInPlaylist(username, UUID.fromString(playlistId));
     }
 
     @Override
-    public List<PlaylistPostListResponseDTO> getPostsByPlaylist(String playlistId) {
-        List<Playlist> playlists = new ArrayList<>();
+    public Integer countsByCategoryName(String categoryName) {
+        return (int) postCounts.category(category(categoryName).id());
+    }
 
-        Playlist playlist = playlistRepository.findById(UUID.fromString(playlistId)).orElseThrow(
-                () -> new ResourceNotFoundException("Playlist", "id", playlistId)
-        );
+    @Override
+    public PostCountsDTO getPostCounts() {
+        Map<String, Long> categories = new TreeMap<>();
+        Map<UUID, Long> subCategories = new TreeMap<>();
+        for (TaxonomyService.CategoryNode category : taxonomyService.getSnapshot().categories()) {
+            categories.put(category.name(), postCounts.category(category.id()));
+            for (TaxonomyService.SubCategoryNode subCategory : category.subCategories()) {
+                subCategories.put(subCategory.id(), postCounts.subCategory(subCategory.id()));
+            }
+        }
+        return new PostCountsDTO(categories, subCategories);
+    }
+
+    @Override
+    public Map<String, Object> getPostFeed(String cursor, Integer size, Boolean withTotal) {
+        FeedCursor after = FeedCursor.decode(cursor);
 
-        playlists.add(playlist);
+        Map<String, Object> response = feed(postRepository.findActivePostViewsAfter(
+                after.createDateTime(), after.postId(), feedPage(size)), size);
+        if (Boolean.TRUE.equals(withTotal)) {
+            response.put("totalItems", postRepository.countByActiveTrue());
+        }
 
-        List<Post> posts = postRepository.findByPlaylistsInOrderByCreateDateTimeDesc(playlists);
+        return response;
+    }
 
-        return posts
-                .stream()
-                .map(postMapper::postToPlaylistPostListResponseDTO)
-                .collect(Collectors.toList());
+    @Override
+    public Map<String, Object> getPostFeedByCategory(String categoryName, String cursor, Integer size,
+                                                     Boolean withTotal) {
+        FeedCursor after = FeedCursor.decode(cursor);
+        TaxonomyService.CategoryNode category = category(categoryName);
+
+        Map<String, Object> response = feed(postRepository.findActivePostViewsByCategoryAfter(
+                categoryName, after.createDateTime(), after.postId(), feedPage(size)), size);
+        if (Boolean.TRUE.equals(withTotal)) {
+            response.put("totalItems", postCounts.category(category.id()));
+        }
+
+        return response;
     }
 
     @Override
-    public List<PostsOfAuthorForPlaylistResponseDTO> getPostsOfAuthorForPlaylist(String username, String playlistId) {
-        Playlist playlist = playlistRepository.findById(UUID.fromString(playlistId)).orElseThrow(
-                () -> new ResourceNotFoundException("Playlist", "id", playlistId)
-        );
+    public Map<String, Object> getPostFeedBySubCategory(String subCategoryId, String cursor, Integer size,
+                                                        Boolean withTotal) {
+        FeedCursor after = FeedCursor.decode(cursor);
+        TaxonomyService.SubCategoryNode subCategory = subCategory(subCategoryId);
+
+        Map<String, Object> response = feed(postRepository.findActivePostViewsBySubCategoryAfter(
+                subCategory.id(), after.createDateTime(), after.postId(), feedPage(size)), size);
+        response.put("title", subCategory.name());
+        if (Boolean.TRUE.equals(withTotal)) {
+            response.put("totalItems", postCounts.subCategory(subCategory.id()));
+        }
 
-        return postRepository
-                .findAllByAuthorUsernameAndActiveTrueOrderByCreateDateTimeDesc(username)
-                .stream()
-                .filter(post -> !post.getPlaylists().contains(playlist))
-                .map(post -> new PostsOfAuthorForPlaylistResponseDTO(post.getPostId(), post.getTitle()))
-                .collect(Collectors.toList());
+        return response;
     }
 
     @Override
-    public Integer countsByCategoryName(String categoryName) {
-        categoryRepository.findByName(categoryName).orElseThrow(
+    public Map<String, Object> getPostFeedByUsername(String username, String cursor, Integer size,
+                                                     Boolean withTotal) {
+        FeedCursor after = FeedCursor.decode(cursor);
+        if (!userRepository.existsByUsername(username)) {
+            throw new ResourceNotFoundException("Author", "username", username);
+        }
+
+        Map<String, Object> response = feed(postRepository.findActivePostViewsByAuthorAfter(
+                username, after.createDateTime(), after.postId(), feedPage(size)), size);
+        if (Boolean.TRUE.equals(withTotal)) {
+            response.put("totalItems", postRepository.countByAuthorUsernameAndActiveTrue(username));
+        }
+
+        return response;
+    }
+
+    private static int pageSize(Integer size) {
+        if (size == null || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CustomApplicationException(HttpStatus.BAD_REQUEST,
+                    "Sayfa boyutu 1 ile " + MAX_PAGE_SIZE + " arasında olmalıdır.");
+        }
+        return size;
+    }
+
+    /**
+     * Asks for one row more than the page holds; its presence is what tells there is a next page.
+     */
+    private Pageable feedPage(Integer size) {
+        return PageRequest.of(0, pageSize(size) + 1);
+    }
+
+    private Map<String, Object> feed(List<PostView> rows, int size) {
+        List<PostView> posts = rows.size() > size ? rows.subList(0, size) : rows;
+        PostView last = posts.isEmpty() ? null : posts.get(posts.size() - 1);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("posts", posts.stream().map(postMapper::postViewToPostListItemDTO).collect(Collectors.toList()));
+        response.put("nextCursor", rows.size() > size
+                ? new FeedCursor(last.createDateTime(), last.postId()).encode()
+                : null);
+
+        return response;
+    }
+
+    private static void deriveText(Post post) {
+        PostTextMetadata text = PostTextMetadata.of(post.getContent());
+        post.setPlainText(text.plainText());
+        post.setExcerpt(text.excerpt());
+        post.setWordCount(text.wordCount());
+        post.setReadingTime(text.readingTime());
+    }
+
+    /**
+     * Checks the category and sub category of a post against the taxonomy snapshot instead of the database.
+     */
+    private TaxonomyService.SubCategoryNode classify(String categoryName, String subCategoryName) {
+        TaxonomyService.Snapshot taxonomy = taxonomyService.getSnapshot();
+        TaxonomyService.CategoryNode category = taxonomy.category(categoryName).orElseThrow(
                 () -> new ResourceNotFoundException("Category", "name", categoryName)
         );
-        return postRepository.countByCategoryNameAndActiveTrue(categoryName);
+        TaxonomyService.SubCategoryNode subCategory = taxonomy.subCategory(subCategoryName).orElseThrow(
+                () -> new ResourceNotFoundException("Sub-Category", "name", subCategoryName)
+        );
+
+        if (!category.id().equals(subCategory.categoryId())) {
+            throw new CustomApplicationException(HttpStatus.BAD_REQUEST,
+                    "The Sub-Category is not belong to selected category.");
+        }
+        return subCategory;
+    }
+
+    /**
+     * Sets references only; the category rows are read if and when something asks for more than their ids.
+     */
+    private void classify(Post post, TaxonomyService.SubCategoryNode subCategory) {
+        post.setCategory(categoryRepository.getReferenceById(subCategory.categoryId()));
+        post.setSubCategory(subCategoryRepository.getReferenceById(subCategory.id()));
+    }
+
+    private TaxonomyService.CategoryNode category(String categoryName) {
+        return taxonomyService.getSnapshot().category(categoryName).orElseThrow(
+                () -> new ResourceNotFoundException("Category", "name", categoryName)
+        );
+    }
+
+    private TaxonomyService.SubCategoryNode subCategory(String subCategoryId) {
+        return taxonomyService.getSnapshot().subCategory(UUID.fromString(subCategoryId)).orElseThrow(
+                () -> new ResourceNotFoundException("Sub Category", "id", subCategoryId)
+        );
+    }
+
+    /**
+     * Keeps the random post sampler, the search index, the suggestions and the post counts, which only hold active
+     * posts, in line with a saved post, and drops its cached JSON.
+     */
+    private void postChanged(PostCounts.Placement before, Post post) {
+        postCounts.moved(before, PostCounts.Placement.of(post));
+        postDetailCache.invalidate(post.getPostId());
+        if (Boolean.TRUE.equals(post.getActive())) {
+            activePostSampler.add(post.getPostId());
+            postSearchIndex.index(post.getPostId(), post.getTitle(), post.getSubtitle(), post.getDescription(),
+                    post.getPlainText());
+            suggestionIndex.put(SuggestionType.POST, post.getPostId(), post.getTitle(),
+                    post.getLikeCount() + post.getCommentCount());
+            if (post.getAuthor() != null) {
+                suggestionIndex.put(SuggestionType.AUTHOR, post.getAuthor().getId(), post.getAuthor().getUsername());
+            }
+        } else {
+            postRemoved(post.getPostId());
+        }
+    }
+
+    private void postRemoved(UUID postId) {
+        postDetailCache.invalidate(postId);
+        activePostSampler.remove(postId);
+        postSearchIndex.remove(postId);
+        suggestionIndex.remove(SuggestionType.POST, postId);
     }
 
     private Post getPost(String id) throws AccessDeniedException {
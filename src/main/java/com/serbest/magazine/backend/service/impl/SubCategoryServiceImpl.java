@@ -3,6 +3,7 @@ package com.serbest.magazine.backend.service.impl;
 import com.google.common.base.Strings;
 import com.serbest.magazine.backend.common.validation.StringValidationCommon;
 import com.serbest.magazine.backend.service.SubCategoryService;
+import com.serbest.magazine.backend.service.TaxonomyService;
 import com.serbest.magazine.backend.dto.general.MessageResponseDTO;
 import com.serbest.magazine.backend.dto.subcategory.SubCategoryActiveListResponseDTO;
 import com.serbest.magazine.backend.dto.subcategory.SubCategoryCreateRequestDTO;
@@ -14,6 +15,8 @@ import com.serbest.magazine.backend.exception.CustomApplicationException;
 import com.serbest.magazine.backend.exception.ResourceNotFoundException;
 import com.serbest.magazine.backend.repository.CategoryRepository;
 import com.serbest.magazine.backend.repository.SubCategoryRepository;
+import com.serbest.magazine.backend.search.SuggestionIndex;
+import com.serbest.magazine.backend.search.SuggestionType;
 import io.jsonwebtoken.lang.Assert;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -27,10 +30,15 @@ public class SubCategoryServiceImpl implements SubCategoryService {
 
     private final SubCategoryRepository subCategoryRepository;
     private final CategoryRepository categoryRepository;
+    private final SuggestionIndex suggestionIndex;
+    private final TaxonomyService taxonomyService;
 
-    public SubCategoryServiceImpl(SubCategoryRepository subCategoryRepository, CategoryRepository categoryRepository) {
+    public SubCategoryServiceImpl(SubCategoryRepository subCategoryRepository, CategoryRepository categoryRepository,
+                                  SuggestionIndex suggestionIndex, TaxonomyService taxonomyService) {
         this.subCategoryRepository = subCategoryRepository;
         this.categoryRepository = categoryRepository;
+        this.suggestionIndex = suggestionIndex;
+        this.taxonomyService = taxonomyService;
     }
 
     @Override
@@ -50,6 +58,8 @@ public class SubCategoryServiceImpl implements SubCategoryService {
 
             subCategoryNew.setActive(true);
             SubCategory subCategoryCreated = subCategoryRepository.save(subCategoryNew);
+            suggestionIndex.put(SuggestionType.SUB_CATEGORY, subCategoryCreated.getId(), subCategoryCreated.getName());
+            taxonomyService.refresh();
 
             return new MessageResponseDTO("New Sub Category named " + subCategoryCreated.getName() + " is created.");
 
@@ -63,17 +73,15 @@ public class SubCategoryServiceImpl implements SubCategoryService {
     public List<SubCategoryListResponseDTO> getAllSubCategoriesByCategoryName(String categoryName) {
         checkValidateAndSanitizeInput("Category Name", categoryName);
 
-        categoryRepository.findByName(categoryName).orElseThrow(
+        TaxonomyService.CategoryNode category = taxonomyService.getSnapshot().category(categoryName).orElseThrow(
                 () -> new ResourceNotFoundException("Category", "categoryName", categoryName));
 
-        List<SubCategory> subCategories = subCategoryRepository.findAllByCategoryName(categoryName);
-
-        return subCategories
+        return category.subCategories()
                 .stream()
                 .map(subCategory -> new SubCategoryListResponseDTO(
-                        subCategory.getId(),
-                        subCategory.getName(),
-                        subCategory.getActive()))
+                        subCategory.id(),
+                        subCategory.name(),
+                        subCategory.active()))
                 .collect(Collectors.toList());
     }
 
@@ -81,16 +89,15 @@ public class SubCategoryServiceImpl implements SubCategoryService {
     public List<SubCategoryActiveListResponseDTO> getAllActiveSubCategoriesByCategoryName(String categoryName) {
         checkValidateAndSanitizeInput("Category Name", categoryName);
 
-        categoryRepository.findByName(categoryName).orElseThrow(
+        TaxonomyService.CategoryNode category = taxonomyService.getSnapshot().category(categoryName).orElseThrow(
                 () -> new ResourceNotFoundException("Category", "categoryName", categoryName));
 
-        List<SubCategory> subCategories = subCategoryRepository.findAllByCategoryNameAndActiveTrue(categoryName);
-
-        return subCategories
+        return category.subCategories()
                 .stream()
+                .filter(TaxonomyService.SubCategoryNode::active)
                 .map(subCategory -> new SubCategoryActiveListResponseDTO(
-                        subCategory.getId(),
-                        subCategory.getName()))
+                        subCategory.id(),
+                        subCategory.name()))
                 .collect(Collectors.toList());
     }
 
@@ -118,6 +125,11 @@ public class SubCategoryServiceImpl implements SubCategoryService {
             subCategory.setCategory(category);
             subCategory.setName(subCategoryUpdateRequestDTO.getName());
             SubCategory updatedSubCategory = subCategoryRepository.save(subCategory);
+            if (Boolean.TRUE.equals(updatedSubCategory.getActive())) {
+                suggestionIndex.put(SuggestionType.SUB_CATEGORY, updatedSubCategory.getId(),
+                        updatedSubCategory.getName());
+            }
+            taxonomyService.refresh();
             return new MessageResponseDTO("The SubCategory with name " + oldName
                     + " updated with new name " + updatedSubCategory.getName() + " ,and new category become : " +
                     updatedSubCategory.getCategory().getName() + "."
@@ -142,6 +154,9 @@ public class SubCategoryServiceImpl implements SubCategoryService {
         try {
             subCategory.setActive(true);
             SubCategory activatedSubCategory = subCategoryRepository.save(subCategory);
+            suggestionIndex.put(SuggestionType.SUB_CATEGORY, activatedSubCategory.getId(),
+                    activatedSubCategory.getName());
+            taxonomyService.refresh();
             return new MessageResponseDTO("Sub Category named " + activatedSubCategory.getName() + " is activated.");
         } catch (Exception e) {
             throw new CustomApplicationException(HttpStatus.BAD_REQUEST, e.getMessage());
@@ -161,6 +176,8 @@ public class SubCategoryServiceImpl implements SubCategoryService {
         try {
             subCategory.setActive(false);
             SubCategory deActivatedSubCategory = subCategoryRepository.save(subCategory);
+            suggestionIndex.remove(SuggestionType.SUB_CATEGORY, deActivatedSubCategory.getId());
+            taxonomyService.refresh();
             return new MessageResponseDTO("Sub Category named " + deActivatedSubCategory.getName() + " is deactivated.");
         } catch (Exception e) {
             throw new CustomApplicationException(HttpStatus.BAD_REQUEST, e.getMessage());
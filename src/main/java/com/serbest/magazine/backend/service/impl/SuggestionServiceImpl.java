@@ -0,0 +1,33 @@
+package com.serbest.magazine.backend.service.impl;
+
+import com.serbest.magazine.backend.dto.suggest.SuggestionDTO;
+import com.serbest.magazine.backend.search.SuggestionIndex;
+import com.serbest.magazine.backend.service.SuggestionService;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class SuggestionServiceImpl implements SuggestionService {
+
+    private static final int MAX_LIMIT = 20;
+
+    private final SuggestionIndex suggestionIndex;
+
+    public SuggestionServiceImpl(SuggestionIndex suggestionIndex) {
+        this.suggestionIndex = suggestionIndex;
+    }
+
+    @Override
+    public List<SuggestionDTO> suggest(String query, Integer limit) {
+        if (limit == null || limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Provide a valid limit between 1 and " + MAX_LIMIT + " , please.");
+        }
+
+        return suggestionIndex.suggest(query, limit)
+                .stream()
+                .map(suggestion -> new SuggestionDTO(suggestion.type(), suggestion.id(), suggestion.label()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,134 @@
+package com.serbest.magazine.backend.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.serbest.magazine.backend.cache.ContentVersions;
+import com.serbest.magazine.backend.dto.category.TaxonomyCategoryDTO;
+import com.serbest.magazine.backend.dto.subcategory.SubCategoryActiveListResponseDTO;
+import com.serbest.magazine.backend.entity.Category;
+import com.serbest.magazine.backend.entity.SubCategory;
+import com.serbest.magazine.backend.exception.CustomApplicationException;
+import com.serbest.magazine.backend.repository.CategoryRepository;
+import com.serbest.magazine.backend.repository.SubCategoryRepository;
+import com.serbest.magazine.backend.service.TaxonomyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.text.Collator;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Serves the category tree from a snapshot read with two queries, instead of looking categories up on every menu
+ * render and post write. Category and sub category writes rebuild it before they return, so the next read sees
+ * them; the schedule picks up changes made elsewhere, e.g. by another instance.
+ */
+@Service
+public class TaxonomyServiceImpl implements TaxonomyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaxonomyServiceImpl.class);
+
+    private static final Locale TURKISH = Locale.forLanguageTag("tr-TR");
+
+    private final CategoryRepository categoryRepository;
+    private final SubCategoryRepository subCategoryRepository;
+    private final ObjectMapper objectMapper;
+    private final ContentVersions contentVersions;
+
+    private volatile Snapshot snapshot;
+
+    public TaxonomyServiceImpl(CategoryRepository categoryRepository, SubCategoryRepository subCategoryRepository,
+                               ObjectMapper objectMapper, ContentVersions contentVersions) {
+        this.categoryRepository = categoryRepository;
+        this.subCategoryRepository = subCategoryRepository;
+        this.objectMapper = objectMapper;
+        this.contentVersions = contentVersions;
+    }
+
+    @Override
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public synchronized void refresh() {
+        Comparator<String> byName = Collator.getInstance(TURKISH)::compare;
+
+        Map<UUID, List<SubCategoryNode>> subCategories = subCategoryRepository.findAllWithCategory()
+                .stream()
+                .map(TaxonomyServiceImpl::node)
+                .sorted(Comparator.comparing(SubCategoryNode::name, byName))
+                .collect(Collectors.groupingBy(SubCategoryNode::categoryId));
+
+        List<CategoryNode> categories = categoryRepository.findAll()
+                .stream()
+                .map(category -> node(category, subCategories.getOrDefault(category.getId(), List.of())))
+                .sorted(Comparator.comparing(CategoryNode::name, byName))
+                .collect(Collectors.toList());
+
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(menu(categories));
+            if (snapshot == null || !snapshot.categories().equals(categories)) {
+                contentVersions.changed(ContentVersions.Scope.CATEGORIES);
+            }
+            snapshot = Snapshot.of(categories, body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new CustomApplicationException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${magazine.taxonomy.refreshInterval:PT10M}",
+            initialDelayString = "${magazine.taxonomy.refreshInterval:PT10M}")
+    public void scheduledRefresh() {
+        if (snapshot == null) {
+            // Read on first use anyway.
+            return;
+        }
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            // The previous snapshot keeps being served.
+            logger.warn("Taxonomy snapshot could not be rebuilt: {}", e.getMessage());
+        }
+    }
+
+    private static List<TaxonomyCategoryDTO> menu(List<CategoryNode> categories) {
+        return categories.stream()
+                .filter(CategoryNode::active)
+                .map(category -> new TaxonomyCategoryDTO(category.id(), category.name(),
+                        category.subCategories()
+                                .stream()
+                                .filter(SubCategoryNode::active)
+                                .map(subCategory -> new SubCategoryActiveListResponseDTO(subCategory.id(),
+                                        subCategory.name()))
+                                .collect(Collectors.toList())))
+                .collect(Collectors.toList());
+    }
+
+    private static CategoryNode node(Category category, List<SubCategoryNode> subCategories) {
+        return new CategoryNode(category.getId(), category.getName(), Boolean.TRUE.equals(category.getActive()),
+                List.copyOf(subCategories));
+    }
+
+    private static SubCategoryNode node(SubCategory subCategory) {
+        return new SubCategoryNode(subCategory.getId(), subCategory.getName(),
+                Boolean.TRUE.equals(subCategory.getActive()), subCategory.getCategory().getId());
+    }
+}
@@ -0,0 +1,115 @@
+package com.serbest.magazine.backend.storage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.serbest.magazine.backend.entity.ImageModel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the metadata and bytes of frequently requested images in memory. Metadata is cached per image id, bytes
+ * per storage key in direct buffers outside the Java heap, bounded by a byte budget. Both caches use Caffeine's
+ * frequency-aware W-TinyLFU eviction, so a burst of one-off requests does not push out the popular images.
+ */
+@Component
+public class HotImageCache {
+
+    private final Cache<UUID, ImageModel> metadata;
+    private final Cache<String, ByteBuffer> content;
+    private final long maxEntryBytes;
+
+    public HotImageCache(MeterRegistry meterRegistry,
+                         @Value("${magazine.images.cache.maxBytes:67108864}") long maxBytes,
+                         @Value("${magazine.images.cache.maxEntryBytes:1048576}") long maxEntryBytes,
+                         @Value("${magazine.images.cache.maxMetadataEntries:10000}") long maxMetadataEntries) {
+        this.maxEntryBytes = maxEntryBytes;
+
+        metadata = Caffeine.newBuilder()
+                .maximumSize(maxMetadataEntries)
+                .recordStats()
+                .build();
+
+        content = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, ByteBuffer buffer) -> buffer.capacity())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, metadata, "images.metadata");
+        CaffeineCacheMetrics.monitor(meterRegistry, content, "images.content");
+        Gauge.builder("images.content.resident.bytes", content,
+                        cache -> cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L))
+                .description("Bytes of image content held in off-heap buffers")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public ImageModel metadata(UUID id, Supplier<ImageModel> loader) {
+        return metadata.get(id, key -> loader.get());
+    }
+
+    /**
+     * Returns the cached content for the key, or loads it from the given resource. Content larger than the per
+     * entry limit is passed through uncached.
+     */
+    public Resource content(String storageKey, ContentLoader loader) throws IOException {
+        ByteBuffer cached = content.getIfPresent(storageKey);
+        if (cached != null) {
+            return new ByteBufferResource(cached, storageKey);
+        }
+
+        Resource resource = loader.load();
+        long length = resource.contentLength();
+        if (length > maxEntryBytes) {
+            return resource;
+        }
+
+        ByteBuffer buffer = read(resource, (int) length);
+        content.put(storageKey, buffer);
+        return new ByteBufferResource(buffer, storageKey);
+    }
+
+    public void evict(ImageModel imageModel) {
+        if (imageModel.getId() != null) {
+            metadata.invalidate(imageModel.getId());
+        }
+        if (imageModel.getStorageKey() != null) {
+            String variantPrefix = imageModel.getStorageKey() + "@";
+            content.invalidate(imageModel.getStorageKey());
+            content.asMap().keySet().removeIf(key -> key.startsWith(variantPrefix));
+        }
+    }
+
+    public void evictMetadata(UUID id) {
+        metadata.invalidate(id);
+    }
+
+    private static ByteBuffer read(Resource resource, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+        try (InputStream in = resource.getInputStream(); ReadableByteChannel channel = Channels.newChannel(in)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) == -1) {
+                    break;
+                }
+            }
+        }
+        return buffer.flip();
+    }
+
+    @FunctionalInterface
+    public interface ContentLoader {
+        Resource load() throws IOException;
+    }
+}
@@ -0,0 +1,167 @@
+package com.serbest.magazine.backend.storage;
+
+import com.serbest.magazine.backend.exception.CustomApplicationException;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Writes image content into the {@link ImageStore} under a key derived from its SHA-256 hash, so identical bytes
+ * always end up under the same key and are only written once. Writes and deletes of a key take the same lock, and
+ * every write is remembered for a while, so the orphan collector never removes bytes an upload has just reused.
+ */
+@Component
+public class ImageContentWriter {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final ImageStore imageStore;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    private final Map<String, Instant> lastWrites = new ConcurrentHashMap<>();
+
+    public ImageContentWriter(ImageStore imageStore) {
+        this.imageStore = imageStore;
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public StoredImage write(InputStreamSource source, String contentType) throws IOException {
+        return store(source, scan(source, Long.MAX_VALUE), contentType);
+    }
+
+    /**
+     * Writes an uploaded image. The pass that hashes the content also checks that it is at most {@code maxSize}
+     * bytes and starts with the signature of a supported {@link ImageFormat}; the detected format, not the one the
+     * client claims, becomes the stored content type.
+     */
+    public StoredImage writeUpload(InputStreamSource source, long maxSize) throws IOException {
+        Scan scan = scan(source, maxSize);
+
+        ImageFormat format = ImageFormat.detect(scan.header, scan.headerLength).orElseThrow(
+                () -> new CustomApplicationException(HttpStatus.BAD_REQUEST,
+                        "Desteklenmeyen resim formatı. JPEG, PNG, GIF, WebP veya BMP yükleyebilirsiniz.")
+        );
+
+        return store(source, scan, format.getContentType());
+    }
+
+    /**
+     * Deletes the content under the key unless it was written or reused after {@code writtenAfter} or is still in
+     * use. The check and the delete hold the key's lock, so an upload of the same content either records its write
+     * first and keeps the bytes, or finds them gone and writes them again.
+     *
+     * @return whether the content was deleted
+     */
+    public boolean deleteUnused(String storageKey, Instant writtenAfter, Predicate<String> inUse,
+                                Consumer<String> delete) {
+        ReentrantLock lock = lockFor(storageKey);
+        lock.lock();
+        try {
+            Instant lastWrite = lastWrites.get(storageKey);
+            if ((lastWrite != null && lastWrite.isAfter(writtenAfter)) || inUse.test(storageKey)) {
+                return false;
+            }
+            delete.accept(storageKey);
+            lastWrites.remove(storageKey);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forgets writes made before the given instant; the collector calls this once per run.
+     */
+    public void expireWrites(Instant writtenBefore) {
+        lastWrites.values().removeIf(lastWrite -> lastWrite.isBefore(writtenBefore));
+    }
+
+    public static String keyFor(String contentHash) {
+        return contentHash.substring(0, 2) + "/" + contentHash.substring(2, 4) + "/" + contentHash;
+    }
+
+    private StoredImage store(InputStreamSource source, Scan scan, String contentType) throws IOException {
+        String storageKey = keyFor(scan.contentHash);
+
+        ReentrantLock lock = lockFor(storageKey);
+        lock.lock();
+        try {
+            lastWrites.put(storageKey, Instant.now());
+            if (!imageStore.exists(storageKey)) {
+                imageStore.put(storageKey, source, scan.size, contentType);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return new StoredImage(scan.contentHash, storageKey, scan.size, contentType);
+    }
+
+    private ReentrantLock lockFor(String storageKey) {
+        return locks[Math.floorMod(storageKey.hashCode(), LOCK_STRIPES)];
+    }
+
+    private Scan scan(InputStreamSource source, long maxSize) throws IOException {
+        MessageDigest digest = sha256();
+        Scan scan = new Scan();
+
+        try (InputStream in = source.getInputStream()) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (scan.headerLength < ImageFormat.HEADER_LENGTH) {
+                    int count = Math.min(read, ImageFormat.HEADER_LENGTH - scan.headerLength);
+                    System.arraycopy(buffer, 0, scan.header, scan.headerLength, count);
+                    scan.headerLength += count;
+                }
+
+                digest.update(buffer, 0, read);
+                scan.size += read;
+
+                if (scan.size > maxSize) {
+                    throw new CustomApplicationException(HttpStatus.BAD_REQUEST,
+                            "Resim boyutu en fazla " + describe(maxSize) + " olabilir.");
+                }
+            }
+        }
+
+        scan.contentHash = HexFormat.of().formatHex(digest.digest());
+        return scan;
+    }
+
+    private static String describe(long bytes) {
+        DataSize size = DataSize.ofBytes(bytes);
+        return size.toMegabytes() > 0 ? size.toMegabytes() + "MB" : size.toKilobytes() + "KB";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static class Scan {
+        final byte[] header = new byte[ImageFormat.HEADER_LENGTH];
+        int headerLength;
+        long size;
+        String contentHash;
+    }
+}
@@ -0,0 +1,54 @@
+package com.serbest.magazine.backend.storage;
+
+import java.util.Optional;
+
+/**
+ * Image formats accepted for upload, recognised by their leading magic bytes rather than by the content type or
+ * file name the client sends.
+ */
+public enum ImageFormat {
+    JPEG("image/jpeg", new int[]{0xFF, 0xD8, 0xFF}),
+    PNG("image/png", new int[]{0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A}),
+    GIF("image/gif", new int[]{'G', 'I', 'F', '8'}),
+    WEBP("image/webp", new int[]{'R', 'I', 'F', 'F', -1, -1, -1, -1, 'W', 'E', 'B', 'P'}),
+    BMP("image/bmp", new int[]{'B', 'M'});
+
+    /**
+     * Number of leading bytes that is enough to recognise every format.
+     */
+    public static final int HEADER_LENGTH = 12;
+
+    private final String contentType;
+    // -1 matches any byte.
+    private final int[] signature;
+
+    ImageFormat(String contentType, int[] signature) {
+        this.contentType = contentType;
+        this.signature = signature;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public static Optional<ImageFormat> detect(byte[] header, int length) {
+        for (ImageFormat format : values()) {
+            if (format.matches(header, length)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private boolean matches(byte[] header, int length) {
+        if (length < signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if (signature[i] != -1 && (header[i] & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,16 @@
+package com.serbest.magazine.backend.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Intrinsic size and average colour of an image, enough for a client to reserve its box and paint it before the
+ * bytes arrive.
+ */
+@Getter
+@AllArgsConstructor
+public class ImagePlaceholder {
+    private final int width;
+    private final int height;
+    private final String color;
+}
@@ -0,0 +1,78 @@
+package com.serbest.magazine.backend.storage;
+
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * Derives an {@link ImagePlaceholder} from image bytes. The size comes from the header; the colour from a decode
+ * subsampled to about {@value #SAMPLE_WIDTH} pixels across, so even large uploads are cheap to describe.
+ */
+@Component
+public class ImagePlaceholderGenerator {
+
+    static final int SAMPLE_WIDTH = 32;
+
+    /**
+     * Returns the placeholder, or an empty optional when the format can not be decoded here (WebP, for example).
+     */
+    public Optional<ImagePlaceholder> describe(InputStreamSource source) {
+        try (InputStream in = source.getInputStream(); ImageInputStream imageIn = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageIn);
+            if (!readers.hasNext()) {
+                return Optional.empty();
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageIn, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / SAMPLE_WIDTH);
+                param.setSourceSubsampling(step, step, 0, 0);
+
+                return Optional.of(new ImagePlaceholder(width, height, averageColor(reader.read(0, param))));
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            // Corrupt or exotic images are still served, they just get no placeholder.
+            return Optional.empty();
+        }
+    }
+
+    static String averageColor(BufferedImage image) {
+        long red = 0;
+        long green = 0;
+        long blue = 0;
+        long pixels = (long) image.getWidth() * image.getHeight();
+
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                int argb = image.getRGB(x, y);
+                int alpha = argb >>> 24;
+                // Transparent pixels are blended onto white, as the variants are.
+                red += blend((argb >> 16) & 0xff, alpha);
+                green += blend((argb >> 8) & 0xff, alpha);
+                blue += blend(argb & 0xff, alpha);
+            }
+        }
+
+        return String.format("#%02x%02x%02x", red / pixels, green / pixels, blue / pixels);
+    }
+
+    private static int blend(int channel, int alpha) {
+        return (channel * alpha + 255 * (255 - alpha)) / 255;
+    }
+}
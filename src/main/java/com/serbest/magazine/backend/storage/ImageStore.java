@@ -0,0 +1,30 @@
+package com.serbest.magazine.backend.storage;
+
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+
+/**
+ * Storage backend for image bytes. {@link com.serbest.magazine.backend.entity.ImageModel} rows only keep the
+ * metadata and the key under which the bytes live in the configured store.
+ */
+public interface ImageStore {
+
+    boolean exists(String key);
+
+    /**
+     * Writes the content of the given source under the key. The source is read exactly once and is never
+     * materialised in heap.
+     */
+    void put(String key, InputStreamSource source, long size, String contentType) throws IOException;
+
+    /**
+     * Returns a resource whose {@code contentLength()} is known without reading the content.
+     *
+     * @throws java.nio.file.NoSuchFileException if nothing is stored under the key
+     */
+    Resource load(String key) throws IOException;
+
+    void delete(String key) throws IOException;
+}
@@ -0,0 +1,250 @@
+package com.serbest.magazine.backend.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Generates downscaled JPEG variants of stored images and writes them next to the original under
+ * {@code <storageKey>@w<width>}. Variants are generated on a bounded worker pool right after an upload, and lazily
+ * on the first request for any that are still missing. Re-encoding drops all metadata, including EXIF. Originals
+ * whose header declares more than {@code magazine.images.variantMaxPixels} pixels are never decoded.
+ */
+@Component
+public class ImageVariantGenerator implements DisposableBean {
+
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageVariantGenerator.class);
+
+    // Formats ImageIO can decode without losing anything a still thumbnail needs; animated GIFs are served as is.
+    private static final Set<String> SUPPORTED_TYPES = Set.of("image/jpeg", "image/jpg", "image/png", "image/bmp");
+
+    private final ImageStore imageStore;
+    private final List<Integer> widths;
+    private final float quality;
+    private final long maxPixels;
+    private final Semaphore permits;
+    private final ThreadPoolTaskExecutor executor;
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    public ImageVariantGenerator(ImageStore imageStore,
+                                 @Value("${magazine.images.variantWidths:320,640,1280}") List<Integer> widths,
+                                 @Value("${magazine.images.variantQuality:0.8}") float quality,
+                                 @Value("${magazine.images.variantThreads:2}") int threads,
+                                 @Value("${magazine.images.variantQueueCapacity:100}") int queueCapacity,
+                                 @Value("${magazine.images.variantMaxPixels:50000000}") long maxPixels) {
+        this.imageStore = imageStore;
+        this.widths = widths.stream().sorted().toList();
+        this.quality = quality;
+        this.maxPixels = maxPixels;
+        this.permits = new Semaphore(threads);
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.initialize();
+    }
+
+    /**
+     * Returns the configured width that serves a request for the given width, or {@code null} when the original
+     * should be served.
+     */
+    public Integer variantWidth(String contentType, Integer requestedWidth) {
+        if (requestedWidth == null || contentType == null || !SUPPORTED_TYPES.contains(contentType.toLowerCase())) {
+            return null;
+        }
+        return widths.stream()
+                .filter(width -> width >= requestedWidth)
+                .findFirst()
+                .orElse(null);
+    }
+
+    public static String variantKey(String storageKey, int width) {
+        return storageKey + "@w" + width;
+    }
+
+    public List<String> variantKeys(String storageKey) {
+        return widths.stream().map(width -> variantKey(storageKey, width)).toList();
+    }
+
+    /**
+     * Queues generation of all variants of a freshly stored image. When the queue is full the variants are left to
+     * be generated lazily.
+     */
+    public void generateAsync(String storageKey, String contentType) {
+        if (variantWidth(contentType, 0) == null) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                for (Integer width : widths) {
+                    try {
+                        generate(storageKey, width);
+                    } catch (IOException | RuntimeException e) {
+                        logger.warn("Variant {} could not be generated: {}", variantKey(storageKey, width), e.getMessage());
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.debug("Variant queue is full, {} will be generated on first request.", storageKey);
+        }
+    }
+
+    /**
+     * Loads the variant of the given width, generating it first if it does not exist yet.
+     */
+    public Resource load(String storageKey, int width) throws IOException {
+        generate(storageKey, width);
+        return imageStore.load(variantKey(storageKey, width));
+    }
+
+    private void generate(String storageKey, int width) throws IOException {
+        String key = variantKey(storageKey, width);
+        if (imageStore.exists(key)) {
+            return;
+        }
+
+        CompletableFuture<Void> generation = new CompletableFuture<>();
+        CompletableFuture<Void> running = inFlight.putIfAbsent(key, generation);
+        if (running != null) {
+            // Someone else is already generating this variant, wait for it instead of doing the work twice.
+            running.join();
+            return;
+        }
+
+        try {
+            permits.acquireUninterruptibly();
+            try {
+                byte[] bytes = encode(scale(read(storageKey, width), width));
+                imageStore.put(key, new ByteArrayResource(bytes), bytes.length, CONTENT_TYPE);
+            } finally {
+                permits.release();
+            }
+            generation.complete(null);
+        } catch (IOException | RuntimeException e) {
+            generation.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key);
+        }
+    }
+
+    /**
+     * Decodes the original after checking the dimensions in its header. Large originals are subsampled while
+     * decoding to about twice the target width, so {@link #scale} still has one bilinear step to smooth them.
+     */
+    private BufferedImage read(String storageKey, int width) throws IOException {
+        try (InputStream in = imageStore.load(storageKey).getInputStream();
+             ImageInputStream imageIn = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = imageIn == null ? null : ImageIO.getImageReaders(imageIn);
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("Image " + storageKey + " can not be decoded");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageIn, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+                if ((long) sourceWidth * sourceHeight > maxPixels) {
+                    throw new IOException("Image " + storageKey + " is too large to decode: "
+                            + sourceWidth + "x" + sourceHeight);
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, sourceWidth / (width * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Scales down in steps of at most one half, which keeps bilinear interpolation from dropping detail. Images
+     * that are already narrow enough are only re-encoded. Transparent areas are flattened onto white.
+     */
+    static BufferedImage scale(BufferedImage source, int width) {
+        int targetWidth = Math.min(width, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+
+        do {
+            currentWidth = Math.max(targetWidth, currentWidth / 2);
+            currentHeight = Math.max(targetHeight, currentHeight / 2);
+
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, currentWidth, currentHeight);
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+
+        return current;
+    }
+
+    private byte[] encode(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+
+        return out.toByteArray();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
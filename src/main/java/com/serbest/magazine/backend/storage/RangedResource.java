@@ -0,0 +1,14 @@
+package com.serbest.magazine.backend.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A resource that can open a stream over a byte range without reading the bytes in front of it.
+ */
+public interface RangedResource extends Resource {
+
+    InputStream getInputStream(long start, long end) throws IOException;
+}
@@ -0,0 +1,67 @@
+package com.serbest.magazine.backend.storage;
+
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.io.Resource;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
+
+/**
+ * Stores images in an S3 compatible bucket. MinIO works as a drop-in replacement when an endpoint override and
+ * path style access are configured.
+ */
+public class S3ImageStore implements ImageStore {
+
+    private final S3Client s3Client;
+    private final String bucket;
+
+    public S3ImageStore(S3Client s3Client, String bucket) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+    }
+
+    @Override
+    public boolean exists(String key) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void put(String key, InputStreamSource source, long size, String contentType) throws IOException {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(size)
+                .build();
+
+        try (InputStream in = source.getInputStream()) {
+            s3Client.putObject(request, RequestBody.fromInputStream(in, size));
+        } catch (S3Exception e) {
+            throw new IOException("Image could not be written to bucket " + bucket + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Resource load(String key) throws IOException {
+        try {
+            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+            return new S3ObjectResource(s3Client, bucket, key, head.contentLength(), head.lastModified());
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+    }
+}
@@ -0,0 +1,68 @@
+package com.serbest.magazine.backend.storage;
+
+import org.springframework.core.io.AbstractResource;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+
+import java.io.InputStream;
+import java.time.Instant;
+
+/**
+ * A resource backed by a single S3 object. Every call to {@link #getInputStream()} opens a new GET request, so the
+ * resource can be read several times without buffering it. Byte ranges are fetched with ranged GET requests.
+ */
+public class S3ObjectResource extends AbstractResource implements RangedResource {
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String key;
+    private final long contentLength;
+    private final Instant lastModified;
+
+    public S3ObjectResource(S3Client s3Client, String bucket, String key, long contentLength, Instant lastModified) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.key = key;
+        this.contentLength = contentLength;
+        this.lastModified = lastModified;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(key).build());
+    }
+
+    @Override
+    public InputStream getInputStream(long start, long end) {
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .range("bytes=" + start + "-" + end)
+                .build());
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public long lastModified() {
+        return lastModified != null ? lastModified.toEpochMilli() : 0L;
+    }
+
+    @Override
+    public String getFilename() {
+        return key.substring(key.lastIndexOf('/') + 1);
+    }
+
+    @Override
+    public String getDescription() {
+        return "S3 object [s3://" + bucket + "/" + key + "]";
+    }
+}
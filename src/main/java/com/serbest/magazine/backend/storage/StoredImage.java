@@ -0,0 +1,13 @@
+package com.serbest.magazine.backend.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StoredImage {
+    private final String contentHash;
+    private final String storageKey;
+    private final long size;
+    private final String contentType;
+}
@@ -0,0 +1,73 @@
+package com.serbest.magazine.backend.storage;
+
+import com.serbest.magazine.backend.exception.CustomApplicationException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of upload bytes that are being processed at the same time across the whole node. Each upload
+ * holds permits worth its size (in KB) while it is hashed and written to the image store; when the budget is used up
+ * further uploads wait for a short while and are then turned away instead of piling up.
+ */
+@Component
+public class UploadLimiter {
+
+    private final Semaphore permits;
+    private final int budgetKilobytes;
+    private final long waitMillis;
+    private final long maxUploadBytes;
+
+    public UploadLimiter(MeterRegistry meterRegistry,
+                         @Value("${magazine.images.uploadBudget:32MB}") DataSize budget,
+                         @Value("${magazine.images.uploadWaitMillis:2000}") long waitMillis,
+                         @Value("${magazine.images.maxUploadSize:${spring.servlet.multipart.max-file-size:2MB}}")
+                         DataSize maxUploadSize) {
+        this.budgetKilobytes = (int) Math.min(Integer.MAX_VALUE, Math.max(1, budget.toKilobytes()));
+        this.permits = new Semaphore(budgetKilobytes, true);
+        this.waitMillis = waitMillis;
+        this.maxUploadBytes = maxUploadSize.toBytes();
+
+        Gauge.builder("images.upload.inflight.bytes", permits,
+                        semaphore -> (budgetKilobytes - semaphore.availablePermits()) * 1024.0)
+                .description("Upload bytes currently being hashed and stored")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public long getMaxUploadBytes() {
+        return maxUploadBytes;
+    }
+
+    /**
+     * Reserves budget for an upload of the given size. The returned permit must be closed once the upload is stored.
+     */
+    public Permit acquire(long size) {
+        // An upload larger than the whole budget still gets through, just never alongside anything else.
+        int kilobytes = (int) Math.min(budgetKilobytes, Math.max(1, (size + 1023) / 1024));
+
+        try {
+            if (!permits.tryAcquire(kilobytes, waitMillis, TimeUnit.MILLISECONDS)) {
+                throw new CustomApplicationException(HttpStatus.SERVICE_UNAVAILABLE,
+                        "Şu anda çok fazla yükleme yapılıyor, lütfen biraz sonra tekrar deneyin.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomApplicationException(HttpStatus.SERVICE_UNAVAILABLE, "Yükleme yarıda kesildi.");
+        }
+
+        return () -> permits.release(kilobytes);
+    }
+
+    @FunctionalInterface
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,47 @@
+package com.serbest.magazine.backend.util;
+
+import com.serbest.magazine.backend.exception.CustomApplicationException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a feed ordered by {@code createDateTime desc, postId desc}: the next page starts after this post.
+ * Clients get it as an opaque token and send it back unchanged.
+ */
+public record FeedCursor(LocalDateTime createDateTime, UUID postId) {
+
+    /**
+     * Sorts after every post, so the first page is read with the same query as the ones after it.
+     */
+    public static final FeedCursor FIRST =
+            new FeedCursor(LocalDateTime.of(9999, 12, 31, 0, 0), new UUID(-1L, -1L));
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String value = createDateTime.toString() + SEPARATOR + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns {@link #FIRST} for a missing token.
+     */
+    public static FeedCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            return new FeedCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    UUID.fromString(value.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new CustomApplicationException(HttpStatus.BAD_REQUEST, "Geçersiz sayfa imleci.");
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.serbest.magazine.backend.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Writes the rows of a repository stream as newline delimited JSON while they are read. The stream runs in a
+ * read-only transaction of its own, since the response is written after the request thread has let go of its
+ * persistence context; every {@link #FETCH_SIZE} rows the persistence context is cleared and the output flushed, so
+ * memory use does not grow with the number of rows.
+ */
+@Component
+public class NdjsonStreamer {
+
+    private static final Logger logger = LoggerFactory.getLogger(NdjsonStreamer.class);
+
+    /**
+     * Rows fetched per round trip by the streaming queries, and rows written between two clears.
+     */
+    public static final String FETCH_SIZE = "100";
+
+    private static final int CHUNK_SIZE = Integer.parseInt(FETCH_SIZE);
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter objectWriter;
+
+    public NdjsonStreamer(EntityManager entityManager, PlatformTransactionManager transactionManager,
+                          ObjectMapper objectMapper) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        // Lines are separated by hand and flushed per chunk.
+        this.objectWriter = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator((String) null);
+    }
+
+    public <T> StreamingResponseBody stream(Supplier<Stream<T>> rows, Function<? super T, ?> mapper) {
+        return outputStream -> transactionTemplate.executeWithoutResult(status -> write(rows, mapper, outputStream));
+    }
+
+    private <T> void write(Supplier<Stream<T>> rows, Function<? super T, ?> mapper, OutputStream outputStream) {
+        int written = 0;
+        try (Stream<T> stream = rows.get();
+             JsonGenerator generator = objectWriter.createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            Iterator<T> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                objectWriter.writeValue(generator, mapper.apply(iterator.next()));
+                generator.writeRaw('\n');
+                if (++written % CHUNK_SIZE == 0) {
+                    entityManager.clear();
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        } catch (IOException e) {
+            // Usually the client went away; the response is committed, so all that is left is to stop reading.
+            logger.debug("NDJSON stream stopped after {} rows: {}", written, e.getMessage());
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.serbest.magazine.backend.util;
+
+import com.serbest.magazine.backend.search.TurkishAnalyzer;
+
+/**
+ * What lists show instead of a post's content: its plain text, a teaser cut at a word boundary, the number of words
+ * and the minutes it takes to read.
+ */
+public record PostTextMetadata(String plainText, String excerpt, int wordCount, int readingTime) {
+
+    public static final int EXCERPT_LENGTH = 300;
+
+    private static final int WORDS_PER_MINUTE = 200;
+
+    public static PostTextMetadata of(String content) {
+        String plainText = TurkishAnalyzer.plainText(content);
+        int wordCount = TurkishAnalyzer.tokenize(plainText).size();
+        int readingTime = wordCount == 0 ? 0 : Math.max(1, Math.round((float) wordCount / WORDS_PER_MINUTE));
+        return new PostTextMetadata(plainText, excerpt(plainText), wordCount, readingTime);
+    }
+
+    private static String excerpt(String text) {
+        if (text.length() <= EXCERPT_LENGTH) {
+            return text;
+        }
+
+        int end = text.lastIndexOf(' ', EXCERPT_LENGTH - 1);
+        if (end < EXCERPT_LENGTH / 2) {
+            // A single very long word; cut it.
+            end = EXCERPT_LENGTH - 1;
+        }
+        return text.substring(0, end).stripTrailing() + "…";
+    }
+}
@@ -0,0 +1,137 @@
+package com.serbest.magazine.backend.util;
+
+import com.serbest.magazine.backend.storage.ByteBufferResource;
+import com.serbest.magazine.backend.storage.RangedResource;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Writes a {@link Resource} to the servlet response honouring a single {@code Range} header. Files are handed to
+ * Tomcat's sendfile support when it is available and are otherwise copied with {@link FileChannel#transferTo}, so
+ * image bytes never pass through a per-request heap array.
+ */
+public final class ResourceResponseWriter {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private ResourceResponseWriter() {
+    }
+
+    public static void write(Resource resource, MediaType contentType, HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        long length = resource.contentLength();
+        long start = 0;
+        long end = length - 1;
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setContentType(contentType.toString());
+
+        HttpRange range = ifRangeMatches(request, response) ? singleRange(request.getHeader(HttpHeaders.RANGE)) : null;
+        if (range != null) {
+            start = range.getRangeStart(length);
+            end = range.getRangeEnd(length);
+
+            if (length == 0 || start >= length || start > end) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+
+        if (HttpMethod.HEAD.matches(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        if (resource.isFile()) {
+            writeFile(resource.getFile().toPath(), start, count, request, response);
+        } else if (resource instanceof ByteBufferResource bufferResource) {
+            Channels.newChannel(response.getOutputStream()).write(bufferResource.slice(start, end));
+        } else if (resource instanceof RangedResource rangedResource && range != null) {
+            try (InputStream in = rangedResource.getInputStream(start, end)) {
+                StreamUtils.copy(in, response.getOutputStream());
+            }
+        } else {
+            try (InputStream in = resource.getInputStream()) {
+                StreamUtils.copyRange(in, response.getOutputStream(), start, end);
+            }
+        }
+    }
+
+    private static void writeFile(Path path, long start, long count, HttpServletRequest request,
+                                  HttpServletResponse response) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat streams the file with sendfile(2) once the handler returns.
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+
+        OutputStream out = response.getOutputStream();
+        WritableByteChannel target = Channels.newChannel(out);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * A range is only honoured when {@code If-Range} is absent or names the entity tag already set on the response,
+     * so a client resuming a download never splices bytes of two different images.
+     */
+    private static boolean ifRangeMatches(HttpServletRequest request, HttpServletResponse response) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        return ifRange == null || ifRange.equals(response.getHeader(HttpHeaders.ETAG));
+    }
+
+    /**
+     * Returns the requested range, or {@code null} when the whole resource should be sent. Multiple ranges are
+     * answered with the full content, which RFC 9110 allows.
+     */
+    private static HttpRange singleRange(String rangeHeader) {
+        if (rangeHeader == null) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
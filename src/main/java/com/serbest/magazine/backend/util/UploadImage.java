@@ -1,11 +1,7 @@
 package com.serbest.magazine.backend.util;
 
-import com.serbest.magazine.backend.entity.ImageModel;
 import com.serbest.magazine.backend.exception.CustomApplicationException;
 import org.springframework.http.HttpStatus;
-import org.springframework.web.multipart.MultipartFile;
-
-import java.io.IOException;
 
 public class UploadImage {
 
@@ -26,11 +22,4 @@ public class UploadImage {
             throw new CustomApplicationException(HttpStatus.BAD_REQUEST,e.getMessage());
         }
     }
-
-    public static ImageModel uploadImage(MultipartFile file) throws IOException {
-        if (file == null) {
-            return new ImageModel();
-        }
-        return new ImageModel(file.getOriginalFilename(), file.getContentType(), file.getBytes());
-    }
 }
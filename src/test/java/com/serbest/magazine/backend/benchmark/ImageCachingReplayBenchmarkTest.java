@@ -0,0 +1,134 @@
+package com.serbest.magazine.backend.benchmark;
+
+import com.serbest.magazine.backend.controller.ImageController;
+import com.serbest.magazine.backend.entity.ImageModel;
+import com.serbest.magazine.backend.service.ImageModelService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Replays the image requests of a homepage load twice: once as a client without a cache and once as a browser that
+ * revalidates with the ETags it received. Reports the response bytes and image store reads of both passes.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class ImageCachingReplayBenchmarkTest {
+
+    private static final int HOMEPAGE_IMAGES = 30;
+    private static final int REPLAYS = 20;
+
+    @TempDir
+    Path root;
+
+    MockMvc mockMvc;
+    ImageModelService imageModelService;
+    List<ImageModel> images = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        imageModelService = Mockito.mock(ImageModelService.class);
+        Random random = new Random(42);
+
+        for (int i = 0; i < HOMEPAGE_IMAGES; i++) {
+            // Homepage cards are a mix of thumbnails and full width cover images.
+            byte[] bytes = new byte[20_000 + random.nextInt(180_000)];
+            random.nextBytes(bytes);
+            Path file = Files.write(root.resolve("image" + i), bytes);
+
+            ImageModel imageModel = new ImageModel(UUID.randomUUID(), "image" + i + ".jpg", "image/jpeg",
+                    (long) bytes.length, "hash" + i, "image" + i);
+            imageModel.setCreateDateTime(LocalDateTime.now().minusDays(i));
+            images.add(imageModel);
+
+            when(imageModelService.findById(imageModel.getId().toString())).thenReturn(imageModel);
+            when(imageModelService.loadImage(imageModel)).thenReturn(new FileSystemResource(file));
+            when(imageModelService.variantWidth(imageModel, null)).thenReturn(null);
+        }
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new ImageController(imageModelService)).build();
+    }
+
+    @Test
+    public void replayHomepage() throws Exception {
+        Pass uncached = replay(false);
+        Pass revalidated = replay(true);
+
+        System.out.printf("%n%d homepage loads of %d images%n", REPLAYS, HOMEPAGE_IMAGES);
+        System.out.printf("%-22s %14s %14s %12s %10s%n", "", "body bytes", "store reads", "metadata", "ms");
+        uncached.print("without validators");
+        revalidated.print("If-None-Match");
+        System.out.printf("saved %.1f%% of the bandwidth and %d of %d image store reads%n%n",
+                100.0 * (uncached.bytes - revalidated.bytes) / uncached.bytes,
+                uncached.storeReads - revalidated.storeReads, uncached.storeReads);
+
+        assertEquals(HOMEPAGE_IMAGES, revalidated.storeReads);
+        assertEquals(HOMEPAGE_IMAGES * REPLAYS, revalidated.metadataReads);
+    }
+
+    private Pass replay(boolean revalidate) throws Exception {
+        Mockito.clearInvocations(imageModelService);
+        Map<String, String> browserCache = new HashMap<>();
+        Pass pass = new Pass();
+        long started = System.nanoTime();
+
+        for (int load = 0; load < REPLAYS; load++) {
+            for (ImageModel image : images) {
+                var request = get("/api/photos/" + image.getId());
+                String etag = browserCache.get(image.getId().toString());
+                if (revalidate && etag != null) {
+                    request.header(HttpHeaders.IF_NONE_MATCH, etag);
+                }
+
+                MockHttpServletResponse response = mockMvc.perform(request).andReturn().getResponse();
+                pass.bytes += response.getContentAsByteArray().length;
+                browserCache.put(image.getId().toString(), response.getHeader(HttpHeaders.ETAG));
+            }
+        }
+
+        pass.millis = (System.nanoTime() - started) / 1_000_000;
+        pass.storeReads = count("loadImage");
+        pass.metadataReads = count("findById");
+        return pass;
+    }
+
+    private long count(String method) {
+        return mockingDetails(imageModelService).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals(method))
+                .count();
+    }
+
+    private static class Pass {
+        long bytes;
+        long storeReads;
+        long metadataReads;
+        long millis;
+
+        void print(String name) {
+            System.out.printf("%-22s %14d %14d %12d %10d%n", name, bytes, storeReads, metadataReads, millis);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.serbest.magazine.backend.benchmark;
+
+import com.serbest.magazine.backend.entity.Author;
+import com.serbest.magazine.backend.entity.Category;
+import com.serbest.magazine.backend.entity.SubCategory;
+import com.serbest.magazine.backend.repository.PostRepository;
+import com.serbest.magazine.backend.repository.projection.PostView;
+import com.serbest.magazine.backend.service.ImageModelService;
+import com.serbest.magazine.backend.service.impl.ActivePostSampler;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the former {@code order by random() limit 3} query with sampling ids in memory and fetching the three
+ * rows, at two catalogue sizes. The query's cost grows with the number of active posts, the sampler's does not.
+ * Each variant is warmed up before it is measured. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ActivePostSampler.class)
+class RandomPostsBenchmarkTest {
+
+    private static final int[] CATALOGUE_SIZES = {2_000, 20_000};
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 300;
+
+    private static final String ORDER_BY_RANDOM = PostRepository.POST_VIEW + PostRepository.FROM_POST +
+            "where p.active = true order by random()";
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    ActivePostSampler activePostSampler;
+
+    @MockBean
+    ImageModelService imageModelService;
+
+    @Test
+    public void randomThree() {
+        Category category = entityManager.persist(new Category("Sinema", true));
+        SubCategory subCategory = new SubCategory("Eleştiri", category);
+        subCategory.setActive(true);
+        entityManager.persist(subCategory);
+        Author author = new Author();
+        author.setUsername("yazar");
+        author.setEmail("yazar@example.com");
+        author.setPassword("password");
+        author.setActive(true);
+        entityManager.persist(author);
+        entityManager.flush();
+
+        int seeded = 0;
+        System.out.printf("%n%-10s %20s %20s%n", "posts", "order by random()", "sampler");
+        for (int size : CATALOGUE_SIZES) {
+            seed(seeded, size, category, subCategory, author);
+            seeded = size;
+            activePostSampler.reload();
+
+            double query = measure(() -> entityManager.getEntityManager()
+                    .createQuery(ORDER_BY_RANDOM, PostView.class)
+                    .setMaxResults(3)
+                    .getResultList());
+            double sampler = measure(() -> postRepository.findActivePostViewsByIds(activePostSampler.sample(3)));
+
+            System.out.printf("%-10d %17.1f us %17.1f us%n", size, query, sampler);
+        }
+    }
+
+    private void seed(int from, int to, Category category, SubCategory subCategory, Author author) {
+        List<Object[]> rows = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = from; i < to; i++) {
+            rows.add(new Object[]{UUID.randomUUID(), "Yazı " + i, "Alt başlık", "Açıklama", "İçerik " + i,
+                    category.getId(), subCategory.getId(), author.getId(), Timestamp.valueOf(now.minusMinutes(i))});
+        }
+        jdbcTemplate.batchUpdate("insert into posts (post_id, title, subtitle, description, content, active, " +
+                "category, sub_category, author, comment_count, like_count, create_date_time) " +
+                "values (?, ?, ?, ?, ?, true, ?, ?, ?, 0, 0, ?)", rows);
+    }
+
+    /**
+     * Returns the mean time of one call in microseconds.
+     */
+    private double measure(Supplier<List<PostView>> call) {
+        for (int i = 0; i < WARMUP; i++) {
+            assertEquals(3, call.get().size());
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertEquals(3, call.get().size());
+        }
+        return (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+    }
+}
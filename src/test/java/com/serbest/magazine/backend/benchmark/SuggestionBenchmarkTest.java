@@ -0,0 +1,67 @@
+package com.serbest.magazine.backend.benchmark;
+
+import com.serbest.magazine.backend.search.SuggestionIndex;
+import com.serbest.magazine.backend.search.SuggestionType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Typeahead latency over a catalogue of generated post titles, for prefixes of one to four letters as they are typed.
+ * Short prefixes match the most entries and are the expensive ones. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class SuggestionBenchmarkTest {
+
+    private static final int POSTS = 50_000;
+    private static final int QUERIES = 20_000;
+    private static final List<String> WORDS = List.of("sinema", "müzik", "yüzük", "efendi", "şehir", "ışık",
+            "gölge", "çağ", "kitap", "yazı", "film", "eleştiri", "şarkı", "resim", "ödül", "festival", "yönetmen",
+            "oyuncu", "sahne", "albüm", "konser", "sergi", "tarih", "roman", "şiir", "dergi", "gece", "deniz");
+
+    @Test
+    public void suggest() {
+        Random random = new Random(42);
+        SuggestionIndex index = new SuggestionIndex();
+        for (int i = 0; i < POSTS; i++) {
+            index.put(SuggestionType.POST, UUID.randomUUID(), title(random), random.nextInt(1_000));
+        }
+
+        String[] prefixes = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String word = WORDS.get(random.nextInt(WORDS.size()));
+            prefixes[i] = word.substring(0, 1 + random.nextInt(Math.min(4, word.length())));
+        }
+
+        for (int i = 0; i < QUERIES; i++) {
+            index.suggest(prefixes[i], 8);
+        }
+        long[] nanos = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            long start = System.nanoTime();
+            index.suggest(prefixes[i], 8);
+            nanos[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(nanos);
+        double mean = Arrays.stream(nanos).average().orElse(0) / 1_000.0;
+        double p99 = nanos[QUERIES * 99 / 100] / 1_000.0;
+        System.out.printf("%n%d entries: mean %.1f us, p99 %.1f us%n", POSTS, mean, p99);
+        assertTrue(p99 < 1_000, "p99 above a millisecond");
+    }
+
+    private static String title(Random random) {
+        StringBuilder title = new StringBuilder();
+        int words = 2 + random.nextInt(5);
+        for (int i = 0; i < words; i++) {
+            title.append(i == 0 ? "" : " ").append(WORDS.get(random.nextInt(WORDS.size())));
+        }
+        return title.toString();
+    }
+}
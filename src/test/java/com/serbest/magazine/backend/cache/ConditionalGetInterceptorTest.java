@@ -0,0 +1,115 @@
+package com.serbest.magazine.backend.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConditionalGetInterceptorTest {
+
+    ContentVersions contentVersions;
+    ConditionalGetInterceptor interceptor;
+
+    @BeforeEach
+    public void setUp() {
+        contentVersions = new ContentVersions();
+        interceptor = new ConditionalGetInterceptor(contentVersions, Duration.ZERO, Duration.ofMinutes(1),
+                Duration.ofMinutes(10), Duration.ofMinutes(5));
+    }
+
+    @Test
+    public void test_preHandle_tagsResponse() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(get(null), response, handler("categories")));
+
+        assertEquals(200, response.getStatus());
+        assertEquals(contentVersions.etag(ContentVersions.Scope.CATEGORIES), response.getHeader(HttpHeaders.ETAG));
+        assertEquals("max-age=600, public", response.getHeader(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    public void test_preHandle_currentCopy_notModified() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(get(contentVersions.etag(ContentVersions.Scope.POSTS)), response,
+                handler("posts"));
+
+        assertFalse(proceed);
+        assertEquals(304, response.getStatus());
+        assertEquals("no-cache, public", response.getHeader(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    public void test_preHandle_staleCopy() throws Exception {
+        String etag = contentVersions.etag(ContentVersions.Scope.POSTS);
+        contentVersions.changed(ContentVersions.Scope.AUTHORS);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(get(etag), response, handler("posts")));
+
+        assertEquals(200, response.getStatus());
+        assertNotEquals(etag, response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void test_preHandle_notVersioned() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(get(contentVersions.etag(ContentVersions.Scope.POSTS)), response,
+                handler("random")));
+
+        assertNull(response.getHeader(HttpHeaders.ETAG));
+        assertNull(response.getHeader(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    public void test_notModified_suffixSeparatesRepresentations() {
+        String plain = contentVersions.etag(ContentVersions.Scope.POSTS);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(interceptor.notModified(ContentVersions.Scope.POSTS, "gzip",
+                new ServletWebRequest(get(plain), response)));
+
+        String gzip = response.getHeader(HttpHeaders.ETAG);
+        assertEquals(plain.substring(0, plain.length() - 1) + "-gzip\"", gzip);
+        assertTrue(interceptor.notModified(ContentVersions.Scope.POSTS, "gzip",
+                new ServletWebRequest(get(gzip), new MockHttpServletResponse())));
+    }
+
+    private static MockHttpServletRequest get(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/test");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return request;
+    }
+
+    private static HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new Endpoints(), Endpoints.class.getMethod(name));
+    }
+
+    static class Endpoints {
+
+        @Versioned(ContentVersions.Scope.POSTS)
+        public String posts() {
+            return "";
+        }
+
+        @Versioned(ContentVersions.Scope.CATEGORIES)
+        public String categories() {
+            return "";
+        }
+
+        public String random() {
+            return "";
+        }
+    }
+}
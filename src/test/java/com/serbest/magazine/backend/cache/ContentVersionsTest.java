@@ -0,0 +1,69 @@
+package com.serbest.magazine.backend.cache;
+
+import com.serbest.magazine.backend.event.ContentChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentVersionsTest {
+
+    ContentVersions contentVersions = new ContentVersions();
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void test_changed_movesOnlyItsOwnScope() {
+        String movies = contentVersions.etag(ContentVersions.Scope.MOVIES);
+        String music = contentVersions.etag(ContentVersions.Scope.MUSIC);
+
+        contentVersions.changed(ContentVersions.Scope.MOVIES);
+
+        assertNotEquals(movies, contentVersions.etag(ContentVersions.Scope.MOVIES));
+        assertEquals(music, contentVersions.etag(ContentVersions.Scope.MUSIC));
+    }
+
+    @Test
+    public void test_etag_coversEmbeddedScopes() {
+        String posts = contentVersions.etag(ContentVersions.Scope.POSTS);
+
+        contentVersions.changed(ContentVersions.Scope.AUTHORS);
+        String afterAuthors = contentVersions.etag(ContentVersions.Scope.POSTS);
+        contentVersions.changed(ContentVersions.Scope.CATEGORIES);
+
+        assertNotEquals(posts, afterAuthors);
+        assertNotEquals(afterAuthors, contentVersions.etag(ContentVersions.Scope.POSTS));
+        assertTrue(posts.startsWith("\"") && posts.endsWith("\""));
+    }
+
+    @Test
+    public void test_changed_waitsForCommit() {
+        String posts = contentVersions.etag(ContentVersions.Scope.POSTS);
+        TransactionSynchronizationManager.initSynchronization();
+
+        contentVersions.changed(ContentVersions.Scope.POSTS);
+
+        assertEquals(posts, contentVersions.etag(ContentVersions.Scope.POSTS));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertNotEquals(posts, contentVersions.etag(ContentVersions.Scope.POSTS));
+    }
+
+    @Test
+    public void test_onContentChanged() {
+        String pictures = contentVersions.etag(ContentVersions.Scope.PICTURES);
+        String posts = contentVersions.etag(ContentVersions.Scope.POSTS);
+
+        contentVersions.onContentChanged(new ContentChangedEvent("picture"));
+        contentVersions.onContentChanged(new ContentChangedEvent("encyclopediaArticle"));
+
+        assertNotEquals(pictures, contentVersions.etag(ContentVersions.Scope.PICTURES));
+        assertEquals(posts, contentVersions.etag(ContentVersions.Scope.POSTS));
+    }
+}
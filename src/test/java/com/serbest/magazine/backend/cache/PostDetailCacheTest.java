@@ -0,0 +1,179 @@
+package com.serbest.magazine.backend.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostDetailCacheTest {
+
+    private static final long MAX_BYTES = 4096;
+
+    @TempDir
+    Path spillDirectory;
+
+    PostDetailCache cache;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        cache = new PostDetailCache(new ObjectMapper(), new SimpleMeterRegistry(), MAX_BYTES, 2048, 1 << 20,
+                spillDirectory, Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        cache.destroy();
+    }
+
+    @Test
+    public void test_get_servesBothEncodings() throws IOException {
+        String postId = UUID.randomUUID().toString();
+        AtomicInteger loads = new AtomicInteger();
+
+        PostDetailCache.Entry entry = cache.get(postId, () -> post(postId, loads));
+
+        assertSame(entry, cache.get(postId, () -> post(postId, loads)));
+        assertEquals(1, loads.get());
+        String json = string(entry.body(false));
+        assertEquals("{\"id\":\"" + postId + "\",\"content\":\"" + "Sinema ".repeat(20) + "\"}", json);
+        assertEquals(json, gunzip(entry.body(true)));
+        assertTrue(entry.body(true).remaining() < entry.body(false).remaining());
+    }
+
+    @Test
+    public void test_get_spillsWhatMemoryEvicts() throws IOException {
+        AtomicInteger loads = new AtomicInteger();
+        List<String> postIds = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            String postId = UUID.randomUUID().toString();
+            postIds.add(postId);
+            cache.get(postId, () -> post(postId, loads));
+        }
+
+        assertTrue(cache.residentBytes() <= MAX_BYTES);
+        assertTrue(cache.spilledEntries() > 0);
+        try (var files = Files.list(spillDirectory)) {
+            assertEquals(cache.spilledEntries(), files.count());
+        }
+
+        for (String postId : postIds) {
+            PostDetailCache.Entry entry = cache.get(postId, () -> post(postId, loads));
+            assertTrue(string(entry.body(false)).contains(postId));
+            assertEquals(string(entry.body(false)), gunzip(entry.body(true)));
+        }
+        assertEquals(40, loads.get());
+    }
+
+    @Test
+    public void test_invalidate() {
+        String postId = UUID.randomUUID().toString();
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(postId, () -> post(postId, loads));
+
+        cache.invalidate(UUID.fromString(postId));
+        cache.get(postId, () -> post(postId, loads));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void test_get_loadOvertakenByInvalidationIsNotCached() {
+        String postId = UUID.randomUUID().toString();
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(postId, () -> {
+            Map<String, String> stale = post(postId, loads);
+            cache.invalidate(UUID.fromString(postId));
+            return stale;
+        });
+        cache.get(postId, () -> post(postId, loads));
+        cache.get(postId, () -> post(postId, loads));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void test_invalidate_againAfterCommit() {
+        String postId = UUID.randomUUID().toString();
+        AtomicInteger loads = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidate(UUID.fromString(postId));
+            // Read before the commit, so it still sees the old post.
+            cache.get(postId, () -> post(postId, loads));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        cache.get(postId, () -> post(postId, loads));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void test_get_largePostIsNotCached() {
+        String postId = UUID.randomUUID().toString();
+        AtomicInteger loads = new AtomicInteger();
+        Map<String, String> large = Map.of("content", UUID.randomUUID().toString().repeat(200));
+
+        cache.get(postId, () -> {
+            loads.incrementAndGet();
+            return large;
+        });
+        cache.get(postId, () -> {
+            loads.incrementAndGet();
+            return large;
+        });
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.residentBytes());
+    }
+
+    @Test
+    public void test_get_invalidId() {
+        assertThrows(IllegalArgumentException.class, () -> cache.get("not-a-uuid", () -> Map.of()));
+    }
+
+    private static Map<String, String> post(String postId, AtomicInteger loads) {
+        loads.incrementAndGet();
+        // Ordered, so the JSON is predictable.
+        Map<String, String> post = new LinkedHashMap<>();
+        post.put("id", postId);
+        post.put("content", "Sinema ".repeat(20));
+        return post;
+    }
+
+    private static String string(ByteBuffer buffer) {
+        return StandardCharsets.UTF_8.decode(buffer).toString();
+    }
+
+    private static String gunzip(ByteBuffer buffer) throws IOException {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.serbest.magazine.backend.config;
+
+import com.serbest.magazine.backend.entity.Author;
+import com.serbest.magazine.backend.entity.Category;
+import com.serbest.magazine.backend.entity.ImageModel;
+import com.serbest.magazine.backend.entity.Role;
+import com.serbest.magazine.backend.entity.SubCategory;
+import com.serbest.magazine.backend.repository.AuthorRepository;
+import com.serbest.magazine.backend.repository.CategoryRepository;
+import com.serbest.magazine.backend.repository.ImageModelRepository;
+import com.serbest.magazine.backend.repository.LikeRepository;
+import com.serbest.magazine.backend.repository.RoleRepository;
+import com.serbest.magazine.backend.repository.SubCategoryRepository;
+import com.serbest.magazine.backend.service.ImageModelService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Each lookup runs in a transaction and session of its own, as it would in a request, so only the second level cache
+ * can spare a repeated one its statements.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({SecondLevelCacheConfig.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheConfigTest {
+
+    @Autowired
+    RoleRepository roleRepository;
+
+    @Autowired
+    CategoryRepository categoryRepository;
+
+    @Autowired
+    SubCategoryRepository subCategoryRepository;
+
+    @Autowired
+    AuthorRepository authorRepository;
+
+    @Autowired
+    LikeRepository likeRepository;
+
+    @Autowired
+    ImageModelRepository imageModelRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @MockBean
+    ImageModelService imageModelService;
+
+    Statistics statistics;
+
+    Role role;
+    Category category;
+    SubCategory subCategory;
+    Author author;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            role = roleRepository.save(new Role("ROLE_CACHE_TEST"));
+            category = categoryRepository.save(new Category("Önbellek", true));
+            subCategory = new SubCategory("Önbellek Alt", category);
+            subCategory.setActive(true);
+            subCategory = subCategoryRepository.save(subCategory);
+
+            author = new Author();
+            author.setUsername("onbellek");
+            author.setEmail("onbellek@example.com");
+            author.setPassword("password");
+            author.setActive(true);
+            author.setProfileImage(imageModelRepository.save(
+                    new ImageModel("profile.png", "image/png", 3L, "profile", "profile")));
+            author.setRoles(Set.of(role));
+            author = authorRepository.save(author);
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            authorRepository.deleteById(author.getId());
+            subCategoryRepository.deleteById(subCategory.getId());
+            categoryRepository.deleteById(category.getId());
+        });
+    }
+
+    @Test
+    public void test_findByName_servedFromQueryAndEntityCache() {
+        statements(1, () -> roleRepository.findByName("ROLE_CACHE_TEST"));
+        assertEquals(role.getId(), statements(0, () -> roleRepository.findByName("ROLE_CACHE_TEST")).orElseThrow().getId());
+
+        statements(1, () -> categoryRepository.findByName("Önbellek"));
+        assertEquals("Önbellek", statements(0, () -> categoryRepository.findByName("Önbellek")).orElseThrow().getName());
+
+        statements(1, () -> subCategoryRepository.findByName("Önbellek Alt"));
+        statements(0, () -> subCategoryRepository.findByName("Önbellek Alt"));
+        statements(0, () -> subCategoryRepository.findById(subCategory.getId()));
+    }
+
+    @Test
+    public void test_findByName_seesWrites() {
+        statements(1, () -> categoryRepository.findByName("Önbellek"));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Category renamed = categoryRepository.findById(category.getId()).orElseThrow();
+            renamed.setName("Önbellek Yeni");
+        });
+
+        assertTrue(categoryRepository.findByName("Önbellek").isEmpty());
+        assertEquals(category.getId(), categoryRepository.findByName("Önbellek Yeni").orElseThrow().getId());
+    }
+
+    @Test
+    public void test_authorRoles_servedFromCollectionCache() {
+        statements(-1, () -> authorRepository.findByUsernameOrEmail("onbellek", "onbellek"));
+        long hits = statistics.getCacheRegionStatistics("authorRoles").getHitCount();
+
+        Author loaded = statements(-1, () -> authorRepository.findByUsernameOrEmail("onbellek", "onbellek"))
+                .orElseThrow();
+
+        assertEquals(Set.of("ROLE_CACHE_TEST"), Set.of(loaded.getRoles().iterator().next().getName()));
+        assertEquals(hits + 1, statistics.getCacheRegionStatistics("authorRoles").getHitCount());
+        assertEquals(0, statistics.getCollectionFetchCount());
+    }
+
+    @Test
+    public void test_nativeDelete_keepsOtherRegions() {
+        statements(1, () -> roleRepository.findByName("ROLE_CACHE_TEST"));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                likeRepository.deleteByPostAndAuthor(UUID.randomUUID(), author.getId()));
+
+        statements(0, () -> roleRepository.findByName("ROLE_CACHE_TEST"));
+    }
+
+    @Test
+    public void test_regionsReportToMicrometer() {
+        roleRepository.findByName("ROLE_CACHE_TEST");
+        roleRepository.findByName("ROLE_CACHE_TEST");
+
+        assertTrue(meterRegistry.get("cache.gets").tag("cache", "roles").tag("result", "hit")
+                .functionCounter().count() > 0);
+    }
+
+    /**
+     * Runs the lookup and checks its statements; a negative expectation only clears the statistics.
+     */
+    private <T> T statements(long expected, Supplier<T> call) {
+        statistics.clear();
+        T result = call.get();
+        if (expected >= 0) {
+            assertEquals(expected, statistics.getPrepareStatementCount());
+        }
+        return result;
+    }
+}
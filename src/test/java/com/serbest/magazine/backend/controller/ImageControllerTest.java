@@ -0,0 +1,127 @@
+package com.serbest.magazine.backend.controller;
+
+import com.serbest.magazine.backend.entity.ImageModel;
+import com.serbest.magazine.backend.service.ImageModelService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ImageControllerTest {
+
+    @TempDir
+    Path root;
+
+    MockMvc mockMvc;
+    ImageModelService imageModelService;
+    ImageModel imageModel;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        Path file = Files.write(root.resolve("image"), "0123456789".getBytes());
+
+        imageModel = new ImageModel(UUID.randomUUID(), "image.png", "image/png", 10L, "hash", "image");
+        imageModel.setCreateDateTime(LocalDateTime.of(2023, 3, 1, 12, 0));
+        imageModelService = Mockito.mock(ImageModelService.class);
+        when(imageModelService.findById(imageModel.getId().toString())).thenReturn(imageModel);
+        when(imageModelService.loadImage(imageModel)).thenReturn(new FileSystemResource(file));
+        when(imageModelService.variantWidth(imageModel, null)).thenReturn(null);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new ImageController(imageModelService)).build();
+    }
+
+    @Test
+    public void test_imageFile_fullContent() throws Exception {
+        mockMvc.perform(get("/api/photos/" + imageModel.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 10))
+                .andExpect(content().contentType("image/png"))
+                .andExpect(content().bytes("0123456789".getBytes()));
+    }
+
+    @Test
+    public void test_imageFile_range() throws Exception {
+        mockMvc.perform(get("/api/photos/" + imageModel.getId()).header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+                .andExpect(content().bytes("2345".getBytes()));
+    }
+
+    @Test
+    public void test_imageFile_suffixRange() throws Exception {
+        mockMvc.perform(get("/api/photos/" + imageModel.getId()).header(HttpHeaders.RANGE, "bytes=-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 7-9/10"))
+                .andExpect(content().bytes("789".getBytes()));
+    }
+
+    @Test
+    public void test_imageFile_unsatisfiableRange() throws Exception {
+        mockMvc.perform(get("/api/photos/" + imageModel.getId()).header(HttpHeaders.RANGE, "bytes=20-30"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+    }
+
+    @Test
+    public void test_imageFile_cacheHeaders() throws Exception {
+        mockMvc.perform(get("/api/photos/" + imageModel.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"hash\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")));
+    }
+
+    @Test
+    public void test_imageFile_notModified() throws Exception {
+        mockMvc.perform(get("/api/photos/" + imageModel.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"hash\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"hash\""))
+                .andExpect(content().bytes(new byte[0]));
+
+        verify(imageModelService, never()).loadImage(any());
+    }
+
+    @Test
+    public void test_imageFile_ifRangeMismatch() throws Exception {
+        mockMvc.perform(get("/api/photos/" + imageModel.getId())
+                        .header(HttpHeaders.RANGE, "bytes=2-5")
+                        .header(HttpHeaders.IF_RANGE, "\"other\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes("0123456789".getBytes()));
+    }
+
+    @Test
+    public void test_imageFile_variant() throws Exception {
+        Path variant = Files.write(root.resolve("variant"), "small".getBytes());
+        when(imageModelService.variantWidth(imageModel, 300)).thenReturn(320);
+        when(imageModelService.loadImage(imageModel, 320)).thenReturn(new FileSystemResource(variant));
+
+        mockMvc.perform(get("/api/photos/" + imageModel.getId()).param("w", "300"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"hash-w320\""))
+                .andExpect(content().contentType("image/jpeg"))
+                .andExpect(content().bytes("small".getBytes()));
+    }
+}
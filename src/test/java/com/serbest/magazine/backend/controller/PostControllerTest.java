@@ -608,9 +608,9 @@ class PostControllerTest {
     @Test
     public void RA_test_getAllPostByCategory_shouldAllowPostFetchingWithoutAuthentication() {
         UUID postId = UUID.randomUUID();
-        PostResponseDTO responseDTO = PostResponseDTO.builder()
+        PostListItemDTO responseDTO = PostListItemDTO.builder()
                 .id(postId)
-                .content("Test Content")
+                .excerpt("Test Content")
                 .username("ensar")
                 .title("title")
                 .category("Test")
@@ -632,9 +632,9 @@ class PostControllerTest {
     @Test
     public void RA_test_getThreeByRandomPosts_shouldAllowPostFetchingWithoutAuthentication() {
         UUID postId = UUID.randomUUID();
-        PostResponseDTO responseDTO = PostResponseDTO.builder()
+        PostListItemDTO responseDTO = PostListItemDTO.builder()
                 .id(postId)
-                .content("Test Content")
+                .excerpt("Test Content")
                 .username("ensar")
                 .title("title")
                 .category("Test")
@@ -0,0 +1,111 @@
+package com.serbest.magazine.backend.job;
+
+import com.serbest.magazine.backend.cache.ContentVersions;
+import com.serbest.magazine.backend.entity.*;
+import com.serbest.magazine.backend.service.ImageModelService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({CounterReconciliationJob.class, ContentVersions.class})
+@TestPropertySource(properties = "magazine.counters.reconcile.batchSize=2")
+class CounterReconciliationJobTest {
+
+    @Autowired
+    CounterReconciliationJob counterReconciliationJob;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @MockBean
+    ImageModelService imageModelService;
+
+    @Test
+    public void test_reconcile() {
+        Author author = new Author();
+        author.setUsername("yazar");
+        author.setEmail("yazar@example.com");
+        author.setPassword("password");
+        author.setActive(true);
+        entityManager.persist(author);
+
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Post post = Post.Builder.newBuilder().title("Yazı " + i).active(true).author(author).build();
+            // Drifted: the stored counters claim activity that is not there.
+            post.setCommentCount(7);
+            post.setLikeCount(3);
+            posts.add(entityManager.persist(post));
+        }
+
+        Post commented = posts.get(2);
+        commented.setCommentCount(0);
+        commented.setLikeCount(0);
+        Comment comment = entityManager.persist(new Comment("Yorum", commented, author));
+        entityManager.persist(new Comment("Yorum", commented, author));
+        entityManager.persist(new Like(commented, null, author));
+        entityManager.persist(new Like(null, comment, author));
+
+        Post correct = posts.get(4);
+        correct.setCommentCount(0);
+        correct.setLikeCount(0);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Four drifted posts plus the comment whose like was never counted.
+        assertEquals(5, counterReconciliationJob.reconcile());
+
+        Post repaired = entityManager.find(Post.class, commented.getPostId());
+        assertEquals(2, repaired.getCommentCount());
+        assertEquals(1, repaired.getLikeCount());
+        assertEquals(1, entityManager.find(Comment.class, comment.getId()).getLikeCount());
+        assertEquals(0, entityManager.find(Post.class, posts.get(0).getPostId()).getCommentCount());
+
+        assertEquals(0, counterReconciliationJob.reconcile());
+    }
+
+    @Test
+    public void test_reconcile_imageReferences() {
+        ImageModel shared = new ImageModel("a.png", "image/png", 3L, "a", "a/a");
+        // Drifted: a cascaded delete left a reference behind, so the collector would never take it.
+        shared.setReferenceCount(5);
+        entityManager.persist(shared);
+        ImageModel orphan = new ImageModel("b.png", "image/png", 3L, "b", "b/b");
+        orphan.setReferenceCount(1);
+        entityManager.persist(orphan);
+        ImageModel correct = new ImageModel("c.png", "image/png", 3L, "c", "c/c");
+        correct.setReferenceCount(1);
+        entityManager.persist(correct);
+
+        entityManager.persist(movie(shared));
+        entityManager.persist(movie(shared));
+        entityManager.persist(movie(correct));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(2, counterReconciliationJob.reconcile());
+
+        assertEquals(2, entityManager.find(ImageModel.class, shared.getId()).getReferenceCount());
+        assertEquals(0, entityManager.find(ImageModel.class, orphan.getId()).getReferenceCount());
+        assertEquals(1, entityManager.find(ImageModel.class, correct.getId()).getReferenceCount());
+    }
+
+    private static Movie movie(ImageModel image) {
+        Movie movie = new Movie();
+        movie.setTitle("title");
+        movie.setImage(image);
+        return movie;
+    }
+}
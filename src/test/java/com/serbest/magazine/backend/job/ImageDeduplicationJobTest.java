@@ -0,0 +1,76 @@
+package com.serbest.magazine.backend.job;
+
+import com.serbest.magazine.backend.entity.ImageModel;
+import com.serbest.magazine.backend.entity.Movie;
+import com.serbest.magazine.backend.service.ImageModelService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ImageDeduplicationJob.class)
+class ImageDeduplicationJobTest {
+
+    @Autowired
+    ImageDeduplicationJob imageDeduplicationJob;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @MockBean
+    LegacyImageMigrationJob legacyImageMigrationJob;
+
+    @MockBean
+    ImageModelService imageModelService;
+
+    @Test
+    public void test_deduplicate() {
+        ImageModel first = entityManager.persist(new ImageModel("a.png", "image/png", 3L, "hash", "ha/sh/hash"));
+        ImageModel second = entityManager.persist(new ImageModel("b.png", "image/png", 3L, "hash", "ha/sh/hash"));
+        ImageModel empty = entityManager.persist(new ImageModel());
+
+        Movie withFirst = entityManager.persist(movie(first));
+        Movie withSecond = entityManager.persist(movie(second));
+        Movie withEmpty = entityManager.persist(movie(empty));
+        entityManager.flush();
+        entityManager.clear();
+
+        int removed = imageDeduplicationJob.deduplicate();
+
+        assertEquals(2, removed);
+        ImageModel shared = entityManager.find(Movie.class, withFirst.getId()).getImage();
+        assertEquals(shared.getId(), entityManager.find(Movie.class, withSecond.getId()).getImage().getId());
+        assertEquals(2, shared.getReferenceCount());
+        assertEquals(ImageModel.EMPTY_IMAGE_ID, entityManager.find(Movie.class, withEmpty.getId()).getImage().getId());
+        assertNull(entityManager.find(ImageModel.class, empty.getId()));
+    }
+
+    @Test
+    public void test_deduplicate_nothingToDo() {
+        ImageModel image = new ImageModel("a.png", "image/png", 3L, "hash", "ha/sh/hash");
+        // Off on purpose: with nothing to fold the counts are not recomputed.
+        image.setReferenceCount(7);
+        entityManager.persist(image);
+        entityManager.persist(movie(image));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(0, imageDeduplicationJob.deduplicate());
+        assertEquals(7, entityManager.find(ImageModel.class, image.getId()).getReferenceCount());
+    }
+
+    private Movie movie(ImageModel image) {
+        Movie movie = new Movie();
+        movie.setTitle("title");
+        movie.setImage(image);
+        return movie;
+    }
+}
@@ -0,0 +1,150 @@
+package com.serbest.magazine.backend.job;
+
+import com.serbest.magazine.backend.dto.image.OrphanImageReportDTO;
+import com.serbest.magazine.backend.entity.ImageModel;
+import com.serbest.magazine.backend.entity.Movie;
+import com.serbest.magazine.backend.service.ImageModelService;
+import com.serbest.magazine.backend.storage.HotImageCache;
+import com.serbest.magazine.backend.storage.ImageContentWriter;
+import com.serbest.magazine.backend.storage.ImageStore;
+import com.serbest.magazine.backend.storage.ImageVariantGenerator;
+import com.serbest.magazine.backend.storage.StoredImage;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({OrphanImageCollector.class, ImageContentWriter.class})
+@TestPropertySource(properties = {"magazine.images.gc.gracePeriod=PT1H", "magazine.images.gc.batchSize=1"})
+class OrphanImageCollectorTest {
+
+    @Autowired
+    OrphanImageCollector orphanImageCollector;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ImageContentWriter imageContentWriter;
+
+    @MockBean
+    ImageStore imageStore;
+
+    @MockBean
+    ImageVariantGenerator imageVariantGenerator;
+
+    @MockBean
+    HotImageCache hotImageCache;
+
+    @MockBean
+    LegacyImageMigrationJob legacyImageMigrationJob;
+
+    @MockBean
+    ImageModelService imageModelService;
+
+    @Test
+    public void test_collect() throws IOException {
+        when(imageVariantGenerator.variantKeys("or/ph/orphan")).thenReturn(List.of("or/ph/orphan@w320"));
+        ImageModel orphan = image("orphan", 0, LocalDateTime.now().minusDays(2));
+        ImageModel fresh = image("fresh", 0, LocalDateTime.now());
+        ImageModel referenced = image("referenced", 1, LocalDateTime.now().minusDays(2));
+        entityManager.persist(movie(referenced));
+        entityManager.flush();
+        entityManager.clear();
+
+        OrphanImageReportDTO report = orphanImageCollector.collect(false);
+
+        assertEquals(1, report.getOrphans());
+        assertEquals(1, report.getDeleted());
+        assertEquals(List.of(orphan.getId()), report.getSample());
+        assertNull(entityManager.find(ImageModel.class, orphan.getId()));
+        assertNotNull(entityManager.find(ImageModel.class, fresh.getId()));
+        assertNotNull(entityManager.find(ImageModel.class, referenced.getId()));
+        verify(imageStore).delete("or/ph/orphan");
+        verify(imageStore).delete("or/ph/orphan@w320");
+        verify(imageStore, never()).delete("fr/es/fresh");
+    }
+
+    @Test
+    public void test_collect_dryRun() throws IOException {
+        ImageModel orphan = image("orphan", 0, LocalDateTime.now().minusDays(2));
+        ImageModel other = image("other", 0, LocalDateTime.now().minusDays(3));
+        entityManager.clear();
+
+        OrphanImageReportDTO report = orphanImageCollector.collect(true);
+
+        assertTrue(report.isDryRun());
+        assertEquals(2, report.getOrphans());
+        assertEquals(6, report.getOrphanBytes());
+        assertEquals(0, report.getDeleted());
+        assertNotNull(entityManager.find(ImageModel.class, orphan.getId()));
+        assertNotNull(entityManager.find(ImageModel.class, other.getId()));
+        verify(imageStore, never()).delete(anyString());
+    }
+
+    @Test
+    public void test_collect_keepsCountedImage() throws IOException {
+        // Reused by an upload whose owner is not saved yet.
+        ImageModel reused = image("reused", 1, LocalDateTime.now().minusDays(2));
+        entityManager.clear();
+
+        OrphanImageReportDTO report = orphanImageCollector.collect(false);
+
+        assertEquals(1, report.getOrphans());
+        assertEquals(0, report.getDeleted());
+        assertNotNull(entityManager.find(ImageModel.class, reused.getId()));
+        verify(imageStore, never()).delete(anyString());
+    }
+
+    @Test
+    public void test_collect_keepsContentReusedByUpload() throws IOException {
+        StoredImage storedImage = imageContentWriter.write(
+                new MockMultipartFile("image", "a.png", "image/png", "png".getBytes()), "image/png");
+        // The upload's own row is not committed yet, only an old orphan shares its bytes.
+        ImageModel orphan = image(storedImage.getContentHash(), 0, LocalDateTime.now().minusDays(2));
+        entityManager.clear();
+
+        OrphanImageReportDTO report = orphanImageCollector.collect(false);
+
+        assertEquals(1, report.getDeleted());
+        assertNull(entityManager.find(ImageModel.class, orphan.getId()));
+        verify(imageStore, never()).delete(anyString());
+    }
+
+    private ImageModel image(String hash, long referenceCount, LocalDateTime created) {
+        String storageKey = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash;
+        ImageModel image = new ImageModel(hash + ".png", "image/png", 3L, hash, storageKey);
+        image.setReferenceCount(referenceCount);
+        entityManager.persistAndFlush(image);
+        jdbcTemplate.update("update image_model set create_date_time = ? where id = ?",
+                Timestamp.valueOf(created), image.getId());
+        return image;
+    }
+
+    private Movie movie(ImageModel image) {
+        Movie movie = new Movie();
+        movie.setTitle("title");
+        movie.setImage(image);
+        return movie;
+    }
+}
@@ -0,0 +1,70 @@
+package com.serbest.magazine.backend.job;
+
+import com.serbest.magazine.backend.entity.Author;
+import com.serbest.magazine.backend.entity.Post;
+import com.serbest.magazine.backend.search.PostSearchIndex;
+import com.serbest.magazine.backend.service.ImageModelService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({PostSearchIndexJob.class, PostSearchIndex.class})
+// Keeps the startup run out of the way; the test rebuilds itself.
+@TestPropertySource(properties = {"magazine.search.rebuild.enabled=false", "magazine.search.rebuild.batchSize=2"})
+class PostSearchIndexJobTest {
+
+    @Autowired
+    PostSearchIndexJob postSearchIndexJob;
+
+    @Autowired
+    PostSearchIndex postSearchIndex;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @MockBean
+    ImageModelService imageModelService;
+
+    @Test
+    public void test_rebuild() {
+        Author author = new Author();
+        author.setUsername("yazar");
+        author.setEmail("yazar@example.com");
+        author.setPassword("password");
+        author.setActive(true);
+        entityManager.persist(author);
+
+        for (int i = 0; i < 5; i++) {
+            Post post = Post.Builder.newBuilder().title("Yazı " + i).content("<p>Sinema</p>")
+                    .active(true).author(author).build();
+            post.setPlainText("Sinema");
+            entityManager.persist(post);
+        }
+        Post draft = Post.Builder.newBuilder().title("Taslak yazı").content("<p>Sinema</p>")
+                .active(false).author(author).build();
+        draft.setPlainText("Sinema");
+        entityManager.persist(draft);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Left over from before the rebuild, gone afterwards.
+        postSearchIndex.index(UUID.randomUUID(), "Silinmiş yazı", null, null, "Sinema");
+
+        assertEquals(5, postSearchIndexJob.rebuild());
+
+        assertEquals(5, postSearchIndex.size());
+        assertEquals(5, postSearchIndex.search("sinema", 0, 10).totalItems());
+        assertEquals(0, postSearchIndex.search("taslak", 0, 10).totalItems());
+    }
+}
@@ -0,0 +1,66 @@
+package com.serbest.magazine.backend.job;
+
+import com.serbest.magazine.backend.entity.Author;
+import com.serbest.magazine.backend.entity.Post;
+import com.serbest.magazine.backend.service.ImageModelService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PostTextBackfillJob.class)
+@TestPropertySource(properties = {"magazine.posts.textBackfill.enabled=false", "magazine.posts.textBackfill.batchSize=2"})
+class PostTextBackfillJobTest {
+
+    @Autowired
+    PostTextBackfillJob postTextBackfillJob;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @MockBean
+    ImageModelService imageModelService;
+
+    @Test
+    public void test_backfill() {
+        Author author = new Author();
+        author.setUsername("yazar");
+        author.setEmail("yazar@example.com");
+        author.setPassword("password");
+        author.setActive(true);
+        entityManager.persist(author);
+
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            posts.add(entityManager.persist(Post.Builder.newBuilder().title("Yazı " + i)
+                    .content("<p>Eski bir <b>sinema</b> salonu.</p>").active(true).author(author).build()));
+        }
+        Post derived = posts.get(4);
+        derived.setExcerpt("Önceden");
+        derived.setWordCount(1);
+        derived.setReadingTime(1);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(4, postTextBackfillJob.backfill());
+        assertEquals(0, postTextBackfillJob.backfill());
+
+        Post post = entityManager.find(Post.class, posts.get(0).getPostId());
+        assertEquals("Eski bir sinema salonu.", post.getPlainText());
+        assertEquals("Eski bir sinema salonu.", post.getExcerpt());
+        assertEquals(4, post.getWordCount());
+        assertEquals(1, post.getReadingTime());
+        assertEquals("Önceden", entityManager.find(Post.class, derived.getPostId()).getExcerpt());
+    }
+}
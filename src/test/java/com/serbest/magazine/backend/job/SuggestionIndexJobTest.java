@@ -0,0 +1,84 @@
+package com.serbest.magazine.backend.job;
+
+import com.serbest.magazine.backend.entity.*;
+import com.serbest.magazine.backend.search.SuggestionIndex;
+import com.serbest.magazine.backend.search.SuggestionType;
+import com.serbest.magazine.backend.service.ImageModelService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({SuggestionIndexJob.class, SuggestionIndex.class})
+// Keeps the startup run out of the way; the test rebuilds itself.
+@TestPropertySource(properties = "magazine.suggest.rebuild.enabled=false")
+class SuggestionIndexJobTest {
+
+    @Autowired
+    SuggestionIndexJob suggestionIndexJob;
+
+    @Autowired
+    SuggestionIndex suggestionIndex;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @MockBean
+    ImageModelService imageModelService;
+
+    @Test
+    public void test_rebuild() {
+        Category cinema = entityManager.persist(new Category("Sinema", true));
+        entityManager.persist(new Category("Siyaset", false));
+        SubCategory review = new SubCategory("Sinema Eleştirisi", cinema);
+        review.setActive(true);
+        entityManager.persist(review);
+
+        Author author = new Author();
+        author.setUsername("sinemasever");
+        author.setEmail("yazar@example.com");
+        author.setPassword("password");
+        author.setActive(true);
+        entityManager.persist(author);
+
+        for (int i = 0; i < 3; i++) {
+            Post post = Post.Builder.newBuilder().title("Sinemada " + (i + 1) + ". hafta").active(true)
+                    .category(cinema).subCategory(review).author(author).build();
+            post.setLikeCount(i);
+            entityManager.persist(post);
+        }
+        entityManager.persist(Post.Builder.newBuilder().title("Sinema taslağı").active(false)
+                .category(cinema).subCategory(review).author(author).build());
+        entityManager.persist(new EncyclopediaArticle("Sinematografi", "İçerik", "Açıklama"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Three posts, the author, the active category, the sub category and the article.
+        assertEquals(7, suggestionIndexJob.rebuild());
+
+        List<SuggestionIndex.Suggestion> suggestions = suggestionIndex.suggest("sin", 20);
+        assertEquals(7, suggestions.size());
+        // The category, the sub category and the author each count three active posts.
+        assertEquals(Set.of(
+                new SuggestionIndex.Suggestion(SuggestionType.CATEGORY, cinema.getId().toString(), "Sinema", 3),
+                new SuggestionIndex.Suggestion(SuggestionType.SUB_CATEGORY, review.getId().toString(),
+                        "Sinema Eleştirisi", 3),
+                new SuggestionIndex.Suggestion(SuggestionType.AUTHOR, author.getId().toString(), "sinemasever", 3)
+        ), Set.copyOf(suggestions.subList(0, 3)));
+        assertEquals("Sinemada 3. hafta", suggestions.get(3).label());
+        assertEquals(2, suggestions.get(3).weight());
+        assertTrue(suggestionIndex.suggest("siyaset", 20).isEmpty());
+        assertTrue(suggestionIndex.suggest("taslak", 20).isEmpty());
+    }
+}
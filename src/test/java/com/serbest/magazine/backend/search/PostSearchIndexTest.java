@@ -0,0 +1,104 @@
+package com.serbest.magazine.backend.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostSearchIndexTest {
+
+    private PostSearchIndex index;
+
+    private final UUID inTitle = UUID.randomUUID();
+    private final UUID inContent = UUID.randomUUID();
+    private final UUID other = UUID.randomUUID();
+
+    @BeforeEach
+    public void setUp() {
+        index = new PostSearchIndex();
+        index.index(inTitle, "Sinemada gözlükler", "Bir dönem", "Açıklama", "Uzun bir yazı.");
+        index.index(inContent, "Yaz notları", null, null,
+                "Eski bir sinema salonunda, gözlüğünü unutan seyircinin gözlükleri üzerine.");
+        index.index(other, "Müzik", "Caz", "Açıklama", "Plaklar");
+    }
+
+    @Test
+    public void test_search_ranksTitleMatchesFirst() {
+        PostSearchIndex.SearchPage page = index.search("GÖZLÜK", 0, 10);
+
+        assertEquals(2, page.totalItems());
+        assertEquals(List.of(inTitle, inContent), page.hits().stream().map(PostSearchIndex.Hit::postId).toList());
+    }
+
+    @Test
+    public void test_search_highlightsAndEscapes() {
+        index.index(other, "Müzik & <caz>", null, null, "Plaklar");
+
+        PostSearchIndex.Hit hit = index.search("caz", 0, 10).hits().get(0);
+
+        assertEquals("Müzik &amp; &lt;<mark>caz</mark>&gt;", hit.highlightedTitle());
+        assertEquals("Plaklar", hit.snippet());
+    }
+
+    @Test
+    public void test_search_snippetAroundFirstMatch() {
+        PostSearchIndex.Hit hit = index.search("seyirci", 0, 10).hits().get(0);
+
+        assertEquals(inContent, hit.postId());
+        assertEquals("Eski bir sinema salonunda, gözlüğünü unutan <mark>seyircinin</mark> gözlükleri üzerine.",
+                hit.snippet());
+    }
+
+    @Test
+    public void test_search_paginates() {
+        for (int i = 0; i < 7; i++) {
+            index.index(UUID.randomUUID(), "Plak " + i, null, null, "");
+        }
+
+        PostSearchIndex.SearchPage first = index.search("plak", 0, 5);
+        PostSearchIndex.SearchPage second = index.search("plak", 1, 5);
+
+        assertEquals(8, first.totalItems());
+        assertEquals(5, first.hits().size());
+        assertEquals(3, second.hits().size());
+        assertTrue(index.search("plak", 2, 5).hits().isEmpty());
+        assertTrue(index.search("plak", Integer.MAX_VALUE, 5).hits().isEmpty());
+    }
+
+    @Test
+    public void test_index_replacesAndRemoves() {
+        index.index(inTitle, "Caz", null, null, "");
+        assertEquals(1, index.search("gözlük", 0, 10).totalItems());
+
+        index.remove(inContent);
+        assertEquals(0, index.search("gözlük", 0, 10).totalItems());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    public void test_search_noTerms() {
+        assertEquals(0, index.search(" ve ", 0, 10).totalItems());
+    }
+
+    @Test
+    public void test_rebuild_replaysConcurrentWrites() {
+        UUID added = UUID.randomUUID();
+
+        PostSearchIndex.Rebuild rebuild = index.startRebuild();
+        rebuild.add(inTitle, "Sinemada gözlükler", null, null, "");
+        rebuild.add(inContent, "Yaz notları", null, null, "gözlük");
+        index.remove(inContent);
+        index.index(added, "Gözlükçü", null, null, "gözlük");
+        rebuild.commit();
+
+        assertEquals(2, index.size());
+        assertEquals(Set.of(inTitle, added), index.search("gözlük", 0, 10).hits().stream()
+                .map(PostSearchIndex.Hit::postId).collect(Collectors.toSet()));
+        assertTrue(index.search("müzik", 0, 10).hits().isEmpty());
+    }
+}
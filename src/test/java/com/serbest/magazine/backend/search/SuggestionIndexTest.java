@@ -0,0 +1,99 @@
+package com.serbest.magazine.backend.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuggestionIndexTest {
+
+    private SuggestionIndex index;
+
+    private final UUID lordOfTheRings = UUID.randomUUID();
+    private final UUID cinema = UUID.randomUUID();
+
+    @BeforeEach
+    public void setUp() {
+        index = new SuggestionIndex();
+        index.put(SuggestionType.POST, lordOfTheRings, "Yüzüklerin Efendisi", 12);
+        index.put(SuggestionType.POST, UUID.randomUUID(), "Yüzyılın Filmleri", 30);
+        index.put(SuggestionType.POST, UUID.randomUUID(), "Yüz Yüze", 4);
+        index.put(SuggestionType.CATEGORY, cinema, "Sinema", 50);
+        index.put(SuggestionType.SUB_CATEGORY, UUID.randomUUID(), "Sinema Eleştirisi", 7);
+        index.put(SuggestionType.AUTHOR, UUID.randomUUID(), "sinemasever", 2);
+    }
+
+    @Test
+    public void test_suggest_heaviestFirst() {
+        assertEquals(List.of("Yüzyılın Filmleri", "Yüzüklerin Efendisi", "Yüz Yüze"), labels("yüz", 10));
+        assertEquals(List.of("Yüzyılın Filmleri", "Yüzüklerin Efendisi"), labels("yüz", 2));
+        assertEquals(List.of("Sinema", "Sinema Eleştirisi", "sinemasever"), labels("sin", 10));
+    }
+
+    @Test
+    public void test_suggest_turkishFoldingAndCase() {
+        assertEquals(List.of("Yüzüklerin Efendisi"), labels("YUZUK", 10));
+        assertEquals(List.of("Sinema Eleştirisi"), labels("elestir", 10));
+    }
+
+    @Test
+    public void test_suggest_matchesAnyWordOnce() {
+        assertEquals(List.of("Yüzüklerin Efendisi"), labels("efendi", 10));
+        assertEquals(List.of("Yüz Yüze"), labels("yüz yü", 10));
+        // Both words of "Yüz Yüze" start with "yüz", it is still suggested once.
+        assertEquals(1, labels("yüz", 10).stream().filter("Yüz Yüze"::equals).count());
+    }
+
+    @Test
+    public void test_suggest_noMatch() {
+        assertTrue(index.suggest("xyz", 10).isEmpty());
+        assertTrue(index.suggest("  ", 10).isEmpty());
+        assertTrue(index.suggest(null, 10).isEmpty());
+    }
+
+    @Test
+    public void test_put_renameKeepsWeight() {
+        index.put(SuggestionType.CATEGORY, cinema, "Sinemalar");
+
+        List<SuggestionIndex.Suggestion> suggestions = index.suggest("sinemal", 10);
+        assertEquals(1, suggestions.size());
+        assertEquals(50, suggestions.get(0).weight());
+        assertEquals(cinema.toString(), suggestions.get(0).id());
+        assertEquals(List.of("Sinema Eleştirisi", "sinemasever"),
+                labels("sinema", 10).stream().filter(label -> !label.equals("Sinemalar")).toList());
+    }
+
+    @Test
+    public void test_remove() {
+        index.remove(SuggestionType.POST, lordOfTheRings);
+        index.remove(SuggestionType.CATEGORY, cinema);
+
+        assertEquals(List.of("Yüzyılın Filmleri", "Yüz Yüze"), labels("yüz", 10));
+        assertTrue(index.suggest("efendi", 10).isEmpty());
+        assertEquals(List.of("Sinema Eleştirisi", "sinemasever"), labels("sinema", 10));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    public void test_rebuild_replaysConcurrentWrites() {
+        UUID added = UUID.randomUUID();
+
+        SuggestionIndex.Rebuild rebuild = index.startRebuild();
+        rebuild.add(SuggestionType.POST, lordOfTheRings, "Yüzüklerin Efendisi", 100);
+        rebuild.add(SuggestionType.CATEGORY, cinema, "Sinema", 50);
+        index.remove(SuggestionType.CATEGORY, cinema);
+        index.put(SuggestionType.ENCYCLOPEDIA_ARTICLE, added, "Sinematografi", 0);
+        rebuild.commit();
+
+        assertEquals(2, index.size());
+        assertEquals(List.of("Sinematografi"), labels("sinema", 10));
+        assertEquals(100, index.suggest("yüz", 10).get(0).weight());
+    }
+
+    private List<String> labels(String prefix, int limit) {
+        return index.suggest(prefix, limit).stream().map(SuggestionIndex.Suggestion::label).toList();
+    }
+}
@@ -0,0 +1,51 @@
+package com.serbest.magazine.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TurkishAnalyzerTest {
+
+    @Test
+    public void test_analyze_turkishCase() {
+        assertEquals(List.of("istanbul"), TurkishAnalyzer.analyze("İSTANBUL"));
+        assertEquals(List.of("isik"), TurkishAnalyzer.analyze("IŞIK"));
+        assertEquals(TurkishAnalyzer.analyze("ılık"), TurkishAnalyzer.analyze("ILIK"));
+    }
+
+    @Test
+    public void test_analyze_dropsSuffixAfterApostrophe() {
+        assertEquals(TurkishAnalyzer.analyze("İstanbul Ankara"), TurkishAnalyzer.analyze("İstanbul'da ve Ankara’dan"));
+    }
+
+    @Test
+    public void test_analyze_stemsInflections() {
+        String stem = TurkishAnalyzer.term("gözlük");
+
+        assertEquals("gozluk", stem);
+        assertEquals(stem, TurkishAnalyzer.term("gözlükler"));
+        assertEquals(stem, TurkishAnalyzer.term("gözlüklerinden"));
+        assertEquals(stem, TurkishAnalyzer.term("gozlukler"));
+        assertEquals(TurkishAnalyzer.term("filmler"), TurkishAnalyzer.term("filmlerde"));
+    }
+
+    @Test
+    public void test_analyze_keepsShortStems() {
+        assertEquals("yazi", TurkishAnalyzer.term("Yazı"));
+        assertEquals("kedi", TurkishAnalyzer.term("kedi"));
+    }
+
+    @Test
+    public void test_analyze_dropsStopWordsAndSingleLetters() {
+        assertEquals(List.of("kitap", "film"), TurkishAnalyzer.analyze("Bir kitap ve bir film, o kadar: 3 a"));
+        assertTrue(TurkishAnalyzer.analyze(null).isEmpty());
+    }
+
+    @Test
+    public void test_plainText() {
+        assertEquals("Başlık Bir & iki <üç>",
+                TurkishAnalyzer.plainText("<h1>Başlık</h1><p>Bir&nbsp;&amp; iki &lt;üç&gt;</p>"));
+    }
+}
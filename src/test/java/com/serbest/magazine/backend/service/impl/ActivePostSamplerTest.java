@@ -0,0 +1,76 @@
+package com.serbest.magazine.backend.service.impl;
+
+import com.serbest.magazine.backend.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActivePostSamplerTest {
+
+    @InjectMocks
+    ActivePostSampler activePostSampler;
+
+    @Mock
+    PostRepository postRepository;
+
+    @Test
+    public void test_sample_distinctActiveIds() {
+        List<UUID> ids = IntStream.range(0, 10).mapToObj(i -> UUID.randomUUID()).toList();
+        when(postRepository.findActivePostIds()).thenReturn(ids);
+
+        Set<UUID> seen = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            List<UUID> sample = activePostSampler.sample(3);
+            assertEquals(3, sample.size());
+            assertEquals(3, new HashSet<>(sample).size());
+            assertTrue(ids.containsAll(sample));
+            seen.addAll(sample);
+        }
+
+        assertEquals(new HashSet<>(ids), seen);
+        verify(postRepository, times(1)).findActivePostIds();
+    }
+
+    @Test
+    public void test_sample_fewerThanRequested() {
+        UUID id = UUID.randomUUID();
+        when(postRepository.findActivePostIds()).thenReturn(List.of(id));
+
+        assertEquals(List.of(id), activePostSampler.sample(3));
+    }
+
+    @Test
+    public void test_addAndRemove() {
+        UUID kept = UUID.randomUUID();
+        UUID removed = UUID.randomUUID();
+        UUID added = UUID.randomUUID();
+        when(postRepository.findActivePostIds()).thenReturn(List.of(kept, removed));
+        activePostSampler.sample(3);
+
+        activePostSampler.remove(removed);
+        activePostSampler.add(added);
+        activePostSampler.add(added);
+
+        assertEquals(Set.of(kept, added), new HashSet<>(activePostSampler.sample(3)));
+        assertEquals(2, activePostSampler.sample(3).size());
+    }
+
+    @Test
+    public void test_addBeforeLoad_isLeftToTheLoad() {
+        activePostSampler.add(UUID.randomUUID());
+
+        verifyNoInteractions(postRepository);
+    }
+}
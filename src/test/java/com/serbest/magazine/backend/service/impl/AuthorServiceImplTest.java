@@ -1,5 +1,6 @@
 package com.serbest.magazine.backend.service.impl;
 
+import com.serbest.magazine.backend.cache.ContentVersions;
 import com.serbest.magazine.backend.dto.author.AuthorCardResponseDTO;
 import com.serbest.magazine.backend.dto.author.AuthorListResponseDTO;
 import com.serbest.magazine.backend.dto.general.MessageResponseDTO;
@@ -13,6 +14,8 @@ import com.serbest.magazine.backend.mapper.UserMapper;
 import com.serbest.magazine.backend.repository.AuthorRepository;
 import com.serbest.magazine.backend.repository.RoleRepository;
 import com.serbest.magazine.backend.security.CheckAuthorization;
+import com.serbest.magazine.backend.search.SuggestionIndex;
+import com.serbest.magazine.backend.util.NdjsonStreamer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -47,6 +50,15 @@ class AuthorServiceImplTest {
     @Mock
     ImageModelServiceImpl imageModelService;
 
+    @Mock
+    SuggestionIndex suggestionIndex;
+
+    @Mock
+    NdjsonStreamer ndjsonStreamer;
+
+    @Mock
+    ContentVersions contentVersions;
+
     @Test
     public void test_getUsers_withSuccess() {
         Author author = Author.Builder.newBuilder()
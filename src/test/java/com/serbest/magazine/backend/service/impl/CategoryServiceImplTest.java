@@ -7,6 +7,8 @@ import com.serbest.magazine.backend.entity.Category;
 import com.serbest.magazine.backend.exception.CustomApplicationException;
 import com.serbest.magazine.backend.mapper.CategoryMapper;
 import com.serbest.magazine.backend.repository.CategoryRepository;
+import com.serbest.magazine.backend.search.SuggestionIndex;
+import com.serbest.magazine.backend.service.TaxonomyService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
@@ -15,6 +17,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.any;
 
@@ -28,6 +31,12 @@ class CategoryServiceImplTest {
     @Mock
     CategoryMapper categoryMapper;
 
+    @Mock
+    SuggestionIndex suggestionIndex;
+
+    @Mock
+    TaxonomyService taxonomyService;
+
 
     @Test
     public void test_createCategory_withSuccess() {
@@ -101,12 +110,14 @@ class CategoryServiceImplTest {
 
     @Test
     public void test_getAllCategory_withSuccess() {
-        Category category = new Category(UUID.randomUUID(), "Siyaset", true);
-        Category category2 = new Category(UUID.randomUUID(), "Spor", true);
-        when(categoryRepository.findByActiveTrue()).thenReturn(Arrays.asList(category, category2));
+        when(taxonomyService.getSnapshot()).thenReturn(TaxonomyService.Snapshot.of(List.of(
+                new TaxonomyService.CategoryNode(UUID.randomUUID(), "Siyaset", true, List.of()),
+                new TaxonomyService.CategoryNode(UUID.randomUUID(), "Spor", true, List.of()),
+                new TaxonomyService.CategoryNode(UUID.randomUUID(), "Moda", false, List.of())), new byte[0], "\"\""));
         List<CategoryResponseDTO> categoryResponseDTOS = categoryService.getAllCategory();
 
         assertEquals(2, categoryResponseDTOS.size());
+        verifyNoInteractions(categoryRepository);
     }
 
     @Test
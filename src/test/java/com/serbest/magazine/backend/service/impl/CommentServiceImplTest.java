@@ -1,5 +1,7 @@
 package com.serbest.magazine.backend.service.impl;
 
+import com.serbest.magazine.backend.cache.ContentVersions;
+import com.serbest.magazine.backend.cache.PostDetailCache;
 import com.serbest.magazine.backend.dto.comment.CommentRequestDTO;
 import com.serbest.magazine.backend.dto.comment.CommentResponseDTO;
 import com.serbest.magazine.backend.dto.general.MessageResponseDTO;
@@ -51,6 +53,12 @@ class CommentServiceImplTest {
     @Mock
     CommentMapper commentMapper;
 
+    @Mock
+    PostDetailCache postDetailCache;
+
+    @Mock
+    ContentVersions contentVersions;
+
     @Mock
     PostRepository postRepository;
 
@@ -187,6 +195,23 @@ class CommentServiceImplTest {
         );
     }
 
+    @Test
+    public void test_deleteById_decrementsCommentCount() throws AccessDeniedException {
+        UUID commentId = UUID.randomUUID();
+        UUID postId = UUID.randomUUID();
+        Comment mockComment = Mockito.mock(Comment.class);
+        Post mockPost = Mockito.mock(Post.class);
+
+        when(mockComment.getId()).thenReturn(commentId);
+        when(mockComment.getPost()).thenReturn(mockPost);
+        when(mockPost.getPostId()).thenReturn(postId);
+        when(commentRepository.findById(commentId)).thenReturn(Optional.of(mockComment));
+
+        commentService.deleteById(commentId.toString());
+
+        verify(postRepository).decrementCommentCount(postId);
+    }
+
     @Test
     public void test_deleteById_withoutProvidedCommentId() {
         assertThrows(
@@ -0,0 +1,106 @@
+package com.serbest.magazine.backend.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.serbest.magazine.backend.dto.post.FirstFivePostsListDTO;
+import com.serbest.magazine.backend.event.ContentChangedEvent;
+import com.serbest.magazine.backend.exception.CustomApplicationException;
+import com.serbest.magazine.backend.service.EncyclopediaArticleService;
+import com.serbest.magazine.backend.service.HomePageService;
+import com.serbest.magazine.backend.service.MovieService;
+import com.serbest.magazine.backend.service.MusicService;
+import com.serbest.magazine.backend.service.PictureService;
+import com.serbest.magazine.backend.service.PostService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HomePageServiceImplTest {
+
+    HomePageServiceImpl homePageService;
+
+    @Mock
+    PostService postService;
+
+    @Mock
+    EncyclopediaArticleService encyclopediaArticleService;
+
+    @Mock
+    MovieService movieService;
+
+    @Mock
+    MusicService musicService;
+
+    @Mock
+    PictureService pictureService;
+
+    @BeforeEach
+    public void setUp() {
+        homePageService = new HomePageServiceImpl(postService, encyclopediaArticleService, movieService,
+                musicService, pictureService, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        homePageService.destroy();
+    }
+
+    @Test
+    public void test_getSnapshot_buildsOnce() {
+        UUID postId = UUID.randomUUID();
+        when(postService.getFirstFivePosts())
+                .thenReturn(List.of(new FirstFivePostsListDTO(postId, null, "Başlık", null, null)));
+
+        HomePageService.Snapshot snapshot = homePageService.getSnapshot();
+
+        assertSame(snapshot, homePageService.getSnapshot());
+        assertTrue(new String(snapshot.body(), StandardCharsets.UTF_8).contains(postId.toString()));
+        assertTrue(snapshot.etag().startsWith("\""));
+        verify(postService, times(1)).getFirstFivePosts();
+    }
+
+    @Test
+    public void test_getSnapshot_failingSection() {
+        when(movieService.getMasterpieceOfTheWeek())
+                .thenThrow(new CustomApplicationException(HttpStatus.NOT_FOUND, "Film bulunamadı."));
+
+        String body = new String(homePageService.getSnapshot().body(), StandardCharsets.UTF_8);
+
+        assertTrue(body.contains("\"movieOfTheWeek\":null"));
+        verify(pictureService).getMasterpieceOfTheWeek();
+    }
+
+    @Test
+    public void test_onContentChanged_rebuilds() {
+        HomePageService.Snapshot first = homePageService.getSnapshot();
+        when(postService.getFirstFivePosts())
+                .thenReturn(List.of(new FirstFivePostsListDTO(UUID.randomUUID(), null, "Yeni", null, null)));
+
+        homePageService.onContentChanged(new ContentChangedEvent("post"));
+
+        verify(postService, timeout(2000).times(2)).getFirstFivePosts();
+        verify(pictureService, timeout(2000).times(2)).getMasterpieceOfTheWeek();
+        await(() -> homePageService.getSnapshot() != first);
+        assertNotEquals(first.etag(), homePageService.getSnapshot().etag());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
@@ -0,0 +1,145 @@
+package com.serbest.magazine.backend.service.impl;
+
+import com.serbest.magazine.backend.entity.ImageModel;
+import com.serbest.magazine.backend.exception.ResourceNotFoundException;
+import com.serbest.magazine.backend.job.LegacyImageMigrationJob;
+import com.serbest.magazine.backend.repository.ImageModelRepository;
+import com.serbest.magazine.backend.storage.HotImageCache;
+import com.serbest.magazine.backend.storage.ImageContentWriter;
+import com.serbest.magazine.backend.storage.ImagePlaceholderGenerator;
+import com.serbest.magazine.backend.storage.ImageStore;
+import com.serbest.magazine.backend.storage.ImageVariantGenerator;
+import com.serbest.magazine.backend.storage.StoredImage;
+import com.serbest.magazine.backend.storage.UploadLimiter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageModelServiceImplTest {
+
+    @InjectMocks
+    ImageModelServiceImpl imageModelService;
+
+    @Mock
+    ImageModelRepository imageModelRepository;
+
+    @Mock
+    ImageStore imageStore;
+
+    @Mock
+    ImageContentWriter imageContentWriter;
+
+    @Mock
+    LegacyImageMigrationJob legacyImageMigrationJob;
+
+    @Mock
+    ImageVariantGenerator imageVariantGenerator;
+
+    @Mock
+    HotImageCache hotImageCache;
+
+    @Mock
+    UploadLimiter uploadLimiter;
+
+    @Mock
+    ImagePlaceholderGenerator imagePlaceholderGenerator;
+
+    MockMultipartFile file = new MockMultipartFile("image", "image.png", "image/png", new byte[]{1, 2, 3});
+
+    @Test
+    public void test_uploadImage_newContent() throws IOException {
+        stubUpload();
+        when(imageModelRepository.findFirstByContentHashOrderByIdAsc("hash")).thenReturn(Optional.empty());
+        when(imageModelRepository.save(any(ImageModel.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ImageModel imageModel = imageModelService.uploadImage(file);
+
+        assertEquals("ha/sh/hash", imageModel.getStorageKey());
+        assertEquals(1, imageModel.getReferenceCount());
+        verify(imageVariantGenerator).generateAsync("ha/sh/hash", "image/png");
+    }
+
+    @Test
+    public void test_uploadImage_knownContent() throws IOException {
+        ImageModel existing = new ImageModel(UUID.randomUUID(), "old.png", "image/png", 3L, "hash", "ha/sh/hash");
+        stubUpload();
+        when(imageModelRepository.findFirstByContentHashOrderByIdAsc("hash")).thenReturn(Optional.of(existing));
+        when(imageModelRepository.incrementReferenceCount(existing.getId())).thenReturn(1);
+
+        ImageModel imageModel = imageModelService.uploadImage(file);
+
+        assertSame(existing, imageModel);
+        verify(imageModelRepository).incrementReferenceCount(existing.getId());
+        verify(imageModelRepository, never()).save(any());
+    }
+
+    @Test
+    public void test_uploadImage_knownContentCollected() throws IOException {
+        ImageModel existing = new ImageModel(UUID.randomUUID(), "old.png", "image/png", 3L, "hash", "ha/sh/hash");
+        stubUpload();
+        when(imageModelRepository.findFirstByContentHashOrderByIdAsc("hash")).thenReturn(Optional.of(existing));
+        when(imageModelRepository.incrementReferenceCount(existing.getId())).thenReturn(0);
+        when(imageModelRepository.save(any(ImageModel.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ImageModel imageModel = imageModelService.uploadImage(file);
+
+        assertNotSame(existing, imageModel);
+        assertEquals(1, imageModel.getReferenceCount());
+    }
+
+    @Test
+    public void test_acquireImage_collected() {
+        UUID imageId = UUID.randomUUID();
+        when(imageModelRepository.incrementReferenceCount(imageId)).thenReturn(0);
+
+        assertThrows(ResourceNotFoundException.class, () -> imageModelService.acquireImage(imageId));
+    }
+
+    @Test
+    public void test_uploadImage_withoutFile() throws IOException {
+        ImageModel empty = new ImageModel(ImageModel.EMPTY_IMAGE_ID, "empty", null, null, null, null);
+        when(imageModelRepository.findById(ImageModel.EMPTY_IMAGE_ID)).thenReturn(Optional.of(empty));
+
+        assertSame(empty, imageModelService.uploadImage(null));
+        verifyNoInteractions(imageContentWriter);
+    }
+
+    @Test
+    public void test_replaceImage_releasesCurrent() throws IOException {
+        ImageModel current = new ImageModel(UUID.randomUUID(), "old.png", "image/png", 3L, "old", "ol/d/old");
+        ImageModel empty = new ImageModel(ImageModel.EMPTY_IMAGE_ID, "empty", null, null, null, null);
+        when(imageModelRepository.findById(ImageModel.EMPTY_IMAGE_ID)).thenReturn(Optional.of(empty));
+
+        assertSame(empty, imageModelService.replaceImage(current, null));
+        verify(imageModelRepository).decrementReferenceCount(current.getId());
+        verify(hotImageCache).evict(current);
+    }
+
+    @Test
+    public void test_releaseImage_ignoresEmptyImage() {
+        imageModelService.releaseImage(new ImageModel(ImageModel.EMPTY_IMAGE_ID, "empty", null, null, null, null));
+        imageModelService.releaseImage(new ImageModel());
+        imageModelService.releaseImage(null);
+
+        verifyNoInteractions(imageModelRepository);
+    }
+
+    private void stubUpload() throws IOException {
+        when(uploadLimiter.acquire(3)).thenReturn(mock(UploadLimiter.Permit.class));
+        when(uploadLimiter.getMaxUploadBytes()).thenReturn(1024L);
+        when(imageContentWriter.writeUpload(file, 1024L))
+                .thenReturn(new StoredImage("hash", "ha/sh/hash", 3, "image/png"));
+    }
+}
@@ -1,5 +1,7 @@
 package com.serbest.magazine.backend.service.impl;
 
+import com.serbest.magazine.backend.cache.ContentVersions;
+import com.serbest.magazine.backend.cache.PostDetailCache;
 import com.serbest.magazine.backend.dto.like.LikeRequestDTO;
 import com.serbest.magazine.backend.dto.like.LikeResponseDTO;
 import com.serbest.magazine.backend.entity.Author;
@@ -48,6 +50,12 @@ class LikeServiceImplTest {
     @Mock
     CommentRepository commentRepository;
 
+    @Mock
+    PostDetailCache postDetailCache;
+
+    @Mock
+    ContentVersions contentVersions;
+
     @Test
     public void test_like_withSuccess() throws AccessDeniedException {
         Authentication authentication = Mockito.mock(Authentication.class);
@@ -78,6 +86,38 @@ class LikeServiceImplTest {
 
     }
 
+    @Test
+    public void test_like_updatesLikeCount() throws AccessDeniedException {
+        Authentication authentication = Mockito.mock(Authentication.class);
+        SecurityContext securityContext = Mockito.mock(SecurityContext.class);
+        Mockito.when(securityContext.getAuthentication()).thenReturn(authentication);
+        Mockito.when(authentication.getName()).thenReturn("testUser");
+        SecurityContextHolder.setContext(securityContext);
+
+        UUID postId = UUID.randomUUID();
+        UUID authorId = UUID.randomUUID();
+
+        Author authorMock = mock(Author.class);
+        Post postMock = mock(Post.class);
+
+        when(authorMock.getId()).thenReturn(authorId);
+        when(postMock.getPostId()).thenReturn(postId);
+        when(authorRepository.findByUsernameOrEmail("testUser", "testUser")).thenReturn(Optional.of(authorMock));
+        when(postRepository.findById(postId)).thenReturn(Optional.of(postMock));
+        when(likeRepository.save(any(Like.class))).thenReturn(mock(Like.class));
+
+        likeService.like(new LikeRequestDTO(postId.toString(), null));
+        verify(postRepository).incrementLikeCount(postId);
+
+        when(likeRepository.findByAuthorAndPost(authorMock, postMock)).thenReturn(mock(Like.class));
+        when(likeRepository.deleteByPostAndAuthor(postId, authorId)).thenReturn(1, 0);
+
+        likeService.like(new LikeRequestDTO(postId.toString(), null));
+        likeService.like(new LikeRequestDTO(postId.toString(), null));
+        // The second unlike raced with the first and deleted nothing, so the count only moves once.
+        verify(postRepository, times(1)).decrementLikeCount(postId);
+    }
+
     @Test
     public void test_like_withNothingProvided() {
         assertThrows(
@@ -0,0 +1,141 @@
+package com.serbest.magazine.backend.service.impl;
+
+import com.serbest.magazine.backend.dto.image.MediaItemResponseDTO;
+import com.serbest.magazine.backend.entity.Author;
+import com.serbest.magazine.backend.entity.ImageModel;
+import com.serbest.magazine.backend.entity.MediaItem;
+import com.serbest.magazine.backend.exception.ResourceNotFoundException;
+import com.serbest.magazine.backend.mapper.ImageMapper;
+import com.serbest.magazine.backend.repository.AuthorRepository;
+import com.serbest.magazine.backend.repository.MediaItemRepository;
+import com.serbest.magazine.backend.service.ImageModelService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MediaLibraryServiceImplTest {
+
+    @InjectMocks
+    MediaLibraryServiceImpl mediaLibraryService;
+
+    @Mock
+    MediaItemRepository mediaItemRepository;
+
+    @Mock
+    AuthorRepository authorRepository;
+
+    @Mock
+    ImageModelService imageModelService;
+
+    @Spy
+    ImageMapper imageMapper;
+
+    Author author = new Author();
+
+    ImageModel image = new ImageModel(UUID.randomUUID(), "image.png", "image/png", 3L, "hash", "ha/sh/hash");
+
+    MockMultipartFile file = new MockMultipartFile("image", "image.png", "image/png", new byte[]{1, 2, 3});
+
+    @BeforeEach
+    public void setUp() {
+        authenticate("ROLE_AUTHOR");
+        lenient().when(authorRepository.findByUsernameOrEmail("testUser", "testUser")).thenReturn(Optional.of(author));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void test_upload() throws IOException {
+        when(imageModelService.uploadImage(file)).thenReturn(image);
+        when(mediaItemRepository.findFirstByOwnerAndImage_Id(author, image.getId())).thenReturn(Optional.empty());
+        when(mediaItemRepository.save(any(MediaItem.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        MediaItemResponseDTO response = mediaLibraryService.upload(file);
+
+        assertEquals(image.getId(), response.getImageId());
+        verify(imageModelService, never()).releaseImage(any());
+    }
+
+    @Test
+    public void test_upload_alreadyInLibrary() throws IOException {
+        MediaItem existing = new MediaItem(author, image);
+        when(imageModelService.uploadImage(file)).thenReturn(image);
+        when(mediaItemRepository.findFirstByOwnerAndImage_Id(author, image.getId())).thenReturn(Optional.of(existing));
+
+        mediaLibraryService.upload(file);
+
+        verify(imageModelService).releaseImage(image);
+        verify(mediaItemRepository, never()).save(any());
+    }
+
+    @Test
+    public void test_useImage_fromLibrary() throws IOException {
+        when(mediaItemRepository.findFirstByOwnerAndImage_Id(author, image.getId()))
+                .thenReturn(Optional.of(new MediaItem(author, image)));
+        when(imageModelService.acquireImage(image.getId())).thenReturn(image);
+
+        assertSame(image, mediaLibraryService.useImage(null, image.getId()));
+        verify(imageModelService, never()).uploadImage(any());
+    }
+
+    @Test
+    public void test_useImage_notInLibrary() {
+        when(mediaItemRepository.findFirstByOwnerAndImage_Id(author, image.getId())).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> mediaLibraryService.useImage(null, image.getId()));
+        verify(imageModelService, never()).acquireImage(any());
+    }
+
+    @Test
+    public void test_useImage_editorUsesAnyLibrary() throws IOException {
+        authenticate("ROLE_EDITOR");
+        when(mediaItemRepository.existsByImage_Id(image.getId())).thenReturn(true);
+        when(imageModelService.acquireImage(image.getId())).thenReturn(image);
+
+        assertSame(image, mediaLibraryService.useImage(null, image.getId()));
+    }
+
+    @Test
+    public void test_replaceImage_withLibraryImage() throws IOException {
+        ImageModel current = new ImageModel(UUID.randomUUID(), "old.png", "image/png", 3L, "old", "ol/d/old");
+        when(mediaItemRepository.findFirstByOwnerAndImage_Id(author, image.getId()))
+                .thenReturn(Optional.of(new MediaItem(author, image)));
+        when(imageModelService.acquireImage(image.getId())).thenReturn(image);
+
+        assertSame(image, mediaLibraryService.replaceImage(current, null, image.getId()));
+        verify(imageModelService).releaseImage(current);
+    }
+
+    @Test
+    public void test_replaceImage_sameImage() throws IOException {
+        assertSame(image, mediaLibraryService.replaceImage(image, null, image.getId()));
+        verifyNoInteractions(imageModelService);
+    }
+
+    private static void authenticate(String role) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("testUser", null,
+                List.of(new SimpleGrantedAuthority(role))));
+    }
+}
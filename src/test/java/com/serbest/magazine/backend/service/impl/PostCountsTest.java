@@ -0,0 +1,94 @@
+package com.serbest.magazine.backend.service.impl;
+
+import com.serbest.magazine.backend.repository.CategoryRepository;
+import com.serbest.magazine.backend.repository.SubCategoryRepository;
+import com.serbest.magazine.backend.repository.projection.PostCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostCountsTest {
+
+    @InjectMocks
+    PostCounts postCounts;
+
+    @Mock
+    CategoryRepository categoryRepository;
+
+    @Mock
+    SubCategoryRepository subCategoryRepository;
+
+    UUID cinema = UUID.randomUUID();
+    UUID music = UUID.randomUUID();
+    UUID review = UUID.randomUUID();
+    UUID jazz = UUID.randomUUID();
+
+    @BeforeEach
+    public void setUp() {
+        when(categoryRepository.findCategoryPostCounts()).thenReturn(List.of(
+                new PostCount(cinema, "Sinema", 3L), new PostCount(music, "Müzik", 0L)));
+        when(subCategoryRepository.findSubCategoryPostCounts()).thenReturn(List.of(
+                new PostCount(review, "Eleştiri", 3L), new PostCount(jazz, "Caz", 0L)));
+    }
+
+    @Test
+    public void test_loadedOnFirstUse() {
+        assertEquals(3L, postCounts.category(cinema));
+        assertEquals(0L, postCounts.category(music));
+        // Created after the counts were loaded.
+        assertEquals(0L, postCounts.category(UUID.randomUUID()));
+        assertEquals(3L, postCounts.subCategory(review));
+        assertEquals(0L, postCounts.subCategory(jazz));
+
+        verify(categoryRepository, times(1)).findCategoryPostCounts();
+    }
+
+    @Test
+    public void test_moved() {
+        postCounts.category(cinema);
+
+        // Published, recategorised, then deactivated.
+        postCounts.moved(null, new PostCounts.Placement(cinema, review));
+        postCounts.moved(new PostCounts.Placement(cinema, review), new PostCounts.Placement(music, jazz));
+        postCounts.moved(new PostCounts.Placement(music, jazz), new PostCounts.Placement(music, jazz));
+        assertEquals(3L, postCounts.category(cinema));
+        assertEquals(1L, postCounts.category(music));
+        assertEquals(3L, postCounts.subCategory(review));
+        assertEquals(1L, postCounts.subCategory(jazz));
+
+        postCounts.moved(new PostCounts.Placement(music, jazz), null);
+        assertEquals(0L, postCounts.category(music));
+        assertEquals(0L, postCounts.subCategory(jazz));
+    }
+
+    @Test
+    public void test_moved_beforeLoad() {
+        postCounts.moved(null, new PostCounts.Placement(cinema, review));
+
+        // The first read comes from the database, which already has the post.
+        assertEquals(3L, postCounts.category(cinema));
+    }
+
+    @Test
+    public void test_reconcile() {
+        postCounts.reconcile();
+        verify(categoryRepository, never()).findCategoryPostCounts();
+
+        postCounts.category(cinema);
+        postCounts.moved(null, new PostCounts.Placement(cinema, review));
+        postCounts.reconcile();
+
+        assertEquals(3L, postCounts.category(cinema));
+        verify(categoryRepository, times(2)).findCategoryPostCounts();
+    }
+}
@@ -0,0 +1,379 @@
+package com.serbest.magazine.backend.service.impl;
+
+import com.serbest.magazine.backend.cache.ContentVersions;
+import com.serbest.magazine.backend.cache.PostDetailCache;
+import com.serbest.magazine.backend.dto.image.ImagePlaceholderDTO;
+import com.serbest.magazine.backend.dto.post.MainPagePostsListDTO;
+import com.serbest.magazine.backend.dto.post.PlaylistPostListResponseDTO;
+import com.serbest.magazine.backend.dto.post.PostCountsDTO;
+import com.serbest.magazine.backend.dto.post.PostListItemDTO;
+import com.serbest.magazine.backend.dto.post.PostSearchResultDTO;
+import com.serbest.magazine.backend.entity.*;
+import com.serbest.magazine.backend.exception.CustomApplicationException;
+import com.serbest.magazine.backend.exception.ResourceNotFoundException;
+import com.serbest.magazine.backend.mapper.ImageMapper;
+import com.serbest.magazine.backend.mapper.PostMapper;
+import com.serbest.magazine.backend.search.PostSearchIndex;
+import com.serbest.magazine.backend.search.SuggestionIndex;
+import com.serbest.magazine.backend.security.CheckAuthorization;
+import com.serbest.magazine.backend.service.ImageModelService;
+import com.serbest.magazine.backend.service.MediaLibraryService;
+import com.serbest.magazine.backend.util.NdjsonStreamer;
+import com.serbest.magazine.backend.util.PostTextMetadata;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Post list endpoints read projections, so each one costs a fixed number of statements no matter how many posts,
+ * comments or images are on the page, and a feed page costs the same however deep it is.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({PostServiceImpl.class, PostMapper.class, ImageMapper.class, ActivePostSampler.class, PostSearchIndex.class,
+        SuggestionIndex.class, PostCounts.class, TaxonomyServiceImpl.class, NdjsonStreamer.class,
+        ContentVersions.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@TestPropertySource(properties = {"spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "com.serbest.magazine.backend.service.impl.PostListQueryCountTest$RecordingStatementInspector"})
+class PostListQueryCountTest {
+
+    private static final int POSTS = 12;
+
+    @Autowired
+    PostServiceImpl postService;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PostSearchIndex postSearchIndex;
+
+    @Autowired
+    TaxonomyServiceImpl taxonomyService;
+
+    @MockBean
+    CheckAuthorization checkAuthorization;
+
+    @MockBean
+    ImageModelService imageModelService;
+
+    @MockBean
+    MediaLibraryService mediaLibraryService;
+
+    @MockBean
+    PostDetailCache postDetailCache;
+
+    Statistics statistics;
+
+    Category category;
+    SubCategory subCategory;
+    Author author;
+    Playlist playlist;
+
+    @BeforeEach
+    public void setUp() {
+        category = entityManager.persist(new Category("Sinema", true));
+        subCategory = new SubCategory("Eleştiri", category);
+        subCategory.setActive(true);
+        entityManager.persist(subCategory);
+
+        author = new Author();
+        author.setUsername("yazar");
+        author.setEmail("yazar@example.com");
+        author.setPassword("password");
+        author.setActive(true);
+        author.setProfileImage(image("profile"));
+        entityManager.persist(author);
+
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < POSTS; i++) {
+            Post post = Post.Builder.newBuilder()
+                    .title("Yazı " + i)
+                    .subtitle("Alt başlık")
+                    .description("Açıklama")
+                    .content("İçerik")
+                    .active(true)
+                    .category(category)
+                    .subCategory(subCategory)
+                    .author(author)
+                    .postImage(image("post" + i))
+                    .build();
+            post.setCommentCount(2);
+            PostTextMetadata text = PostTextMetadata.of(post.getContent());
+            post.setPlainText(text.plainText());
+            post.setExcerpt(text.excerpt());
+            post.setWordCount(text.wordCount());
+            post.setReadingTime(text.readingTime());
+            entityManager.persist(post);
+            entityManager.persist(new Comment("Yorum", post, author));
+            entityManager.persist(new Comment("Yorum", post, author));
+            posts.add(post);
+        }
+
+        playlist = new Playlist("Liste", "Açıklama", author, image("playlist"));
+        playlist.setPosts(new HashSet<>(posts.subList(0, 5)));
+        entityManager.persist(playlist);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        PostSearchIndex.Rebuild rebuild = postSearchIndex.startRebuild();
+        posts.forEach(post -> rebuild.add(post.getPostId(), post.getTitle(), post.getSubtitle(),
+                post.getDescription(), post.getPlainText()));
+        rebuild.commit();
+        // Read once per category write, not per request.
+        taxonomyService.refresh();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void test_getAllPosts() {
+        Map<String, Object> response = statements(2, () -> postService.getAllPosts(0, 10));
+
+        List<?> posts = (List<?>) response.get("posts");
+        assertEquals(10, posts.size());
+        assertEquals((long) POSTS, response.get("totalItems"));
+        PostListItemDTO post = (PostListItemDTO) posts.get(0);
+        assertEquals("yazar", post.getUsername());
+        assertEquals("İçerik", post.getExcerpt());
+        assertEquals(1, post.getReadingTime());
+        assertEquals(2L, post.getComments());
+        assertNotNull(post.getImagePlaceholder());
+    }
+
+    @Test
+    public void test_getAllPosts_fields() {
+        Map<String, Object> response = statements(2, () -> postService.getAllPosts(0, 10, "title, id,imagePlaceholder"));
+
+        List<?> posts = (List<?>) response.get("posts");
+        assertEquals(10, posts.size());
+        assertEquals((long) POSTS, response.get("totalItems"));
+        Map<?, ?> post = (Map<?, ?>) posts.get(0);
+        assertEquals(List.of("id", "title", "imagePlaceholder"), List.copyOf(post.keySet()));
+        assertEquals(640, ((ImagePlaceholderDTO) post.get("imagePlaceholder")).getWidth());
+        // Neither the content nor the joins for unpicked fields are in the SQL.
+        assertTrue(RecordingStatementInspector.SQL.stream().noneMatch(sql -> sql.contains("content")));
+        assertTrue(RecordingStatementInspector.SQL.stream().noneMatch(sql -> sql.contains("author")));
+    }
+
+    @Test
+    public void test_findById_fields() {
+        UUID postId = entityManager.getEntityManager()
+                .createQuery("select p.postId from Post p", UUID.class).setMaxResults(1).getSingleResult();
+
+        Map<String, Object> post = statements(1, () -> postService.findById(postId.toString(), "content,username"));
+
+        assertEquals(Map.of("content", "İçerik", "username", "yazar"), post);
+    }
+
+    @Test
+    public void test_findById_fields_invalid() {
+        CustomApplicationException exception = assertThrows(CustomApplicationException.class,
+                () -> postService.findById(UUID.randomUUID().toString(), "title,password"));
+        assertEquals("Geçersiz alan: password", exception.getMessage());
+
+        assertThrows(ResourceNotFoundException.class, () -> postService.findById(UUID.randomUUID().toString(), "title"));
+    }
+
+    @Test
+    public void test_mainPageLists() {
+        assertEquals(5, statements(1, () -> postService.getFirstFivePosts()).size());
+        assertEquals(4, statements(1, () -> postService.getFourPostsForTop()).size());
+        List<MainPagePostsListDTO> mainPage = statements(1, () -> postService.getPostsForMainPage());
+        assertEquals(POSTS - 9, mainPage.size());
+        assertEquals("Eleştiri", mainPage.get(0).getSubCategory());
+    }
+
+    @Test
+    public void test_getRandomThreePost() {
+        // The first call loads the active post ids, later ones only fetch the three sampled rows.
+        assertEquals(3, statements(2, () -> postService.getRandomThreePost()).size());
+        assertEquals(3, statements(1, () -> postService.getRandomThreePost()).size());
+    }
+
+    @Test
+    public void test_getDeactivatedPost() {
+        assertTrue(statements(1, () -> postService.getDeactivatedPost()).isEmpty());
+    }
+
+    @Test
+    public void test_streamDeactivatedPosts() {
+        ByteArrayOutputStream out = statements(1, () -> {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            try {
+                postService.streamDeactivatedPosts().writeTo(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return body;
+        });
+
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    public void test_searchPosts() {
+        assertEquals(POSTS, statements(1, () -> postService.searchPosts("Yazı")).size());
+    }
+
+    @Test
+    public void test_search() {
+        Map<String, Object> response = statements(1, () -> postService.search("yazı 11", 0, 5));
+
+        List<?> posts = (List<?>) response.get("posts");
+        assertEquals(5, posts.size());
+        assertEquals((long) POSTS, response.get("totalItems"));
+        assertEquals(3, response.get("totalPages"));
+        PostSearchResultDTO first = (PostSearchResultDTO) posts.get(0);
+        assertEquals("Yazı 11", first.getTitle());
+        assertEquals("<mark>Yazı</mark> <mark>11</mark>", first.getHighlightedTitle());
+        assertEquals("Eleştiri", first.getSubCategory());
+    }
+
+    @Test
+    public void test_getPostsByCategory() {
+        Map<String, Object> response = statements(2, () -> postService.getPostsByCategory("Sinema", 0, 10));
+
+        assertEquals((long) POSTS, response.get("totalItems"));
+    }
+
+    @Test
+    public void test_getPostsBySubCategory() {
+        Map<String, Object> response = statements(2,
+                () -> postService.getPostsBySubCategory(subCategory.getId().toString(), 0, 10));
+
+        assertEquals("Eleştiri", response.get("title"));
+        assertEquals(10, ((List<?>) response.get("posts")).size());
+    }
+
+    @Test
+    public void test_findByUsername() {
+        Map<String, Object> response = statements(3, () -> postService.findByUsername("yazar", 0, 10));
+
+        assertEquals((long) POSTS, response.get("totalItems"));
+    }
+
+    @Test
+    public void test_getLastFivePostsOfAuthor() {
+        assertEquals(5, statements(2, () -> postService.getLastFivePostsOfAuthor("yazar")).size());
+    }
+
+    @Test
+    public void test_playlistLists() {
+        List<PlaylistPostListResponseDTO> posts =
+                statements(2, () -> postService.getPostsByPlaylist(playlist.getId().toString()));
+        assertEquals(5, posts.size());
+
+        assertEquals(POSTS - 5, statements(2,
+                () -> postService.getPostsOfAuthorForPlaylist("yazar", playlist.getId().toString())).size());
+    }
+
+    @Test
+    public void test_getPostFeed() {
+        // Every post shares one timestamp, so only the id tie-break keeps pages apart.
+        jdbcTemplate.update("update posts set create_date_time = ?", Timestamp.valueOf(LocalDateTime.now()));
+
+        Set<UUID> seen = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            Map<String, Object> response = statements(1, feed(cursor));
+            for (Object post : (List<?>) response.get("posts")) {
+                assertTrue(seen.add(((PostListItemDTO) post).getId()));
+            }
+            assertFalse(response.containsKey("totalItems"));
+            cursor = (String) response.get("nextCursor");
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(POSTS, seen.size());
+    }
+
+    @Test
+    public void test_postCounts() {
+        // Loaded with one grouped query per level, then served from memory.
+        assertEquals(POSTS, statements(2, () -> postService.countsByCategoryName("Sinema")));
+        assertEquals(POSTS, statements(0, () -> postService.countsByCategoryName("Sinema")));
+
+        PostCountsDTO counts = statements(0, () -> postService.getPostCounts());
+        assertEquals(Map.of("Sinema", (long) POSTS), counts.getCategories());
+        assertEquals(Map.of(subCategory.getId(), (long) POSTS), counts.getSubCategories());
+        assertThrows(ResourceNotFoundException.class, () -> postService.countsByCategoryName("Müzik"));
+    }
+
+    @Test
+    public void test_getPostFeedByUsername() {
+        Map<String, Object> first = statements(3, () -> postService.getPostFeedByUsername("yazar", null, 10, true));
+        assertEquals((long) POSTS, first.get("totalItems"));
+
+        Map<String, Object> next = statements(2, () -> postService.getPostFeedByUsername(
+                "yazar", (String) first.get("nextCursor"), 10, false));
+        assertEquals(POSTS - 10, ((List<?>) next.get("posts")).size());
+        assertNull(next.get("nextCursor"));
+    }
+
+    private Supplier<Map<String, Object>> feed(String cursor) {
+        return () -> postService.getPostFeed(cursor, 5, false);
+    }
+
+    private <T> T statements(long expected, Supplier<T> call) {
+        statistics.clear();
+        RecordingStatementInspector.SQL.clear();
+        T result = call.get();
+        assertEquals(expected, statistics.getPrepareStatementCount());
+        return result;
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> SQL = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(String sql) {
+            SQL.add(sql);
+            return sql;
+        }
+    }
+
+    private ImageModel image(String name) {
+        ImageModel image = new ImageModel(name + ".png", "image/png", 3L, name, name);
+        image.setWidth(640);
+        image.setHeight(480);
+        image.setPlaceholderColor("#7f007f");
+        return entityManager.persist(image);
+    }
+}
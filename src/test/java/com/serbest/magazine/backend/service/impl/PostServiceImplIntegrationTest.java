@@ -707,7 +707,7 @@ class PostServiceImplIntegrationTest {
         @Test
         public void testIntegration_getRandomThreePost_success() {
 
-            List<PostResponseDTO> responseDTOS = postService.getRandomThreePost();
+            List<PostListItemDTO> responseDTOS = postService.getRandomThreePost();
 
             assertEquals(responseDTOS.size(), 3);
             assertEquals(responseDTOS.get(0).getTitle(), "Test Title");
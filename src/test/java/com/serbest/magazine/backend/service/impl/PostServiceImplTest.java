@@ -1,10 +1,9 @@
 package com.serbest.magazine.backend.service.impl;
 
+import com.serbest.magazine.backend.cache.PostDetailCache;
 import com.serbest.magazine.backend.dto.post.*;
 import com.serbest.magazine.backend.entity.Author;
-import com.serbest.magazine.backend.entity.Category;
 import com.serbest.magazine.backend.entity.Post;
-import com.serbest.magazine.backend.entity.SubCategory;
 import com.serbest.magazine.backend.exception.CustomApplicationException;
 import com.serbest.magazine.backend.exception.ResourceNotFoundException;
 import com.serbest.magazine.backend.mapper.PostMapper;
@@ -12,17 +11,24 @@ import com.serbest.magazine.backend.repository.AuthorRepository;
 import com.serbest.magazine.backend.repository.CategoryRepository;
 import com.serbest.magazine.backend.repository.PostRepository;
 import com.serbest.magazine.backend.repository.SubCategoryRepository;
+import com.serbest.magazine.backend.repository.projection.PostCardView;
+import com.serbest.magazine.backend.repository.projection.PostView;
+import com.serbest.magazine.backend.search.PostSearchIndex;
+import com.serbest.magazine.backend.search.SuggestionIndex;
 import com.serbest.magazine.backend.security.CheckAuthorization;
 import com.serbest.magazine.backend.service.ImageModelService;
-import org.apache.tomcat.util.http.fileupload.FileUtils;
-import org.junit.jupiter.api.AfterAll;
+import com.serbest.magazine.backend.service.MediaLibraryService;
+import com.serbest.magazine.backend.service.TaxonomyService;
+import com.serbest.magazine.backend.util.NdjsonStreamer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.mock.web.MockMultipartFile;
@@ -31,12 +37,13 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -66,21 +73,38 @@ class PostServiceImplTest {
     @Mock
     ImageModelService imageModelService;
 
+    @Mock
+    MediaLibraryService mediaLibraryService;
+
     @Mock
     PostMapper postMapper;
 
     @Mock
     CheckAuthorization checkAuthorization;
 
-    @AfterAll
-    public static void destroy() {
-        try {
-            File directoryTest = new File("uploads-test");
-            FileUtils.cleanDirectory(directoryTest);
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
+    @Mock
+    PostDetailCache postDetailCache;
+
+    @Mock
+    PostCounts postCounts;
+
+    @Mock
+    TaxonomyService taxonomyService;
+
+    @Mock
+    NdjsonStreamer ndjsonStreamer;
+
+    @Mock
+    ActivePostSampler activePostSampler;
+
+    @Mock
+    PostSearchIndex postSearchIndex;
+
+    @Mock
+    SuggestionIndex suggestionIndex;
+
+    @Mock
+    ApplicationEventPublisher applicationEventPublisher;
 
     @Test
     public void test_createPost_withSuccess() throws IOException {
@@ -98,18 +122,14 @@ class PostServiceImplTest {
 
         PostRequestDTO requestDTO =
                 new PostRequestDTO("Test Title", null, "Test Content", "Siyaset",
-                        "İç Siyaset", multipartFile);
+                        "İç Siyaset", multipartFile, null);
 
         Author author = mock(Author.class);
-        Category category = mock(Category.class);
-        SubCategory subCategory =  mock(SubCategory.class);
         Post post = mock(Post.class);
 
         when(authorRepository.findByUsernameOrEmail("test", "test")).thenReturn(Optional.of(author));
-        when(categoryRepository.findByName("Siyaset")).thenReturn(Optional.of(category));
-        when(subCategoryRepository.findByName("İç Siyaset")).thenReturn(Optional.of(subCategory));
-        when(category.getName()).thenReturn("Siyaset");
-        when(subCategory.getCategory()).thenReturn(category);
+        when(author.isEnabled()).thenReturn(true);
+        stubTaxonomy("Siyaset");
         when(postMapper.postRequestDTOToPost(requestDTO)).thenReturn(post);
         when(postRepository.save(post)).thenReturn(post);
         when(postMapper.postToPostCreateResponseDTO(post)).thenReturn(PostCreateResponseDTO.builder()
@@ -128,7 +148,7 @@ class PostServiceImplTest {
     public void test_createPost_withMissingParam() {
         assertThrows(
                 IllegalArgumentException.class,
-                () -> postService.createPost(new PostRequestDTO("", "", "","", "", null))
+                () -> postService.createPost(new PostRequestDTO("", "", "","", "", null, null))
         );
     }
 
@@ -147,7 +167,7 @@ class PostServiceImplTest {
                 "wall1677252684787.jpg", "image/jpeg", Files.readAllBytes(path));
 
         PostRequestDTO requestDTO =
-                new PostRequestDTO("Test Title", null, "Test Content", "Siyaset","İç Siyaset", multipartFile);
+                new PostRequestDTO("Test Title", null, "Test Content", "Siyaset","İç Siyaset", multipartFile, null);
 
         assertThrows(
                 ResourceNotFoundException.class,
@@ -171,11 +191,12 @@ class PostServiceImplTest {
                 "wall1677252684787.jpg", "image/jpeg", Files.readAllBytes(path));
 
         PostRequestDTO requestDTO =
-                new PostRequestDTO("Test Title", null, "Test Content", "Siyaset","İç Siyaset", multipartFile);
+                new PostRequestDTO("Test Title", null, "Test Content", "Siyaset","İç Siyaset", multipartFile, null);
 
         Author author = mock(Author.class);
 
         when(authorRepository.findByUsernameOrEmail("test", "test")).thenReturn(Optional.of(author));
+        stubEmptyTaxonomy();
 
         assertThrows(
                 ResourceNotFoundException.class,
@@ -199,13 +220,12 @@ class PostServiceImplTest {
                 "wall1677252684787.jpg", "image/jpeg", Files.readAllBytes(path));
 
         PostRequestDTO requestDTO =
-                new PostRequestDTO("Test Title", null, "Test Content", "Siyaset","İç Siyaset", multipartFile);
+                new PostRequestDTO("Test Title", null, "Test Content", "Siyaset","İç Siyaset", multipartFile, null);
 
         Author author = mock(Author.class);
-        Category category = mock(Category.class);
 
         when(authorRepository.findByUsernameOrEmail("test", "test")).thenReturn(Optional.of(author));
-        when(categoryRepository.findByName("Siyaset")).thenReturn(Optional.of(category));
+        stubTaxonomy(null);
 
         assertThrows(
                 ResourceNotFoundException.class,
@@ -230,20 +250,13 @@ class PostServiceImplTest {
 
         PostRequestDTO requestDTO =
                 new PostRequestDTO("Test Title", null, "Test Content", "Siyaset",
-                        "İç Siyaset", multipartFile);
+                        "İç Siyaset", multipartFile, null);
 
         Author author = mock(Author.class);
-        Category category = mock(Category.class);
-        Category category2 = mock(Category.class);
-        SubCategory subCategory =  mock(SubCategory.class);
         Post post = mock(Post.class);
 
         when(authorRepository.findByUsernameOrEmail("test", "test")).thenReturn(Optional.of(author));
-        when(categoryRepository.findByName("Siyaset")).thenReturn(Optional.of(category));
-        when(subCategoryRepository.findByName("İç Siyaset")).thenReturn(Optional.of(subCategory));
-        when(category.getName()).thenReturn("Siyaset");
-        when(category2.getName()).thenReturn("Hukuk");
-        when(subCategory.getCategory()).thenReturn(category2);
+        stubTaxonomy("Hukuk");
 
         assertThrows(
                 CustomApplicationException.class,
@@ -260,19 +273,15 @@ class PostServiceImplTest {
                 "wall1677252684787.jpg", "image/jpeg", Files.readAllBytes(path));
 
         PostCreateEditorRequestDTO requestDTO =
-                new PostCreateEditorRequestDTO("Test Title", null, "test", "Test Content",
-                        "Siyaset","İç Siyaset", multipartFile);
+                new PostCreateEditorRequestDTO("Test Title", null, null, "test", "Test Content",
+                        "Siyaset","İç Siyaset", multipartFile, null);
 
         Author author = mock(Author.class);
-        Category category = mock(Category.class);
-        SubCategory subCategory = mock(SubCategory.class);
         Post post = mock(Post.class);
 
         when(authorRepository.findByUsername("test")).thenReturn(Optional.of(author));
-        when(categoryRepository.findByName("Siyaset")).thenReturn(Optional.of(category));
-        when(subCategoryRepository.findByName("İç Siyaset")).thenReturn(Optional.of(subCategory));
-        when(category.getName()).thenReturn("Siyaset");
-        when(subCategory.getCategory()).thenReturn(category);
+        when(author.isEnabled()).thenReturn(true);
+        stubTaxonomy("Siyaset");
         when(postMapper.postCreateEditorRequestDTOToPost(requestDTO)).thenReturn(post);
         when(postRepository.save(any(Post.class))).thenReturn(post);
         when(postMapper.postToPostCreateResponseDTO(post)).thenReturn(PostCreateResponseDTO.builder()
@@ -292,7 +301,7 @@ class PostServiceImplTest {
     public void test_createPostEditor_withMissingParam() {
         assertThrows(
                 IllegalArgumentException.class,
-                () -> postService.createPostEditor(new PostCreateEditorRequestDTO("", "", "", "","", "", null))
+                () -> postService.createPostEditor(new PostCreateEditorRequestDTO("", "", null, "", "","", "", null, null))
         );
     }
 
@@ -305,8 +314,8 @@ class PostServiceImplTest {
                 "wall1677252684787.jpg", "image/jpeg", Files.readAllBytes(path));
 
         PostCreateEditorRequestDTO requestDTO =
-                new PostCreateEditorRequestDTO("Test Title", null, "test", "Test Content",
-                        "Siyaset", "İç Siyaset",multipartFile);
+                new PostCreateEditorRequestDTO("Test Title", null, null, "test", "Test Content",
+                        "Siyaset", "İç Siyaset",multipartFile, null);
 
         assertThrows(
                 ResourceNotFoundException.class,
@@ -324,12 +333,13 @@ class PostServiceImplTest {
                 "wall1677252684787.jpg", "image/jpeg", Files.readAllBytes(path));
 
         PostCreateEditorRequestDTO requestDTO =
-                new PostCreateEditorRequestDTO("Test Title", null, "test", "Test Content",
-                        "Siyaset","İç Siyaset", multipartFile);
+                new PostCreateEditorRequestDTO("Test Title", null, null, "test", "Test Content",
+                        "Siyaset","İç Siyaset", multipartFile, null);
 
         Author author = mock(Author.class);
 
         when(authorRepository.findByUsername("test")).thenReturn(Optional.of(author));
+        stubEmptyTaxonomy();
 
         assertThrows(
                 ResourceNotFoundException.class,
@@ -347,14 +357,13 @@ class PostServiceImplTest {
                 "wall1677252684787.jpg", "image/jpeg", Files.readAllBytes(path));
 
         PostCreateEditorRequestDTO requestDTO =
-                new PostCreateEditorRequestDTO("Test Title", null, "test", "Test Content",
-                        "Siyaset","İç Siyaset", multipartFile);
+                new PostCreateEditorRequestDTO("Test Title", null, null, "test", "Test Content",
+                        "Siyaset","İç Siyaset", multipartFile, null);
 
         Author author = mock(Author.class);
-        Category category = mock(Category.class);
 
         when(authorRepository.findByUsername("test")).thenReturn(Optional.of(author));
-        when(categoryRepository.findByName("Siyaset")).thenReturn(Optional.of(category));
+        stubTaxonomy(null);
 
         assertThrows(
                 ResourceNotFoundException.class,
@@ -372,23 +381,14 @@ class PostServiceImplTest {
                 "wall1677252684787.jpg", "image/jpeg", Files.readAllBytes(path));
 
         PostCreateEditorRequestDTO requestDTO =
-                new PostCreateEditorRequestDTO("Test Title", null, "test", "Test Content",
-                        "Siyaset","İç Siyaset", multipartFile);
+                new PostCreateEditorRequestDTO("Test Title", null, null, "test", "Test Content",
+                        "Siyaset","İç Siyaset", multipartFile, null);
 
         Author author = mock(Author.class);
-        Category category = mock(Category.class);
-        Category category2 = mock(Category.class);
-        SubCategory subCategory = mock(SubCategory.class);
         Post post = mock(Post.class);
 
         when(authorRepository.findByUsername("test")).thenReturn(Optional.of(author));
-        when(categoryRepository.findByName("Siyaset")).thenReturn(Optional.of(category));
-        when(subCategoryRepository.findByName("İç Siyaset")).thenReturn(Optional.of(subCategory));
-        when(category.getName()).thenReturn("Siyaset");
-        when(subCategory.getCategory()).thenReturn(category);
-        when(category.getName()).thenReturn("Siyaset");
-        when(category2.getName()).thenReturn("Hukuk");
-        when(subCategory.getCategory()).thenReturn(category2);
+        stubTaxonomy("Hukuk");
 
         assertThrows(
                 CustomApplicationException.class,
@@ -400,80 +400,65 @@ class PostServiceImplTest {
 
     @Test
     public void test_getAllPosts_withSuccess() {
-        Post post = Post.Builder.newBuilder()
-                .postId(UUID.randomUUID())
-                .title("Test Title")
-                .content("Test Content")
-                .build();
-
         Pageable paging = PageRequest.of(0, 19);
+        PostView post = postView(UUID.randomUUID());
+        PostListItemDTO item = PostListItemDTO.builder().id(post.postId()).build();
 
-        when(postRepository.findByActiveTrueOrderByCreateDateTimeDesc(paging)).thenReturn(null);
+        when(postRepository.findActivePostViews(paging)).thenReturn(new PageImpl<>(List.of(post), paging, 1));
+        when(postMapper.postViewToPostListItemDTO(post)).thenReturn(item);
 
-        Map<String, Object> responseDTOS = postService.getAllPosts(0 , 19);
+        Map<String, Object> response = postService.getAllPosts(0, 19);
 
-        assertEquals(1, responseDTOS.size());
+        assertEquals(List.of(item), response.get("posts"));
+        assertEquals(1L, response.get("totalItems"));
+        assertEquals(1, response.get("totalPages"));
     }
 
     @Test
     public void test_getFirstFivePosts_withSuccess() {
-        Post post = Post.Builder.newBuilder()
-                .postId(UUID.randomUUID())
-                .title("Test Title")
-                .content("Test Content")
-                .build();
+        PostCardView post = postCardView();
 
-        when(postRepository.findFirstFiveActiveTrueByCreateDateTime()).thenReturn(List.of(post));
+        when(postRepository.findFirstFiveActivePostCards()).thenReturn(List.of(post));
 
         List<FirstFivePostsListDTO> responseDTOS = postService.getFirstFivePosts();
 
         assertEquals(1, responseDTOS.size());
+        verify(postMapper).postCardViewToFirstFivePostsListDTO(post);
     }
 
     @Test
     public void test_getFourPostsForTop_withSuccess() {
-        Post post = Post.Builder.newBuilder()
-                .postId(UUID.randomUUID())
-                .title("Test Title")
-                .content("Test Content")
-                .build();
+        PostCardView post = postCardView();
 
-        when(postRepository.findFourPostsActiveTrueByCreateDateTime()).thenReturn(List.of(post));
+        when(postRepository.findFourActivePostCardsForTop()).thenReturn(List.of(post));
 
         List<MainPagePostsListDTO> responseDTOS = postService.getFourPostsForTop();
 
         assertEquals(1, responseDTOS.size());
+        verify(postMapper).postCardViewToMainPagePostsListDTO(post);
     }
 
     @Test
     public void test_getPostsForMainPage_withSuccess() {
-        Post post = Post.Builder.newBuilder()
-                .postId(UUID.randomUUID())
-                .title("Test Title")
-                .content("Test Content")
-                .build();
+        PostCardView post = postCardView();
 
-        when(postRepository.findFifteenActiveTrueByCreateDateTimeOffset5()).thenReturn(List.of(post));
+        when(postRepository.findActivePostCardsForMainPage()).thenReturn(List.of(post));
 
         List<MainPagePostsListDTO> responseDTOS = postService.getPostsForMainPage();
 
         assertEquals(1, responseDTOS.size());
+        verify(postMapper).postCardViewToMainPagePostsListDTO(post);
     }
 
     @Test
     public void test_getDeactivatedPost_withSuccess() {
-        Post post = Post.Builder.newBuilder()
-                .postId(UUID.randomUUID())
-                .title("Test Title")
-                .content("Test Content")
-                .active(false)
-                .build();
+        DeactivatedPostApiResponseDTO post = DeactivatedPostApiResponseDTO.builder().title("Test Title").build();
 
-        when(postRepository.findByActiveFalseOrderByCreateDateTimeDesc()).thenReturn(List.of(post));
+        when(postRepository.findDeactivatedPosts()).thenReturn(List.of(post));
 
         List<DeactivatedPostApiResponseDTO> responseDTOS = postService.getDeactivatedPost();
 
-        assertEquals(1, responseDTOS.size());
+        assertEquals(List.of(post), responseDTOS);
     }
 
     @Test
@@ -553,18 +538,13 @@ class PostServiceImplTest {
 
         PostUpdateRequestDTO requestDTO =
                 new PostUpdateRequestDTO("Test Title", null, "Test Content",
-                        "Siyaset","İç Siyaset", multipartFile, true);
+                        "Siyaset","İç Siyaset", multipartFile, null, true);
 
-        Category category = mock(Category.class);
-        SubCategory subCategory = mock(SubCategory.class);
         Post post = mock(Post.class);
         UUID postId = UUID.randomUUID();
 
         when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(categoryRepository.findByName("Siyaset")).thenReturn(Optional.of(category));
-        when(subCategoryRepository.findByName("İç Siyaset")).thenReturn(Optional.of(subCategory));
-        when(category.getName()).thenReturn("Siyaset");
-        when(subCategory.getCategory()).thenReturn(category);
+        stubTaxonomy("Siyaset");
         when(postRepository.save(post)).thenReturn(post);
         when(postMapper.postToPostResponseDTO(post)).thenReturn(PostResponseDTO.builder()
                 .id(postId)
@@ -589,7 +569,7 @@ class PostServiceImplTest {
 
         PostUpdateRequestDTO requestDTO =
                 new PostUpdateRequestDTO("Test Title", null, "Test Content",
-                        "Siyaset","İç Siyaset", multipartFile, true);
+                        "Siyaset","İç Siyaset", multipartFile, null, true);
 
         assertThrows(
                 ResourceNotFoundException.class,
@@ -609,12 +589,13 @@ class PostServiceImplTest {
 
         PostUpdateRequestDTO requestDTO =
                 new PostUpdateRequestDTO("Test Title", null, "Test Content",
-                        "Siyaset","İç Siyaset", multipartFile, true);
+                        "Siyaset","İç Siyaset", multipartFile, null, true);
 
         Post post = mock(Post.class);
         UUID postId = UUID.randomUUID();
 
         when(postRepository.findById(postId)).thenReturn(Optional.of(post));
+        stubEmptyTaxonomy();
 
         assertThrows(
                 ResourceNotFoundException.class,
@@ -633,14 +614,13 @@ class PostServiceImplTest {
 
         PostUpdateRequestDTO requestDTO =
                 new PostUpdateRequestDTO("Test Title", null, "Test Content",
-                        "Siyaset","İç Siyaset", multipartFile, true);
+                        "Siyaset","İç Siyaset", multipartFile, null, true);
 
         Post post = mock(Post.class);
-        Category category = mock(Category.class);
         UUID postId = UUID.randomUUID();
 
         when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(categoryRepository.findByName("Siyaset")).thenReturn(Optional.of(category));
+        stubTaxonomy(null);
 
         assertThrows(
                 ResourceNotFoundException.class,
@@ -659,20 +639,13 @@ class PostServiceImplTest {
 
         PostUpdateRequestDTO requestDTO =
                 new PostUpdateRequestDTO("Test Title", null, "Test Content",
-                        "Siyaset","İç Siyaset", multipartFile, true);
+                        "Siyaset","İç Siyaset", multipartFile, null, true);
 
-        Category category = mock(Category.class);
-        Category category2 = mock(Category.class);
-        SubCategory subCategory = mock(SubCategory.class);
         Post post = mock(Post.class);
         UUID postId = UUID.randomUUID();
 
         when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(categoryRepository.findByName("Siyaset")).thenReturn(Optional.of(category));
-        when(subCategoryRepository.findByName("İç Siyaset")).thenReturn(Optional.of(subCategory));
-        when(category.getName()).thenReturn("Siyaset");
-        when(category2.getName()).thenReturn("Hukuk");
-        when(subCategory.getCategory()).thenReturn(category2);
+        stubTaxonomy("Hukuk");
 
         assertThrows(
                 CustomApplicationException.class,
@@ -690,19 +663,14 @@ class PostServiceImplTest {
                 "wall1677252684787.jpg", "image/jpeg", Files.readAllBytes(path));
 
         PostUpdateEditorRequestDTO requestDTO =
-                new PostUpdateEditorRequestDTO("Test Title", null, "Test Content",
-                        "Siyaset","İç Siyaset", multipartFile, true);
+                new PostUpdateEditorRequestDTO("Test Title", null, null, "Test Content",
+                        "Siyaset","İç Siyaset", multipartFile, null, true);
 
-        Category category = mock(Category.class);
-        SubCategory subCategory = mock(SubCategory.class);
         Post post = mock(Post.class);
         UUID postId = UUID.randomUUID();
 
         when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(categoryRepository.findByName("Siyaset")).thenReturn(Optional.of(category));
-        when(subCategoryRepository.findByName("İç Siyaset")).thenReturn(Optional.of(subCategory));
-        when(category.getName()).thenReturn("Siyaset");
-        when(subCategory.getCategory()).thenReturn(category);
+        stubTaxonomy("Siyaset");
         when(postRepository.save(post)).thenReturn(post);
         when(postMapper.postToPostResponseDTO(post)).thenReturn(PostResponseDTO.builder()
                 .id(postId)
@@ -726,8 +694,8 @@ class PostServiceImplTest {
                 "wall1677252684787.jpg", "image/jpeg", Files.readAllBytes(path));
 
         PostUpdateEditorRequestDTO requestDTO =
-                new PostUpdateEditorRequestDTO("Test Title", null, "Test Content",
-                        "Siyaset","İç Siyaset", multipartFile, true);
+                new PostUpdateEditorRequestDTO("Test Title", null, null, "Test Content",
+                        "Siyaset","İç Siyaset", multipartFile, null, true);
 
         assertThrows(
                 ResourceNotFoundException.class,
@@ -746,13 +714,14 @@ class PostServiceImplTest {
                 "wall1677252684787.jpg", "image/jpeg", Files.readAllBytes(path));
 
         PostUpdateEditorRequestDTO requestDTO =
-                new PostUpdateEditorRequestDTO("Test Title", null, "Test Content",
-                        "Siyaset","İç Siyaset", multipartFile, true);
+                new PostUpdateEditorRequestDTO("Test Title", null, null, "Test Content",
+                        "Siyaset","İç Siyaset", multipartFile, null, true);
 
         Post post = mock(Post.class);
         UUID postId = UUID.randomUUID();
 
         when(postRepository.findById(postId)).thenReturn(Optional.of(post));
+        stubEmptyTaxonomy();
 
         assertThrows(
                 ResourceNotFoundException.class,
@@ -770,15 +739,14 @@ class PostServiceImplTest {
                 "wall1677252684787.jpg", "image/jpeg", Files.readAllBytes(path));
 
         PostUpdateEditorRequestDTO requestDTO =
-                new PostUpdateEditorRequestDTO("Test Title", null, "Test Content",
-                        "Siyaset","İç Siyaset", multipartFile, true);
+                new PostUpdateEditorRequestDTO("Test Title", null, null, "Test Content",
+                        "Siyaset","İç Siyaset", multipartFile, null, true);
 
         Post post = mock(Post.class);
-        Category category = mock(Category.class);
         UUID postId = UUID.randomUUID();
 
         when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(categoryRepository.findByName("Siyaset")).thenReturn(Optional.of(category));
+        stubTaxonomy(null);
 
         assertThrows(
                 ResourceNotFoundException.class,
@@ -796,21 +764,14 @@ class PostServiceImplTest {
                 "wall1677252684787.jpg", "image/jpeg", Files.readAllBytes(path));
 
         PostUpdateEditorRequestDTO requestDTO =
-                new PostUpdateEditorRequestDTO("Test Title", null, "Test Content",
-                        "Siyaset","İç Siyaset", multipartFile, true);
+                new PostUpdateEditorRequestDTO("Test Title", null, null, "Test Content",
+                        "Siyaset","İç Siyaset", multipartFile, null, true);
 
-        Category category = mock(Category.class);
-        Category category2 = mock(Category.class);
-        SubCategory subCategory = mock(SubCategory.class);
         Post post = mock(Post.class);
         UUID postId = UUID.randomUUID();
 
         when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(categoryRepository.findByName("Siyaset")).thenReturn(Optional.of(category));
-        when(subCategoryRepository.findByName("İç Siyaset")).thenReturn(Optional.of(subCategory));
-        when(category.getName()).thenReturn("Siyaset");
-        when(category2.getName()).thenReturn("Hukuk");
-        when(subCategory.getCategory()).thenReturn(category2);
+        stubTaxonomy("Hukuk");
 
         assertThrows(
                 CustomApplicationException.class,
@@ -822,26 +783,50 @@ class PostServiceImplTest {
 
     @Test
     public void test_getRandomThreePost_withSuccess() {
-        Post post = Post.Builder.newBuilder()
-                .postId(UUID.randomUUID())
-                .title("Test Title")
-                .content("Test Content")
-                .build();
+        UUID postId = UUID.randomUUID();
+        UUID removedPostId = UUID.randomUUID();
+        PostView post = postView(postId);
 
-        when(postRepository.findThreeActiveTrueByRandom()).thenReturn(List.of(post));
+        when(activePostSampler.sample(3)).thenReturn(List.of(removedPostId, postId));
+        when(postRepository.findActivePostViewsByIds(List.of(removedPostId, postId))).thenReturn(List.of(post));
 
-        List<PostResponseDTO> responseDTOS = postService.getRandomThreePost();
+        List<PostListItemDTO> responseDTOS = postService.getRandomThreePost();
 
         assertEquals(1, responseDTOS.size());
+        verify(postMapper).postViewToPostListItemDTO(post);
+        verify(activePostSampler).remove(removedPostId);
+    }
+
+    @Test
+    public void test_getRandomThreePost_noActivePosts() {
+        when(activePostSampler.sample(3)).thenReturn(List.of());
+
+        assertTrue(postService.getRandomThreePost().isEmpty());
+        verifyNoInteractions(postRepository);
     }
 
 
     @Test
-    public void test_countsByCategoryName_withSuccess() {
-        Category category = mock(Category.class);
+    public void test_search_sizeOutOfRange() {
+        assertThrows(CustomApplicationException.class, () -> postService.search("plak", 0, 0));
+        assertThrows(CustomApplicationException.class, () -> postService.search("plak", 0, 101));
+        assertThrows(CustomApplicationException.class, () -> postService.search("plak", -1, 10));
+        verifyNoInteractions(postSearchIndex);
+    }
 
-        when(categoryRepository.findByName("Siyaset")).thenReturn(Optional.of(category));
-        when(postRepository.countByCategoryNameAndActiveTrue("Siyaset")).thenReturn(2);
+    @Test
+    public void test_getPostFeed_sizeOutOfRange() {
+        assertThrows(CustomApplicationException.class, () -> postService.getPostFeed(null, Integer.MAX_VALUE, false));
+        assertThrows(CustomApplicationException.class, () -> postService.getPostFeed(null, 0, false));
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    public void test_countsByCategoryName_withSuccess() {
+        UUID categoryId = UUID.randomUUID();
+        when(taxonomyService.getSnapshot()).thenReturn(TaxonomyService.Snapshot.of(
+                List.of(new TaxonomyService.CategoryNode(categoryId, "Siyaset", true, List.of())), new byte[0], "\"\""));
+        when(postCounts.category(categoryId)).thenReturn(2L);
 
         Integer postCount = postService.countsByCategoryName("Siyaset");
 
@@ -851,10 +836,44 @@ class PostServiceImplTest {
 
     @Test
     public void test_countsByCategoryName_categoryNotFound() {
+        when(taxonomyService.getSnapshot()).thenReturn(TaxonomyService.Snapshot.of(List.of(), new byte[0], "\"\""));
+
         assertThrows(
                 ResourceNotFoundException.class,
                 () -> postService.countsByCategoryName("wrongCategory")
         );
     }
 
-}
\ No newline at end of file
+
+    private static PostView postView(UUID postId) {
+        return new PostView(postId, "Test Title", null, null, "Test Content", 2, 1, "Siyaset", "İç Siyaset", "test",
+                null, null, null, null, null, null, 0L, 0L, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private static PostCardView postCardView() {
+        return new PostCardView(UUID.randomUUID(), "Test Title", "Siyaset", "İç Siyaset", "test", null, null, null,
+                null, null, null, 0L, 0L, LocalDateTime.now());
+    }
+
+    /**
+     * Siyaset, with the İç Siyaset sub category filed under the given category, or missing when it is null.
+     */
+    private void stubTaxonomy(String subCategoryOwner) {
+        UUID siyasetId = UUID.randomUUID();
+        UUID ownerId = "Siyaset".equals(subCategoryOwner) ? siyasetId : UUID.randomUUID();
+        List<TaxonomyService.SubCategoryNode> subCategories = subCategoryOwner == null ? List.of()
+                : List.of(new TaxonomyService.SubCategoryNode(UUID.randomUUID(), "İç Siyaset", true, ownerId));
+
+        List<TaxonomyService.CategoryNode> categories = new ArrayList<>();
+        categories.add(new TaxonomyService.CategoryNode(siyasetId, "Siyaset", true,
+                ownerId.equals(siyasetId) ? subCategories : List.of()));
+        if (subCategoryOwner != null && !ownerId.equals(siyasetId)) {
+            categories.add(new TaxonomyService.CategoryNode(ownerId, subCategoryOwner, true, subCategories));
+        }
+        when(taxonomyService.getSnapshot()).thenReturn(TaxonomyService.Snapshot.of(categories, new byte[0], "\"\""));
+    }
+
+    private void stubEmptyTaxonomy() {
+        when(taxonomyService.getSnapshot()).thenReturn(TaxonomyService.Snapshot.of(List.of(), new byte[0], "\"\""));
+    }
+}
@@ -10,6 +10,8 @@ import com.serbest.magazine.backend.exception.CustomApplicationException;
 import com.serbest.magazine.backend.exception.ResourceNotFoundException;
 import com.serbest.magazine.backend.repository.CategoryRepository;
 import com.serbest.magazine.backend.repository.SubCategoryRepository;
+import com.serbest.magazine.backend.search.SuggestionIndex;
+import com.serbest.magazine.backend.service.TaxonomyService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -35,6 +37,12 @@ class SubCategoryServiceImplTest {
     @Mock
     CategoryRepository categoryRepository;
 
+    @Mock
+    SuggestionIndex suggestionIndex;
+
+    @Mock
+    TaxonomyService taxonomyService;
+
     @Test
     public void test_createSubCategory_withSuccess(){
         Category category = mock(Category.class);
@@ -107,16 +115,19 @@ class SubCategoryServiceImplTest {
     @Test
     public void test_getAllSubCategoriesByCategoryName_withSuccess(){
 
-        Category category = mock(Category.class);
-
-        SubCategory subCategory = new SubCategory("İç siyaset",category);
-        when(categoryRepository.findByName("Siyaset")).thenReturn(Optional.of(category));
-        when(subCategoryRepository.findAllByCategoryName("Siyaset")).thenReturn(List.of(subCategory));
+        UUID categoryId = UUID.randomUUID();
+        when(taxonomyService.getSnapshot()).thenReturn(TaxonomyService.Snapshot.of(List.of(
+                new TaxonomyService.CategoryNode(categoryId, "Siyaset", true, List.of(
+                        new TaxonomyService.SubCategoryNode(UUID.randomUUID(), "Dış siyaset", false, categoryId),
+                        new TaxonomyService.SubCategoryNode(UUID.randomUUID(), "İç siyaset", true, categoryId)))),
+                new byte[0], "\"\""));
 
         List<SubCategoryListResponseDTO> responseDTOS = subCategoryService.getAllSubCategoriesByCategoryName("Siyaset");
 
-        assertEquals(1,responseDTOS.size());
-        assertEquals("İç siyaset",responseDTOS.get(0).getName());
+        assertEquals(2,responseDTOS.size());
+        assertEquals("İç siyaset",responseDTOS.get(1).getName());
+        assertEquals(1, subCategoryService.getAllActiveSubCategoriesByCategoryName("Siyaset").size());
+        verifyNoInteractions(categoryRepository, subCategoryRepository);
 
     }
 
@@ -0,0 +1,123 @@
+package com.serbest.magazine.backend.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.serbest.magazine.backend.cache.ContentVersions;
+import com.serbest.magazine.backend.entity.Category;
+import com.serbest.magazine.backend.entity.SubCategory;
+import com.serbest.magazine.backend.service.ImageModelService;
+import com.serbest.magazine.backend.service.TaxonomyService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TaxonomyServiceImpl.class, ContentVersions.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TaxonomyServiceImplTest {
+
+    @Autowired
+    TaxonomyServiceImpl taxonomyService;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @MockBean
+    ImageModelService imageModelService;
+
+    Category music;
+    SubCategory jazz;
+    SubCategory opera;
+
+    @BeforeEach
+    public void setUp() {
+        music = entityManager.persist(new Category("Müzik", true));
+        entityManager.persist(new Category("Sinema", true));
+        entityManager.persist(new Category("Moda", false));
+        jazz = subCategory("Caz", music, true);
+        opera = subCategory("Opera", music, false);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void test_refresh_readsWithTwoQueries() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        taxonomyService.refresh();
+        TaxonomyService.Snapshot snapshot = taxonomyService.getSnapshot();
+
+        assertSame(snapshot, taxonomyService.getSnapshot());
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        assertEquals(List.of("Moda", "Müzik", "Sinema"),
+                snapshot.categories().stream().map(TaxonomyService.CategoryNode::name).toList());
+        assertEquals(music.getId(), snapshot.category("Müzik").orElseThrow().id());
+        assertFalse(snapshot.category(music.getId()).orElseThrow().subCategories().isEmpty());
+        assertEquals(music.getId(), snapshot.subCategory("Opera").orElseThrow().categoryId());
+        assertFalse(snapshot.subCategory(opera.getId()).orElseThrow().active());
+        assertTrue(snapshot.category("Edebiyat").isEmpty());
+    }
+
+    @Test
+    public void test_menuHasActiveEntriesOnly() throws IOException {
+        taxonomyService.refresh();
+        TaxonomyService.Snapshot snapshot = taxonomyService.getSnapshot();
+
+        List<?> menu = objectMapper.readValue(snapshot.body(), List.class);
+        assertEquals(2, menu.size());
+        Map<?, ?> first = (Map<?, ?>) menu.get(0);
+        assertEquals("Müzik", first.get("name"));
+        assertEquals(List.of(Map.of("id", jazz.getId().toString(), "name", "Caz")), first.get("subCategories"));
+    }
+
+    @Test
+    public void test_refresh_swapsSnapshot() {
+        taxonomyService.refresh();
+        TaxonomyService.Snapshot before = taxonomyService.getSnapshot();
+
+        taxonomyService.refresh();
+        assertEquals(before.etag(), taxonomyService.getSnapshot().etag());
+
+        SubCategory subCategory = entityManager.find(SubCategory.class, opera.getId());
+        subCategory.setActive(true);
+        entityManager.flush();
+        taxonomyService.refresh();
+
+        TaxonomyService.Snapshot after = taxonomyService.getSnapshot();
+        assertNotEquals(before.etag(), after.etag());
+        assertTrue(after.subCategory("Opera").orElseThrow().active());
+        assertFalse(before.subCategory("Opera").orElseThrow().active());
+    }
+
+    private SubCategory subCategory(String name, Category category, boolean active) {
+        SubCategory subCategory = new SubCategory(name, category);
+        subCategory.setActive(active);
+        return entityManager.persist(subCategory);
+    }
+}
@@ -0,0 +1,80 @@
+package com.serbest.magazine.backend.storage;
+
+import com.serbest.magazine.backend.entity.ImageModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotImageCacheTest {
+
+    SimpleMeterRegistry meterRegistry;
+    HotImageCache hotImageCache;
+    AtomicInteger loads;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hotImageCache = new HotImageCache(meterRegistry, 1024, 16, 100);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    public void test_content_cachesSmallContent() throws IOException {
+        Resource first = hotImageCache.content("key", () -> load("0123456789"));
+        Resource second = hotImageCache.content("key", () -> load("0123456789"));
+
+        assertEquals(1, loads.get());
+        assertInstanceOf(ByteBufferResource.class, second);
+        assertArrayEquals("0123456789".getBytes(), StreamUtils.copyToByteArray(first.getInputStream()));
+        assertArrayEquals("0123456789".getBytes(), StreamUtils.copyToByteArray(second.getInputStream()));
+        assertEquals(10.0, meterRegistry.get("images.content.resident.bytes").gauge().value());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "images.content").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    public void test_content_passesLargeContentThrough() throws IOException {
+        hotImageCache.content("key", () -> load("01234567890123456789"));
+        Resource resource = hotImageCache.content("key", () -> load("01234567890123456789"));
+
+        assertEquals(2, loads.get());
+        assertFalse(resource instanceof ByteBufferResource);
+    }
+
+    @Test
+    public void test_evict() throws IOException {
+        ImageModel imageModel = new ImageModel(UUID.randomUUID(), "a.png", "image/png", 3L, "hash", "key");
+        hotImageCache.metadata(imageModel.getId(), () -> imageModel);
+        hotImageCache.content("key", () -> load("abc"));
+        hotImageCache.content("key@w320", () -> load("a"));
+
+        hotImageCache.evict(imageModel);
+
+        hotImageCache.content("key", () -> load("abc"));
+        hotImageCache.content("key@w320", () -> load("a"));
+        assertEquals(4, loads.get());
+        assertNotSame(imageModel, hotImageCache.metadata(imageModel.getId(), ImageModel::new));
+    }
+
+    @Test
+    public void test_byteBufferResource_range() throws IOException {
+        hotImageCache.content("key", () -> load("0123456789"));
+        ByteBufferResource resource = (ByteBufferResource) hotImageCache.content("key", () -> load("0123456789"));
+
+        assertArrayEquals("2345".getBytes(), StreamUtils.copyToByteArray(resource.getInputStream(2, 5)));
+    }
+
+    private Resource load(String content) {
+        loads.incrementAndGet();
+        return new ByteArrayResource(content.getBytes());
+    }
+}
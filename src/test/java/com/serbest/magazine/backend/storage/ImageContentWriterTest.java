@@ -0,0 +1,141 @@
+package com.serbest.magazine.backend.storage;
+
+import com.serbest.magazine.backend.exception.CustomApplicationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageContentWriterTest {
+
+    @TempDir
+    Path root;
+
+    FileSystemImageStore imageStore;
+    ImageContentWriter imageContentWriter;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        imageStore = new FileSystemImageStore(root);
+        imageContentWriter = new ImageContentWriter(imageStore);
+    }
+
+    @Test
+    public void test_write_storesContentUnderHashKey() throws IOException {
+        MockMultipartFile file = new MockMultipartFile("image", "image.png", "image/png", "png-bytes".getBytes());
+
+        StoredImage storedImage = imageContentWriter.write(file, file.getContentType());
+
+        assertEquals(64, storedImage.getContentHash().length());
+        assertEquals(ImageContentWriter.keyFor(storedImage.getContentHash()), storedImage.getStorageKey());
+        assertEquals(9, storedImage.getSize());
+
+        Resource resource = imageStore.load(storedImage.getStorageKey());
+        assertEquals(9, resource.contentLength());
+        try (InputStream in = resource.getInputStream()) {
+            assertArrayEquals("png-bytes".getBytes(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void test_write_sameContentSameKey() throws IOException {
+        StoredImage first = imageContentWriter.write(
+                new MockMultipartFile("image", "a.jpg", "image/jpeg", "same".getBytes()), "image/jpeg");
+        StoredImage second = imageContentWriter.write(
+                new MockMultipartFile("image", "b.jpg", "image/jpeg", "same".getBytes()), "image/jpeg");
+
+        assertEquals(first.getStorageKey(), second.getStorageKey());
+    }
+
+    @Test
+    public void test_load_missingKey() {
+        assertThrows(NoSuchFileException.class, () -> imageStore.load("aa/bb/missing"));
+    }
+
+    @Test
+    public void test_load_keyOutsideRoot() {
+        assertThrows(IllegalArgumentException.class, () -> imageStore.load("../outside"));
+    }
+
+    @Test
+    public void test_writeUpload_detectsFormat() throws IOException {
+        byte[] png = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 13};
+        MockMultipartFile file = new MockMultipartFile("image", "image.jpg", "image/jpeg", png);
+
+        StoredImage storedImage = imageContentWriter.writeUpload(file, 1024);
+
+        assertEquals("image/png", storedImage.getContentType());
+        assertTrue(imageStore.exists(storedImage.getStorageKey()));
+    }
+
+    @Test
+    public void test_writeUpload_rejectsUnknownFormat() throws IOException {
+        MockMultipartFile file = new MockMultipartFile("image", "image.svg", "image/svg+xml", "<svg/>".getBytes());
+
+        assertThrows(CustomApplicationException.class, () -> imageContentWriter.writeUpload(file, 1024));
+        assertEquals(0, Files.list(root).count());
+    }
+
+    @Test
+    public void test_writeUpload_rejectsOversizedUpload() throws IOException {
+        byte[] jpeg = new byte[2048];
+        jpeg[0] = (byte) 0xFF;
+        jpeg[1] = (byte) 0xD8;
+        jpeg[2] = (byte) 0xFF;
+        MockMultipartFile file = new MockMultipartFile("image", "image.jpg", "image/jpeg", jpeg);
+
+        assertThrows(CustomApplicationException.class, () -> imageContentWriter.writeUpload(file, 1024));
+        assertEquals(0, Files.list(root).count());
+    }
+
+    @Test
+    public void test_deleteUnused_keepsRecentWrite() throws IOException {
+        StoredImage storedImage = imageContentWriter.write(
+                new MockMultipartFile("image", "a.jpg", "image/jpeg", "same".getBytes()), "image/jpeg");
+
+        assertFalse(imageContentWriter.deleteUnused(storedImage.getStorageKey(), Instant.now().minusSeconds(60),
+                key -> false, this::delete));
+        assertTrue(imageStore.exists(storedImage.getStorageKey()));
+    }
+
+    @Test
+    public void test_deleteUnused_keepsContentInUse() throws IOException {
+        StoredImage storedImage = imageContentWriter.write(
+                new MockMultipartFile("image", "a.jpg", "image/jpeg", "same".getBytes()), "image/jpeg");
+
+        assertFalse(imageContentWriter.deleteUnused(storedImage.getStorageKey(), Instant.now().plusSeconds(60),
+                key -> true, this::delete));
+        assertTrue(imageStore.exists(storedImage.getStorageKey()));
+    }
+
+    @Test
+    public void test_deleteUnused_sameContentWrittenAgain() throws IOException {
+        MockMultipartFile file = new MockMultipartFile("image", "a.jpg", "image/jpeg", "same".getBytes());
+        StoredImage storedImage = imageContentWriter.write(file, "image/jpeg");
+
+        assertTrue(imageContentWriter.deleteUnused(storedImage.getStorageKey(), Instant.now().plusSeconds(60),
+                key -> false, this::delete));
+        assertFalse(imageStore.exists(storedImage.getStorageKey()));
+
+        imageContentWriter.write(file, "image/jpeg");
+        assertTrue(imageStore.exists(storedImage.getStorageKey()));
+    }
+
+    private void delete(String key) {
+        try {
+            imageStore.delete(key);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
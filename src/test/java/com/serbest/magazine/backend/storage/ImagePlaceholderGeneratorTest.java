@@ -0,0 +1,55 @@
+package com.serbest.magazine.backend.storage;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImagePlaceholderGeneratorTest {
+
+    ImagePlaceholderGenerator imagePlaceholderGenerator = new ImagePlaceholderGenerator();
+
+    @Test
+    public void test_describe() throws IOException {
+        BufferedImage image = new BufferedImage(1280, 640, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, 640, 640);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(640, 0, 640, 640);
+        graphics.dispose();
+
+        Optional<ImagePlaceholder> placeholder = imagePlaceholderGenerator.describe(png(image));
+
+        assertTrue(placeholder.isPresent());
+        assertEquals(1280, placeholder.get().getWidth());
+        assertEquals(640, placeholder.get().getHeight());
+        assertEquals("#7f007f", placeholder.get().getColor());
+    }
+
+    @Test
+    public void test_describe_transparentOnWhite() throws IOException {
+        BufferedImage image = new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB);
+
+        assertEquals("#ffffff", imagePlaceholderGenerator.describe(png(image)).orElseThrow().getColor());
+    }
+
+    @Test
+    public void test_describe_notAnImage() {
+        assertTrue(imagePlaceholderGenerator.describe(new ByteArrayResource(new byte[]{1, 2, 3})).isEmpty());
+    }
+
+    private static ByteArrayResource png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return new ByteArrayResource(out.toByteArray());
+    }
+}
@@ -0,0 +1,116 @@
+package com.serbest.magazine.backend.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImageVariantGeneratorTest {
+
+    @TempDir
+    Path root;
+
+    FileSystemImageStore imageStore;
+    ImageVariantGenerator imageVariantGenerator;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        imageStore = new FileSystemImageStore(root);
+        imageVariantGenerator = new ImageVariantGenerator(imageStore, List.of(640, 320), 0.8f, 1, 10, 1_000_000);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        imageVariantGenerator.destroy();
+    }
+
+    @Test
+    public void test_variantWidth() {
+        assertEquals(320, imageVariantGenerator.variantWidth("image/png", 100));
+        assertEquals(640, imageVariantGenerator.variantWidth("image/jpeg", 321));
+        assertNull(imageVariantGenerator.variantWidth("image/jpeg", 2000));
+        assertNull(imageVariantGenerator.variantWidth("image/gif", 320));
+        assertNull(imageVariantGenerator.variantWidth("image/png", null));
+    }
+
+    @Test
+    public void test_load_generatesMissingVariant() throws IOException {
+        storePng("original", 1000, 500);
+
+        Resource variant = imageVariantGenerator.load("original", 320);
+
+        assertTrue(imageStore.exists(ImageVariantGenerator.variantKey("original", 320)));
+        BufferedImage image = read(variant);
+        assertEquals(320, image.getWidth());
+        assertEquals(160, image.getHeight());
+    }
+
+    @Test
+    public void test_load_doesNotUpscale() throws IOException {
+        storePng("small", 200, 100);
+
+        BufferedImage image = read(imageVariantGenerator.load("small", 640));
+
+        assertEquals(200, image.getWidth());
+        assertEquals(100, image.getHeight());
+    }
+
+    @Test
+    public void test_load_subsamplesLargeOriginal() throws IOException {
+        storePng("large", 1600, 600);
+
+        BufferedImage image = read(imageVariantGenerator.load("large", 320));
+
+        assertEquals(320, image.getWidth());
+        assertEquals(120, image.getHeight());
+    }
+
+    @Test
+    public void test_load_rejectsOversizedHeader() throws IOException {
+        byte[] bytes = png(10, 10);
+        // Claim 30000x30000 pixels in the IHDR chunk while the data stays tiny.
+        ByteBuffer.wrap(bytes).putInt(16, 30_000).putInt(20, 30_000);
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 12, 17);
+        ByteBuffer.wrap(bytes).putInt(29, (int) crc.getValue());
+        imageStore.put("bomb", new ByteArrayResource(bytes), bytes.length, "image/png");
+
+        assertThrows(IOException.class, () -> imageVariantGenerator.load("bomb", 320));
+        assertFalse(imageStore.exists(ImageVariantGenerator.variantKey("bomb", 320)));
+    }
+
+    private void storePng(String key, int width, int height) throws IOException {
+        byte[] bytes = png(width, height);
+        imageStore.put(key, new ByteArrayResource(bytes), bytes.length, "image/png");
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return out.toByteArray();
+    }
+
+    private BufferedImage read(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            return ImageIO.read(in);
+        }
+    }
+}
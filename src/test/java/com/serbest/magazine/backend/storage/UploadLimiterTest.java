@@ -0,0 +1,50 @@
+package com.serbest.magazine.backend.storage;
+
+import com.serbest.magazine.backend.exception.CustomApplicationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UploadLimiterTest {
+
+    SimpleMeterRegistry meterRegistry;
+    UploadLimiter uploadLimiter;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        uploadLimiter = new UploadLimiter(meterRegistry, DataSize.ofKilobytes(4), 10, DataSize.ofMegabytes(2));
+    }
+
+    @Test
+    public void test_acquire_withinBudget() {
+        try (UploadLimiter.Permit first = uploadLimiter.acquire(2048);
+             UploadLimiter.Permit second = uploadLimiter.acquire(2048)) {
+            assertEquals(4096.0, meterRegistry.get("images.upload.inflight.bytes").gauge().value());
+        }
+        assertEquals(0.0, meterRegistry.get("images.upload.inflight.bytes").gauge().value());
+    }
+
+    @Test
+    public void test_acquire_budgetExhausted() {
+        try (UploadLimiter.Permit permit = uploadLimiter.acquire(3000)) {
+            assertThrows(CustomApplicationException.class, () -> uploadLimiter.acquire(2048));
+        }
+        uploadLimiter.acquire(2048).close();
+    }
+
+    @Test
+    public void test_acquire_largerThanBudget() {
+        try (UploadLimiter.Permit permit = uploadLimiter.acquire(DataSize.ofMegabytes(1).toBytes())) {
+            assertThrows(CustomApplicationException.class, () -> uploadLimiter.acquire(1));
+        }
+    }
+
+    @Test
+    public void test_maxUploadBytes() {
+        assertEquals(DataSize.ofMegabytes(2).toBytes(), uploadLimiter.getMaxUploadBytes());
+    }
+}
@@ -0,0 +1,34 @@
+package com.serbest.magazine.backend.util;
+
+import com.serbest.magazine.backend.exception.CustomApplicationException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeedCursorTest {
+
+    @Test
+    public void test_encode_roundTrip() {
+        FeedCursor cursor = new FeedCursor(LocalDateTime.of(2023, 3, 1, 12, 30, 5, 123456000), UUID.randomUUID());
+
+        String token = cursor.encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+        assertEquals(cursor, FeedCursor.decode(token));
+    }
+
+    @Test
+    public void test_decode_missingToken() {
+        assertSame(FeedCursor.FIRST, FeedCursor.decode(null));
+        assertSame(FeedCursor.FIRST, FeedCursor.decode(""));
+    }
+
+    @Test
+    public void test_decode_invalidToken() {
+        assertThrows(CustomApplicationException.class, () -> FeedCursor.decode("not a cursor"));
+        assertThrows(CustomApplicationException.class, () -> FeedCursor.decode("bm8tc2VwYXJhdG9y"));
+    }
+}
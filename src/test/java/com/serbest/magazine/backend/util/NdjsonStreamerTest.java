@@ -0,0 +1,109 @@
+package com.serbest.magazine.backend.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.serbest.magazine.backend.entity.Contact;
+import com.serbest.magazine.backend.repository.ContactRepository;
+import com.serbest.magazine.backend.service.ImageModelService;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(NdjsonStreamer.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class NdjsonStreamerTest {
+
+    private static final int CONTACTS = 250;
+
+    @Autowired
+    NdjsonStreamer ndjsonStreamer;
+
+    @Autowired
+    ContactRepository contactRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @MockBean
+    ImageModelService imageModelService;
+
+    @Test
+    public void test_stream_writesOneLinePerRow() throws IOException {
+        for (int i = 0; i < CONTACTS; i++) {
+            entityManager.persist(new Contact("okur" + i + "@email.com", "Başlık " + i, "İçerik"));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        AtomicInteger mostManaged = new AtomicInteger();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ndjsonStreamer.stream(contactRepository::streamAllByCreateDateTime, contact -> {
+            int managed = entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount();
+            mostManaged.accumulateAndGet(managed, Math::max);
+            return Map.of("title", contact.getTitle());
+        }).writeTo(out);
+
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertTrue(body.endsWith("\n"));
+        String[] lines = body.split("\n");
+        assertEquals(CONTACTS, lines.length);
+
+        Set<String> titles = new HashSet<>();
+        for (String line : lines) {
+            JsonNode row = objectMapper.readTree(line);
+            titles.add(row.get("title").asText());
+        }
+        assertEquals(CONTACTS, titles.size());
+        assertTrue(titles.contains("Başlık 0"));
+        // Cleared every chunk, so never more than one chunk of contacts is managed at once.
+        assertTrue(mostManaged.get() <= Integer.parseInt(NdjsonStreamer.FETCH_SIZE));
+    }
+
+    @Test
+    public void test_stream_empty() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ndjsonStreamer.stream(contactRepository::streamAllByCreateDateTime, Contact::getTitle).writeTo(out);
+
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    public void test_stream_doesNotCloseTheResponse() throws IOException {
+        entityManager.persist(new Contact("okur@email.com", "Başlık", "İçerik"));
+        AtomicInteger closes = new AtomicInteger();
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closes.incrementAndGet();
+            }
+        };
+
+        ndjsonStreamer.stream(contactRepository::streamAllByCreateDateTime, Contact::getTitle).writeTo(out);
+
+        assertEquals("\"Başlık\"\n", out.toString(StandardCharsets.UTF_8));
+        assertEquals(0, closes.get());
+    }
+}
@@ -0,0 +1,40 @@
+package com.serbest.magazine.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostTextMetadataTest {
+
+    @Test
+    public void test_of_shortContent() {
+        PostTextMetadata text = PostTextMetadata.of("<p>Eski bir <b>sinema</b> salonu.</p>");
+
+        assertEquals("Eski bir sinema salonu.", text.plainText());
+        assertEquals("Eski bir sinema salonu.", text.excerpt());
+        assertEquals(4, text.wordCount());
+        assertEquals(1, text.readingTime());
+    }
+
+    @Test
+    public void test_of_longContent() {
+        String content = "<p>" + "kelime ".repeat(1000) + "</p>";
+
+        PostTextMetadata text = PostTextMetadata.of(content);
+
+        assertEquals(1000, text.wordCount());
+        assertEquals(5, text.readingTime());
+        assertTrue(text.excerpt().length() <= PostTextMetadata.EXCERPT_LENGTH);
+        assertTrue(text.excerpt().endsWith("kelime…"));
+    }
+
+    @Test
+    public void test_of_missingContent() {
+        PostTextMetadata text = PostTextMetadata.of(null);
+
+        assertEquals("", text.plainText());
+        assertEquals("", text.excerpt());
+        assertEquals(0, text.wordCount());
+        assertEquals(0, text.readingTime());
+    }
+}